@@ -27,6 +27,7 @@ import org.opengoofy.index12306.framework.starter.cache.config.RedisDistributedP
 import org.opengoofy.index12306.framework.starter.cache.core.CacheGetFilter;
 import org.opengoofy.index12306.framework.starter.cache.core.CacheGetIfAbsent;
 import org.opengoofy.index12306.framework.starter.cache.core.CacheLoader;
+import org.opengoofy.index12306.framework.starter.cache.core.hotkey.HotKeyLocalCache;
 import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheUtil;
 import org.opengoofy.index12306.framework.starter.cache.toolkit.FastJson2Util;
 import org.redisson.api.RBloomFilter;
@@ -55,13 +56,30 @@ public class StringRedisTemplateProxy implements DistributedCache {
     private final StringRedisTemplate stringRedisTemplate;
     private final RedisDistributedProperties redisProperties;
     private final RedissonClient redissonClient;
+    /**
+     * 热点 Key 本地缓存，未开启热点探测时为空
+     */
+    private final HotKeyLocalCache hotKeyLocalCache;
 
     private static final String LUA_PUT_IF_ALL_ABSENT_SCRIPT_PATH = "lua/putIfAllAbsent.lua";
     private static final String SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX = "safe_get_distributed_lock_get:";
 
     @Override
     public <T> T get(String key, Class<T> clazz) {
-        String value = stringRedisTemplate.opsForValue().get(key);
+        String value = hotKeyLocalCache == null
+                ? stringRedisTemplate.opsForValue().get(key)
+                : hotKeyLocalCache.get(key, () -> stringRedisTemplate.opsForValue().get(key));
+        return parseValue(value, clazz);
+    }
+
+    /**
+     * 直接读取 Redis，不经过热点 Key 本地缓存也不计入访问次数，用于同一次查询内的二次读取
+     */
+    private <T> T getFromRemote(String key, Class<T> clazz) {
+        return parseValue(stringRedisTemplate.opsForValue().get(key), clazz);
+    }
+
+    private <T> T parseValue(String value, Class<T> clazz) {
         if (String.class.isAssignableFrom(clazz)) {
             return (T) value;
         }
@@ -87,11 +105,13 @@ public class StringRedisTemplateProxy implements DistributedCache {
 
     @Override
     public Boolean delete(String key) {
+        Optional.ofNullable(hotKeyLocalCache).ifPresent(each -> each.invalidate(key));
         return stringRedisTemplate.delete(key);
     }
 
     @Override
     public Long delete(Collection<String> keys) {
+        Optional.ofNullable(hotKeyLocalCache).ifPresent(each -> each.invalidateAll(keys));
         return stringRedisTemplate.delete(keys);
     }
 
@@ -159,7 +179,7 @@ public class StringRedisTemplateProxy implements DistributedCache {
         lock.lock();
         try {
             // 双重判定锁，减轻获得分布式锁后线程访问数据库压力
-            if (CacheUtil.isNullOrBlank(result = get(key, clazz))) {
+            if (CacheUtil.isNullOrBlank(result = getFromRemote(key, clazz))) {
                 // 如果访问 cacheLoader 加载数据为空，执行后置函数操作
                 if (CacheUtil.isNullOrBlank(result = loadAndSet(key, cacheLoader, timeout, timeUnit, true, bloomFilter))) {
                     Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.execute(key));
@@ -180,6 +200,7 @@ public class StringRedisTemplateProxy implements DistributedCache {
     public void put(String key, Object value, long timeout, TimeUnit timeUnit) {
         String actual = value instanceof String ? (String) value : JSON.toJSONString(value);
         stringRedisTemplate.opsForValue().set(key, actual, timeout, timeUnit);
+        Optional.ofNullable(hotKeyLocalCache).ifPresent(each -> each.invalidate(key));
     }
 
     @Override
@@ -20,11 +20,17 @@ package org.opengoofy.index12306.framework.starter.cache.config;
 import lombok.AllArgsConstructor;
 import org.opengoofy.index12306.framework.starter.cache.RedisKeySerializer;
 import org.opengoofy.index12306.framework.starter.cache.StringRedisTemplateProxy;
+import org.opengoofy.index12306.framework.starter.cache.core.hotkey.HotKeyController;
+import org.opengoofy.index12306.framework.starter.cache.core.hotkey.HotKeyDetector;
+import org.opengoofy.index12306.framework.starter.cache.core.hotkey.HotKeyLocalCache;
 import org.redisson.api.RBloomFilter;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
@@ -34,7 +40,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
  */
 //这段代码定义了一个自动配置类 CacheAutoConfiguration，它根据配置属性初始化 Redis 缓存相关的组件，包括 Redis Key 序列化器、布隆过滤器以防止缓存穿透、以及增强的 Redis 客户端代理类。
 @AllArgsConstructor
-@EnableConfigurationProperties({RedisDistributedProperties.class, BloomFilterPenetrateProperties.class})//这是 Spring Boot 注解，用于启用配置属性类的自动配置功能。它告诉 Spring Boot 自动加载 RedisDistributedProperties 和 BloomFilterPenetrateProperties 类中的配置属性。
+@EnableConfigurationProperties({RedisDistributedProperties.class, BloomFilterPenetrateProperties.class, HotKeyProperties.class})//这是 Spring Boot 注解，用于启用配置属性类的自动配置功能。它告诉 Spring Boot 自动加载 RedisDistributedProperties 和 BloomFilterPenetrateProperties 类中的配置属性。
 public class CacheAutoConfiguration {
 
     private final RedisDistributedProperties redisDistributedProperties;
@@ -60,12 +66,45 @@ public class CacheAutoConfiguration {
         return cachePenetrationBloomFilter;
     }
 
+    /**
+     * 热点 Key 探测器
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = HotKeyProperties.PREFIX, name = "enabled", havingValue = "true")
+    public HotKeyDetector hotKeyDetector(HotKeyProperties hotKeyProperties) {
+        return new HotKeyDetector(hotKeyProperties);
+    }
+
+    /**
+     * 热点 Key 本地缓存，对 {@link StringRedisTemplateProxy} 的读取调用方透明
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = HotKeyProperties.PREFIX, name = "enabled", havingValue = "true")
+    public HotKeyLocalCache hotKeyLocalCache(HotKeyDetector hotKeyDetector, HotKeyProperties hotKeyProperties) {
+        return new HotKeyLocalCache(hotKeyDetector, hotKeyProperties);
+    }
+
     @Bean
     // 静态代理模式: Redis 客户端代理类增强
     public StringRedisTemplateProxy stringRedisTemplateProxy(RedisKeySerializer redisKeySerializer,
                                                              StringRedisTemplate stringRedisTemplate,
-                                                             RedissonClient redissonClient) {
+                                                             RedissonClient redissonClient,
+                                                             ObjectProvider<HotKeyLocalCache> hotKeyLocalCache) {
         stringRedisTemplate.setKeySerializer(redisKeySerializer);
-        return new StringRedisTemplateProxy(stringRedisTemplate, redisDistributedProperties, redissonClient);
+        return new StringRedisTemplateProxy(stringRedisTemplate, redisDistributedProperties, redissonClient, hotKeyLocalCache.getIfAvailable());
+    }
+
+    /**
+     * 热点 Key 查询接口，需引入 Web 组件
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.opengoofy.index12306.framework.starter.web.Results")
+    @ConditionalOnProperty(prefix = HotKeyProperties.PREFIX, name = "enabled", havingValue = "true")
+    static class HotKeyEndpointConfiguration {
+
+        @Bean
+        public HotKeyController hotKeyController(HotKeyLocalCache hotKeyLocalCache) {
+            return new HotKeyController(hotKeyLocalCache);
+        }
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 热点 Key 探测配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = HotKeyProperties.PREFIX)
+public class HotKeyProperties {
+
+    public static final String PREFIX = "framework.cache.redis.hot-key";
+
+    /**
+     * 是否开启热点 Key 探测及本地缓存
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 统计窗口内访问次数达到该阈值即判定为热点 Key
+     */
+    private Long threshold = 500L;
+
+    /**
+     * 统计窗口，单位毫秒，每个窗口结束时计数衰减一半
+     */
+    private Long windowMillis = 1000L;
+
+    /**
+     * Count-Min Sketch 宽度，会向上取整为 2 的幂
+     */
+    private Integer sketchWidth = 4096;
+
+    /**
+     * Count-Min Sketch 深度，即哈希函数个数
+     */
+    private Integer sketchDepth = 4;
+
+    /**
+     * 同时存在的热点 Key 最大数量
+     */
+    private Integer maxHotKeys = 256;
+
+    /**
+     * 热点 Key 本地缓存过期时间，单位毫秒
+     */
+    private Long localCacheTtlMillis = 2000L;
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.core.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch 频率估算
+ * 以固定内存近似统计 Key 访问次数，估算值只会偏大不会偏小
+ *
+ *
+ */
+public class CountMinSketch {
+
+    private final int depth;
+
+    private final int widthMask;
+
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        int actualWidth = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+        this.depth = Math.max(depth, 1);
+        this.widthMask = actualWidth - 1;
+        this.counters = new AtomicLongArray(actualWidth * this.depth);
+    }
+
+    /**
+     * 计数加一并返回当前估算值
+     */
+    public long increment(String key) {
+        int hash = spread(key.hashCode());
+        int rehash = spread(Integer.reverse(hash) * 0x9E3779B9) | 1;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            int index = i * (widthMask + 1) + ((hash + i * rehash) & widthMask);
+            min = Math.min(min, counters.incrementAndGet(index));
+        }
+        return min;
+    }
+
+    /**
+     * 返回当前估算值
+     */
+    public long estimate(String key) {
+        int hash = spread(key.hashCode());
+        int rehash = spread(Integer.reverse(hash) * 0x9E3779B9) | 1;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            int index = i * (widthMask + 1) + ((hash + i * rehash) & widthMask);
+            min = Math.min(min, counters.get(index));
+        }
+        return min;
+    }
+
+    /**
+     * 全部计数减半，使历史访问随时间衰减
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, each -> each >>> 1);
+        }
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.core.hotkey;
+
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.opengoofy.index12306.framework.starter.web.Results;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 热点 Key 查询控制器
+ *
+ *
+ */
+@RestController
+@RequiredArgsConstructor
+public class HotKeyController {
+
+    private final HotKeyLocalCache hotKeyLocalCache;
+
+    /**
+     * 查询当前节点探测到的热点 Key
+     */
+    @GetMapping("/cache/hot-keys")
+    public Result<Map<String, Long>> listHotKeys() {
+        return Results.success(hotKeyLocalCache.getHotKeys());
+    }
+}
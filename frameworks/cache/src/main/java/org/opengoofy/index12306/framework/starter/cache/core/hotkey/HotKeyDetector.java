@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.core.hotkey;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.cache.config.HotKeyProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 热点 Key 探测器
+ * 基于 {@link CountMinSketch} 统计访问频率，窗口内超过阈值的 Key 晋升为热点，每个窗口结束时计数衰减并淘汰冷却的热点
+ *
+ *
+ */
+@Slf4j
+public class HotKeyDetector implements InitializingBean, DisposableBean {
+
+    private final HotKeyProperties hotKeyProperties;
+
+    private final CountMinSketch sketch;
+
+    private final Map<String, Long> hotKeys = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService decayExecutor;
+
+    public HotKeyDetector(HotKeyProperties hotKeyProperties) {
+        this.hotKeyProperties = hotKeyProperties;
+        this.sketch = new CountMinSketch(hotKeyProperties.getSketchWidth(), hotKeyProperties.getSketchDepth());
+    }
+
+    /**
+     * 记录一次访问，返回该 Key 当前是否为热点
+     */
+    public boolean record(String key) {
+        long estimate = sketch.increment(key);
+        if (estimate < hotKeyProperties.getThreshold()) {
+            return hotKeys.containsKey(key);
+        }
+        if (hotKeys.containsKey(key) || hotKeys.size() < hotKeyProperties.getMaxHotKeys()) {
+            if (hotKeys.put(key, estimate) == null) {
+                log.info("[热点 Key 探测] Key：{} 晋升为热点，窗口内访问估算次数：{}", key, estimate);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 判断 Key 当前是否为热点
+     */
+    public boolean isHot(String key) {
+        return hotKeys.containsKey(key);
+    }
+
+    /**
+     * 当前热点 Key 及其最近一次统计的访问估算次数
+     */
+    public Map<String, Long> getHotKeys() {
+        return Collections.unmodifiableMap(hotKeys);
+    }
+
+    private void decay() {
+        sketch.decay();
+        hotKeys.keySet().removeIf(each -> sketch.estimate(each) < hotKeyProperties.getThreshold() >>> 1);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        decayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-key-decay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long windowMillis = hotKeyProperties.getWindowMillis();
+        decayExecutor.scheduleAtFixedRate(this::decay, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (decayExecutor != null) {
+            decayExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.core.hotkey;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.opengoofy.index12306.framework.starter.cache.config.HotKeyProperties;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 热点 Key 本地缓存
+ * 仅缓存被 {@link HotKeyDetector} 判定为热点的 Key 的原始字符串值，短过期时间保证各节点最终与 Redis 一致
+ *
+ *
+ */
+public class HotKeyLocalCache {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    private final Cache<String, String> localCache;
+
+    public HotKeyLocalCache(HotKeyDetector hotKeyDetector, HotKeyProperties hotKeyProperties) {
+        this.hotKeyDetector = hotKeyDetector;
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(hotKeyProperties.getMaxHotKeys())
+                .expireAfterWrite(hotKeyProperties.getLocalCacheTtlMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 记录访问并读取缓存值，热点 Key 优先读取本地副本，未命中时通过 remoteGetter 读取并回填本地
+     */
+    public String get(String key, Supplier<String> remoteGetter) {
+        if (!hotKeyDetector.record(key)) {
+            return remoteGetter.get();
+        }
+        String value = localCache.getIfPresent(key);
+        if (value == null && (value = remoteGetter.get()) != null) {
+            localCache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 失效本节点上的本地副本
+     */
+    public void invalidate(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * 批量失效本节点上的本地副本
+     */
+    public void invalidateAll(Collection<String> keys) {
+        localCache.invalidateAll(keys);
+    }
+
+    /**
+     * 当前热点 Key 及其访问估算次数
+     */
+    public Map<String, Long> getHotKeys() {
+        return hotKeyDetector.getHotKeys();
+    }
+
+    /**
+     * 当前已复制到本地的热点 Key 数量
+     */
+    public long localSize() {
+        return localCache.size();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.toolkit;
+
+import com.google.common.base.Strings;
+
+/**
+ * Redis Cluster 感知的缓存 Key 构建器
+ * 约定以业务聚合根 ID（如列车 ID）作为 Hash Tag，生成形如 {@code prefix{trainId}_departure_arrival} 的 Key，
+ * 使同一聚合根下的所有 Key 落在同一个 Slot，从而可以在一个 Lua 脚本或 Pipeline 中原子地操作
+ *
+ *
+ */
+public final class CacheKeyBuilder {
+
+    private static final String SPLICING_OPERATOR = "_";
+
+    private static final char HASH_TAG_START = '{';
+
+    private static final char HASH_TAG_END = '}';
+
+    private CacheKeyBuilder() {
+    }
+
+    /**
+     * 构建 Hash Tag，例如 {@code {1}}
+     */
+    public static String hashTag(Object tag) {
+        String actual = tag == null ? null : tag.toString();
+        if (Strings.isNullOrEmpty(actual)) {
+            throw new RuntimeException("构建缓存 Hash Tag 不允许为空");
+        }
+        return HASH_TAG_START + actual + HASH_TAG_END;
+    }
+
+    /**
+     * 构建以 Hash Tag 开头的 Key 后缀，例如 {@code {1}_北京南_上海虹桥}
+     *
+     * @param tag   Hash Tag，决定 Key 所属 Slot
+     * @param parts 其余 Key 组成部分
+     */
+    public static String buildSuffix(Object tag, Object... parts) {
+        StringBuilder builder = new StringBuilder(hashTag(tag));
+        for (Object each : parts) {
+            String actual = each == null ? null : each.toString();
+            if (Strings.isNullOrEmpty(actual)) {
+                throw new RuntimeException("构建缓存 key 不允许为空");
+            }
+            builder.append(SPLICING_OPERATOR).append(actual);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 构建完整 Key，例如 {@code index12306-ticket-service:train_info:{1}}
+     *
+     * @param prefix Key 前缀
+     * @param tag    Hash Tag，决定 Key 所属 Slot
+     * @param parts  其余 Key 组成部分
+     */
+    public static String build(String prefix, Object tag, Object... parts) {
+        return prefix + buildSuffix(tag, parts);
+    }
+
+    /**
+     * 判断 Key 后缀是否已经带有 Hash Tag
+     */
+    public static boolean hasHashTag(String keySuffix) {
+        int start = keySuffix.indexOf(HASH_TAG_START);
+        return start >= 0 && keySuffix.indexOf(HASH_TAG_END, start + 1) > start + 1;
+    }
+
+    /**
+     * 将旧格式 Key 后缀（{@code tag_part1_part2}）转换为带 Hash Tag 的格式（{@code {tag}_part1_part2}）
+     * 已带有 Hash Tag 的后缀原样返回，用于存量 Key 迁移
+     */
+    public static String toHashTagSuffix(String legacySuffix) {
+        if (hasHashTag(legacySuffix)) {
+            return legacySuffix;
+        }
+        int index = legacySuffix.indexOf(SPLICING_OPERATOR);
+        return index < 0
+                ? hashTag(legacySuffix)
+                : hashTag(legacySuffix.substring(0, index)) + legacySuffix.substring(index);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.cache.core.hotkey;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opengoofy.index12306.framework.starter.cache.config.HotKeyProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Count-Min Sketch 频率估算测试
+ *
+ *
+ */
+public final class CountMinSketchTests {
+
+    @Test
+    void testEstimateOfUnseenKeyIsZero() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        Assertions.assertEquals(0L, sketch.estimate("train:1"));
+    }
+
+    @Test
+    void testEstimateNeverUnderCounts() {
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        Map<String, Long> actual = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String key = "key:" + (i % 700);
+            sketch.increment(key);
+            actual.merge(key, 1L, Long::sum);
+        }
+        actual.forEach((key, count) -> Assertions.assertTrue(sketch.estimate(key) >= count, key));
+    }
+
+    @Test
+    void testHotKeyEstimateIsCloseToActual() {
+        CountMinSketch sketch = new CountMinSketch(4096, 4);
+        for (int i = 0; i < 20000; i++) {
+            sketch.increment("cold:" + i);
+        }
+        long lastEstimate = 0L;
+        for (int i = 0; i < 500; i++) {
+            lastEstimate = sketch.increment("hot");
+        }
+        Assertions.assertEquals(lastEstimate, sketch.estimate("hot"));
+        // 误差上界 e * N / width ≈ 13，四行同时超出的概率不足 2%
+        Assertions.assertTrue(lastEstimate >= 500L && lastEstimate <= 540L, String.valueOf(lastEstimate));
+    }
+
+    @Test
+    void testDecayHalvesCounters() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        for (int i = 0; i < 101; i++) {
+            sketch.increment("hot");
+        }
+        sketch.decay();
+        Assertions.assertEquals(50L, sketch.estimate("hot"));
+        sketch.decay();
+        Assertions.assertEquals(25L, sketch.estimate("hot"));
+        for (int i = 0; i < 5; i++) {
+            sketch.decay();
+        }
+        Assertions.assertEquals(0L, sketch.estimate("hot"));
+    }
+
+    @Test
+    void testDetectorPromotesKeyAtThreshold() {
+        HotKeyProperties hotKeyProperties = new HotKeyProperties();
+        hotKeyProperties.setThreshold(10L);
+        hotKeyProperties.setMaxHotKeys(1);
+        HotKeyDetector hotKeyDetector = new HotKeyDetector(hotKeyProperties);
+        for (int i = 1; i < 10; i++) {
+            Assertions.assertFalse(hotKeyDetector.record("hot"));
+        }
+        Assertions.assertTrue(hotKeyDetector.record("hot"));
+        Assertions.assertTrue(hotKeyDetector.isHot("hot"));
+        for (int i = 0; i < 10; i++) {
+            hotKeyDetector.record("other");
+        }
+        // 热点数量达到上限后不再晋升新的 Key
+        Assertions.assertFalse(hotKeyDetector.isHot("other"));
+    }
+}
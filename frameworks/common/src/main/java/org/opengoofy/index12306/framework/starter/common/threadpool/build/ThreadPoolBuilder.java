@@ -17,6 +17,10 @@
 
 package org.opengoofy.index12306.framework.starter.common.threadpool.build;
 
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.DynamicThreadPoolExecutor;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.ResizableCapacityLinkedBlockingQueue;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.ThreadPoolRegistry;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.virtual.VirtualThreads;
 import org.opengoofy.index12306.framework.starter.common.toolkit.Assert;
 import org.opengoofy.index12306.framework.starter.designpattern.builder.Builder;
 
@@ -45,7 +49,9 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
 
     private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
 
-    private BlockingQueue workQueue = new LinkedBlockingQueue(4096);
+    private static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    private BlockingQueue workQueue;
 
     private RejectedExecutionHandler rejectedExecutionHandler = new ThreadPoolExecutor.AbortPolicy();
 
@@ -55,6 +61,10 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
 
     private ThreadFactory threadFactory;
 
+    private String poolName;
+
+    private Boolean virtualThread;
+
     private Integer calculateCoreNum() {//该方法计算核心线程数，将可用的 CPU 核心数乘以 0.2。
         int cpuCoreNum = Runtime.getRuntime().availableProcessors();
         return new BigDecimal(cpuCoreNum).divide(new BigDecimal("0.2")).intValue();
@@ -105,25 +115,61 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
         return this;
     }
 
+    public ThreadPoolBuilder poolName(String poolName) {//设置线程池名称，设置后构建可观测、可动态调整的线程池并注册到 ThreadPoolRegistry。
+        this.poolName = poolName;
+        return this;
+    }
+
+    public ThreadPoolBuilder virtualThread(boolean virtualThread) {//是否使用虚拟线程执行任务，未设置时跟随全局虚拟线程执行模式，线程池参数此时用于限制并发任务数。
+        this.virtualThread = virtualThread;
+        return this;
+    }
+
     public static ThreadPoolBuilder builder() {
         return new ThreadPoolBuilder();
     }//构建并返回一个配置好的线程池实例。
 
     @Override
     public ThreadPoolExecutor build() {//根据配置创建线程池实例的内部方法。该方法使用提供的配置参数创建一个线程池实例。
+        boolean dynamic = poolName != null;
         if (threadFactory == null) {
+            if (dynamic && (threadNamePrefix == null || threadNamePrefix.isEmpty())) {
+                threadNamePrefix = poolName;
+            }
             Assert.notEmpty(threadNamePrefix, "The thread name prefix cannot be empty or an empty string.");
-            threadFactory = ThreadFactoryBuilder.builder().prefix(threadNamePrefix).daemon(isDaemon).build();
+            boolean useVirtualThread = virtualThread != null ? virtualThread && VirtualThreads.isSupported() : VirtualThreads.isEnabled();
+            // 虚拟线程固定为守护线程，不支持设置 daemon 与优先级
+            threadFactory = useVirtualThread
+                    ? VirtualThreads.threadFactory(threadNamePrefix)
+                    : ThreadFactoryBuilder.builder().prefix(threadNamePrefix).daemon(isDaemon).build();
+        }
+        if (workQueue == null) {
+            // 动态线程池默认使用容量可调整的队列，支持运行时调整队列长度
+            workQueue = dynamic ? new ResizableCapacityLinkedBlockingQueue(DEFAULT_QUEUE_CAPACITY) : new LinkedBlockingQueue(DEFAULT_QUEUE_CAPACITY);
         }
         ThreadPoolExecutor executorService;
         try {
-            executorService = new ThreadPoolExecutor(corePoolSize,
-                    maximumPoolSize,
-                    keepAliveTime,
-                    timeUnit,
-                    workQueue,
-                    threadFactory,
-                    rejectedExecutionHandler);
+            if (dynamic) {
+                Assert.notEmpty(poolName, "The thread pool name cannot be empty or an empty string.");
+                DynamicThreadPoolExecutor dynamicExecutor = new DynamicThreadPoolExecutor(poolName,
+                        corePoolSize,
+                        maximumPoolSize,
+                        keepAliveTime,
+                        timeUnit,
+                        workQueue,
+                        threadFactory,
+                        rejectedExecutionHandler);
+                ThreadPoolRegistry.register(dynamicExecutor);
+                executorService = dynamicExecutor;
+            } else {
+                executorService = new ThreadPoolExecutor(corePoolSize,
+                        maximumPoolSize,
+                        keepAliveTime,
+                        timeUnit,
+                        workQueue,
+                        threadFactory,
+                        rejectedExecutionHandler);
+            }
         } catch (IllegalArgumentException ex) {
             throw new IllegalArgumentException("Error creating thread pool parameter.", ex);
         }
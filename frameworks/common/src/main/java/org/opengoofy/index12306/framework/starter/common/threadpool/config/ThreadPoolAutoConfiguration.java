@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.config;
+
+import org.opengoofy.index12306.framework.starter.common.threadpool.endpoint.ThreadPoolController;
+import org.opengoofy.index12306.framework.starter.common.threadpool.proxy.RejectedAlarmHandler;
+import org.opengoofy.index12306.framework.starter.common.threadpool.proxy.RejectedProxyUtil;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.ThreadPoolConfigRefresher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 动态线程池自动装配
+ *
+ *
+ */
+@EnableConfigurationProperties(ThreadPoolProperties.class)
+public class ThreadPoolAutoConfiguration {
+
+    /**
+     * 动态线程池配置刷新器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ThreadPoolConfigRefresher threadPoolConfigRefresher(Environment environment, ThreadPoolProperties threadPoolProperties) {
+        return new ThreadPoolConfigRefresher(environment, threadPoolProperties);
+    }
+
+    /**
+     * 将容器中的拒绝策略报警处理器注册到 {@link RejectedProxyUtil}
+     */
+    @Bean
+    public SmartInitializingSingleton rejectedAlarmHandlerRegistrar(ObjectProvider<RejectedAlarmHandler> rejectedAlarmHandlers) {
+        return () -> rejectedAlarmHandlers.orderedStream().forEach(RejectedProxyUtil::addAlarmHandler);
+    }
+
+    /**
+     * 线程池监控与调参接口，需引入 Web 组件并开启 {@code framework.thread-pool.endpoint-enabled}
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.opengoofy.index12306.framework.starter.web.Results")
+    @ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "endpoint-enabled", havingValue = "true")
+    static class ThreadPoolEndpointConfiguration {
+
+        @Bean
+        public ThreadPoolController threadPoolController() {
+            return new ThreadPoolController();
+        }
+    }
+}
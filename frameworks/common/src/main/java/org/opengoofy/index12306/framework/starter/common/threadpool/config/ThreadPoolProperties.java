@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 动态线程池配置
+ * 配置中心修改 {@code framework.thread-pool.executors.<线程池名称>.*} 后，按刷新间隔重新绑定并作用到已注册的线程池
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = ThreadPoolProperties.PREFIX)
+public class ThreadPoolProperties {
+
+    public static final String PREFIX = "framework.thread-pool";
+
+    /**
+     * 重新读取配置的间隔，单位秒
+     */
+    private Long refreshIntervalSeconds = 10L;
+
+    /**
+     * 是否开启线程池监控与调参接口
+     */
+    private Boolean endpointEnabled = false;
+
+    /**
+     * 各线程池参数，Key 为线程池名称
+     */
+    private Map<String, ExecutorProperties> executors = new HashMap<>();
+
+    /**
+     * 单个线程池参数，未配置的参数保持不变
+     */
+    @Data
+    public static class ExecutorProperties {
+
+        /**
+         * 核心线程数
+         */
+        private Integer corePoolSize;
+
+        /**
+         * 最大线程数
+         */
+        private Integer maximumPoolSize;
+
+        /**
+         * 线程空闲时间，单位秒
+         */
+        private Long keepAliveSeconds;
+
+        /**
+         * 队列容量，仅容量可调整的队列生效
+         */
+        private Integer queueCapacity;
+    }
+}
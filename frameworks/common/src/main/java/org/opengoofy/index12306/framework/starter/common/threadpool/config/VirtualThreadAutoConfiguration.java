@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.config;
+
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.virtual.VirtualThreads;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+/**
+ * 虚拟线程执行模式自动装配
+ * 开启后 Web 容器请求、{@code @Async} 任务及 {@link org.opengoofy.index12306.framework.starter.common.threadpool.build.ThreadPoolBuilder} 构建的线程池均运行在虚拟线程上；
+ * Feign（OkHttp）同步调用、MyBatis 及 Redisson 阻塞等待均在调用线程上执行，随请求线程一并切换为虚拟线程
+ *
+ *
+ */
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+@AutoConfigureBefore(TaskExecutionAutoConfiguration.class)
+@ConditionalOnProperty(prefix = VirtualThreadProperties.PREFIX, name = "enabled", havingValue = "true")
+public class VirtualThreadAutoConfiguration {
+
+    /**
+     * 在任何业务 Bean 实例化前开启全局虚拟线程执行模式，保证 Bean 初始化阶段构建的线程池同样生效
+     */
+    @Bean
+    public static BeanFactoryPostProcessor virtualThreadActivator() {
+        return beanFactory -> VirtualThreads.setEnabled(true);
+    }
+
+    /**
+     * {@code @Async} 默认执行器，每个任务一个虚拟线程
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @Conditional(OnVirtualThreadSupportedCondition.class)
+    @ConditionalOnProperty(prefix = VirtualThreadProperties.PREFIX, name = "async-enabled", havingValue = "true", matchIfMissing = true)
+    public TaskExecutorAdapter applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("async-virtual"));
+    }
+
+    /**
+     * Tomcat 请求处理线程替换为虚拟线程，连接数仍受 {@code server.tomcat.max-connections} 限制
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+    @Conditional(OnVirtualThreadSupportedCondition.class)
+    @ConditionalOnProperty(prefix = VirtualThreadProperties.PREFIX, name = "web-enabled", havingValue = "true", matchIfMissing = true)
+    static class TomcatVirtualThreadConfiguration {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+            return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("tomcat-handler"));
+        }
+    }
+
+    /**
+     * 当前 JDK 支持虚拟线程
+     */
+    static class OnVirtualThreadSupportedCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return VirtualThreads.isSupported();
+        }
+    }
+}
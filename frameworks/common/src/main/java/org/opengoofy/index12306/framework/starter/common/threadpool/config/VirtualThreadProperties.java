@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 虚拟线程执行模式配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = VirtualThreadProperties.PREFIX)
+public class VirtualThreadProperties {
+
+    public static final String PREFIX = "framework.virtual-thread";
+
+    /**
+     * 是否开启虚拟线程执行模式，需运行在 JDK 21 及以上版本，低版本 JDK 下开启无效
+     */
+    private Boolean enabled = false;
+
+    /**
+     * Web 容器是否使用虚拟线程处理请求
+     */
+    private Boolean webEnabled = true;
+
+    /**
+     * {@code @Async} 是否使用虚拟线程执行
+     */
+    private Boolean asyncEnabled = true;
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.endpoint;
+
+import org.opengoofy.index12306.framework.starter.common.threadpool.config.ThreadPoolProperties.ExecutorProperties;
+import org.opengoofy.index12306.framework.starter.common.threadpool.monitor.ThreadPoolStats;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.DynamicThreadPoolExecutor;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.ThreadPoolConfigRefresher;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.ThreadPoolRegistry;
+import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
+import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.opengoofy.index12306.framework.starter.web.Results;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 动态线程池监控与调参控制器
+ *
+ *
+ */
+@RestController
+public class ThreadPoolController {
+
+    /**
+     * 查询全部已注册线程池运行指标
+     */
+    @GetMapping("/api/thread-pool/stats")
+    public Result<List<ThreadPoolStats>> listStats() {
+        return Results.success(ThreadPoolRegistry.getAll().stream().map(DynamicThreadPoolExecutor::getStats).toList());
+    }
+
+    /**
+     * 运行时调整线程池参数，未传入的参数保持不变
+     */
+    @PostMapping("/api/thread-pool/{poolName}/adjust")
+    public Result<ThreadPoolStats> adjust(@PathVariable("poolName") String poolName, @RequestBody ExecutorProperties requestParam) {
+        DynamicThreadPoolExecutor executor = ThreadPoolRegistry.get(poolName);
+        if (executor == null) {
+            throw new ClientException("线程池不存在：" + poolName);
+        }
+        ThreadPoolConfigRefresher.apply(executor, requestParam);
+        return Results.success(executor.getStats());
+    }
+}
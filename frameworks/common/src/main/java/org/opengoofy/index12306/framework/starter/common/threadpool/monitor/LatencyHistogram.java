@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.monitor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 任务耗时直方图
+ * 按微秒以 2 的幂划分桶，第 i 个桶统计 [2^(i-1), 2^i) 微秒的样本，记录无锁且内存固定，分位数取所在桶上界作为估算值
+ *
+ *
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sumNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时，单位纳秒
+     */
+    public void record(long nanos) {
+        long actual = Math.max(0L, nanos);
+        long micros = actual / 1000L;
+        int index = micros == 0L ? 0 : Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(index);
+        count.increment();
+        sumNanos.add(actual);
+        maxNanos.accumulate(actual);
+    }
+
+    /**
+     * 获取当前统计快照
+     */
+    public LatencyHistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return LatencyHistogramSnapshot.builder()
+                .count(total)
+                .meanMicros(total == 0L ? 0L : sumNanos.sum() / total / 1000L)
+                .maxMicros(maxNanos.get() / 1000L)
+                .p50Micros(percentile(counts, total, 0.5D))
+                .p90Micros(percentile(counts, total, 0.9D))
+                .p99Micros(percentile(counts, total, 0.99D))
+                .build();
+    }
+
+    private static long percentile(long[] counts, long total, double percentile) {
+        if (total == 0L) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(total * percentile);
+        long accumulated = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= threshold) {
+                return 1L << i;
+            }
+        }
+        return 1L << (counts.length - 1);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.monitor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 任务耗时直方图快照，单位微秒
+ *
+ *
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyHistogramSnapshot {
+
+    /**
+     * 样本数量
+     */
+    private Long count;
+
+    /**
+     * 平均耗时
+     */
+    private Long meanMicros;
+
+    /**
+     * 最大耗时
+     */
+    private Long maxMicros;
+
+    /**
+     * 50 分位耗时上界
+     */
+    private Long p50Micros;
+
+    /**
+     * 90 分位耗时上界
+     */
+    private Long p90Micros;
+
+    /**
+     * 99 分位耗时上界
+     */
+    private Long p99Micros;
+}
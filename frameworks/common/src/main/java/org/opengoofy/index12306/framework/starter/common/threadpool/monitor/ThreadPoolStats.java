@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.monitor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 线程池运行指标
+ *
+ *
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadPoolStats {
+
+    /**
+     * 线程池名称
+     */
+    private String poolName;
+
+    /**
+     * 核心线程数
+     */
+    private Integer corePoolSize;
+
+    /**
+     * 最大线程数
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * 线程空闲时间，单位秒
+     */
+    private Long keepAliveSeconds;
+
+    /**
+     * 当前线程数
+     */
+    private Integer poolSize;
+
+    /**
+     * 活跃线程数
+     */
+    private Integer activeCount;
+
+    /**
+     * 历史最大线程数
+     */
+    private Integer largestPoolSize;
+
+    /**
+     * 队列中任务数
+     */
+    private Integer queueSize;
+
+    /**
+     * 队列剩余容量
+     */
+    private Integer queueRemainingCapacity;
+
+    /**
+     * 已完成任务数
+     */
+    private Long completedTaskCount;
+
+    /**
+     * 拒绝任务数
+     */
+    private Long rejectedCount;
+
+    /**
+     * 任务排队耗时
+     */
+    private LatencyHistogramSnapshot waitTime;
+
+    /**
+     * 任务执行耗时
+     */
+    private LatencyHistogramSnapshot runTime;
+}
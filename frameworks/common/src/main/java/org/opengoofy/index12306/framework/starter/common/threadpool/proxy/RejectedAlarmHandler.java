@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.proxy;
+
+/**
+ * 线程池拒绝策略报警处理器，由 {@link RejectedProxyUtil} 创建的拒绝策略代理在任务被拒绝时回调
+ *
+ *
+ */
+public interface RejectedAlarmHandler {
+
+    /**
+     * 任务被拒绝时报警
+     *
+     * @param poolName      线程池名称，未命名线程池为 null
+     * @param rejectedCount 累计拒绝次数
+     */
+    void alarm(String poolName, long rejectedCount);
+}
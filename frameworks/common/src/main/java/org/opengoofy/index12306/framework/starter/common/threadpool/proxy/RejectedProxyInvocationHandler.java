@@ -35,6 +35,8 @@ import java.util.concurrent.atomic.AtomicLong;
 @AllArgsConstructor
 public class RejectedProxyInvocationHandler implements InvocationHandler {
 
+    private static final String REJECTED_EXECUTION_METHOD = "rejectedExecution";
+
     /**
      * Target object
      */
@@ -45,12 +47,20 @@ public class RejectedProxyInvocationHandler implements InvocationHandler {
      */
     private final AtomicLong rejectCount;
 
+    /**
+     * Thread pool name
+     */
+    private final String poolName;
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {//实现了 InvocationHandler 接口的核心方法，用于拦截被代理对象的方法调用。
-        // 在这个方法中，首先递增拒绝次数，然后输出日志（模拟报警），最后通过反射调用目标对象的方法。如果调用目标方法时发生异常，它会抛出 InvocationTargetException，并将原始异常抛出。
-        rejectCount.incrementAndGet();
+        // 在这个方法中，首先递增拒绝次数，然后触发报警处理器，最后通过反射调用目标对象的方法。如果调用目标方法时发生异常，它会抛出 InvocationTargetException，并将原始异常抛出。
+        if (REJECTED_EXECUTION_METHOD.equals(method.getName())) {
+            long currentRejectCount = rejectCount.incrementAndGet();
+            log.error("线程池执行拒绝策略, 线程池：{}，累计拒绝次数：{}", poolName, currentRejectCount);
+            RejectedProxyUtil.fireAlarm(poolName, currentRejectCount);
+        }
         try {
-            log.error("线程池执行拒绝策略, 此处模拟报警...");
             return method.invoke(target, args);
         } catch (InvocationTargetException ex) {
             throw ex.getCause();
@@ -19,9 +19,12 @@ package org.opengoofy.index12306.framework.starter.common.threadpool.proxy;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.opengoofy.index12306.framework.starter.common.toolkit.ThreadUtil;
 
 import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -34,9 +37,39 @@ import java.util.concurrent.atomic.AtomicLong;
  *
  */
 //这段代码定义了一个工具类 RejectedProxyUtil，用于创建线程池拒绝策略的代理对象并进行测试。
+@Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RejectedProxyUtil {
 
+    private static final List<RejectedAlarmHandler> ALARM_HANDLERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * 注册拒绝策略报警处理器
+     */
+    public static void addAlarmHandler(RejectedAlarmHandler alarmHandler) {
+        ALARM_HANDLERS.add(alarmHandler);
+    }
+
+    /**
+     * 移除拒绝策略报警处理器
+     */
+    public static void removeAlarmHandler(RejectedAlarmHandler alarmHandler) {
+        ALARM_HANDLERS.remove(alarmHandler);
+    }
+
+    /**
+     * 触发拒绝策略报警，单个处理器异常不影响其他处理器与拒绝策略执行
+     */
+    static void fireAlarm(String poolName, long rejectedCount) {
+        for (RejectedAlarmHandler each : ALARM_HANDLERS) {
+            try {
+                each.alarm(poolName, rejectedCount);
+            } catch (Throwable ex) {
+                log.error("线程池拒绝策略报警处理器执行失败, 线程池：{}", poolName, ex);
+            }
+        }
+    }
+
     /**
      * 创建拒绝策略代理类
      *
@@ -45,12 +78,24 @@ public final class RejectedProxyUtil {
      * @return 代理拒绝策略
      */
     public static RejectedExecutionHandler createProxy(RejectedExecutionHandler rejectedExecutionHandler, AtomicLong rejectedNum) {
+        return createProxy(rejectedExecutionHandler, rejectedNum, null);
+    }
+
+    /**
+     * 创建拒绝策略代理类
+     *
+     * @param rejectedExecutionHandler 真正的线程池拒绝策略执行器
+     * @param rejectedNum              拒绝策略执行统计器
+     * @param poolName                 线程池名称，报警时携带
+     * @return 代理拒绝策略
+     */
+    public static RejectedExecutionHandler createProxy(RejectedExecutionHandler rejectedExecutionHandler, AtomicLong rejectedNum, String poolName) {
         // 动态代理模式: 增强线程池拒绝策略，比如：拒绝任务报警或加入延迟队列重复放入等逻辑
         return (RejectedExecutionHandler) Proxy
                 .newProxyInstance(
                         rejectedExecutionHandler.getClass().getClassLoader(),
                         new Class[]{RejectedExecutionHandler.class},
-                        new RejectedProxyInvocationHandler(rejectedExecutionHandler, rejectedNum));
+                        new RejectedProxyInvocationHandler(rejectedExecutionHandler, rejectedNum, poolName));
     }
 
     /**
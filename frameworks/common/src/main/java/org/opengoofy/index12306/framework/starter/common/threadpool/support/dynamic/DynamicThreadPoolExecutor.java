@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic;
+
+import lombok.Getter;
+import org.opengoofy.index12306.framework.starter.common.threadpool.monitor.LatencyHistogram;
+import org.opengoofy.index12306.framework.starter.common.threadpool.monitor.ThreadPoolStats;
+import org.opengoofy.index12306.framework.starter.common.threadpool.proxy.RejectedProxyUtil;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 可观测、可动态调整的线程池
+ * 提交的任务包装为计时任务，统计排队与执行耗时；拒绝策略通过 {@link RejectedProxyUtil} 代理统计拒绝次数并触发报警；
+ * 核心线程数、最大线程数、空闲时间以及 {@link ResizableCapacityLinkedBlockingQueue} 队列容量均可在运行时调整
+ *
+ *
+ */
+public class DynamicThreadPoolExecutor extends ThreadPoolExecutor {
+
+    /**
+     * 线程池名称
+     */
+    @Getter
+    private final String poolName;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final LatencyHistogram waitTimeHistogram = new LatencyHistogram();
+
+    private final LatencyHistogram runTimeHistogram = new LatencyHistogram();
+
+    public DynamicThreadPoolExecutor(String poolName,
+                                     int corePoolSize,
+                                     int maximumPoolSize,
+                                     long keepAliveTime,
+                                     TimeUnit unit,
+                                     BlockingQueue<Runnable> workQueue,
+                                     ThreadFactory threadFactory,
+                                     RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        this.poolName = poolName;
+        super.setRejectedExecutionHandler(createRejectedHandler(handler));
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        super.setRejectedExecutionHandler(createRejectedHandler(handler));
+    }
+
+    /**
+     * 创建线程池实际使用的拒绝策略，默认为统计拒绝次数并触发报警的代理；构造方法中调用，子类覆盖时不能依赖自身字段初始化
+     */
+    protected RejectedExecutionHandler createRejectedHandler(RejectedExecutionHandler handler) {
+        return RejectedProxyUtil.createProxy(handler, rejectedCount, poolName);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        super.execute(wrapTask(command));
+    }
+
+    /**
+     * 包装为计时任务，已包装的任务直接返回；绕过 {@link #execute(Runnable)} 直接入队的任务须先包装才能统计排队与执行耗时
+     */
+    protected Runnable wrapTask(Runnable command) {
+        return command instanceof TimedRunnable ? command : new TimedRunnable(command);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        if (r instanceof TimedRunnable timedRunnable) {
+            timedRunnable.startNanos = System.nanoTime();
+            waitTimeHistogram.record(timedRunnable.startNanos - timedRunnable.submitNanos);
+        }
+        super.beforeExecute(t, r);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        if (r instanceof TimedRunnable timedRunnable && timedRunnable.startNanos > 0L) {
+            runTimeHistogram.record(System.nanoTime() - timedRunnable.startNanos);
+        }
+    }
+
+    /**
+     * 调整线程数，扩容时先调最大线程数，缩容时先调核心线程数，避免核心线程数大于最大线程数
+     */
+    public synchronized void resize(int corePoolSize, int maximumPoolSize) {
+        if (corePoolSize > maximumPoolSize) {
+            throw new IllegalArgumentException("Core pool size must not be greater than maximum pool size.");
+        }
+        if (maximumPoolSize >= getMaximumPoolSize()) {
+            setMaximumPoolSize(maximumPoolSize);
+            setCorePoolSize(corePoolSize);
+        } else {
+            setCorePoolSize(corePoolSize);
+            setMaximumPoolSize(maximumPoolSize);
+        }
+    }
+
+    /**
+     * 调整队列容量，仅 {@link ResizableCapacityLinkedBlockingQueue} 支持
+     *
+     * @return 是否调整成功
+     */
+    public boolean setQueueCapacity(int capacity) {
+        if (getQueue() instanceof ResizableCapacityLinkedBlockingQueue<Runnable> queue) {
+            queue.setCapacity(capacity);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        ThreadPoolRegistry.unregister(this);
+    }
+
+    /**
+     * 拒绝任务数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 获取线程池运行指标
+     */
+    public ThreadPoolStats getStats() {
+        BlockingQueue<Runnable> queue = getQueue();
+        return ThreadPoolStats.builder()
+                .poolName(poolName)
+                .corePoolSize(getCorePoolSize())
+                .maximumPoolSize(getMaximumPoolSize())
+                .keepAliveSeconds(getKeepAliveTime(TimeUnit.SECONDS))
+                .poolSize(getPoolSize())
+                .activeCount(getActiveCount())
+                .largestPoolSize(getLargestPoolSize())
+                .queueSize(queue.size())
+                .queueRemainingCapacity(queue.remainingCapacity())
+                .completedTaskCount(getCompletedTaskCount())
+                .rejectedCount(rejectedCount.get())
+                .waitTime(waitTimeHistogram.snapshot())
+                .runTime(runTimeHistogram.snapshot())
+                .build();
+    }
+
+    /**
+     * 记录提交与开始执行时间的任务包装
+     */
+    private static final class TimedRunnable implements Runnable {
+
+        private final Runnable delegate;
+
+        private final long submitNanos = System.nanoTime();
+
+        private long startNanos;
+
+        private TimedRunnable(Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+}
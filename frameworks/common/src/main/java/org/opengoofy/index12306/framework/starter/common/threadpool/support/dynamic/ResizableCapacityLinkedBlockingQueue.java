@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic;
+
+import java.util.Collection;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 容量可调整的阻塞队列
+ * {@link LinkedBlockingQueue} 的容量在构造后不可修改，这里以无界队列为底层存储，入队时按可变容量校验，用于运行时调整线程池队列长度；
+ * 所有入队操作在同一把锁内完成容量校验与入队，出队只会减少元素数量，因此队列长度不会超出容量；
+ * 出队或扩容后通过 {@link Condition} 唤醒等待空间的生产者
+ *
+ *
+ */
+public class ResizableCapacityLinkedBlockingQueue<E> extends LinkedBlockingQueue<E> {
+
+    private final ReentrantLock putLock = new ReentrantLock();
+
+    private final Condition notFull = putLock.newCondition();
+
+    private volatile int capacity;
+
+    /**
+     * 等待空间的生产者数量，没有等待者时出队无需获取入队锁
+     */
+    private volatile int waitingProducers;
+
+    public ResizableCapacityLinkedBlockingQueue(int capacity) {
+        super();
+        setCapacity(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be greater than 0.");
+        }
+        putLock.lock();
+        try {
+            this.capacity = capacity;
+            notFull.signalAll();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        putLock.lock();
+        try {
+            return size() < capacity && super.offer(e);
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        putLock.lockInterruptibly();
+        // 先登记等待再校验容量，与出队后读取等待数量配合，避免漏掉唤醒
+        waitingProducers++;
+        try {
+            while (size() >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return super.offer(e);
+        } finally {
+            waitingProducers--;
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        putLock.lockInterruptibly();
+        waitingProducers++;
+        try {
+            while (size() >= capacity) {
+                notFull.await();
+            }
+            super.offer(e);
+        } finally {
+            waitingProducers--;
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E result = super.take();
+        signalNotFull();
+        return result;
+    }
+
+    @Override
+    public E poll() {
+        E result = super.poll();
+        if (result != null) {
+            signalNotFull();
+        }
+        return result;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E result = super.poll(timeout, unit);
+        if (result != null) {
+            signalNotFull();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = super.remove(o);
+        if (removed) {
+            signalNotFull();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = super.removeIf(filter);
+        if (removed) {
+            signalNotFull();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean removed = super.removeAll(c);
+        if (removed) {
+            signalNotFull();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean removed = super.retainAll(c);
+        if (removed) {
+            signalNotFull();
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        signalNotFull();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        int drained = super.drainTo(c);
+        if (drained > 0) {
+            signalNotFull();
+        }
+        return drained;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        int drained = super.drainTo(c, maxElements);
+        if (drained > 0) {
+            signalNotFull();
+        }
+        return drained;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+
+    private void signalNotFull() {
+        if (waitingProducers == 0) {
+            return;
+        }
+        putLock.lock();
+        try {
+            // 出队数量可能不止一个，唤醒全部等待者各自重新校验容量
+            notFull.signalAll();
+        } finally {
+            putLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.common.threadpool.config.ThreadPoolProperties;
+import org.opengoofy.index12306.framework.starter.common.threadpool.config.ThreadPoolProperties.ExecutorProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 动态线程池配置刷新器
+ * 定时从 {@link Environment} 重新绑定线程池配置，配置中心刷新属性源后无需依赖特定刷新事件即可生效；
+ * 调参接口与配置变更均直接作用到线程池，以最近一次调整为准
+ *
+ *
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ThreadPoolConfigRefresher implements InitializingBean, DisposableBean {
+
+    private final Environment environment;
+
+    private final ThreadPoolProperties threadPoolProperties;
+
+    private Map<String, ExecutorProperties> lastApplied = Map.of();
+
+    /**
+     * 已应用过配置的线程池实例，同名线程池重建后需要重新应用
+     */
+    private final Map<String, DynamicThreadPoolExecutor> appliedExecutors = new HashMap<>();
+
+    private ScheduledExecutorService refreshExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "thread-pool-config-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1L, threadPoolProperties.getRefreshIntervalSeconds());
+        refreshExecutor.scheduleWithFixedDelay(this::refresh, 0L, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 重新绑定配置，仅在配置发生变化或有新注册的线程池时作用到线程池，不会覆盖通过调参接口做出的调整
+     */
+    public synchronized void refresh() {
+        try {
+            ThreadPoolProperties current = Binder.get(environment)
+                    .bind(ThreadPoolProperties.PREFIX, ThreadPoolProperties.class)
+                    .orElseGet(ThreadPoolProperties::new);
+            Map<String, ExecutorProperties> executors = current.getExecutors();
+            boolean changed = !Objects.equals(executors, lastApplied);
+            executors.forEach((poolName, properties) -> {
+                DynamicThreadPoolExecutor executor = ThreadPoolRegistry.get(poolName);
+                if (executor != null && (changed || appliedExecutors.get(poolName) != executor)) {
+                    apply(executor, properties);
+                    appliedExecutors.put(poolName, executor);
+                }
+            });
+            lastApplied = executors;
+        } catch (Throwable ex) {
+            log.error("刷新动态线程池配置失败", ex);
+        }
+    }
+
+    /**
+     * 调整线程池参数，未设置的参数保持不变
+     */
+    public static void apply(DynamicThreadPoolExecutor executor, ExecutorProperties properties) {
+        int corePoolSize = properties.getCorePoolSize() != null ? properties.getCorePoolSize() : executor.getCorePoolSize();
+        int maximumPoolSize = properties.getMaximumPoolSize() != null ? properties.getMaximumPoolSize() : executor.getMaximumPoolSize();
+        if (corePoolSize != executor.getCorePoolSize() || maximumPoolSize != executor.getMaximumPoolSize()) {
+            executor.resize(corePoolSize, Math.max(corePoolSize, maximumPoolSize));
+        }
+        if (properties.getKeepAliveSeconds() != null) {
+            executor.setKeepAliveTime(properties.getKeepAliveSeconds(), TimeUnit.SECONDS);
+        }
+        if (properties.getQueueCapacity() != null && !executor.setQueueCapacity(properties.getQueueCapacity())) {
+            log.warn("线程池 {} 的队列不支持调整容量", executor.getPoolName());
+        }
+        log.info("动态线程池参数调整，线程池：{}，核心线程数：{}，最大线程数：{}，空闲时间：{}s，队列容量：{}",
+                executor.getPoolName(), executor.getCorePoolSize(), executor.getMaximumPoolSize(),
+                executor.getKeepAliveTime(TimeUnit.SECONDS), properties.getQueueCapacity());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 动态线程池注册表
+ * 通过 {@link org.opengoofy.index12306.framework.starter.common.threadpool.build.ThreadPoolBuilder#poolName(String)} 构建的线程池自动注册，供监控与动态调参使用
+ *
+ *
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ThreadPoolRegistry {
+
+    private static final Map<String, DynamicThreadPoolExecutor> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * 注册线程池，名称重复时抛出异常，避免指标与调参作用到错误的线程池
+     */
+    public static void register(DynamicThreadPoolExecutor executor) {
+        DynamicThreadPoolExecutor existing = REGISTRY.putIfAbsent(executor.getPoolName(), executor);
+        if (existing != null && existing != executor) {
+            throw new IllegalStateException("Thread pool already registered: " + executor.getPoolName());
+        }
+    }
+
+    /**
+     * 移除线程池，线程池关闭后调用
+     */
+    public static void unregister(DynamicThreadPoolExecutor executor) {
+        REGISTRY.remove(executor.getPoolName(), executor);
+    }
+
+    /**
+     * 根据名称获取线程池
+     */
+    public static DynamicThreadPoolExecutor get(String poolName) {
+        return REGISTRY.get(poolName);
+    }
+
+    /**
+     * 获取全部线程池
+     */
+    public static Collection<DynamicThreadPoolExecutor> getAll() {
+        return Collections.unmodifiableCollection(REGISTRY.values());
+    }
+}
@@ -17,10 +17,11 @@
 
 package org.opengoofy.index12306.framework.starter.common.threadpool.support.eager;
 
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.DynamicThreadPoolExecutor;
+
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,7 +31,16 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  */
 //EagerThreadPoolExecutor 类是对 ThreadPoolExecutor 进行的扩展，使得线程池支持任务重试功能，而且能够统计已提交的任务数量。这种线程池的设计可以在任务提交失败时进行重试，并且提供了更多的任务执行信息供监控和调试使用。
-public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
+public class EagerThreadPoolExecutor extends DynamicThreadPoolExecutor {
+
+    private static final String DEFAULT_POOL_NAME = "eager-thread-pool";
+
+    /**
+     * 线程池内部使用的拒绝策略，只抛出异常交由 {@link #execute(Runnable)} 重试入队
+     */
+    private static final RejectedExecutionHandler RETRY_OFFER_HANDLER = (runnable, executor) -> {
+        throw new RejectedExecutionException("Retry offer to task queue.");
+    };
 
     public EagerThreadPoolExecutor(int corePoolSize,
                                    int maximumPoolSize,
@@ -39,40 +49,83 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
                                    TaskQueue<Runnable> workQueue,
                                    ThreadFactory threadFactory,
                                    RejectedExecutionHandler handler) {
-        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        this(DEFAULT_POOL_NAME, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    public EagerThreadPoolExecutor(String poolName,
+                                   int corePoolSize,
+                                   int maximumPoolSize,
+                                   long keepAliveTime,
+                                   TimeUnit unit,
+                                   TaskQueue<Runnable> workQueue,
+                                   ThreadFactory threadFactory,
+                                   RejectedExecutionHandler handler) {
+        super(poolName, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
     }
 
     private final AtomicInteger submittedTaskCount = new AtomicInteger(0);
 
+    /**
+     * 统计拒绝次数并触发报警的拒绝策略，重试入队失败后才执行；由父类构造方法通过 {@link #createRejectedHandler} 赋值，不能声明初始值
+     */
+    private volatile RejectedExecutionHandler rejectedHandler;
+
     public int getSubmittedTaskCount() {
         return submittedTaskCount.get();
     }
 
+    @Override
+    protected RejectedExecutionHandler createRejectedHandler(RejectedExecutionHandler handler) {
+        rejectedHandler = super.createRejectedHandler(handler);
+        return RETRY_OFFER_HANDLER;
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        return rejectedHandler;
+    }
+
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
         submittedTaskCount.decrementAndGet();
     }
 
     @Override
     public void execute(Runnable command) {//重写了父类的 execute 方法，当提交任务时，增加已提交的任务数量，并尝试执行任务。
-        // 如果线程池拒绝执行任务，会尝试将任务重新添加到任务队列，以支持任务重试。如果队列已满，会抛出 RejectedExecutionException 异常。
+        // 如果线程池拒绝执行任务，会尝试将任务重新添加到任务队列，以支持任务重试。重试入队仍失败时执行拒绝策略。
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        // 提前包装，重试入队的任务同样统计排队与执行耗时
+        Runnable task = wrapTask(command);
         submittedTaskCount.incrementAndGet();
         try {
-            super.execute(command);
+            super.execute(task);
         } catch (RejectedExecutionException ex) {
-            TaskQueue taskQueue = (TaskQueue) super.getQueue();
-            try {
-                if (!taskQueue.retryOffer(command, 0, TimeUnit.MILLISECONDS)) {
-                    submittedTaskCount.decrementAndGet();
-                    throw new RejectedExecutionException("Queue capacity is full.", ex);
-                }
-            } catch (InterruptedException iex) {
+            if (!retryOffer(task)) {
+                // 重试入队仍失败才算真正拒绝，由拒绝策略统计次数并报警
                 submittedTaskCount.decrementAndGet();
-                throw new RejectedExecutionException(iex);
+                rejectedHandler.rejectedExecution(task, this);
             }
         } catch (Exception ex) {
             submittedTaskCount.decrementAndGet();
             throw ex;
         }
     }
+
+    private boolean retryOffer(Runnable task) {
+        if (isShutdown()) {
+            return false;
+        }
+        TaskQueue taskQueue = (TaskQueue) super.getQueue();
+        try {
+            return taskQueue.retryOffer(task, 0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
 }
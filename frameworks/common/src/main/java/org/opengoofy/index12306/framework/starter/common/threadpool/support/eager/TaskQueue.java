@@ -18,8 +18,8 @@
 package org.opengoofy.index12306.framework.starter.common.threadpool.support.eager;
 
 import lombok.Setter;
+import org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic.ResizableCapacityLinkedBlockingQueue;
 
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -28,7 +28,7 @@ import java.util.concurrent.TimeUnit;
  *
  *
  */
-public class TaskQueue<R extends Runnable> extends LinkedBlockingQueue<Runnable> {
+public class TaskQueue<R extends Runnable> extends ResizableCapacityLinkedBlockingQueue<Runnable> {
 
     @Setter
     private EagerThreadPoolExecutor executor;
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.virtual;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程支持
+ * 项目以 Java 17 编译，通过 MethodHandle 在运行时探测 JDK 21+ 的 {@code Thread.ofVirtual()}，低版本 JDK 下自动降级为平台线程
+ * <p>
+ * 上下文传递说明：
+ * 1. 虚拟线程默认继承创建线程的 InheritableThreadLocal，UserContext 使用的 TransmittableThreadLocal 在每任务一线程模式下天然传递；
+ * 2. IdempotentContext 等普通 ThreadLocal 在同一请求线程内设置与清理，虚拟线程下行为不变；
+ * 3. 虚拟线程在 synchronized 块内阻塞会钉住载体线程，阻塞 IO 外层的锁应使用 ReentrantLock，Snowflake#nextId 为 CAS 无锁实现不受影响
+ *
+ *
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    private static final MethodHandle OF_VIRTUAL;
+
+    private static final MethodHandle NAME;
+
+    private static final MethodHandle FACTORY;
+
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    private static final boolean SUPPORTED;
+
+    private static volatile boolean enabled;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle newThreadPerTaskExecutor = null;
+        boolean supported = false;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            name = lookup.findVirtual(ofVirtualClass, "name", MethodType.methodType(ofVirtualClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            // JDK 19、20 中虚拟线程为预览特性，未开启 --enable-preview 时调用会抛出异常
+            ofVirtual.invoke();
+            supported = true;
+        } catch (Throwable ignored) {
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        SUPPORTED = supported;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 当前 JDK 是否支持虚拟线程
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * 是否已开启虚拟线程执行模式
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 开启或关闭虚拟线程执行模式，当前 JDK 不支持时开启无效
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && !SUPPORTED) {
+            log.warn("当前 JDK {} 不支持虚拟线程，继续使用平台线程", Runtime.version());
+            return;
+        }
+        VirtualThreads.enabled = enabled;
+    }
+
+    /**
+     * 创建虚拟线程工厂，线程名称与 ThreadFactoryBuilder 一致为 {@code prefix_序号}
+     *
+     * @param namePrefix 线程名称前缀
+     */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        checkSupported();
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = NAME.invoke(builder, namePrefix + "_", 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Create virtual thread factory failed.", ex);
+        }
+    }
+
+    /**
+     * 创建每任务一虚拟线程的执行器
+     *
+     * @param namePrefix 线程名称前缀
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        checkSupported();
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory(namePrefix));
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Create virtual thread executor failed.", ex);
+        }
+    }
+
+    private static void checkSupported() {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later, current: " + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.toolkit;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.github.dozermapper.core.loader.api.TypeMappingOptions.mapEmptyString;
+import static com.github.dozermapper.core.loader.api.TypeMappingOptions.mapNull;
+
+/**
+ * 基于访问器生成的对象属性复制器
+ * 每个 (源类型, 目标类型) 组合首次使用时通过 {@link LambdaMetafactory} 将 Getter、Setter 与无参构造器生成为函数式接口实例并缓存，
+ * 后续复制不再经过反射；属性需要类型转换或深拷贝（集合、嵌套对象等）的组合仍交由 Dozer 处理，其映射器同样按组合缓存
+ *
+ *
+ */
+@Slf4j
+final class BeanCopier {
+
+    private static final ClassValue<Map<Class<?>, BeanCopier>> COPIERS = new ClassValue<>() {
+
+        @Override
+        protected Map<Class<?>, BeanCopier> computeValue(Class<?> sourceClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final Mapper DEFAULT_MAPPER = DozerBeanMapperBuilder.buildDefault();
+
+    private final Class<?> sourceClass;
+
+    private final Class<?> targetClass;
+
+    /**
+     * 属性复制器，为 null 表示该组合不支持生成访问器，回退到 Dozer
+     */
+    private final PropertyCopier[] propertyCopiers;
+
+    private final Supplier<Object> targetFactory;
+
+    private volatile Mapper ignoreNullMapper;
+
+    private volatile Mapper ignoreNullAndEmptyMapper;
+
+    private BeanCopier(Class<?> sourceClass, Class<?> targetClass) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        PropertyCopier[] actualPropertyCopiers = null;
+        Supplier<Object> actualTargetFactory = null;
+        try {
+            actualPropertyCopiers = buildPropertyCopiers(sourceClass, targetClass);
+            if (actualPropertyCopiers != null) {
+                actualTargetFactory = buildTargetFactory(targetClass);
+            }
+        } catch (Throwable ex) {
+            log.warn("生成属性复制器失败，回退到 Dozer，源类型：{}，目标类型：{}", sourceClass.getName(), targetClass.getName(), ex);
+            actualPropertyCopiers = null;
+        }
+        this.propertyCopiers = actualPropertyCopiers;
+        this.targetFactory = actualTargetFactory;
+    }
+
+    /**
+     * 获取源类型到目标类型的属性复制器
+     */
+    static BeanCopier of(Class<?> sourceClass, Class<?> targetClass) {
+        Map<Class<?>, BeanCopier> copiers = COPIERS.get(sourceClass);
+        BeanCopier copier = copiers.get(targetClass);
+        return copier != null ? copier : copiers.computeIfAbsent(targetClass, each -> new BeanCopier(sourceClass, each));
+    }
+
+    /**
+     * 创建目标对象并复制全部属性
+     */
+    @SuppressWarnings("unchecked")
+    <T> T copy(Object source) {
+        if (propertyCopiers == null || targetFactory == null) {
+            return (T) DEFAULT_MAPPER.map(source, targetClass);
+        }
+        Object target = targetFactory.get();
+        for (PropertyCopier each : propertyCopiers) {
+            each.copy(source, target, false, false);
+        }
+        return (T) target;
+    }
+
+    /**
+     * 复制属性到已有目标对象
+     *
+     * @param ignoreNull  是否跳过值为 null 的属性
+     * @param ignoreEmpty 是否跳过值为空字符串的属性
+     */
+    void copy(Object source, Object target, boolean ignoreNull, boolean ignoreEmpty) {
+        if (propertyCopiers == null) {
+            resolveMapper(ignoreNull, ignoreEmpty).map(source, target);
+            return;
+        }
+        for (PropertyCopier each : propertyCopiers) {
+            each.copy(source, target, ignoreNull, ignoreEmpty);
+        }
+    }
+
+    private Mapper resolveMapper(boolean ignoreNull, boolean ignoreEmpty) {
+        if (!ignoreNull) {
+            return DEFAULT_MAPPER;
+        }
+        if (ignoreEmpty) {
+            Mapper mapper = ignoreNullAndEmptyMapper;
+            if (mapper == null) {
+                ignoreNullAndEmptyMapper = mapper = buildMapper(true);
+            }
+            return mapper;
+        }
+        Mapper mapper = ignoreNullMapper;
+        if (mapper == null) {
+            ignoreNullMapper = mapper = buildMapper(false);
+        }
+        return mapper;
+    }
+
+    private Mapper buildMapper(boolean ignoreEmpty) {
+        return DozerBeanMapperBuilder.create().withMappingBuilders(new BeanMappingBuilder() {
+
+            @Override
+            protected void configure() {
+                if (ignoreEmpty) {
+                    mapping(sourceClass, targetClass, mapNull(false), mapEmptyString(false));
+                } else {
+                    mapping(sourceClass, targetClass, mapNull(false));
+                }
+            }
+        }).build();
+    }
+
+    private static PropertyCopier[] buildPropertyCopiers(Class<?> sourceClass, Class<?> targetClass) throws Throwable {
+        if (!isJavaBean(sourceClass) || !isJavaBean(targetClass)) {
+            return null;
+        }
+        Map<String, PropertyDescriptor> sourceProperties = getPropertyDescriptors(sourceClass);
+        List<PropertyCopier> result = new ArrayList<>();
+        for (Map.Entry<String, List<Method>> entry : getSetters(targetClass).entrySet()) {
+            PropertyDescriptor sourceProperty = sourceProperties.get(entry.getKey());
+            if (sourceProperty == null || sourceProperty.getReadMethod() == null) {
+                continue;
+            }
+            Method readMethod = sourceProperty.getReadMethod();
+            Class<?> sourceType = readMethod.getReturnType();
+            Method writeMethod = resolveSetter(entry.getValue(), sourceType);
+            Class<?> targetType = writeMethod.getParameterTypes()[0];
+            // 需要类型转换或深拷贝的属性交由 Dozer 处理整个组合，保证与原有复制语义一致
+            if (!isImmutableValueType(targetType) || !wrap(targetType).isAssignableFrom(wrap(sourceType))) {
+                return null;
+            }
+            result.add(new PropertyCopier(
+                    buildGetter(readMethod),
+                    buildSetter(writeMethod),
+                    targetType.isPrimitive(),
+                    Date.class.isAssignableFrom(targetType)
+            ));
+        }
+        return result.toArray(new PropertyCopier[0]);
+    }
+
+    private static Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> clazz) throws IntrospectionException {
+        Map<String, PropertyDescriptor> result = new HashMap<>();
+        for (PropertyDescriptor each : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
+            result.put(each.getName(), each);
+        }
+        return result;
+    }
+
+    /**
+     * 按属性名收集目标类型的 Setter，不限制返回值类型
+     * {@link Introspector} 只识别返回 void 的 Setter，Lombok {@code @Accessors(chain = true)} 生成的链式 Setter 需要单独查找
+     */
+    private static Map<String, List<Method>> getSetters(Class<?> clazz) {
+        Map<String, List<Method>> result = new HashMap<>();
+        for (Method each : clazz.getMethods()) {
+            String name = each.getName();
+            if (name.length() > 3 && name.startsWith("set") && each.getParameterCount() == 1
+                    && !Modifier.isStatic(each.getModifiers()) && !each.isBridge() && !each.isSynthetic()) {
+                result.computeIfAbsent(Introspector.decapitalize(name.substring(3)), key -> new ArrayList<>()).add(each);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 同名 Setter 存在重载时优先选择参数类型可以直接接收源属性的方法
+     */
+    private static Method resolveSetter(List<Method> setters, Class<?> sourceType) {
+        for (Method each : setters) {
+            if (wrap(each.getParameterTypes()[0]).isAssignableFrom(wrap(sourceType))) {
+                return each;
+            }
+        }
+        return setters.get(0);
+    }
+
+    private static boolean isJavaBean(Class<?> type) {
+        return !type.isPrimitive()
+                && !type.isArray()
+                && !type.isInterface()
+                && !type.getName().startsWith("java.")
+                && !Map.class.isAssignableFrom(type)
+                && !Iterable.class.isAssignableFrom(type);
+    }
+
+    private static boolean isImmutableValueType(Class<?> type) {
+        Class<?> actual = wrap(type);
+        return actual.getName().startsWith("java.lang.") && (Number.class.isAssignableFrom(actual) || actual == String.class || actual == Boolean.class || actual == Character.class)
+                || actual.isEnum()
+                || actual == BigDecimal.class
+                || actual == BigInteger.class
+                || actual == UUID.class
+                || Date.class.isAssignableFrom(actual)
+                || Temporal.class.isAssignableFrom(actual) && actual.getName().startsWith("java.time.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> buildGetter(Method readMethod) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(readMethod.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle getter = lookup.unreflect(readMethod);
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                getter,
+                MethodType.methodType(wrap(readMethod.getReturnType()), readMethod.getDeclaringClass())
+        );
+        return (Function<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> buildSetter(Method writeMethod) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(writeMethod.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle setter = lookup.unreflect(writeMethod);
+        // 链式 Setter 的返回值在函数式接口中被丢弃
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                setter,
+                MethodType.methodType(void.class, writeMethod.getDeclaringClass(), wrap(writeMethod.getParameterTypes()[0]))
+        );
+        return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> buildTargetFactory(Class<?> targetClass) throws Throwable {
+        if (Modifier.isAbstract(targetClass.getModifiers()) || targetClass.isInterface()) {
+            return null;
+        }
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(targetClass, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                constructor,
+                MethodType.methodType(targetClass)
+        );
+        return (Supplier<Object>) callSite.getTarget().invoke();
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * 单个属性复制器
+     */
+    @RequiredArgsConstructor
+    private static final class PropertyCopier {
+
+        private final Function<Object, Object> getter;
+
+        private final BiConsumer<Object, Object> setter;
+
+        private final boolean primitiveTarget;
+
+        private final boolean dateTarget;
+
+        void copy(Object source, Object target, boolean ignoreNull, boolean ignoreEmpty) {
+            Object value = getter.apply(source);
+            if (value == null) {
+                // 基本类型无法接收 null，与 Dozer 一致跳过
+                if (ignoreNull || primitiveTarget) {
+                    return;
+                }
+            } else if (ignoreEmpty && value instanceof String && ((String) value).isEmpty()) {
+                return;
+            } else if (dateTarget) {
+                // Date 为可变对象，与 Dozer 一致复制新实例
+                value = ((Date) value).clone();
+            }
+            setter.accept(target, value);
+        }
+    }
+}
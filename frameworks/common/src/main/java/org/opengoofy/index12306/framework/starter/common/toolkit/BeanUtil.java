@@ -17,9 +17,6 @@
 
 package org.opengoofy.index12306.framework.starter.common.toolkit;
 
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
-import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
 import lombok.NoArgsConstructor;
 
 import java.lang.reflect.Array;
@@ -29,23 +26,15 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import static com.github.dozermapper.core.loader.api.TypeMappingOptions.mapEmptyString;
-import static com.github.dozermapper.core.loader.api.TypeMappingOptions.mapNull;
-
 /**
  * 对象属性复制工具类
+ * 属性复制委托给按 (源类型, 目标类型) 缓存的 {@link BeanCopier}，避免每次调用都经过 Dozer 反射
  *
  *
  */
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 public class BeanUtil {
 
-    protected static Mapper BEAN_MAPPER_BUILDER;
-
-    static {
-        BEAN_MAPPER_BUILDER = DozerBeanMapperBuilder.buildDefault();
-    }
-
     /**
      * 属性复制
      *
@@ -57,7 +46,7 @@ public class BeanUtil {
      */
     public static <T, S> T convert(S source, T target) {
         Optional.ofNullable(source)
-                .ifPresent(each -> BEAN_MAPPER_BUILDER.map(each, target));
+                .ifPresent(each -> BeanCopier.of(each.getClass(), target.getClass()).copy(each, target, false, false));
         return target;
     }
 
@@ -72,7 +61,7 @@ public class BeanUtil {
      */
     public static <T, S> T convert(S source, Class<T> clazz) {
         return Optional.ofNullable(source)
-                .map(each -> BEAN_MAPPER_BUILDER.map(each, clazz))
+                .map(each -> BeanCopier.of(each.getClass(), clazz).<T>copy(each))
                 .orElse(null);
     }
 
@@ -90,7 +79,7 @@ public class BeanUtil {
                 .map(each -> {
                     List<T> targetList = new ArrayList<T>(each.size());
                     each.stream()
-                            .forEach(item -> targetList.add(BEAN_MAPPER_BUILDER.map(item, clazz)));
+                            .forEach(item -> targetList.add(convert(item, clazz)));
                     return targetList;
                 })
                 .orElse(null);
@@ -110,7 +99,7 @@ public class BeanUtil {
                 .map(each -> {
                     Set<T> targetSize = new HashSet<T>(each.size());
                     each.stream()
-                            .forEach(item -> targetSize.add(BEAN_MAPPER_BUILDER.map(item, clazz)));
+                            .forEach(item -> targetSize.add(convert(item, clazz)));
                     return targetSize;
                 })
                 .orElse(null);
@@ -131,7 +120,7 @@ public class BeanUtil {
                     @SuppressWarnings("unchecked")
                     T[] targetArray = (T[]) Array.newInstance(clazz, sources.length);
                     for (int i = 0; i < targetArray.length; i++) {
-                        targetArray[i] = BEAN_MAPPER_BUILDER.map(sources[i], clazz);
+                        targetArray[i] = convert(sources[i], clazz);
                     }
                     return targetArray;
                 })
@@ -145,15 +134,7 @@ public class BeanUtil {
      * @param target 指向源
      */
     public static void convertIgnoreNullAndBlank(Object source, Object target) {
-        DozerBeanMapperBuilder dozerBeanMapperBuilder = DozerBeanMapperBuilder.create();
-        Mapper mapper = dozerBeanMapperBuilder.withMappingBuilders(new BeanMappingBuilder() {
-
-            @Override
-            protected void configure() {
-                mapping(source.getClass(), target.getClass(), mapNull(false), mapEmptyString(false));
-            }
-        }).build();
-        mapper.map(source, target);
+        BeanCopier.of(source.getClass(), target.getClass()).copy(source, target, true, true);
     }
 
     /**
@@ -163,14 +144,6 @@ public class BeanUtil {
      * @param target 指向源
      */
     public static void convertIgnoreNull(Object source, Object target) {
-        DozerBeanMapperBuilder dozerBeanMapperBuilder = DozerBeanMapperBuilder.create();
-        Mapper mapper = dozerBeanMapperBuilder.withMappingBuilders(new BeanMappingBuilder() {
-
-            @Override
-            protected void configure() {
-                mapping(source.getClass(), target.getClass(), mapNull(false));
-            }
-        }).build();
-        mapper.map(source, target);
+        BeanCopier.of(source.getClass(), target.getClass()).copy(source, target, true, false);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.dynamic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 容量可调整的阻塞队列测试
+ *
+ *
+ */
+public final class ResizableCapacityLinkedBlockingQueueTests {
+
+    @Test
+    void testConcurrentOfferNeverExceedsCapacity() throws InterruptedException {
+        ResizableCapacityLinkedBlockingQueue<Integer> queue = new ResizableCapacityLinkedBlockingQueue<>(100);
+        int threads = 16;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < 1000; j++) {
+                    if (queue.offer(j)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(100, queue.size());
+        Assertions.assertEquals(100, accepted.get());
+        Assertions.assertEquals(0, queue.remainingCapacity());
+    }
+
+    @Test
+    void testPutBlocksUntilSpaceIsFreed() throws Exception {
+        ResizableCapacityLinkedBlockingQueue<Integer> queue = new ResizableCapacityLinkedBlockingQueue<>(1);
+        queue.put(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                queue.put(2);
+                return null;
+            });
+            Assertions.assertFalse(waitDone(producer, 100L));
+            Assertions.assertEquals(1, queue.take());
+            producer.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(2, queue.poll());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTimedOfferWaitsForCapacityIncrease() throws Exception {
+        ResizableCapacityLinkedBlockingQueue<Integer> queue = new ResizableCapacityLinkedBlockingQueue<>(1);
+        Assertions.assertTrue(queue.offer(1));
+        Assertions.assertFalse(queue.offer(2, 10L, TimeUnit.MILLISECONDS));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> producer = executor.submit(() -> queue.offer(2, 5L, TimeUnit.SECONDS));
+            Assertions.assertFalse(waitDone(producer, 100L));
+            queue.setCapacity(2);
+            Assertions.assertTrue(producer.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, queue.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean waitDone(Future<?> future, long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return future.isDone();
+    }
+}
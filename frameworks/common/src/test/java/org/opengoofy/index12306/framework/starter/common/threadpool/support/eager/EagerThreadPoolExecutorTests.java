@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.threadpool.support.eager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opengoofy.index12306.framework.starter.common.threadpool.proxy.RejectedAlarmHandler;
+import org.opengoofy.index12306.framework.starter.common.threadpool.proxy.RejectedProxyUtil;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 快速消费线程池拒绝统计测试，重试入队成功的任务不计入拒绝
+ *
+ *
+ */
+public final class EagerThreadPoolExecutorTests {
+
+    private final AtomicLong alarms = new AtomicLong();
+
+    private final RejectedAlarmHandler alarmHandler = (poolName, rejectedCount) -> {
+        if ("eager-test".equals(poolName)) {
+            alarms.incrementAndGet();
+        }
+    };
+
+    private EagerThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        RejectedProxyUtil.removeAlarmHandler(alarmHandler);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRetryOfferedTaskIsNotCountedAsRejected() throws InterruptedException {
+        // 首次入队总是失败，迫使任务经由线程池拒绝后重试入队
+        TaskQueue<Runnable> taskQueue = new TaskQueue<>(4) {
+            @Override
+            public boolean offer(Runnable runnable) {
+                return false;
+            }
+        };
+        executor = newExecutor(taskQueue, new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(3);
+        executor.execute(() -> await(release, finished));
+        executor.execute(finished::countDown);
+        executor.execute(finished::countDown);
+        Assertions.assertEquals(2, taskQueue.size());
+        release.countDown();
+        Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0L, executor.getRejectedCount());
+        Assertions.assertEquals(0L, alarms.get());
+    }
+
+    @Test
+    void testRejectedAfterRetryIsCountedOnce() {
+        TaskQueue<Runnable> taskQueue = new TaskQueue<>(1);
+        executor = newExecutor(taskQueue, new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release, new CountDownLatch(1)));
+        executor.execute(() -> {
+        });
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        release.countDown();
+        Assertions.assertEquals(1L, executor.getRejectedCount());
+        Assertions.assertEquals(1L, alarms.get());
+    }
+
+    @Test
+    void testCallerRunsPolicyAppliesAfterRetry() {
+        TaskQueue<Runnable> taskQueue = new TaskQueue<>(1);
+        executor = newExecutor(taskQueue, new ThreadPoolExecutor.CallerRunsPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release, new CountDownLatch(1)));
+        executor.execute(() -> {
+        });
+        Thread caller = Thread.currentThread();
+        Thread[] runner = new Thread[1];
+        executor.execute(() -> runner[0] = Thread.currentThread());
+        release.countDown();
+        Assertions.assertSame(caller, runner[0]);
+        Assertions.assertEquals(1L, executor.getRejectedCount());
+    }
+
+    private EagerThreadPoolExecutor newExecutor(TaskQueue<Runnable> taskQueue, RejectedExecutionHandler handler) {
+        RejectedProxyUtil.addAlarmHandler(alarmHandler);
+        EagerThreadPoolExecutor result = new EagerThreadPoolExecutor("eager-test", 1, 1, 60L, TimeUnit.SECONDS, taskQueue, Executors.defaultThreadFactory(), handler);
+        taskQueue.setExecutor(result);
+        return result;
+    }
+
+    private static void await(CountDownLatch release, CountDownLatch finished) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        finished.countDown();
+    }
+}
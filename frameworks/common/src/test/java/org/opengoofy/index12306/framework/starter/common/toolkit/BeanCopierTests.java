@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.common.toolkit;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 对象属性复制器测试，复制结果须与 Dozer 保持一致
+ *
+ *
+ */
+public final class BeanCopierTests {
+
+    private static final Mapper DOZER = DozerBeanMapperBuilder.buildDefault();
+
+    @Test
+    void testConvertMatchesDozer() {
+        SimpleSource source = newSource();
+        SimpleTarget expected = DOZER.map(source, SimpleTarget.class);
+        SimpleTarget actual = BeanUtil.convert(source, SimpleTarget.class);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(1L, actual.getId());
+        // Date 为可变对象，复制后不应与源对象共享实例
+        Assertions.assertNotSame(source.getCreateTime(), actual.getCreateTime());
+    }
+
+    @Test
+    void testConvertToChainedSetterTarget() {
+        SimpleSource source = newSource();
+        ChainedTarget expected = DOZER.map(source, ChainedTarget.class);
+        ChainedTarget actual = BeanUtil.convert(source, ChainedTarget.class);
+        Assertions.assertEquals(1L, actual.getId());
+        Assertions.assertEquals("张三", actual.getRealName());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void testConvertFromChainedSetterSource() {
+        ChainedTarget source = new ChainedTarget().setId(2L).setRealName("李四").setStatus(Status.CLOSED);
+        Assertions.assertEquals(DOZER.map(source, SimpleTarget.class), BeanUtil.convert(source, SimpleTarget.class));
+    }
+
+    @Test
+    void testConvertList() {
+        List<ChainedTarget> actual = BeanUtil.convert(List.of(newSource(), newSource()), ChainedTarget.class);
+        Assertions.assertEquals(2, actual.size());
+        actual.forEach(each -> Assertions.assertEquals(1L, each.getId()));
+    }
+
+    @Test
+    void testConvertIgnoreNullAndBlank() {
+        SimpleSource source = new SimpleSource();
+        source.setId(3L);
+        source.setRealName("");
+        ChainedTarget target = new ChainedTarget().setRealName("王五").setAmount(BigDecimal.TEN);
+        BeanUtil.convertIgnoreNullAndBlank(source, target);
+        Assertions.assertEquals(3L, target.getId());
+        Assertions.assertEquals("王五", target.getRealName());
+        Assertions.assertEquals(BigDecimal.TEN, target.getAmount());
+    }
+
+    @Test
+    void testConvertIgnoreNull() {
+        SimpleSource source = new SimpleSource();
+        source.setRealName("");
+        ChainedTarget target = new ChainedTarget().setId(4L).setRealName("王五");
+        BeanUtil.convertIgnoreNull(source, target);
+        Assertions.assertEquals(4L, target.getId());
+        Assertions.assertEquals("", target.getRealName());
+    }
+
+    @Test
+    void testConvertWithTypeConversionFallsBackToDozer() {
+        SimpleSource source = newSource();
+        ConvertedTarget expected = DOZER.map(source, ConvertedTarget.class);
+        ConvertedTarget actual = BeanUtil.convert(source, ConvertedTarget.class);
+        Assertions.assertEquals("1", actual.getId());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    private static SimpleSource newSource() {
+        SimpleSource source = new SimpleSource();
+        source.setId(1L);
+        source.setRealName("张三");
+        source.setAge(30);
+        source.setStatus(Status.PAID);
+        source.setAmount(new BigDecimal("12.50"));
+        source.setCreateTime(new Date());
+        source.setUpdateTime(LocalDateTime.now());
+        return source;
+    }
+
+    public enum Status {
+
+        PAID, CLOSED
+    }
+
+    @Data
+    public static class SimpleSource {
+
+        private Long id;
+
+        private String realName;
+
+        private int age;
+
+        private Status status;
+
+        private BigDecimal amount;
+
+        private Date createTime;
+
+        private LocalDateTime updateTime;
+    }
+
+    @Data
+    public static class SimpleTarget {
+
+        private Long id;
+
+        private String realName;
+
+        private Integer age;
+
+        private Status status;
+
+        private BigDecimal amount;
+
+        private Date createTime;
+
+        private LocalDateTime updateTime;
+    }
+
+    @Data
+    @Accessors(chain = true)
+    public static class ChainedTarget {
+
+        private Long id;
+
+        private String realName;
+
+        private Status status;
+
+        private BigDecimal amount;
+
+        private Date createTime;
+    }
+
+    @Data
+    public static class ConvertedTarget {
+
+        private String id;
+
+        private String realName;
+    }
+}
@@ -47,7 +47,9 @@ public enum BaseErrorCode implements IErrorCode {
     SERVICE_TIMEOUT_ERROR("B000100", "系统执行超时"),
 
     // ========== 一级宏观错误码 调用第三方服务出错 ==========
-    REMOTE_ERROR("C000001", "调用第三方服务出错");
+    REMOTE_ERROR("C000001", "调用第三方服务出错"),
+    // ========== 二级宏观错误码 调用第三方服务并发超限 ==========
+    REMOTE_CONCURRENCY_LIMIT_ERROR("C000100", "调用第三方服务并发超限");
 
     private final String code;
 
@@ -39,4 +39,9 @@ public class PageRequest {
      * 每页显示条数
      */
     private Long size = 10L;
+
+    /**
+     * 游标，由上一页响应的 nextCursor 透传；传入时按游标翻页并忽略当前页
+     */
+    private String cursor;
 }
@@ -64,6 +64,11 @@ public class PageResponse<T> implements Serializable {
      */
     private List<T> records = Collections.emptyList();
 
+    /**
+     * 下一页游标，为空表示没有更多数据
+     */
+    private String nextCursor;
+
     public PageResponse(long current, long size) {
         this(current, size, 0);
     }
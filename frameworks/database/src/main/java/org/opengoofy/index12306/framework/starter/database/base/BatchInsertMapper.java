@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.base;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+import java.util.List;
+
+/**
+ * 支持多行 INSERT 的持久层基础接口
+ *
+ *
+ */
+public interface BatchInsertMapper<T> extends BaseMapper<T> {
+
+    /**
+     * 单条 {@code INSERT ... VALUES (...), (...)} 语句批量插入，自动填充字段同样生效
+     * 分库分表场景下由 ShardingSphere 按真实表拆分为多条多行 INSERT
+     *
+     * @param entityList 实体集合，不允许为空
+     * @return 影响行数
+     */
+    int insertBatchSomeColumn(List<T> entityList);
+}
@@ -19,10 +19,14 @@ package org.opengoofy.index12306.framework.starter.database.config;
 
 import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import org.opengoofy.index12306.framework.starter.database.handler.BatchInsertSqlInjector;
 import org.opengoofy.index12306.framework.starter.database.handler.CustomIdGenerator;
 import org.opengoofy.index12306.framework.starter.database.handler.MyMetaObjectHandler;
+import org.opengoofy.index12306.framework.starter.database.handler.TableSuffixInnerInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
@@ -40,6 +44,8 @@ public class MybatisPlusAutoConfiguration {
     @Bean
     public MybatisPlusInterceptor mybatisPlusInterceptor() {
         MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        // 按 Mybatis Plus 建议的顺序，动态表名插件位于分页插件之前
+        interceptor.addInnerInterceptor(new TableSuffixInnerInterceptor());
         interceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.MYSQL));
         return interceptor;
     }
@@ -62,4 +68,13 @@ public class MybatisPlusAutoConfiguration {
     public IdentifierGenerator idGenerator() {
         return new CustomIdGenerator();
     }
+
+    /**
+     * SQL 注入器，为继承 BatchInsertMapper 的持久层注入多行 INSERT 方法
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ISqlInjector sqlInjector() {
+        return new BatchInsertSqlInjector();
+    }
 }
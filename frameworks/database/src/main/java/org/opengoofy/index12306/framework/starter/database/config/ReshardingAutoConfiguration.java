@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.config;
+
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.opengoofy.index12306.framework.starter.database.handler.ShardingRouteInterceptor;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketMigrator;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketRouteRefresher;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketRouteRepository;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.ShardingDataSourceLocator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 在线扩容自动装配
+ * 开启后刷新虚拟桶路由表，并注册写操作路由拦截器及迁移工具
+ *
+ *
+ */
+@ConditionalOnClass(ShardingSphereConnection.class)
+@ConditionalOnProperty(prefix = ReshardingProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReshardingProperties.class)
+public class ReshardingAutoConfiguration {
+
+    @Bean
+    public ShardingDataSourceLocator shardingDataSourceLocator(DataSource dataSource) {
+        return new ShardingDataSourceLocator(dataSource);
+    }
+
+    @Bean
+    public BucketRouteRepository bucketRouteRepository(ShardingDataSourceLocator shardingDataSourceLocator, ReshardingProperties reshardingProperties) {
+        return new BucketRouteRepository(shardingDataSourceLocator, reshardingProperties.getRouteDataSource());
+    }
+
+    @Bean
+    public BucketRouteRefresher bucketRouteRefresher(BucketRouteRepository bucketRouteRepository, ReshardingProperties reshardingProperties) {
+        return new BucketRouteRefresher(bucketRouteRepository, reshardingProperties.getRefreshIntervalMillis());
+    }
+
+    /**
+     * 写操作路由拦截器，由 Mybatis Plus 自动装配注册到 SqlSessionFactory
+     */
+    @Bean
+    public ShardingRouteInterceptor shardingRouteInterceptor() {
+        return new ShardingRouteInterceptor();
+    }
+
+    @Bean
+    public BucketMigrator bucketMigrator(ShardingDataSourceLocator shardingDataSourceLocator,
+                                         BucketRouteRepository bucketRouteRepository,
+                                         BucketRouteRefresher bucketRouteRefresher,
+                                         ReshardingProperties reshardingProperties) {
+        return new BucketMigrator(shardingDataSourceLocator, bucketRouteRepository, bucketRouteRefresher, reshardingProperties);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 在线扩容（虚拟桶迁移）配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = ReshardingProperties.PREFIX)
+public class ReshardingProperties {
+
+    public static final String PREFIX = "framework.database.resharding";
+
+    /**
+     * 是否开启虚拟桶路由刷新及迁移工具，关闭时全部虚拟桶按默认取模规则路由
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 虚拟桶路由表 {@code t_sharding_bucket_route} 所在物理数据源名称
+     */
+    private String routeDataSource = "ds_0";
+
+    /**
+     * 路由刷新间隔，单位毫秒
+     */
+    private Long refreshIntervalMillis = 5000L;
+
+    /**
+     * 迁移时每批扫描的行数
+     */
+    private Integer batchSize = 500;
+
+    /**
+     * 各路由名称下参与迁移的逻辑表及其分片基因列，Key 为路由名称，Value 为逻辑表到基因列的映射
+     */
+    private Map<String, Map<String, String>> routings = new HashMap<>();
+}
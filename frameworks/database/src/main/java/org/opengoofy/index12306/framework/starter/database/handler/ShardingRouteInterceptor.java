@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.handler;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingRegistry;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.ShardingRouteContext;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.ShardingRouteContext.RouteMode;
+
+/**
+ * 分片路由拦截器
+ * 存在迁移中的虚拟桶时为写操作设置路由模式：更新、删除同时路由到源节点和目标节点；
+ * 插入先写入当前读节点，命中迁移中的虚拟桶时再以相同参数写入另一节点，两次写入共用调用方的事务
+ * 主键需在插入前由 ID 生成器分配，数据库自增主键在两个节点上不一致；BATCH 执行器在 flush 时才真正执行，不在拦截范围内
+ *
+ *
+ */
+@Intercepts({@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})})
+public class ShardingRouteInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!BucketRoutingRegistry.isMigrating()) {
+            return invocation.proceed();
+        }
+        SqlCommandType sqlCommandType = ((MappedStatement) invocation.getArgs()[0]).getSqlCommandType();
+        if (sqlCommandType == SqlCommandType.UPDATE || sqlCommandType == SqlCommandType.DELETE) {
+            Object previous = ShardingRouteContext.enter(RouteMode.WRITE);
+            try {
+                return invocation.proceed();
+            } finally {
+                ShardingRouteContext.restore(previous);
+            }
+        }
+        if (sqlCommandType != SqlCommandType.INSERT) {
+            return invocation.proceed();
+        }
+        Object previous = ShardingRouteContext.enter(RouteMode.INSERT_PRIMARY);
+        try {
+            Object result = invocation.proceed();
+            if (ShardingRouteContext.isDualWriteHit()) {
+                ShardingRouteContext.enter(RouteMode.INSERT_SECONDARY);
+                invocation.proceed();
+            }
+            return result;
+        } finally {
+            ShardingRouteContext.restore(previous);
+        }
+    }
+}
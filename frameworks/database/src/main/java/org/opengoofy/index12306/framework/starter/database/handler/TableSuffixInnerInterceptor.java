@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.handler;
+
+import com.baomidou.mybatisplus.extension.plugins.inner.DynamicTableNameInnerInterceptor;
+import org.opengoofy.index12306.framework.starter.database.toolkit.TableSuffixContext;
+
+/**
+ * 表名后缀拦截器
+ * 仅在 {@link TableSuffixContext} 内改写 SQL 表名，上下文外直接返回原 SQL，不对常规读写做任何解析
+ *
+ *
+ */
+public class TableSuffixInnerInterceptor extends DynamicTableNameInnerInterceptor {
+
+    public TableSuffixInnerInterceptor() {
+        setTableNameHandler((sql, tableName) -> tableName + TableSuffixContext.getSuffix());
+    }
+
+    @Override
+    protected String changeTable(String sql) {
+        return TableSuffixContext.getSuffix() == null ? sql : super.changeTable(sql);
+    }
+}
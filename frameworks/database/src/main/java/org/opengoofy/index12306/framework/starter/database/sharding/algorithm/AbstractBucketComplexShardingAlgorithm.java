@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.algorithm;
+
+import cn.hutool.core.collection.CollUtil;
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoute;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingRegistry;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingTable;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketState;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.ShardingRouteContext;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.ShardingRouteContext.RouteMode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 基于虚拟桶路由表的复合分片算法抽象
+ * 分片值的基因哈希对虚拟桶数量取模得到虚拟桶，未登记路由的虚拟桶对 sharding-count 取模得到节点下标；
+ * 虚拟桶数量为 sharding-count 的整数倍，因此默认路由与直接对 sharding-count 取模完全一致，引入虚拟桶无需迁移存量数据；
+ * 扩容时通过 {@link org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketMigrator} 按虚拟桶迁移到新节点
+ *
+ *
+ */
+public abstract class AbstractBucketComplexShardingAlgorithm implements ComplexKeysShardingAlgorithm<Comparable<?>> {
+
+    private static final String SHARDING_COUNT_KEY = "sharding-count";
+
+    private static final String BUCKET_COUNT_KEY = "bucket-count";
+
+    private static final String ROUTING_NAME_KEY = "routing-name";
+
+    private static final int DEFAULT_BUCKET_COUNT = 1024;
+
+    @Getter
+    private Properties props;
+
+    @Getter
+    private String routingName;
+
+    private int shardingCount;
+
+    private int bucketCount;
+
+    private AtomicReference<BucketRoutingTable> routingTable;
+
+    /**
+     * 按逻辑表缓存的目标名称，下标为节点下标，按需填充
+     */
+    private final Map<String, String[]> targetNameCache = new ConcurrentHashMap<>();
+
+    @Override
+    public Collection<String> doSharding(Collection<String> availableTargetNames, ComplexKeysShardingValue<Comparable<?>> shardingValue) {
+        Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap = shardingValue.getColumnNameAndShardingValuesMap();
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
+        if (CollUtil.isEmpty(columnNameAndShardingValuesMap)) {
+            return result;
+        }
+        Collection<Comparable<?>> shardingValues = selectShardingValues(columnNameAndShardingValuesMap);
+        if (CollUtil.isEmpty(shardingValues)) {
+            return result;
+        }
+        String logicTableName = shardingValue.getLogicTableName();
+        String[] targetNames = targetNameCache.computeIfAbsent(logicTableName, each -> new String[bucketCount]);
+        BucketRoutingTable actualRoutingTable = routingTable.get();
+        RouteMode mode = actualRoutingTable.isMigrating() ? ShardingRouteContext.getMode() : RouteMode.READ;
+        // IN 查询包含多个分片值时路由到全部命中的节点，而非只取第一个值
+        for (Comparable<?> each : shardingValues) {
+            int bucket = actualRoutingTable.bucketOf(each);
+            BucketRoute route = actualRoutingTable.getRoute(bucket);
+            if (route == null || route.getState() == BucketState.STABLE) {
+                if (mode == RouteMode.INSERT_SECONDARY) {
+                    throw new IllegalStateException("Insert statement mixes migrating and stable buckets of routing " + routingName);
+                }
+                int index = route == null ? bucket % shardingCount : selectIndex(route.getSourceDataSource(), route.getSourceTable());
+                result.add(getTargetName(targetNames, logicTableName, index));
+                continue;
+            }
+            int sourceIndex = selectIndex(route.getSourceDataSource(), route.getSourceTable());
+            int targetIndex = selectIndex(route.getTargetDataSource(), route.getTargetTable());
+            // 双写阶段以源节点为准，读切换后以目标节点为准
+            int primaryIndex = route.getState() == BucketState.DUAL_WRITE ? sourceIndex : targetIndex;
+            int secondaryIndex = route.getState() == BucketState.DUAL_WRITE ? targetIndex : sourceIndex;
+            switch (mode) {
+                case READ -> result.add(getTargetName(targetNames, logicTableName, primaryIndex));
+                case WRITE -> {
+                    // 库、表两个维度分别返回两个节点，更新与删除会额外落到不存在该行的交叉节点，结果不受影响
+                    result.add(getTargetName(targetNames, logicTableName, primaryIndex));
+                    result.add(getTargetName(targetNames, logicTableName, secondaryIndex));
+                }
+                case INSERT_PRIMARY -> {
+                    ShardingRouteContext.markDualWrite();
+                    result.add(getTargetName(targetNames, logicTableName, primaryIndex));
+                }
+                case INSERT_SECONDARY -> result.add(getTargetName(targetNames, logicTableName, secondaryIndex));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void init(Properties props) {
+        this.props = props;
+        Preconditions.checkArgument(props.containsKey(SHARDING_COUNT_KEY), "Sharding count cannot be null.");
+        Preconditions.checkArgument(props.containsKey(ROUTING_NAME_KEY), "Routing name cannot be null.");
+        shardingCount = Integer.parseInt(props.getProperty(SHARDING_COUNT_KEY));
+        bucketCount = Integer.parseInt(props.getProperty(BUCKET_COUNT_KEY, String.valueOf(DEFAULT_BUCKET_COUNT)));
+        Preconditions.checkArgument(bucketCount % shardingCount == 0, "Bucket count must be a multiple of sharding count.");
+        routingName = props.getProperty(ROUTING_NAME_KEY);
+        routingTable = BucketRoutingRegistry.register(routingName, bucketCount);
+    }
+
+    /**
+     * 获取默认路由使用的分片数量
+     */
+    protected int getShardingCount() {
+        return shardingCount;
+    }
+
+    /**
+     * 从分片条件中选取参与路由的分片值
+     */
+    protected abstract Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap);
+
+    /**
+     * 从物理节点的数据源下标与表下标中选取当前维度的下标
+     */
+    protected abstract int selectIndex(int dataSourceIndex, int tableIndex);
+
+    /**
+     * 根据逻辑表与节点下标构建目标名称
+     */
+    protected abstract String buildTargetName(String logicTableName, int index);
+
+    private String getTargetName(String[] targetNames, String logicTableName, int index) {
+        // 迁移目标节点下标可能超出缓存范围，不缓存
+        if (index >= targetNames.length) {
+            return buildTargetName(logicTableName, index);
+        }
+        String result = targetNames[index];
+        if (result == null) {
+            result = buildTargetName(logicTableName, index);
+            targetNames[index] = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.algorithm;
+
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingRegistry;
+
+import java.util.Properties;
+
+/**
+ * 基于虚拟桶路由表的分库复合分片算法抽象，目标数据源名称为 {@code ds_下标}
+ *
+ *
+ */
+public abstract class AbstractBucketDataBaseComplexAlgorithm extends AbstractBucketComplexShardingAlgorithm {
+
+    private static final String DATA_SOURCE_PREFIX = "ds_";
+
+    @Override
+    protected int selectIndex(int dataSourceIndex, int tableIndex) {
+        return dataSourceIndex;
+    }
+
+    @Override
+    protected String buildTargetName(String logicTableName, int index) {
+        return DATA_SOURCE_PREFIX + index;
+    }
+
+    @Override
+    public void init(Properties props) {
+        super.init(props);
+        BucketRoutingRegistry.registerDataSourceShardingCount(getRoutingName(), getShardingCount());
+    }
+}
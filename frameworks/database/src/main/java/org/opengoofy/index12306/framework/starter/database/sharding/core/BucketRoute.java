@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 虚拟桶路由
+ * 未登记路由的虚拟桶按默认取模规则路由，与引入虚拟桶之前的数据分布完全一致
+ *
+ *
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketRoute {
+
+    /**
+     * 路由名称，同一路由名称下的逻辑表共用一套虚拟桶路由
+     */
+    private String routingName;
+
+    /**
+     * 虚拟桶
+     */
+    private Integer bucket;
+
+    /**
+     * 源数据源下标
+     */
+    private Integer sourceDataSource;
+
+    /**
+     * 源表下标
+     */
+    private Integer sourceTable;
+
+    /**
+     * 目标数据源下标，迁移完成或回滚后保留为待清理节点，为空表示没有待清理数据
+     */
+    private Integer targetDataSource;
+
+    /**
+     * 目标表下标
+     */
+    private Integer targetTable;
+
+    /**
+     * 迁移状态
+     */
+    private BucketState state;
+
+    /**
+     * 状态变更时间，Unix 毫秒时间戳
+     */
+    private Long updateTime;
+
+    /**
+     * 是否存在目标节点
+     */
+    public boolean hasTarget() {
+        return targetDataSource != null && targetTable != null;
+    }
+}
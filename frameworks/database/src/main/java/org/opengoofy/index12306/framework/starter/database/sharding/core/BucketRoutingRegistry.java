@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 虚拟桶路由表注册中心
+ * 分片算法由 ShardingSphere 实例化，不受 Spring 管理，因此路由表通过静态注册中心在分片算法、迁移工具和路由刷新任务之间共享
+ *
+ *
+ */
+public final class BucketRoutingRegistry {
+
+    private static final Map<String, AtomicReference<BucketRoutingTable>> ROUTING_TABLES = new ConcurrentHashMap<>();
+
+    private static final Map<String, Integer> DATA_SOURCE_SHARDING_COUNTS = new ConcurrentHashMap<>();
+
+    private static final Map<String, Integer> TABLE_SHARDING_COUNTS = new ConcurrentHashMap<>();
+
+    private static volatile boolean migrating;
+
+    private BucketRoutingRegistry() {
+    }
+
+    /**
+     * 分片算法初始化时登记路由名称及虚拟桶数量，同一路由名称的多个分片算法共享同一个路由表
+     *
+     * @return 路由表引用，分片算法持有该引用读取最新路由表
+     */
+    public static AtomicReference<BucketRoutingTable> register(String routingName, int bucketCount) {
+        AtomicReference<BucketRoutingTable> holder = ROUTING_TABLES.computeIfAbsent(routingName, each -> new AtomicReference<>(BucketRoutingTable.empty(bucketCount)));
+        if (holder.get().getBucketCount() != bucketCount) {
+            throw new IllegalStateException("Routing " + routingName + " already registered with bucket count " + holder.get().getBucketCount());
+        }
+        return holder;
+    }
+
+    /**
+     * 分库算法初始化时登记默认路由使用的分库数量
+     */
+    public static void registerDataSourceShardingCount(String routingName, int shardingCount) {
+        DATA_SOURCE_SHARDING_COUNTS.put(routingName, shardingCount);
+    }
+
+    /**
+     * 分表算法初始化时登记默认路由使用的分表数量
+     */
+    public static void registerTableShardingCount(String routingName, int shardingCount) {
+        TABLE_SHARDING_COUNTS.put(routingName, shardingCount);
+    }
+
+    /**
+     * 获取未登记路由的虚拟桶所在物理节点，依次为数据源下标、表下标
+     */
+    public static int[] defaultNode(String routingName, int bucket) {
+        Integer dataSourceShardingCount = DATA_SOURCE_SHARDING_COUNTS.get(routingName);
+        Integer tableShardingCount = TABLE_SHARDING_COUNTS.get(routingName);
+        if (dataSourceShardingCount == null || tableShardingCount == null) {
+            throw new IllegalStateException("Routing " + routingName + " is not registered by both data source and table algorithms");
+        }
+        return new int[]{bucket % dataSourceShardingCount, bucket % tableShardingCount};
+    }
+
+    /**
+     * 获取路由表，路由名称未登记时返回 null
+     */
+    public static BucketRoutingTable get(String routingName) {
+        AtomicReference<BucketRoutingTable> holder = ROUTING_TABLES.get(routingName);
+        return holder == null ? null : holder.get();
+    }
+
+    /**
+     * 获取已登记的路由名称
+     */
+    public static Set<String> getRoutingNames() {
+        return ROUTING_TABLES.keySet();
+    }
+
+    /**
+     * 使用最新登记的路由替换路由表，路由名称未登记时忽略
+     */
+    public static void update(String routingName, Collection<BucketRoute> routes) {
+        AtomicReference<BucketRoutingTable> holder = ROUTING_TABLES.get(routingName);
+        if (holder == null) {
+            return;
+        }
+        holder.set(BucketRoutingTable.of(holder.get().getBucketCount(), routes));
+        migrating = ROUTING_TABLES.values().stream().anyMatch(each -> each.get().isMigrating());
+    }
+
+    /**
+     * 是否存在迁移中的虚拟桶，不存在时写操作无需区分路由模式
+     */
+    public static boolean isMigrating() {
+        return migrating;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 虚拟桶路由表快照
+ * 分片值按基因哈希对虚拟桶数量取模得到虚拟桶，再由路由表映射到物理节点；路由表不可变，变更时整体替换
+ *
+ *
+ */
+public final class BucketRoutingTable {
+
+    private final int bucketCount;
+
+    /**
+     * 按虚拟桶下标存放的路由，未登记的虚拟桶为 null，按默认取模规则路由
+     */
+    private final BucketRoute[] routes;
+
+    private final boolean migrating;
+
+    private BucketRoutingTable(int bucketCount, BucketRoute[] routes, boolean migrating) {
+        this.bucketCount = bucketCount;
+        this.routes = routes;
+        this.migrating = migrating;
+    }
+
+    /**
+     * 创建没有登记路由的路由表，全部虚拟桶按默认取模规则路由
+     */
+    public static BucketRoutingTable empty(int bucketCount) {
+        return new BucketRoutingTable(bucketCount, new BucketRoute[bucketCount], false);
+    }
+
+    /**
+     * 根据登记的路由创建路由表
+     */
+    public static BucketRoutingTable of(int bucketCount, Collection<BucketRoute> routes) {
+        BucketRoute[] actualRoutes = new BucketRoute[bucketCount];
+        boolean migrating = false;
+        for (BucketRoute each : routes) {
+            if (each.getBucket() < 0 || each.getBucket() >= bucketCount) {
+                throw new IllegalArgumentException("Bucket " + each.getBucket() + " out of range for bucket count " + bucketCount);
+            }
+            actualRoutes[each.getBucket()] = each;
+            migrating |= each.getState() != BucketState.STABLE;
+        }
+        return new BucketRoutingTable(bucketCount, actualRoutes, migrating);
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * 计算分片值所属虚拟桶
+     */
+    public int bucketOf(Object shardingValue) {
+        return (int) (ShardingGeneUtil.hash(shardingValue) % bucketCount);
+    }
+
+    /**
+     * 获取虚拟桶登记的路由，未登记时返回 null
+     */
+    public BucketRoute getRoute(int bucket) {
+        return routes[bucket];
+    }
+
+    /**
+     * 是否存在迁移中的虚拟桶
+     */
+    public boolean isMigrating() {
+        return migrating;
+    }
+
+    /**
+     * 获取全部登记的路由
+     */
+    public List<BucketRoute> getRoutes() {
+        List<BucketRoute> result = new ArrayList<>();
+        for (BucketRoute each : routes) {
+            if (each != null) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+}
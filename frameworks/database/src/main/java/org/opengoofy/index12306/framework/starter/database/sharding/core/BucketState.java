@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.core;
+
+/**
+ * 虚拟桶迁移状态
+ *
+ *
+ */
+public enum BucketState {
+
+    /**
+     * 稳定：读写只路由到源节点
+     */
+    STABLE,
+
+    /**
+     * 双写：读路由到源节点，写同时路由到源节点和目标节点，期间回填存量数据
+     */
+    DUAL_WRITE,
+
+    /**
+     * 读切换：读路由到目标节点，写仍同时路由到两个节点，便于校验失败时回滚
+     */
+    READ_TARGET
+}
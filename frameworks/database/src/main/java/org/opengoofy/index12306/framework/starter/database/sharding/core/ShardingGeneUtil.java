@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.core;
+
+/**
+ * 分片基因哈希工具类
+ * 字符串类型的分片值（订单号、用户 ID 等）取后 6 位计算哈希，数值类型对 1000000 取模后计算哈希；
+ * 直接按字符累加计算，与 {@code value.substring(length - 6).hashCode()} 结果一致但不产生临时字符串
+ *
+ *
+ */
+public final class ShardingGeneUtil {
+
+    /**
+     * 基因位数
+     */
+    public static final int GENE_LENGTH = 6;
+
+    private static final long GENE_MODULUS = 1000000L;
+
+    private ShardingGeneUtil() {
+    }
+
+    /**
+     * 计算分片值的基因哈希，结果非负
+     */
+    public static long hash(Object shardingValue) {
+        if (shardingValue instanceof CharSequence actual) {
+            int length = actual.length();
+            int hash = 0;
+            for (int i = Math.max(length - GENE_LENGTH, 0); i < length; i++) {
+                hash = 31 * hash + actual.charAt(i);
+            }
+            return Math.abs((long) hash);
+        }
+        if (shardingValue instanceof Long actual) {
+            return Math.abs((long) Long.hashCode(actual % GENE_MODULUS));
+        }
+        return Math.abs((long) shardingValue.hashCode());
+    }
+}
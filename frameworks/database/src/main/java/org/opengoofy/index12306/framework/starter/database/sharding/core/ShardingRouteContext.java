@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.core;
+
+/**
+ * 分片路由上下文
+ * 由 {@link org.opengoofy.index12306.framework.starter.database.handler.ShardingRouteInterceptor} 在执行写操作时设置，
+ * 分片算法据此决定迁移中的虚拟桶路由到源节点、目标节点或同时路由到两者
+ *
+ *
+ */
+public final class ShardingRouteContext {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private ShardingRouteContext() {
+    }
+
+    /**
+     * 获取当前路由模式，不在写操作内时为 {@link RouteMode#READ}
+     */
+    public static RouteMode getMode() {
+        Scope scope = SCOPE.get();
+        return scope == null ? RouteMode.READ : scope.mode;
+    }
+
+    /**
+     * 进入指定路由模式
+     *
+     * @return 进入前的作用域，退出时传给 {@link #restore(Object)}
+     */
+    public static Object enter(RouteMode mode) {
+        Scope previous = SCOPE.get();
+        SCOPE.set(new Scope(mode));
+        return previous;
+    }
+
+    /**
+     * 恢复进入前的作用域
+     */
+    public static void restore(Object previous) {
+        if (previous == null) {
+            SCOPE.remove();
+        } else {
+            SCOPE.set((Scope) previous);
+        }
+    }
+
+    /**
+     * 分片算法在首次写入时命中迁移中的虚拟桶后标记，写操作需要再向另一节点写入一次
+     */
+    public static void markDualWrite() {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.dualWriteHit = true;
+        }
+    }
+
+    /**
+     * 当前作用域内是否命中迁移中的虚拟桶
+     */
+    public static boolean isDualWriteHit() {
+        Scope scope = SCOPE.get();
+        return scope != null && scope.dualWriteHit;
+    }
+
+    /**
+     * 路由模式
+     */
+    public enum RouteMode {
+
+        /**
+         * 读操作，迁移中的虚拟桶按迁移状态路由到单个节点
+         */
+        READ,
+
+        /**
+         * 更新、删除操作，迁移中的虚拟桶同时路由到源节点和目标节点
+         */
+        WRITE,
+
+        /**
+         * 插入操作首次写入，ShardingSphere 不允许单行插入路由到多个节点，迁移中的虚拟桶先写入当前读节点
+         */
+        INSERT_PRIMARY,
+
+        /**
+         * 插入操作再次写入，迁移中的虚拟桶写入另一节点
+         */
+        INSERT_SECONDARY
+    }
+
+    private static final class Scope {
+
+        private final RouteMode mode;
+
+        private boolean dualWriteHit;
+
+        private Scope(RouteMode mode) {
+            this.mode = mode;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+/**
+ * 虚拟桶迁移步骤，按 START、BACKFILL、VERIFY、CUTOVER、FINISH、CLEANUP 的顺序执行，CUTOVER 之前及之后均可 ROLLBACK
+ *
+ *
+ */
+public enum BucketMigrationAction {
+
+    /**
+     * 登记目标节点并开启双写
+     */
+    START,
+
+    /**
+     * 将源节点的存量数据回填到目标节点，目标节点已存在的行以双写数据为准
+     */
+    BACKFILL,
+
+    /**
+     * 对比源节点与目标节点数据，可选修复差异
+     */
+    VERIFY,
+
+    /**
+     * 校验无差异后将读切换到目标节点，写仍同时落到两个节点
+     */
+    CUTOVER,
+
+    /**
+     * 结束双写，目标节点成为虚拟桶的唯一节点，源节点登记为待清理节点
+     */
+    FINISH,
+
+    /**
+     * 删除待清理节点上属于虚拟桶的数据
+     */
+    CLEANUP,
+
+    /**
+     * 放弃迁移，读写回到源节点，目标节点登记为待清理节点
+     */
+    ROLLBACK
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 虚拟桶迁移指令
+ *
+ *
+ */
+@Data
+public class BucketMigrationCommand {
+
+    /**
+     * 迁移步骤
+     */
+    private BucketMigrationAction action;
+
+    /**
+     * 路由名称
+     */
+    private String routingName;
+
+    /**
+     * 虚拟桶集合，同一源节点的虚拟桶共用一次全表扫描
+     */
+    private List<Integer> buckets;
+
+    /**
+     * 目标数据源下标，仅 START 使用
+     */
+    private Integer targetDataSource;
+
+    /**
+     * 目标表下标，仅 START 使用
+     */
+    private Integer targetTable;
+
+    /**
+     * VERIFY 时是否修复差异
+     */
+    private Boolean repair;
+}
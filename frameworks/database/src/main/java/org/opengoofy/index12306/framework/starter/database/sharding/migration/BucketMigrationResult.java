@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketState;
+
+/**
+ * 虚拟桶迁移结果
+ *
+ *
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketMigrationResult {
+
+    /**
+     * 虚拟桶
+     */
+    private Integer bucket;
+
+    /**
+     * 执行后的迁移状态
+     */
+    private BucketState state;
+
+    /**
+     * 回填行数
+     */
+    private long copied;
+
+    /**
+     * 目标节点缺失行数
+     */
+    private long missing;
+
+    /**
+     * 两个节点数据不一致行数
+     */
+    private long mismatched;
+
+    /**
+     * 目标节点多出的行数
+     */
+    private long extra;
+
+    /**
+     * 修复行数
+     */
+    private long repaired;
+
+    /**
+     * 清理行数
+     */
+    private long deleted;
+
+    /**
+     * 未执行时的原因
+     */
+    private String message;
+
+    /**
+     * 校验是否无差异
+     */
+    public boolean isConsistent() {
+        return missing == 0 && mismatched == 0 && extra == 0;
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import cn.hutool.core.collection.CollUtil;
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.framework.starter.database.config.ReshardingProperties;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoute;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingRegistry;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingTable;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketState;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 虚拟桶在线迁移工具
+ * 迁移以虚拟桶为单位进行，步骤见 {@link BucketMigrationAction}：开启双写后回填存量数据，校验无差异后切换读，再结束双写并清理旧节点；
+ * 回填与清理要求路由状态变更已超过两个刷新间隔，保证所有实例都已按新状态读写；
+ * 回填期间并发更新可能使目标节点残留旧值，因此切换读之前必须校验，存在差异时以修复模式校验直到无差异
+ * 直接读写物理库表，约定主键列为 {@code id}，物理数据源名称为 {@code ds_下标}、物理表名称为 {@code 逻辑表_下标}，与分片算法一致
+ *
+ *
+ */
+@RequiredArgsConstructor
+public class BucketMigrator {
+
+    private static final String ID_COLUMN = "id";
+
+    private final ShardingDataSourceLocator dataSourceLocator;
+
+    private final BucketRouteRepository bucketRouteRepository;
+
+    private final BucketRouteRefresher bucketRouteRefresher;
+
+    private final ReshardingProperties reshardingProperties;
+
+    private final Map<Integer, JdbcTemplate> jdbcTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * 执行迁移指令
+     *
+     * @return 每个虚拟桶的执行结果
+     */
+    public List<BucketMigrationResult> execute(BucketMigrationCommand command) {
+        Preconditions.checkArgument(command.getAction() != null, "Migration action cannot be null.");
+        Preconditions.checkArgument(CollUtil.isNotEmpty(command.getBuckets()), "Migration buckets cannot be empty.");
+        String routingName = command.getRoutingName();
+        Map<String, String> logicTables = reshardingProperties.getRoutings().get(routingName);
+        Preconditions.checkArgument(CollUtil.isNotEmpty(logicTables), "Routing " + routingName + " has no logic tables configured.");
+        BucketRoutingTable routingTable = BucketRoutingRegistry.get(routingName);
+        Preconditions.checkArgument(routingTable != null, "Routing " + routingName + " is not registered by any sharding algorithm.");
+        Map<Integer, BucketMigrationResult> results = new LinkedHashMap<>();
+        List<BucketRoute> routes = new ArrayList<>();
+        for (Integer each : new LinkedHashSet<>(command.getBuckets())) {
+            Preconditions.checkArgument(each >= 0 && each < routingTable.getBucketCount(), "Bucket " + each + " out of range.");
+            BucketRoute route = bucketRouteRepository.getRoute(routingName, each);
+            BucketMigrationResult result = BucketMigrationResult.builder()
+                    .bucket(each)
+                    .state(route == null ? BucketState.STABLE : route.getState())
+                    .build();
+            results.put(each, result);
+            String message = checkPrecondition(command.getAction(), route);
+            if (message != null) {
+                result.setMessage(message);
+                continue;
+            }
+            if (command.getAction() == BucketMigrationAction.START) {
+                start(routingName, logicTables.keySet(), each, route, command, result);
+            } else {
+                routes.add(route);
+            }
+        }
+        // 源节点与目标节点相同的虚拟桶共用一次全表扫描
+        Map<String, List<BucketRoute>> nodeGroups = routes.stream().collect(Collectors.groupingBy(
+                each -> each.getSourceDataSource() + "_" + each.getSourceTable() + ">" + each.getTargetDataSource() + "_" + each.getTargetTable(),
+                LinkedHashMap::new,
+                Collectors.toList()
+        ));
+        for (List<BucketRoute> each : nodeGroups.values()) {
+            switch (command.getAction()) {
+                case BACKFILL -> backfill(logicTables, routingTable, each, results);
+                case VERIFY -> verify(logicTables, routingTable, each, results, Boolean.TRUE.equals(command.getRepair()));
+                case CUTOVER -> {
+                    verify(logicTables, routingTable, each, results, false);
+                    for (BucketRoute route : each) {
+                        BucketMigrationResult result = results.get(route.getBucket());
+                        if (result.isConsistent()) {
+                            transit(route, BucketState.READ_TARGET, route.getSourceDataSource(), route.getSourceTable(), route.getTargetDataSource(), route.getTargetTable(), result);
+                        } else {
+                            result.setMessage("源节点与目标节点数据不一致，请先以修复模式校验");
+                        }
+                    }
+                }
+                case FINISH -> each.forEach(route -> transit(route, BucketState.STABLE, route.getTargetDataSource(), route.getTargetTable(), route.getSourceDataSource(), route.getSourceTable(), results.get(route.getBucket())));
+                case CLEANUP -> {
+                    cleanup(logicTables, routingTable, each, results);
+                    each.forEach(route -> transit(route, BucketState.STABLE, route.getSourceDataSource(), route.getSourceTable(), null, null, results.get(route.getBucket())));
+                }
+                case ROLLBACK -> each.forEach(route -> transit(route, BucketState.STABLE, route.getSourceDataSource(), route.getSourceTable(), route.getTargetDataSource(), route.getTargetTable(), results.get(route.getBucket())));
+                default -> {
+                }
+            }
+        }
+        bucketRouteRefresher.refresh();
+        return new ArrayList<>(results.values());
+    }
+
+    private String checkPrecondition(BucketMigrationAction action, BucketRoute route) {
+        BucketState state = route == null ? BucketState.STABLE : route.getState();
+        return switch (action) {
+            case START -> state == BucketState.STABLE && (route == null || !route.hasTarget()) ? null : "虚拟桶正在迁移或存在待清理节点";
+            case BACKFILL, VERIFY, CUTOVER -> state != BucketState.DUAL_WRITE ? "虚拟桶不在双写状态" : settledMessage(route);
+            case FINISH -> state == BucketState.READ_TARGET ? null : "虚拟桶尚未切换读";
+            case CLEANUP -> state != BucketState.STABLE || !route.hasTarget() ? "虚拟桶没有待清理节点" : settledMessage(route);
+            case ROLLBACK -> state != BucketState.STABLE ? null : "虚拟桶不在迁移中";
+        };
+    }
+
+    private String settledMessage(BucketRoute route) {
+        long settleMillis = 2 * bucketRouteRefresher.getRefreshIntervalMillis();
+        return System.currentTimeMillis() - route.getUpdateTime() >= settleMillis ? null : "路由状态变更未超过两个刷新间隔，部分实例可能尚未生效";
+    }
+
+    private void start(String routingName, Collection<String> logicTables, int bucket, BucketRoute route, BucketMigrationCommand command, BucketMigrationResult result) {
+        Integer targetDataSource = command.getTargetDataSource();
+        Integer targetTable = command.getTargetTable();
+        Preconditions.checkArgument(targetDataSource != null && targetTable != null, "Target node cannot be null.");
+        // 目标节点必须是路由下每张逻辑表在 ShardingSphere 中配置的真实数据节点，否则迁移后的读写无法路由
+        for (String each : logicTables) {
+            Preconditions.checkArgument(dataSourceLocator.containsDataNode(each, dataSourceName(targetDataSource), tableName(each, targetTable)),
+                    "Target node " + dataSourceName(targetDataSource) + "." + tableName(each, targetTable) + " is not an actual data node of " + each + ".");
+        }
+        int[] source = route == null
+                ? BucketRoutingRegistry.defaultNode(routingName, bucket)
+                : new int[]{route.getSourceDataSource(), route.getSourceTable()};
+        if (source[0] == targetDataSource && source[1] == targetTable) {
+            result.setMessage("目标节点与源节点相同");
+            return;
+        }
+        if (route == null) {
+            bucketRouteRepository.insert(BucketRoute.builder()
+                    .routingName(routingName)
+                    .bucket(bucket)
+                    .sourceDataSource(source[0])
+                    .sourceTable(source[1])
+                    .targetDataSource(targetDataSource)
+                    .targetTable(targetTable)
+                    .state(BucketState.DUAL_WRITE)
+                    .updateTime(System.currentTimeMillis())
+                    .build());
+            result.setState(BucketState.DUAL_WRITE);
+            return;
+        }
+        transit(route, BucketState.DUAL_WRITE, source[0], source[1], targetDataSource, targetTable, result);
+    }
+
+    private void transit(BucketRoute route, BucketState state, Integer sourceDataSource, Integer sourceTable, Integer targetDataSource, Integer targetTable, BucketMigrationResult result) {
+        BucketRoute actualRoute = BucketRoute.builder()
+                .routingName(route.getRoutingName())
+                .bucket(route.getBucket())
+                .sourceDataSource(sourceDataSource)
+                .sourceTable(sourceTable)
+                .targetDataSource(targetDataSource)
+                .targetTable(targetTable)
+                .state(state)
+                .updateTime(Math.max(System.currentTimeMillis(), route.getUpdateTime() + 1))
+                .build();
+        if (bucketRouteRepository.compareAndUpdate(actualRoute, route.getUpdateTime())) {
+            result.setState(state);
+        } else {
+            result.setMessage("虚拟桶路由已被并发修改");
+        }
+    }
+
+    private void backfill(Map<String, String> logicTables, BucketRoutingTable routingTable, List<BucketRoute> routes, Map<Integer, BucketMigrationResult> results) {
+        BucketRoute node = routes.get(0);
+        Set<Integer> buckets = routes.stream().map(BucketRoute::getBucket).collect(Collectors.toSet());
+        JdbcTemplate target = getJdbcTemplate(node.getTargetDataSource());
+        logicTables.forEach((logicTable, geneColumn) -> {
+            String targetTable = tableName(logicTable, node.getTargetTable());
+            scanBucketRows(getJdbcTemplate(node.getSourceDataSource()), tableName(logicTable, node.getSourceTable()), geneColumn, routingTable, buckets, rows -> {
+                // 目标节点已存在的行由双写写入，以目标节点为准
+                int[] affected = batchInsert(target, "INSERT IGNORE INTO ", targetTable, rows, false);
+                for (int i = 0; i < affected.length; i++) {
+                    if (affected[i] != 0) {
+                        BucketMigrationResult result = results.get(routingTable.bucketOf(rows.get(i).get(geneColumn)));
+                        result.setCopied(result.getCopied() + 1);
+                    }
+                }
+            });
+        });
+    }
+
+    private void verify(Map<String, String> logicTables, BucketRoutingTable routingTable, List<BucketRoute> routes, Map<Integer, BucketMigrationResult> results, boolean repair) {
+        BucketRoute node = routes.get(0);
+        Set<Integer> buckets = routes.stream().map(BucketRoute::getBucket).collect(Collectors.toSet());
+        JdbcTemplate source = getJdbcTemplate(node.getSourceDataSource());
+        JdbcTemplate target = getJdbcTemplate(node.getTargetDataSource());
+        logicTables.forEach((logicTable, geneColumn) -> {
+            String sourceTable = tableName(logicTable, node.getSourceTable());
+            String targetTable = tableName(logicTable, node.getTargetTable());
+            scanBucketRows(source, sourceTable, geneColumn, routingTable, buckets, rows -> {
+                Map<Object, Map<String, Object>> targetRows = new HashMap<>();
+                selectByIds(target, "SELECT * FROM ", targetTable, ids(rows)).forEach(each -> targetRows.put(each.get(ID_COLUMN), each));
+                List<Map<String, Object>> repairRows = new ArrayList<>();
+                for (Map<String, Object> each : rows) {
+                    BucketMigrationResult result = results.get(routingTable.bucketOf(each.get(geneColumn)));
+                    Map<String, Object> targetRow = targetRows.get(each.get(ID_COLUMN));
+                    if (targetRow == null) {
+                        result.setMissing(result.getMissing() + 1);
+                    } else if (!rowEquals(each, targetRow)) {
+                        result.setMismatched(result.getMismatched() + 1);
+                    } else {
+                        continue;
+                    }
+                    if (repair) {
+                        repairRows.add(each);
+                        result.setRepaired(result.getRepaired() + 1);
+                    }
+                }
+                if (!repairRows.isEmpty()) {
+                    batchInsert(target, "INSERT INTO ", targetTable, repairRows, true);
+                }
+            });
+            scanBucketRows(target, targetTable, geneColumn, routingTable, buckets, rows -> {
+                Set<Object> sourceIds = new HashSet<>();
+                selectByIds(source, "SELECT id FROM ", sourceTable, ids(rows)).forEach(each -> sourceIds.add(each.get(ID_COLUMN)));
+                List<Object> extraIds = new ArrayList<>();
+                for (Map<String, Object> each : rows) {
+                    if (sourceIds.contains(each.get(ID_COLUMN))) {
+                        continue;
+                    }
+                    BucketMigrationResult result = results.get(routingTable.bucketOf(each.get(geneColumn)));
+                    result.setExtra(result.getExtra() + 1);
+                    if (repair) {
+                        extraIds.add(each.get(ID_COLUMN));
+                        result.setRepaired(result.getRepaired() + 1);
+                    }
+                }
+                deleteByIds(target, targetTable, extraIds);
+            });
+        });
+    }
+
+    private void cleanup(Map<String, String> logicTables, BucketRoutingTable routingTable, List<BucketRoute> routes, Map<Integer, BucketMigrationResult> results) {
+        BucketRoute node = routes.get(0);
+        Set<Integer> buckets = routes.stream().map(BucketRoute::getBucket).collect(Collectors.toSet());
+        JdbcTemplate target = getJdbcTemplate(node.getTargetDataSource());
+        logicTables.forEach((logicTable, geneColumn) -> {
+            String targetTable = tableName(logicTable, node.getTargetTable());
+            scanBucketRows(target, targetTable, geneColumn, routingTable, buckets, rows -> {
+                deleteByIds(target, targetTable, ids(rows));
+                for (Map<String, Object> each : rows) {
+                    BucketMigrationResult result = results.get(routingTable.bucketOf(each.get(geneColumn)));
+                    result.setDeleted(result.getDeleted() + 1);
+                }
+            });
+        });
+    }
+
+    /**
+     * 按主键分批扫描物理表，只将属于指定虚拟桶的行交给消费者
+     */
+    private void scanBucketRows(JdbcTemplate jdbcTemplate, String table, String geneColumn, BucketRoutingTable routingTable,
+                                Set<Integer> buckets, Consumer<List<Map<String, Object>>> consumer) {
+        int batchSize = reshardingProperties.getBatchSize();
+        Object lastId = null;
+        while (true) {
+            List<Map<String, Object>> rows = lastId == null
+                    ? jdbcTemplate.queryForList("SELECT * FROM " + table + " ORDER BY id LIMIT ?", batchSize)
+                    : jdbcTemplate.queryForList("SELECT * FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?", lastId, batchSize);
+            if (rows.isEmpty()) {
+                return;
+            }
+            lastId = rows.get(rows.size() - 1).get(ID_COLUMN);
+            List<Map<String, Object>> bucketRows = rows.stream()
+                    .filter(each -> each.get(geneColumn) != null && buckets.contains(routingTable.bucketOf(each.get(geneColumn))))
+                    .toList();
+            if (!bucketRows.isEmpty()) {
+                consumer.accept(bucketRows);
+            }
+            if (rows.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int[] batchInsert(JdbcTemplate jdbcTemplate, String statement, String table, List<Map<String, Object>> rows, boolean overwrite) {
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        StringBuilder sql = new StringBuilder(statement).append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES (")
+                .append(String.join(", ", Collections.nCopies(columns.size(), "?"))).append(")");
+        if (overwrite) {
+            sql.append(" ON DUPLICATE KEY UPDATE ")
+                    .append(columns.stream().map(each -> each + " = VALUES(" + each + ")").collect(Collectors.joining(", ")));
+        }
+        List<Object[]> args = rows.stream().map(each -> columns.stream().map(each::get).toArray()).toList();
+        return jdbcTemplate.batchUpdate(sql.toString(), args);
+    }
+
+    private List<Map<String, Object>> selectByIds(JdbcTemplate jdbcTemplate, String statement, String table, List<Object> ids) {
+        return jdbcTemplate.queryForList(statement + table + " WHERE id IN (" + placeholders(ids) + ")", ids.toArray());
+    }
+
+    private void deleteByIds(JdbcTemplate jdbcTemplate, String table, List<Object> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE id IN (" + placeholders(ids) + ")", ids.toArray());
+        }
+    }
+
+    private List<Object> ids(Collection<Map<String, Object>> rows) {
+        return rows.stream().map(each -> each.get(ID_COLUMN)).toList();
+    }
+
+    private String placeholders(Collection<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    private boolean rowEquals(Map<String, Object> sourceRow, Map<String, Object> targetRow) {
+        for (Map.Entry<String, Object> each : sourceRow.entrySet()) {
+            if (!Objects.deepEquals(each.getValue(), targetRow.get(each.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JdbcTemplate getJdbcTemplate(int dataSourceIndex) {
+        return jdbcTemplates.computeIfAbsent(dataSourceIndex, each -> new JdbcTemplate(dataSourceLocator.getDataSource(dataSourceName(each))));
+    }
+
+    private String dataSourceName(int dataSourceIndex) {
+        return "ds_" + dataSourceIndex;
+    }
+
+    private String tableName(String logicTable, int tableIndex) {
+        return logicTable + "_" + tableIndex;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoute;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 虚拟桶路由刷新任务
+ * 启动时同步加载一次路由，之后按固定间隔轮询路由表并整体替换各路由名称的路由表；
+ * 迁移工具在状态变更后需等待至少两个刷新间隔，保证所有实例都已切换到新状态
+ *
+ *
+ */
+@Slf4j
+public class BucketRouteRefresher implements InitializingBean, DisposableBean {
+
+    private final BucketRouteRepository bucketRouteRepository;
+
+    private final long refreshIntervalMillis;
+
+    private ScheduledExecutorService refreshExecutor;
+
+    public BucketRouteRefresher(BucketRouteRepository bucketRouteRepository, long refreshIntervalMillis) {
+        this.bucketRouteRepository = bucketRouteRepository;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * 从路由表加载最新路由
+     */
+    public void refresh() {
+        Map<String, List<BucketRoute>> routes = bucketRouteRepository.listRoutes().stream()
+                .collect(Collectors.groupingBy(BucketRoute::getRoutingName));
+        for (String each : BucketRoutingRegistry.getRoutingNames()) {
+            BucketRoutingRegistry.update(each, routes.getOrDefault(each, List.of()));
+        }
+    }
+
+    public long getRefreshIntervalMillis() {
+        return refreshIntervalMillis;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 启动时加载失败直接抛出，避免以错误的路由对外提供服务
+        refresh();
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sharding-bucket-route-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Throwable ex) {
+                log.error("Refresh sharding bucket routes failed, keep using the previous routes", ex);
+            }
+        }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoute;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketState;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+/**
+ * 虚拟桶路由持久层
+ * 路由登记在 {@code t_sharding_bucket_route} 表，该表不参与分片，直接通过物理数据源读写；状态变更以变更时间做乐观锁
+ *
+ *
+ */
+public class BucketRouteRepository {
+
+    private static final String SELECT_COLUMNS = "SELECT routing_name, bucket, source_ds, source_table, target_ds, target_table, state, update_time FROM t_sharding_bucket_route";
+
+    private static final RowMapper<BucketRoute> ROW_MAPPER = (rs, rowNum) -> BucketRoute.builder()
+            .routingName(rs.getString("routing_name"))
+            .bucket(rs.getInt("bucket"))
+            .sourceDataSource(rs.getInt("source_ds"))
+            .sourceTable(rs.getInt("source_table"))
+            .targetDataSource((Integer) rs.getObject("target_ds"))
+            .targetTable((Integer) rs.getObject("target_table"))
+            .state(BucketState.valueOf(rs.getString("state")))
+            .updateTime(rs.getLong("update_time"))
+            .build();
+
+    private final ShardingDataSourceLocator dataSourceLocator;
+
+    private final String routeDataSource;
+
+    private volatile JdbcTemplate jdbcTemplate;
+
+    public BucketRouteRepository(ShardingDataSourceLocator dataSourceLocator, String routeDataSource) {
+        this.dataSourceLocator = dataSourceLocator;
+        this.routeDataSource = routeDataSource;
+    }
+
+    /**
+     * 查询全部登记的路由
+     */
+    public List<BucketRoute> listRoutes() {
+        return getJdbcTemplate().query(SELECT_COLUMNS, ROW_MAPPER);
+    }
+
+    /**
+     * 查询虚拟桶登记的路由，未登记时返回 null
+     */
+    public BucketRoute getRoute(String routingName, int bucket) {
+        List<BucketRoute> result = getJdbcTemplate().query(SELECT_COLUMNS + " WHERE routing_name = ? AND bucket = ?", ROW_MAPPER, routingName, bucket);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 登记新的路由，虚拟桶已登记时抛出主键冲突异常
+     */
+    public void insert(BucketRoute route) {
+        getJdbcTemplate().update(
+                "INSERT INTO t_sharding_bucket_route (routing_name, bucket, source_ds, source_table, target_ds, target_table, state, update_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                route.getRoutingName(), route.getBucket(), route.getSourceDataSource(), route.getSourceTable(),
+                route.getTargetDataSource(), route.getTargetTable(), route.getState().name(), route.getUpdateTime()
+        );
+    }
+
+    /**
+     * 变更路由，仅当登记的变更时间仍为 {@code expectedUpdateTime} 时生效
+     *
+     * @return 是否变更成功
+     */
+    public boolean compareAndUpdate(BucketRoute route, long expectedUpdateTime) {
+        return getJdbcTemplate().update(
+                "UPDATE t_sharding_bucket_route SET source_ds = ?, source_table = ?, target_ds = ?, target_table = ?, state = ?, update_time = ? WHERE routing_name = ? AND bucket = ? AND update_time = ?",
+                route.getSourceDataSource(), route.getSourceTable(), route.getTargetDataSource(), route.getTargetTable(),
+                route.getState().name(), route.getUpdateTime(), route.getRoutingName(), route.getBucket(), expectedUpdateTime
+        ) > 0;
+    }
+
+    private JdbcTemplate getJdbcTemplate() {
+        JdbcTemplate actualJdbcTemplate = jdbcTemplate;
+        if (actualJdbcTemplate == null) {
+            actualJdbcTemplate = new JdbcTemplate(dataSourceLocator.getDataSource(routeDataSource));
+            jdbcTemplate = actualJdbcTemplate;
+        }
+        return actualJdbcTemplate;
+    }
+}
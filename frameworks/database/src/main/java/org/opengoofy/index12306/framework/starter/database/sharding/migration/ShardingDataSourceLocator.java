@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * ShardingSphere 物理数据源定位器
+ * 迁移工具需要绕过分片路由直接读写源节点与目标节点，通过 ShardingSphere 连接取得按名称（如 {@code ds_0}）登记的物理数据源
+ *
+ *
+ */
+public class ShardingDataSourceLocator {
+
+    private final DataSource dataSource;
+
+    private volatile Map<String, DataSource> dataSourceMap;
+
+    public ShardingDataSourceLocator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 获取物理数据源
+     *
+     * @param dataSourceName 数据源名称，与 ShardingSphere 配置中的名称一致
+     */
+    public DataSource getDataSource(String dataSourceName) {
+        Map<String, DataSource> actualDataSourceMap = dataSourceMap;
+        if (actualDataSourceMap == null) {
+            actualDataSourceMap = loadDataSourceMap();
+            dataSourceMap = actualDataSourceMap;
+        }
+        DataSource result = actualDataSourceMap.get(dataSourceName);
+        if (result == null) {
+            throw new IllegalArgumentException("Data source " + dataSourceName + " is not configured in ShardingSphere");
+        }
+        return result;
+    }
+
+    /**
+     * 判断物理库表是否为逻辑表在 ShardingSphere 中配置的真实数据节点
+     *
+     * @param logicTable     逻辑表名称
+     * @param dataSourceName 物理数据源名称
+     * @param tableName      物理表名称
+     */
+    public boolean containsDataNode(String logicTable, String dataSourceName, String tableName) {
+        try (Connection connection = dataSource.getConnection()) {
+            ShardingSphereConnection shardingSphereConnection = connection.unwrap(ShardingSphereConnection.class);
+            ShardingRule shardingRule = shardingSphereConnection.getContextManager().getMetaDataContexts().getMetaData()
+                    .getDatabase(shardingSphereConnection.getDatabaseName())
+                    .getRuleMetaData()
+                    .findSingleRule(ShardingRule.class)
+                    .orElseThrow(() -> new IllegalStateException("Sharding rule is not configured in ShardingSphere"));
+            return shardingRule.findTableRule(logicTable)
+                    .map(each -> each.getActualDataNodes().stream()
+                            .anyMatch(node -> node.getDataSourceName().equals(dataSourceName) && node.getTableName().equalsIgnoreCase(tableName)))
+                    .orElse(false);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Data source is not backed by ShardingSphere", ex);
+        }
+    }
+
+    private Map<String, DataSource> loadDataSourceMap() {
+        try (Connection connection = dataSource.getConnection()) {
+            ShardingSphereConnection shardingSphereConnection = connection.unwrap(ShardingSphereConnection.class);
+            return shardingSphereConnection.getContextManager().getDataSourceMap(shardingSphereConnection.getDatabaseName());
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Data source is not backed by ShardingSphere", ex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.toolkit;
+
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import org.opengoofy.index12306.framework.starter.distributedid.toolkit.SnowflakeIdUtil;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 批量插入主键 ID 预分配工具类
+ * 批量插入前通过 {@link SnowflakeIdUtil#nextIds(int)} 一次预留整批雪花 ID，
+ * 避免 Mybatis Plus 为每条记录单独调用 {@link com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator}
+ *
+ *
+ */
+public final class BatchIdUtil {
+
+    private BatchIdUtil() {
+    }
+
+    /**
+     * 为主键策略为 {@link IdType#ASSIGN_ID} 且主键为空的实体批量分配 ID，已有主键的实体保持不变
+     *
+     * @param entityList 待插入实体集合
+     */
+    public static void assignIds(Collection<?> entityList) {
+        if (CollUtil.isEmpty(entityList)) {
+            return;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityList.iterator().next().getClass());
+        if (tableInfo == null || !tableInfo.havePK() || tableInfo.getIdType() != IdType.ASSIGN_ID) {
+            return;
+        }
+        String keyProperty = tableInfo.getKeyProperty();
+        List<?> actualEntityList = entityList.stream()
+                .filter(each -> tableInfo.getPropertyValue(each, keyProperty) == null)
+                .toList();
+        if (actualEntityList.isEmpty()) {
+            return;
+        }
+        long[] ids = SnowflakeIdUtil.nextIds(actualEntityList.size());
+        boolean stringKey = String.class.equals(tableInfo.getKeyType());
+        for (int i = 0; i < ids.length; i++) {
+            tableInfo.setPropertyValue(actualEntityList.get(i), keyProperty, stringKey ? String.valueOf(ids[i]) : ids[i]);
+        }
+    }
+}
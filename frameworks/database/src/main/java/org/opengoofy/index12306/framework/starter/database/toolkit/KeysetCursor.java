@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.toolkit;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 游标分页位置，由排序时间与唯一排序键组成
+ * 对外以 Base64 编码的不透明字符串传递，调用方只需原样回传
+ *
+ *
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * 上一页最后一条记录的排序时间
+     */
+    private final Date sortTime;
+
+    /**
+     * 上一页最后一条记录的唯一排序键，排序时间相同时用于确定先后
+     */
+    private final String sortKey;
+
+    /**
+     * 编码为不透明游标
+     */
+    public String encode() {
+        String raw = sortTime.getTime() + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标，游标为空时返回 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (StrUtil.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(new Date(Long.parseLong(raw.substring(0, index))), raw.substring(index + 1));
+        } catch (RuntimeException ex) {
+            throw new ClientException("分页游标不合法");
+        }
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.opengoofy.index12306.framework.starter.database.toolkit;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import org.opengoofy.index12306.framework.starter.common.toolkit.BeanUtil;
 import org.opengoofy.index12306.framework.starter.convention.page.PageRequest;
@@ -78,6 +80,69 @@ public class PageUtil {
                 .build();
     }
 
+    /**
+     * {@link IPage} to {@link PageResponse}，并返回最后一条记录作为下一页游标，后续页可切换为游标翻页
+     */
+    public static <TARGET, ORIGINAL> PageResponse<TARGET> convert(IPage<ORIGINAL> iPage,
+                                                                  Function<? super ORIGINAL, KeysetCursor> cursorExtractor,
+                                                                  Function<? super ORIGINAL, ? extends TARGET> mapper) {
+        PageResponse<TARGET> result = convert(iPage, mapper);
+        List<ORIGINAL> records = iPage.getRecords();
+        if (!records.isEmpty() && iPage.getCurrent() * iPage.getSize() < iPage.getTotal()) {
+            result.setNextCursor(cursorExtractor.apply(records.get(records.size() - 1)).encode());
+        }
+        return result;
+    }
+
+    /**
+     * 为查询追加按（排序时间, 唯一排序键）倒序的游标定位条件
+     * 生成 {@code (time < ? OR (time = ? AND key < ?)) ORDER BY time DESC, key DESC LIMIT size + 1}，
+     * 命中联合索引时每个分片只需读取 size + 1 行，不随页码加深而变慢，多查询的一行用于判断是否存在下一页
+     *
+     * @param queryWrapper 查询条件
+     * @param timeColumn   排序时间列
+     * @param keyColumn    唯一排序键列
+     * @param cursor       上一页游标，为空时从第一条开始
+     * @param size         每页条数
+     */
+    public static <T> LambdaQueryWrapper<T> seek(LambdaQueryWrapper<T> queryWrapper,
+                                                 SFunction<T, ?> timeColumn,
+                                                 SFunction<T, ?> keyColumn,
+                                                 KeysetCursor cursor,
+                                                 long size) {
+        if (cursor != null) {
+            queryWrapper.and(each -> each.lt(timeColumn, cursor.getSortTime())
+                    .or(or -> or.eq(timeColumn, cursor.getSortTime()).lt(keyColumn, cursor.getSortKey())));
+        }
+        return queryWrapper.orderByDesc(timeColumn)
+                .orderByDesc(keyColumn)
+                .last("LIMIT " + (size + 1));
+    }
+
+    /**
+     * 游标分页查询结果 to {@link PageResponse}
+     *
+     * @param records         通过 {@link #seek} 查询的 size + 1 条记录
+     * @param size            每页条数
+     * @param cursorExtractor 从记录中提取游标
+     * @param mapper          记录转换
+     */
+    public static <TARGET, ORIGINAL> PageResponse<TARGET> convert(List<ORIGINAL> records,
+                                                                  long size,
+                                                                  Function<? super ORIGINAL, KeysetCursor> cursorExtractor,
+                                                                  Function<? super ORIGINAL, ? extends TARGET> mapper) {
+        boolean hasMore = records.size() > size;
+        List<ORIGINAL> actualRecords = hasMore ? records.subList(0, (int) size) : records;
+        List<TARGET> targetDataList = actualRecords.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return PageResponse.<TARGET>builder()
+                .size(size)
+                .records(targetDataList)
+                .nextCursor(hasMore ? cursorExtractor.apply(actualRecords.get(actualRecords.size() - 1)).encode() : null)
+                .build();
+    }
+
     /**
      * {@link IPage} build to {@link PageResponse}
      */
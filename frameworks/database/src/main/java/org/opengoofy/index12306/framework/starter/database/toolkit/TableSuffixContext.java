@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.toolkit;
+
+import java.util.function.Supplier;
+
+/**
+ * 表名后缀上下文
+ * 在上下文内执行的 SQL 会由 {@link org.opengoofy.index12306.framework.starter.database.handler.TableSuffixInnerInterceptor}
+ * 为其中的所有表名追加后缀，例如在不新增实体与持久层的情况下将 {@code t_order} 的读写切换到结构相同的 {@code t_order_archive}；
+ * 上下文基于当前线程，提交到其他线程执行的查询需要自行传递；分页插件自动生成的 COUNT 语句不经过表名改写，
+ * 上下文内分页应关闭 COUNT 查询，改用 {@code selectCount} 统计
+ *
+ *
+ */
+public final class TableSuffixContext {
+
+    private static final ThreadLocal<String> SUFFIX = new ThreadLocal<>();
+
+    private TableSuffixContext() {
+    }
+
+    /**
+     * 获取当前线程的表名后缀，不在上下文内时返回 null
+     */
+    public static String getSuffix() {
+        return SUFFIX.get();
+    }
+
+    /**
+     * 在指定表名后缀下执行并返回结果，执行结束后恢复原有后缀
+     *
+     * @param suffix   表名后缀，为 null 时按原表名执行
+     * @param supplier 执行逻辑
+     */
+    public static <T> T call(String suffix, Supplier<T> supplier) {
+        String previous = SUFFIX.get();
+        set(suffix);
+        try {
+            return supplier.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * 在指定表名后缀下执行，执行结束后恢复原有后缀
+     *
+     * @param suffix   表名后缀，为 null 时按原表名执行
+     * @param runnable 执行逻辑
+     */
+    public static void run(String suffix, Runnable runnable) {
+        call(suffix, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private static void set(String suffix) {
+        if (suffix == null) {
+            SUFFIX.remove();
+        } else {
+            SUFFIX.set(suffix);
+        }
+    }
+}
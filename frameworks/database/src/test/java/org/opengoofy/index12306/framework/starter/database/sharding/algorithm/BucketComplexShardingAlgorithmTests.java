@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.algorithm;
+
+import cn.hutool.core.collection.CollUtil;
+import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * 虚拟桶分片算法测试，未登记路由时与原取模分片算法路由结果一致
+ *
+ *
+ */
+public final class BucketComplexShardingAlgorithmTests {
+
+    private static final String LOGIC_TABLE = "t_order";
+
+    private static final List<String> DATA_SOURCES = List.of("ds_0", "ds_1");
+
+    private static final List<String> TABLES = tables(16);
+
+    @Test
+    void testDefaultRoutingMatchesModuloRouting() {
+        DataBaseAlgorithm dataBaseAlgorithm = new DataBaseAlgorithm();
+        dataBaseAlgorithm.init(props("equivalence", 2));
+        TableAlgorithm tableAlgorithm = new TableAlgorithm();
+        tableAlgorithm.init(props("equivalence", 16));
+        Random random = new Random(12306L);
+        for (int i = 0; i < 100000; i++) {
+            long userId = Math.abs(random.nextLong());
+            // 订单号以用户 ID 后 6 位作为基因结尾，与订单服务生成规则一致
+            String orderSn = Math.abs(random.nextLong()) + String.format("%06d", userId % 1000000);
+            for (Map.Entry<String, Comparable<?>> each : Map.<String, Comparable<?>>of("user_id", userId, "order_sn", orderSn).entrySet()) {
+                ComplexKeysShardingValue<Comparable<?>> shardingValue = shardingValue(each.getKey(), List.of(each.getValue()));
+                Assertions.assertEquals(List.of("ds_" + legacyHash(each.getValue()) % 2), new ArrayList<>(dataBaseAlgorithm.doSharding(DATA_SOURCES, shardingValue)));
+                Assertions.assertEquals(List.of(LOGIC_TABLE + "_" + legacyHash(each.getValue()) % 16), new ArrayList<>(tableAlgorithm.doSharding(TABLES, shardingValue)));
+            }
+        }
+    }
+
+    @Test
+    void testInValuesRouteToEveryHitNode() {
+        TableAlgorithm tableAlgorithm = new TableAlgorithm();
+        tableAlgorithm.init(props("in-values", 16));
+        List<Comparable<?>> orderSns = List.of("1000000000000000123456", "1000000000000000654321", "1000000000000000000017");
+        Collection<String> expected = new LinkedHashSet<>();
+        orderSns.forEach(each -> expected.add(LOGIC_TABLE + "_" + legacyHash(each) % 16));
+        Assertions.assertEquals(expected, tableAlgorithm.doSharding(TABLES, shardingValue("order_sn", orderSns)));
+    }
+
+    @Test
+    void testBucketCountMustBeMultipleOfShardingCount() {
+        Properties props = props("invalid-bucket-count", 16);
+        props.setProperty("bucket-count", "1000");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TableAlgorithm().init(props));
+    }
+
+    /**
+     * 引入虚拟桶之前订单分片算法使用的哈希
+     */
+    private static long legacyHash(Comparable<?> shardingValue) {
+        if (shardingValue instanceof String) {
+            String actualOrderSn = shardingValue.toString();
+            return Math.abs((long) actualOrderSn.substring(Math.max(actualOrderSn.length() - 6, 0)).hashCode());
+        }
+        return Math.abs((long) Long.valueOf((Long) shardingValue % 1000000).hashCode());
+    }
+
+    private static Properties props(String routingName, int shardingCount) {
+        Properties result = new Properties();
+        result.setProperty("sharding-count", String.valueOf(shardingCount));
+        result.setProperty("bucket-count", "1024");
+        result.setProperty("routing-name", routingName);
+        return result;
+    }
+
+    private static ComplexKeysShardingValue<Comparable<?>> shardingValue(String column, Collection<Comparable<?>> values) {
+        return new ComplexKeysShardingValue<>(LOGIC_TABLE, Map.of(column, values), Map.of());
+    }
+
+    private static List<String> tables(int count) {
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(LOGIC_TABLE + "_" + i);
+        }
+        return result;
+    }
+
+    private static Collection<Comparable<?>> selectUserIdOrOrderSn(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+        Collection<Comparable<?>> userIds = columnNameAndShardingValuesMap.get("user_id");
+        return CollUtil.isNotEmpty(userIds) ? userIds : columnNameAndShardingValuesMap.get("order_sn");
+    }
+
+    private static final class DataBaseAlgorithm extends AbstractBucketDataBaseComplexAlgorithm {
+
+        @Override
+        protected Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+            return selectUserIdOrOrderSn(columnNameAndShardingValuesMap);
+        }
+    }
+
+    private static final class TableAlgorithm extends AbstractBucketTableComplexAlgorithm {
+
+        @Override
+        protected Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+            return selectUserIdOrOrderSn(columnNameAndShardingValuesMap);
+        }
+    }
+}
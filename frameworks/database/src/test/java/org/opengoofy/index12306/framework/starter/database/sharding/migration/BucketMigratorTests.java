@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.database.sharding.migration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.opengoofy.index12306.framework.starter.database.config.ReshardingProperties;
+import org.opengoofy.index12306.framework.starter.database.sharding.algorithm.AbstractBucketDataBaseComplexAlgorithm;
+import org.opengoofy.index12306.framework.starter.database.sharding.algorithm.AbstractBucketTableComplexAlgorithm;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoute;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketState;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 虚拟桶迁移目标节点校验测试，目标节点按 ShardingSphere 真实数据节点校验
+ *
+ *
+ */
+public final class BucketMigratorTests {
+
+    private static final String ROUTING_NAME = "migrator";
+
+    private BucketRouteRepository bucketRouteRepository;
+
+    private BucketMigrator bucketMigrator;
+
+    @BeforeEach
+    void setUp() {
+        new DataBaseAlgorithm().init(props(2));
+        new TableAlgorithm().init(props(16));
+        // 扩容后的真实数据节点：ds_${0..2}.t_order_${0..15}，新数据源 ds_2 尚未创建 t_order_item 表
+        ShardingDataSourceLocator dataSourceLocator = Mockito.mock(ShardingDataSourceLocator.class);
+        Mockito.when(dataSourceLocator.containsDataNode(Mockito.anyString(), Mockito.anyString(), Mockito.anyString())).thenAnswer(invocation -> {
+            String logicTable = invocation.getArgument(0);
+            String dataSourceName = invocation.getArgument(1);
+            String tableName = invocation.getArgument(2);
+            int dataSourceIndex = Integer.parseInt(dataSourceName.substring("ds_".length()));
+            int tableIndex = Integer.parseInt(tableName.substring(logicTable.length() + 1));
+            int dataSourceCount = "t_order".equals(logicTable) ? 3 : 2;
+            return dataSourceIndex >= 0 && dataSourceIndex < dataSourceCount && tableIndex >= 0 && tableIndex < 16;
+        });
+        bucketRouteRepository = Mockito.mock(BucketRouteRepository.class);
+        ReshardingProperties reshardingProperties = new ReshardingProperties();
+        reshardingProperties.setRoutings(Map.of(ROUTING_NAME, Map.of("t_order", "order_sn")));
+        bucketMigrator = new BucketMigrator(dataSourceLocator, bucketRouteRepository, Mockito.mock(BucketRouteRefresher.class), reshardingProperties);
+    }
+
+    @Test
+    void testStartToActualDataNode() {
+        List<BucketMigrationResult> results = bucketMigrator.execute(startCommand(List.of(35), 2, 3));
+        Assertions.assertEquals(BucketState.DUAL_WRITE, results.get(0).getState());
+        ArgumentCaptor<BucketRoute> route = ArgumentCaptor.forClass(BucketRoute.class);
+        Mockito.verify(bucketRouteRepository).insert(route.capture());
+        // 未登记路由的虚拟桶以默认取模节点作为源节点
+        Assertions.assertEquals(35 % 2, route.getValue().getSourceDataSource());
+        Assertions.assertEquals(35 % 16, route.getValue().getSourceTable());
+        Assertions.assertEquals(2, route.getValue().getTargetDataSource());
+        Assertions.assertEquals(3, route.getValue().getTargetTable());
+    }
+
+    @Test
+    void testStartRejectsNodeOutsideTopology() {
+        // 下标均小于虚拟桶数量，但不是真实数据节点
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bucketMigrator.execute(startCommand(List.of(1), 3, 3)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bucketMigrator.execute(startCommand(List.of(1), 0, 16)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bucketMigrator.execute(startCommand(List.of(1), -1, 0)));
+        Mockito.verify(bucketRouteRepository, Mockito.never()).insert(Mockito.any());
+    }
+
+    @Test
+    void testStartRejectsNodeMissingForAnyLogicTable() {
+        ReshardingProperties reshardingProperties = new ReshardingProperties();
+        reshardingProperties.setRoutings(Map.of(ROUTING_NAME, Map.of("t_order", "order_sn", "t_order_item", "order_sn")));
+        ShardingDataSourceLocator dataSourceLocator = Mockito.mock(ShardingDataSourceLocator.class);
+        Mockito.when(dataSourceLocator.containsDataNode(Mockito.eq("t_order"), Mockito.anyString(), Mockito.anyString())).thenReturn(true);
+        BucketMigrator migrator = new BucketMigrator(dataSourceLocator, bucketRouteRepository, Mockito.mock(BucketRouteRefresher.class), reshardingProperties);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> migrator.execute(startCommand(List.of(1), 2, 0)));
+        Mockito.verify(bucketRouteRepository, Mockito.never()).insert(Mockito.any());
+    }
+
+    @Test
+    void testRejectsBucketOutOfRange() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bucketMigrator.execute(startCommand(List.of(1024), 2, 3)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bucketMigrator.execute(startCommand(List.of(-1), 2, 3)));
+    }
+
+    @Test
+    void testStartRejectsSameNode() {
+        List<BucketMigrationResult> results = bucketMigrator.execute(startCommand(List.of(35), 35 % 2, 35 % 16));
+        Assertions.assertEquals(BucketState.STABLE, results.get(0).getState());
+        Assertions.assertNotNull(results.get(0).getMessage());
+        Mockito.verify(bucketRouteRepository, Mockito.never()).insert(Mockito.any());
+    }
+
+    private static BucketMigrationCommand startCommand(List<Integer> buckets, int targetDataSource, int targetTable) {
+        BucketMigrationCommand result = new BucketMigrationCommand();
+        result.setAction(BucketMigrationAction.START);
+        result.setRoutingName(ROUTING_NAME);
+        result.setBuckets(buckets);
+        result.setTargetDataSource(targetDataSource);
+        result.setTargetTable(targetTable);
+        return result;
+    }
+
+    private static Properties props(int shardingCount) {
+        Properties result = new Properties();
+        result.setProperty("sharding-count", String.valueOf(shardingCount));
+        result.setProperty("bucket-count", "1024");
+        result.setProperty("routing-name", ROUTING_NAME);
+        return result;
+    }
+
+    private static final class DataBaseAlgorithm extends AbstractBucketDataBaseComplexAlgorithm {
+
+        @Override
+        protected Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+            return columnNameAndShardingValuesMap.get("order_sn");
+        }
+    }
+
+    private static final class TableAlgorithm extends AbstractBucketTableComplexAlgorithm {
+
+        @Override
+        protected Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+            return columnNameAndShardingValuesMap.get("order_sn");
+        }
+    }
+}
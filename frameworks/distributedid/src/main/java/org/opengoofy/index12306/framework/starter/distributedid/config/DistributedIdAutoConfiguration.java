@@ -18,10 +18,14 @@
 package org.opengoofy.index12306.framework.starter.distributedid.config;
 
 import org.opengoofy.index12306.framework.starter.bases.ApplicationContextHolder;
+import org.opengoofy.index12306.framework.starter.distributedid.core.segment.RedisSegmentAllocator;
+import org.opengoofy.index12306.framework.starter.distributedid.core.segment.SegmentAllocator;
+import org.opengoofy.index12306.framework.starter.distributedid.core.segment.SegmentIdGeneratorRegistrar;
 import org.opengoofy.index12306.framework.starter.distributedid.core.snowflake.LocalRedisWorkIdChoose;
 import org.opengoofy.index12306.framework.starter.distributedid.core.snowflake.RandomWorkIdChoose;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 
@@ -33,6 +37,7 @@ import org.springframework.context.annotation.Import;
 //这个自动配置类根据是否配置了 Redis 主机地址来选择不同的分布式 ID 生成的策略。
 // 如果配置了 Redis 主机地址，则使用 LocalRedisWorkIdChoose 来构建雪花算法的 WorkId 选择器，否则使用 RandomWorkIdChoose。这样可以在项目中根据是否使用 Redis 来灵活地选择合适的 ID 生成策略。
 @Import(ApplicationContextHolder.class)
+@EnableConfigurationProperties(SegmentIdProperties.class)
 public class DistributedIdAutoConfiguration {
 
     /**
@@ -52,4 +57,23 @@ public class DistributedIdAutoConfiguration {
     public RandomWorkIdChoose randomWorkIdChoose() {
         return new RandomWorkIdChoose();
     }
+
+    /**
+     * 基于 Redis 的号段分配器
+     */
+    @Bean
+    @ConditionalOnMissingBean(SegmentAllocator.class)
+    @ConditionalOnProperty(prefix = SegmentIdProperties.PREFIX, name = "enabled", havingValue = "true")
+    public SegmentAllocator redisSegmentAllocator() {
+        return new RedisSegmentAllocator();
+    }
+
+    /**
+     * 号段模式 ID 生成器注册
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = SegmentIdProperties.PREFIX, name = "enabled", havingValue = "true")
+    public SegmentIdGeneratorRegistrar segmentIdGeneratorRegistrar(SegmentAllocator segmentAllocator, SegmentIdProperties segmentIdProperties) {
+        return new SegmentIdGeneratorRegistrar(segmentAllocator, segmentIdProperties);
+    }
 }
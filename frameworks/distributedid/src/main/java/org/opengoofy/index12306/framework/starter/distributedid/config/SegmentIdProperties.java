@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 号段模式 ID 生成器配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = SegmentIdProperties.PREFIX)
+public class SegmentIdProperties {
+
+    public static final String PREFIX = "framework.distributed.id.segment";
+
+    /**
+     * 是否开启号段模式
+     */
+    private Boolean enabled = Boolean.FALSE;
+
+    /**
+     * 使用号段模式的资源名称，注册到 {@link org.opengoofy.index12306.framework.starter.distributedid.handler.IdGeneratorManager}
+     */
+    private List<String> resources = new ArrayList<>();
+
+    /**
+     * 每次租用的号段长度
+     */
+    private Long step = 10000L;
+
+    /**
+     * 当前号段消耗比例达到该值时异步预取下一个号段
+     */
+    private Double prefetchRatio = 0.2D;
+
+    /**
+     * 业务基因占用的低位 bit 数
+     */
+    private Long serviceIdBits = 0L;
+}
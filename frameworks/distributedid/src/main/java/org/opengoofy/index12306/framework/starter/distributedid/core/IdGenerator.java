@@ -31,6 +31,19 @@ public interface IdGenerator {
         return 0L;
     }
 
+    /**
+     * 批量获取 ID
+     *
+     * @param count ID 数量
+     */
+    default long[] nextIds(int count) {
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = nextId();
+        }
+        return result;
+    }
+
     /**
      * 下一个 ID 字符串
      */
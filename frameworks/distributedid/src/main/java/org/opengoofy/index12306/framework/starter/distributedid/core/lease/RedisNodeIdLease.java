@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.core.lease;
+
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.RandomUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * 基于 Redis 的节点 ID 租约
+ * 节点 ID 以 {@code SET NX PX} 的方式租用并通过心跳续期，实例宕机后租约自然过期，节点 ID 可被其他实例回收使用；
+ * 续期失败（租约已过期或被占用）时重新租用节点 ID 并通知调用方切换；
+ * 每次租用与续期同时记录本租约内可能使用到的最大时间戳，新的持有者租用后等待当前时间越过该时间戳才开始使用，避免与上一任持有者的 ID 重复；
+ * 本地以发起续期前的时间加租约时长作为租约有效期，生成器通过 {@link #checkIssued(long, long)} 拒绝有效期之外的 ID，Redis 不可用导致续期失败时不会继续使用可能已被回收的节点 ID
+ *
+ *
+ */
+@Slf4j
+public class RedisNodeIdLease {
+
+    private static final DefaultRedisScript<Long> LEASE_SCRIPT = buildScript("lua/leaseNodeIdLua.lua", Long.class);
+
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = buildScript("lua/renewNodeIdLua.lua", Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = buildScript("lua/releaseNodeIdLua.lua", Long.class);
+
+    private static final String LAST_TIMESTAMP_KEY_SUFFIX = ":last-timestamp";
+
+    private static final LeaseState NO_LEASE = new LeaseState(-1L, 0L);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String keyPrefix;
+
+    private final long maxNodeId;
+
+    private final long leaseMillis;
+
+    /**
+     * 租约持有者标识，每个实例唯一
+     */
+    private final String owner = IdUtil.fastSimpleUUID();
+
+    /**
+     * 当前持有的节点 ID 及其本地有效期，二者同时更新
+     */
+    private volatile LeaseState leaseState = NO_LEASE;
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    /**
+     * @param stringRedisTemplate Redis 客户端
+     * @param keyPrefix           节点 ID Key 前缀，完整 Key 为 {前缀 + 节点 ID}，同一节点 ID 的 Key 位于同一 Slot
+     * @param maxNodeId           最大节点 ID（包含）
+     * @param leaseMillis         租约时长，心跳间隔为租约时长的三分之一
+     */
+    public RedisNodeIdLease(StringRedisTemplate stringRedisTemplate, String keyPrefix, long maxNodeId, long leaseMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.maxNodeId = maxNodeId;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 租用节点 ID 并开启心跳续期
+     *
+     * @param nodeIdListener 首次租用及重新租用到节点 ID 时回调
+     */
+    public synchronized void start(LongConsumer nodeIdListener) {
+        nodeIdListener.accept(acquire());
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "node-id-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1L, leaseMillis / 3);
+        heartbeatExecutor.scheduleWithFixedDelay(() -> heartbeat(nodeIdListener), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止心跳并释放节点 ID
+     */
+    public synchronized void stop() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        long nodeId = leaseState.nodeId();
+        leaseState = NO_LEASE;
+        if (nodeId >= 0) {
+            release(nodeId, System.currentTimeMillis(), leaseMillis);
+        }
+    }
+
+    /**
+     * 当前持有的节点 ID
+     */
+    public long getNodeId() {
+        return leaseState.nodeId();
+    }
+
+    /**
+     * 当前租约是否仍在本地有效期内
+     */
+    public boolean isValid() {
+        return System.currentTimeMillis() < leaseState.validUntilMillis();
+    }
+
+    /**
+     * 校验生成的 ID 是否可以发放：节点 ID 必须仍由本实例持有，且 ID 中的时间戳早于租约有效期
+     * 在 ID 生成之后校验，生成过程中发生停顿或租约切换时同样可以拒绝
+     *
+     * @param nodeId          生成 ID 使用的节点 ID
+     * @param timestampMillis ID 中的时间戳，Unix 毫秒时间戳
+     * @throws IllegalStateException 租约已过期或节点 ID 已切换
+     */
+    public void checkIssued(long nodeId, long timestampMillis) {
+        LeaseState actual = leaseState;
+        if (actual.nodeId() != nodeId || timestampMillis >= actual.validUntilMillis()) {
+            throw new IllegalStateException("Node id lease is not valid, prefix: " + keyPrefix + ", nodeId: " + nodeId + ". Refusing to generate ID.");
+        }
+    }
+
+    private void heartbeat(LongConsumer nodeIdListener) {
+        try {
+            if (leaseState.nodeId() >= 0 && renew()) {
+                return;
+            }
+            log.warn("Node id lease lost, prefix: {}, nodeId: {}, acquiring a new one", keyPrefix, leaseState.nodeId());
+            leaseState = NO_LEASE;
+            nodeIdListener.accept(acquire());
+        } catch (Throwable ex) {
+            if (!isValid() && leaseState != NO_LEASE) {
+                // 租约已超出本地有效期，节点 ID 可能已被其他实例租用，放弃后在下次心跳重新租用
+                log.error("Node id lease expired, prefix: {}, nodeId: {}, stop generating IDs until a new lease is acquired", keyPrefix, leaseState.nodeId());
+                leaseState = NO_LEASE;
+            }
+            log.error("Node id lease heartbeat failed, prefix: {}, nodeId: {}", keyPrefix, leaseState.nodeId(), ex);
+        }
+    }
+
+    private long acquire() {
+        // 随机起点探测，避免实例同时启动时集中争抢小号节点
+        long start = RandomUtil.randomLong(maxNodeId + 1);
+        for (long i = 0; i <= maxNodeId; i++) {
+            long nodeId = (start + i) % (maxNodeId + 1);
+            Long lastTimestamp = stringRedisTemplate.execute(
+                    LEASE_SCRIPT,
+                    List.of(nodeIdKey(nodeId), lastTimestampKey(nodeId)),
+                    owner,
+                    String.valueOf(leaseMillis),
+                    String.valueOf(System.currentTimeMillis() + leaseMillis)
+            );
+            if (lastTimestamp != null && lastTimestamp >= 0) {
+                awaitLastTimestamp(nodeId, lastTimestamp);
+                // 等待期间租约时间已消耗，续期后再开始使用
+                leaseState = new LeaseState(nodeId, 0L);
+                if (!renew()) {
+                    leaseState = NO_LEASE;
+                    throw new IllegalStateException("Node id lease lost while waiting, prefix: " + keyPrefix + ", nodeId: " + nodeId);
+                }
+                log.info("Node id leased, prefix: {}, nodeId: {}", keyPrefix, nodeId);
+                return nodeId;
+            }
+        }
+        throw new IllegalStateException("No node id available, prefix: " + keyPrefix + ", max node id: " + maxNodeId);
+    }
+
+    /**
+     * 等待当前时间越过上一任持有者可能使用到的最大时间戳，等待超过一个租约时长视为时钟偏差过大，放弃本次租用
+     */
+    private void awaitLastTimestamp(long acquired, long lastTimestamp) {
+        long waitMillis = lastTimestamp - System.currentTimeMillis();
+        if (waitMillis < 0) {
+            return;
+        }
+        if (waitMillis > leaseMillis) {
+            release(acquired, lastTimestamp, waitMillis + leaseMillis);
+            throw new IllegalStateException("Clock of previous node id holder is " + waitMillis + "ms ahead, prefix: " + keyPrefix + ", nodeId: " + acquired);
+        }
+        log.warn("Waiting {}ms for last timestamp of previous holder, prefix: {}, nodeId: {}", waitMillis + 1, keyPrefix, acquired);
+        while (System.currentTimeMillis() <= lastTimestamp) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(lastTimestamp - System.currentTimeMillis() + 1));
+        }
+    }
+
+    private boolean renew() {
+        long nodeId = leaseState.nodeId();
+        // 以发起续期前的时间计算有效期，Redis 中的过期时间从收到命令时开始计算，不会早于本地有效期
+        long requestMillis = System.currentTimeMillis();
+        Long result = stringRedisTemplate.execute(
+                RENEW_SCRIPT,
+                List.of(nodeIdKey(nodeId), lastTimestampKey(nodeId)),
+                owner,
+                String.valueOf(leaseMillis),
+                String.valueOf(requestMillis + leaseMillis)
+        );
+        if (result == null || result <= 0) {
+            return false;
+        }
+        leaseState = new LeaseState(nodeId, requestMillis + leaseMillis);
+        return true;
+    }
+
+    private void release(long nodeId, long lastTimestamp, long retentionMillis) {
+        stringRedisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(nodeIdKey(nodeId), lastTimestampKey(nodeId)),
+                owner,
+                String.valueOf(lastTimestamp),
+                String.valueOf(retentionMillis)
+        );
+    }
+
+    private String nodeIdKey(long nodeId) {
+        return "{" + keyPrefix + nodeId + "}";
+    }
+
+    private String lastTimestampKey(long nodeId) {
+        return nodeIdKey(nodeId) + LAST_TIMESTAMP_KEY_SUFFIX;
+    }
+
+    private static <T> DefaultRedisScript<T> buildScript(String path, Class<T> resultType) {
+        DefaultRedisScript<T> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        redisScript.setResultType(resultType);
+        return redisScript;
+    }
+
+    private record LeaseState(long nodeId, long validUntilMillis) {
+    }
+}
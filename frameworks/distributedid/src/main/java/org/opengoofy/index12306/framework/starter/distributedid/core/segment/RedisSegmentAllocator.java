@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.core.segment;
+
+import org.opengoofy.index12306.framework.starter.bases.ApplicationContextHolder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 基于 Redis INCRBY 的号段分配器
+ *
+ *
+ */
+public class RedisSegmentAllocator implements SegmentAllocator {
+
+    private static final String SEGMENT_KEY_PREFIX = "index12306-distributed-id:segment:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisSegmentAllocator() {
+        this.stringRedisTemplate = ApplicationContextHolder.getBean(StringRedisTemplate.class);
+    }
+
+    @Override
+    public long allocate(String bizTag, long step) {
+        Long max = stringRedisTemplate.opsForValue().increment(SEGMENT_KEY_PREFIX + bizTag, step);
+        if (max == null) {
+            throw new IllegalStateException("Failed to allocate id segment for " + bizTag);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.core.segment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.distributedid.core.serviceid.ServiceIdGenerator;
+import org.opengoofy.index12306.framework.starter.distributedid.core.snowflake.SnowflakeIdInfo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 号段模式 ID 生成器（双缓冲）
+ * 每个节点从 {@link SegmentAllocator} 租用一段连续 ID，当前号段消耗到指定比例时异步预取下一个号段，
+ * 号段切换时直接使用预取结果，{@link #nextId()} 在绝大多数情况下只是一次本地原子自增，且不依赖机器时钟
+ *
+ *
+ */
+@Slf4j
+public class SegmentIdGenerator implements ServiceIdGenerator {
+
+    /**
+     * 所有号段生成器共享的预取线程
+     */
+    private static final Executor PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "segment-id-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String bizTag;
+
+    private final SegmentAllocator segmentAllocator;
+
+    private final long step;
+
+    /**
+     * 触发预取时当前号段已消耗的数量
+     */
+    private final long prefetchThreshold;
+
+    /**
+     * 业务基因占用的低位 bit 数，0 表示不追加基因
+     */
+    private final long serviceIdBits;
+
+    /**
+     * 切换号段时可能同步等待数据库或 Redis 分配，使用 ReentrantLock 而非 synchronized，避免在虚拟线程下钉住载体线程
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 初始为空号段，首次获取 ID 时同步分配
+     */
+    private volatile Segment current = new Segment(0L, -1L);
+
+    private volatile CompletableFuture<Segment> nextSegment;
+
+    /**
+     * @param bizTag           业务标识
+     * @param segmentAllocator 号段分配器
+     * @param step             号段长度
+     * @param prefetchRatio    当前号段消耗比例达到该值时预取下一个号段
+     * @param serviceIdBits    业务基因占用的低位 bit 数
+     */
+    public SegmentIdGenerator(String bizTag, SegmentAllocator segmentAllocator, long step, double prefetchRatio, long serviceIdBits) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Segment step must be greater than 0");
+        }
+        if (prefetchRatio <= 0 || prefetchRatio >= 1) {
+            throw new IllegalArgumentException("Segment prefetch ratio must be between 0 and 1");
+        }
+        this.bizTag = bizTag;
+        this.segmentAllocator = segmentAllocator;
+        this.step = step;
+        this.prefetchThreshold = Math.max(1L, (long) (step * prefetchRatio));
+        this.serviceIdBits = serviceIdBits;
+    }
+
+    @Override
+    public long nextId() {
+        for (; ; ) {
+            Segment actual = current;
+            long value = actual.value.getAndIncrement();
+            if (value <= actual.max) {
+                if (value - actual.start >= prefetchThreshold && actual.prefetchTriggered.compareAndSet(false, true)) {
+                    prefetch();
+                }
+                return value;
+            }
+            switchSegment(actual);
+        }
+    }
+
+    @Override
+    public long[] nextIds(int count) {
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = nextId();
+        }
+        return result;
+    }
+
+    @Override
+    public String nextIdStr() {
+        return Long.toString(nextId());
+    }
+
+    @Override
+    public long nextId(long serviceId) {
+        if (serviceIdBits == 0) {
+            return nextId();
+        }
+        long gene = Math.abs(Long.valueOf(serviceId).hashCode()) % (1L << serviceIdBits);
+        return (nextId() << serviceIdBits) | gene;
+    }
+
+    @Override
+    public long nextId(String serviceId) {
+        return nextId(Long.parseLong(serviceId));
+    }
+
+    @Override
+    public String nextIdStr(long serviceId) {
+        return Long.toString(nextId(serviceId));
+    }
+
+    @Override
+    public String nextIdStr(String serviceId) {
+        return Long.toString(nextId(serviceId));
+    }
+
+    @Override
+    public SnowflakeIdInfo parseSnowflakeId(long snowflakeId) {
+        return SnowflakeIdInfo.builder()
+                .sequence((int) (snowflakeId >> serviceIdBits))
+                .gene((int) (snowflakeId & ~(-1L << serviceIdBits)))
+                .build();
+    }
+
+    private void prefetch() {
+        lock.lock();
+        try {
+            if (nextSegment == null) {
+                nextSegment = CompletableFuture.supplyAsync(this::allocate, PREFETCH_EXECUTOR);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void switchSegment(Segment exhausted) {
+        lock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            Segment segment = null;
+            if (nextSegment != null) {
+                try {
+                    segment = nextSegment.join();
+                } catch (Exception ex) {
+                    log.warn("Prefetch id segment failed, bizTag: {}", bizTag, ex);
+                }
+                nextSegment = null;
+            }
+            current = segment != null ? segment : allocate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment allocate() {
+        long max = segmentAllocator.allocate(bizTag, step);
+        return new Segment(max - step + 1, max);
+    }
+
+    private static final class Segment {
+
+        private final long start;
+
+        private final long max;
+
+        private final AtomicLong value;
+
+        private final AtomicBoolean prefetchTriggered = new AtomicBoolean(false);
+
+        private Segment(long start, long max) {
+            this.start = start;
+            this.max = max;
+            this.value = new AtomicLong(start);
+        }
+    }
+}
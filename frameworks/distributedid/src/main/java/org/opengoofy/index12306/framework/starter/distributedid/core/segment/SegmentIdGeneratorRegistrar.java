@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.core.segment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.distributedid.config.SegmentIdProperties;
+import org.opengoofy.index12306.framework.starter.distributedid.handler.IdGeneratorManager;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * 按配置将号段模式 ID 生成器注册到 {@link IdGeneratorManager}
+ *
+ *
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SegmentIdGeneratorRegistrar implements InitializingBean {
+
+    private final SegmentAllocator segmentAllocator;
+    private final SegmentIdProperties segmentIdProperties;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String each : segmentIdProperties.getResources()) {
+            SegmentIdGenerator segmentIdGenerator = new SegmentIdGenerator(
+                    each,
+                    segmentAllocator,
+                    segmentIdProperties.getStep(),
+                    segmentIdProperties.getPrefetchRatio(),
+                    segmentIdProperties.getServiceIdBits()
+            );
+            IdGeneratorManager.registerIdGenerator(each, segmentIdGenerator);
+            log.info("Segment id generator registered, resource: {}, step: {}", each, segmentIdProperties.getStep());
+        }
+    }
+}
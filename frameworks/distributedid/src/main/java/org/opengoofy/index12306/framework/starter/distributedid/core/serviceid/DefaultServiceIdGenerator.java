@@ -17,7 +17,7 @@
 
 package org.opengoofy.index12306.framework.starter.distributedid.core.serviceid;
 
-import org.opengoofy.index12306.framework.starter.distributedid.core.IdGenerator;
+import org.opengoofy.index12306.framework.starter.distributedid.core.snowflake.Snowflake;
 import org.opengoofy.index12306.framework.starter.distributedid.core.snowflake.SnowflakeIdInfo;
 import org.opengoofy.index12306.framework.starter.distributedid.toolkit.SnowflakeIdUtil;
 
@@ -29,7 +29,7 @@ import org.opengoofy.index12306.framework.starter.distributedid.toolkit.Snowflak
 //DefaultServiceIdGenerator 类是一个基于雪花算法的服务 ID 生成器，它可以根据业务 ID 和雪花算法生成唯一的 ID，并提供解析雪花 ID 的功能。
 public final class DefaultServiceIdGenerator implements ServiceIdGenerator {
 
-    private final IdGenerator idGenerator;//这是一个雪花算法生成器的实例。
+    private final long serviceIdBitLen;//这是业务 ID（基因）占用的序列号位数。
 
     private long maxBizIdBitsLen;//这是用于存储业务 ID 的二进制长度。
 
@@ -38,7 +38,7 @@ public final class DefaultServiceIdGenerator implements ServiceIdGenerator {
     }
 
     public DefaultServiceIdGenerator(long serviceIdBitLen) {//使用指定的 serviceIdBitLen（业务 ID 位数）来构造 DefaultServiceIdGenerator，并根据位数计算出 maxBizIdBitsLen。
-        idGenerator = SnowflakeIdUtil.getInstance();
+        this.serviceIdBitLen = serviceIdBitLen;
         this.maxBizIdBitsLen = (long) Math.pow(2, serviceIdBitLen);
     }
 
@@ -46,7 +46,8 @@ public final class DefaultServiceIdGenerator implements ServiceIdGenerator {
     @Override
     public long nextId(long serviceId) {
         long id = Math.abs(Long.valueOf(serviceId).hashCode()) % (this.maxBizIdBitsLen);
-        long nextId = idGenerator.nextId();
+        // 每次从 SnowflakeIdUtil 获取实例，WorkId 租约丢失后重新初始化的雪花算法可以立即生效
+        long nextId = SnowflakeIdUtil.getInstance().nextId();
         return nextId | id;
     }
 
@@ -58,58 +59,20 @@ public final class DefaultServiceIdGenerator implements ServiceIdGenerator {
     //这个方法用于解析给定的雪花算法生成的 ID，将其分解成 workerId、dataCenterId、timestamp、sequence 和 gene 等部分，并将这些信息封装成 SnowflakeIdInfo 对象返回。
     @Override
     public SnowflakeIdInfo parseSnowflakeId(long snowflakeId) {
+        Snowflake snowflake = SnowflakeIdUtil.getInstance();
+        long sequenceActualBits = snowflake.getSequenceBits() - serviceIdBitLen;
         SnowflakeIdInfo snowflakeIdInfo = SnowflakeIdInfo.builder()
-                .workerId((int) ((snowflakeId >> WORKER_ID_SHIFT) & ~(-1L << WORKER_ID_BITS)))
-                .dataCenterId((int) ((snowflakeId >> DATA_CENTER_ID_SHIFT) & ~(-1L << DATA_CENTER_ID_BITS)))
-                .timestamp((snowflakeId >> TIMESTAMP_LEFT_SHIFT) + DEFAULT_TWEPOCH)
-                .sequence((int) ((snowflakeId >> SEQUENCE_BIZ_BITS) & ~(-1L << SEQUENCE_ACTUAL_BITS)))
-                .gene((int) (snowflakeId & ~(-1L << SEQUENCE_BIZ_BITS)))
+                .workerId((int) snowflake.getWorkerId(snowflakeId))
+                .dataCenterId((int) snowflake.getDataCenterId(snowflakeId))
+                .timestamp(snowflake.getGenerateDateTime(snowflakeId))
+                .sequence((int) ((snowflakeId >> serviceIdBitLen) & ~(-1L << sequenceActualBits)))
+                .gene((int) (snowflakeId & ~(-1L << serviceIdBitLen)))
                 .build();
         return snowflakeIdInfo;
     }
 
-    /**
-     * 工作 ID 5 bit
-     */
-    private static final long WORKER_ID_BITS = 5L;
-
-    /**
-     * 数据中心 ID 5 bit
-     */
-    private static final long DATA_CENTER_ID_BITS = 5L;
-
-    /**
-     * 序列号 12 位，表示只允许 workerId 的范围为 0-4095
-     */
-    private static final long SEQUENCE_BITS = 12L;
-
-    /**
-     * 真实序列号 bit
-     */
-    private static final long SEQUENCE_ACTUAL_BITS = 8L;
-
     /**
      * 基因 bit
      */
     private static final long SEQUENCE_BIZ_BITS = 4L;
-
-    /**
-     * 机器节点左移12位
-     */
-    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
-
-    /**
-     * 默认开始时间
-     */
-    private static long DEFAULT_TWEPOCH = 1288834974657L;
-
-    /**
-     * 数据中心节点左移 17 位
-     */
-    private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
-
-    /**
-     * 时间毫秒数左移 22 位
-     */
-    private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 }
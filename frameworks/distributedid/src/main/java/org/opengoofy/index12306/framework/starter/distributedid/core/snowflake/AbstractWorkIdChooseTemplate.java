@@ -36,6 +36,24 @@ public abstract class AbstractWorkIdChooseTemplate {
     @Value("${framework.distributed.id.snowflake.is-use-system-clock:false}")
     private boolean isUseSystemClock;
 
+    /**
+     * 机器节点位数，与数据中心位数、序列号位数之和必须为 22
+     */
+    @Value("${framework.distributed.id.snowflake.worker-id-bits:5}")
+    private long workerIdBits;
+
+    /**
+     * 数据中心位数
+     */
+    @Value("${framework.distributed.id.snowflake.data-center-id-bits:5}")
+    private long dataCenterIdBits;
+
+    /**
+     * 序列号位数，大规模集群可以调小序列号位数换取更多的节点
+     */
+    @Value("${framework.distributed.id.snowflake.sequence-bits:12}")
+    private long sequenceBits;
+
     /**
      * 根据自定义策略获取 WorkId 生成器
      *
@@ -48,11 +66,46 @@ public abstract class AbstractWorkIdChooseTemplate {
      */
     public void chooseAndInit() {
         // 模板方法模式: 通过抽象方法获取 WorkId 包装器创建雪花算法
-        WorkIdWrapper workIdWrapper = chooseWorkId();
+        initSnowflake(chooseWorkId());
+    }
+
+    /**
+     * 根据 WorkId 包装器初始化雪花算法
+     */
+    protected void initSnowflake(WorkIdWrapper workIdWrapper) {
         long workId = workIdWrapper.getWorkId();
         long dataCenterId = workIdWrapper.getDataCenterId();
-        Snowflake snowflake = new Snowflake(workId, dataCenterId, isUseSystemClock);
+        Snowflake snowflake = createSnowflake(workId, dataCenterId, isUseSystemClock, workerIdBits, dataCenterIdBits, sequenceBits);
         log.info("Snowflake type: {}, workId: {}, dataCenterId: {}", this.getClass().getSimpleName(), workId, dataCenterId);
         SnowflakeIdUtil.initSnowflake(snowflake);
     }
+
+    /**
+     * 创建雪花算法实例，子类可按 WorkId 的来源附加发放约束
+     */
+    protected Snowflake createSnowflake(long workId, long dataCenterId, boolean isUseSystemClock, long workerIdBits, long dataCenterIdBits, long sequenceBits) {
+        return new Snowflake(null, workId, dataCenterId, isUseSystemClock, Snowflake.DEFAULT_TIME_OFFSET, 0L, workerIdBits, dataCenterIdBits, sequenceBits);
+    }
+
+    /**
+     * 机器节点与数据中心合并后的最大节点 ID
+     */
+    protected long getMaxNodeId() {
+        return ~(-1L << (workerIdBits + dataCenterIdBits));
+    }
+
+    protected long getMaxWorkId() {
+        return ~(-1L << workerIdBits);
+    }
+
+    protected long getMaxDataCenterId() {
+        return ~(-1L << dataCenterIdBits);
+    }
+
+    /**
+     * 将合并后的节点 ID 拆分为机器节点与数据中心
+     */
+    protected WorkIdWrapper toWorkIdWrapper(long nodeId) {
+        return new WorkIdWrapper(nodeId & getMaxWorkId(), nodeId >> workerIdBits);
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.core.snowflake;
+
+import org.opengoofy.index12306.framework.starter.distributedid.core.lease.RedisNodeIdLease;
+
+/**
+ * 受节点 ID 租约约束的雪花算法
+ * 每次发放 ID 前校验节点 ID 租约，租约过期（如 Redis 不可用导致续期失败）后拒绝生成，避免与重新租用该节点 ID 的实例重复
+ *
+ *
+ */
+public class LeasedSnowflake extends Snowflake {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient RedisNodeIdLease nodeIdLease;
+
+    private final long nodeId;
+
+    /**
+     * @param nodeIdLease      节点 ID 租约
+     * @param nodeId           机器节点与数据中心合并后的节点 ID
+     * @param workerId         工作机器节点id
+     * @param dataCenterId     数据中心id
+     * @param isUseSystemClock 是否使用系统时钟
+     * @param workerIdBits     机器节点位数
+     * @param dataCenterIdBits 数据中心位数
+     * @param sequenceBits     序列号位数
+     */
+    public LeasedSnowflake(RedisNodeIdLease nodeIdLease, long nodeId, long workerId, long dataCenterId, boolean isUseSystemClock,
+                           long workerIdBits, long dataCenterIdBits, long sequenceBits) {
+        super(null, workerId, dataCenterId, isUseSystemClock, DEFAULT_TIME_OFFSET, 0L, workerIdBits, dataCenterIdBits, sequenceBits);
+        this.nodeIdLease = nodeIdLease;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public long nextId() {
+        long id = super.nextId();
+        nodeIdLease.checkIssued(nodeId, getGenerateDateTime(id));
+        return id;
+    }
+
+    @Override
+    public long[] nextIds(int count) {
+        long[] ids = super.nextIds(count);
+        // 批量 ID 按生成顺序递增，最后一个 ID 的时间戳最大
+        nodeIdLease.checkIssued(nodeId, getGenerateDateTime(ids[ids.length - 1]));
+        return ids;
+    }
+}
@@ -17,28 +17,37 @@
 
 package org.opengoofy.index12306.framework.starter.distributedid.core.snowflake;
 
-import cn.hutool.core.collection.CollUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.opengoofy.index12306.framework.starter.bases.ApplicationContextHolder;
+import org.opengoofy.index12306.framework.starter.distributedid.core.lease.RedisNodeIdLease;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.scripting.support.ResourceScriptSource;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * 使用 Redis 获取雪花 WorkId
+ * 机器节点与数据中心合并为一个节点 ID，通过 {@link RedisNodeIdLease} 租用并心跳续期，实例宕机后节点 ID 随租约过期自动回收；
+ * 租约丢失时重新租用节点 ID 并重建雪花算法，租约超出有效期后雪花算法拒绝生成 ID
  *
  *
  */
 @Slf4j
-public class LocalRedisWorkIdChoose extends AbstractWorkIdChooseTemplate implements InitializingBean {
+public class LocalRedisWorkIdChoose extends AbstractWorkIdChooseTemplate implements InitializingBean, DisposableBean {
+
+    private static final String WORK_ID_LEASE_KEY_PREFIX = "index12306-distributed-id:snowflake-work-id:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * WorkId 租约时长
+     */
+    @Value("${framework.distributed.id.snowflake.work-id-lease-millis:30000}")
+    private long workIdLeaseMillis;
 
-    private RedisTemplate stringRedisTemplate;
+    private RedisNodeIdLease nodeIdLease;
+
+    private volatile boolean initialized;
 
     public LocalRedisWorkIdChoose() {
         this.stringRedisTemplate = ApplicationContextHolder.getBean(StringRedisTemplate.class);
@@ -46,20 +55,32 @@ public class LocalRedisWorkIdChoose extends AbstractWorkIdChooseTemplate impleme
 
     @Override
     public WorkIdWrapper chooseWorkId() {
-        DefaultRedisScript redisScript = new DefaultRedisScript();
-        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/chooseWorkIdLua.lua")));
-        List<Long> luaResultList = null;
-        try {
-            redisScript.setResultType(List.class);
-            luaResultList = (ArrayList) this.stringRedisTemplate.execute(redisScript, null);
-        } catch (Exception ex) {
-            log.error("Redis Lua 脚本获取 WorkId 失败", ex);
-        }
-        return CollUtil.isNotEmpty(luaResultList) ? new WorkIdWrapper(luaResultList.get(0), luaResultList.get(1)) : new RandomWorkIdChoose().chooseWorkId();
+        nodeIdLease = new RedisNodeIdLease(stringRedisTemplate, WORK_ID_LEASE_KEY_PREFIX, getMaxNodeId(), workIdLeaseMillis);
+        nodeIdLease.start(nodeId -> {
+            // 首次租用由 chooseAndInit 完成初始化，此处只处理租约丢失后的重新租用
+            if (initialized) {
+                initSnowflake(toWorkIdWrapper(nodeId));
+            }
+        });
+        return toWorkIdWrapper(nodeIdLease.getNodeId());
+    }
+
+    @Override
+    protected Snowflake createSnowflake(long workId, long dataCenterId, boolean isUseSystemClock, long workerIdBits, long dataCenterIdBits, long sequenceBits) {
+        long nodeId = (dataCenterId << workerIdBits) | workId;
+        return new LeasedSnowflake(nodeIdLease, nodeId, workId, dataCenterId, isUseSystemClock, workerIdBits, dataCenterIdBits, sequenceBits);
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
         chooseAndInit();
+        initialized = true;
+    }
+
+    @Override
+    public void destroy() {
+        if (nodeIdLease != null) {
+            nodeIdLease.stop();
+        }
     }
 }
@@ -30,8 +30,7 @@ public class RandomWorkIdChoose extends AbstractWorkIdChooseTemplate implements
 
     @Override
     protected WorkIdWrapper chooseWorkId() {
-        int start = 0, end = 31;
-        return new WorkIdWrapper(getRandom(start, end), getRandom(start, end));
+        return new WorkIdWrapper(getRandom(0, getMaxWorkId()), getRandom(0, getMaxDataCenterId()));
     }
 
     @Override
@@ -39,7 +38,7 @@ public class RandomWorkIdChoose extends AbstractWorkIdChooseTemplate implements
         chooseAndInit();
     }
 
-    private static long getRandom(int start, int end) {
+    private static long getRandom(long start, long end) {
         long random = (long) (Math.random() * (end - start + 1) + start);
         return random;
     }
@@ -26,6 +26,7 @@ import org.opengoofy.index12306.framework.starter.distributedid.core.IdGenerator
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Twitter的Snowflake 算法<br>
@@ -63,34 +64,49 @@ public class Snowflake implements Serializable, IdGenerator {
     /**
      * 默认回拨时间，2S
      */
-    private static long DEFAULT_TIME_OFFSET = 2000L;
+    public static final long DEFAULT_TIME_OFFSET = 2000L;
 
-    private static final long WORKER_ID_BITS = 5L;
+    /**
+     * 默认机器节点位数，最大支持机器节点数0~31，一共32个
+     */
+    public static final long DEFAULT_WORKER_ID_BITS = 5L;
 
-    // 最大支持机器节点数0~31，一共32个
-    @SuppressWarnings({"PointlessBitwiseExpression", "FieldCanBeLocal"})
-    private static final long MAX_WORKER_ID = -1L ^ (-1L << WORKER_ID_BITS);
+    /**
+     * 默认数据中心位数，最大支持数据中心节点数0~31，一共32个
+     */
+    public static final long DEFAULT_DATA_CENTER_ID_BITS = 5L;
 
-    private static final long DATA_CENTER_ID_BITS = 5L;
+    /**
+     * 默认序列号位数，12位（表示只允许workId的范围为：0-4095）
+     */
+    public static final long DEFAULT_SEQUENCE_BITS = 12L;
 
-    // 最大支持数据中心节点数0~31，一共32个
-    @SuppressWarnings({"PointlessBitwiseExpression", "FieldCanBeLocal"})
-    private static final long MAX_DATA_CENTER_ID = -1L ^ (-1L << DATA_CENTER_ID_BITS);
+    /**
+     * 机器节点、数据中心与序列号总位数，时间戳固定占用剩余的41位
+     */
+    private static final long NODE_AND_SEQUENCE_BITS = 22L;
+
+    private static final long MAX_DEFAULT_WORKER_ID = ~(-1L << DEFAULT_WORKER_ID_BITS);
+
+    private static final long MAX_DEFAULT_DATA_CENTER_ID = ~(-1L << DEFAULT_DATA_CENTER_ID_BITS);
 
-    // 序列号12位（表示只允许workId的范围为：0-4095）
-    private static final long SEQUENCE_BITS = 12L;
+    private final long workerIdBits;
 
-    // 机器节点左移12位
-    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+    private final long dataCenterIdBits;
 
-    // 数据中心节点左移17位
-    private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    private final long sequenceBits;
+
+    // 机器节点左移序列号位数
+    private final long workerIdShift;
+
+    // 数据中心节点左移序列号 + 机器节点位数
+    private final long dataCenterIdShift;
 
     // 时间毫秒数左移22位
-    private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+    private final long timestampLeftShift;
 
-    // 序列掩码，用于限定序列最大值不能超过4095
-    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    // 序列掩码，用于限定序列最大值
+    private final long sequenceMask;
 
     /**
      * 初始化时间点
@@ -111,30 +127,29 @@ public class Snowflake implements Serializable, IdGenerator {
     /**
      * 当在低频模式下时，序号始终为0，导致生成ID始终为偶数<br>
      * 此属性用于限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题。<br>
-     * 注意次数必须小于{@link #SEQUENCE_MASK}，{@code 0}表示不使用随机数。<br>
+     * 注意次数必须小于{@link #sequenceMask}，{@code 0}表示不使用随机数。<br>
      * 这个上限不包括值本身。
      */
     private final long randomSequenceLimit;
 
     /**
-     * 自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
+     * 上次生成 ID 的状态，高位为相对起始时间的时间戳，低 {@link #sequenceBits} 位为该毫秒内已分配的最大序号<br>
+     * 时间戳与序号打包在同一个 {@link AtomicLong} 中，通过 CAS 一次性推进，避免所有线程竞争同一把锁
      */
-    private long sequence = 0L;
-
-    private long lastTimestamp = -1L;
+    private final AtomicLong state = new AtomicLong(0L);
 
     /**
      * 构造，使用自动生成的工作节点ID和数据中心ID
      */
     public Snowflake() {
-        this(IdUtil.getWorkerId(IdUtil.getDataCenterId(MAX_DATA_CENTER_ID), MAX_WORKER_ID));
+        this(IdUtil.getWorkerId(IdUtil.getDataCenterId(MAX_DEFAULT_DATA_CENTER_ID), MAX_DEFAULT_WORKER_ID));
     }
 
     /**
      * @param workerId 终端ID
      */
     public Snowflake(long workerId) {
-        this(workerId, IdUtil.getDataCenterId(MAX_DATA_CENTER_ID));
+        this(workerId, IdUtil.getDataCenterId(MAX_DEFAULT_DATA_CENTER_ID));
     }
 
     /**
@@ -187,12 +202,53 @@ public class Snowflake implements Serializable, IdGenerator {
      * @since 5.8.0
      */
     public Snowflake(Date epochDate, long workerId, long dataCenterId, boolean isUseSystemClock, long timeOffset, long randomSequenceLimit) {
+        this(epochDate, workerId, dataCenterId, isUseSystemClock, timeOffset, randomSequenceLimit,
+                DEFAULT_WORKER_ID_BITS, DEFAULT_DATA_CENTER_ID_BITS, DEFAULT_SEQUENCE_BITS);
+    }
+
+    /**
+     * 自定义机器节点、数据中心与序列号位数，三者之和必须等于22，大规模集群可以用序列号位数换取更多的机器节点
+     *
+     * @param epochDate           初始化时间起点（null表示默认起始日期）,后期修改会导致id重复,如果要修改连workerId dataCenterId，慎用
+     * @param workerId            工作机器节点id
+     * @param dataCenterId        数据中心id
+     * @param isUseSystemClock    是否使用{@link SystemClock} 获取当前时间戳
+     * @param timeOffset          允许时间回拨的毫秒数
+     * @param randomSequenceLimit 限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题，0表示无随机，上限不包括值本身。
+     * @param workerIdBits        机器节点位数
+     * @param dataCenterIdBits    数据中心位数
+     * @param sequenceBits        序列号位数
+     */
+    public Snowflake(Date epochDate, long workerId, long dataCenterId, boolean isUseSystemClock, long timeOffset, long randomSequenceLimit,
+                     long workerIdBits, long dataCenterIdBits, long sequenceBits) {
+        Assert.isTrue(workerIdBits >= 0 && dataCenterIdBits >= 0 && sequenceBits > 0
+                        && workerIdBits + dataCenterIdBits + sequenceBits == NODE_AND_SEQUENCE_BITS,
+                "workerIdBits + dataCenterIdBits + sequenceBits must be {}", NODE_AND_SEQUENCE_BITS);
+        this.workerIdBits = workerIdBits;
+        this.dataCenterIdBits = dataCenterIdBits;
+        this.sequenceBits = sequenceBits;
+        this.workerIdShift = sequenceBits;
+        this.dataCenterIdShift = sequenceBits + workerIdBits;
+        this.timestampLeftShift = sequenceBits + workerIdBits + dataCenterIdBits;
+        this.sequenceMask = ~(-1L << sequenceBits);
         this.twepoch = (null != epochDate) ? epochDate.getTime() : DEFAULT_TWEPOCH;
-        this.workerId = Assert.checkBetween(workerId, 0, MAX_WORKER_ID);
-        this.dataCenterId = Assert.checkBetween(dataCenterId, 0, MAX_DATA_CENTER_ID);
+        this.workerId = Assert.checkBetween(workerId, 0, ~(-1L << workerIdBits));
+        this.dataCenterId = Assert.checkBetween(dataCenterId, 0, ~(-1L << dataCenterIdBits));
         this.useSystemClock = isUseSystemClock;
         this.timeOffset = timeOffset;
-        this.randomSequenceLimit = Assert.checkBetween(randomSequenceLimit, 0, SEQUENCE_MASK);
+        this.randomSequenceLimit = Assert.checkBetween(randomSequenceLimit, 0, sequenceMask);
+    }
+
+    public long getWorkerIdBits() {
+        return workerIdBits;
+    }
+
+    public long getDataCenterIdBits() {
+        return dataCenterIdBits;
+    }
+
+    public long getSequenceBits() {
+        return sequenceBits;
     }
 
     /**
@@ -202,7 +258,7 @@ public class Snowflake implements Serializable, IdGenerator {
      * @return 所属机器的id
      */
     public long getWorkerId(long id) {
-        return id >> WORKER_ID_SHIFT & ~(-1L << WORKER_ID_BITS);
+        return id >> workerIdShift & ~(-1L << workerIdBits);
     }
 
     /**
@@ -212,7 +268,7 @@ public class Snowflake implements Serializable, IdGenerator {
      * @return 所属数据中心
      */
     public long getDataCenterId(long id) {
-        return id >> DATA_CENTER_ID_SHIFT & ~(-1L << DATA_CENTER_ID_BITS);
+        return id >> dataCenterIdShift & ~(-1L << dataCenterIdBits);
     }
 
     /**
@@ -222,43 +278,73 @@ public class Snowflake implements Serializable, IdGenerator {
      * @return 生成的时间
      */
     public long getGenerateDateTime(long id) {
-        return (id >> TIMESTAMP_LEFT_SHIFT & ~(-1L << 41L)) + twepoch;
+        return (id >> timestampLeftShift & ~(-1L << 41L)) + twepoch;
     }
 
     /**
      * 下一个ID
+     * 基于 CAS 无锁实现，不使用 synchronized，虚拟线程并发调用时不会钉住载体线程；序号耗尽时自旋等待下一毫秒
      *
      * @return ID
      */
     //生成下一个 ID。通过对时间戳、工作节点 ID、数据中心 ID 和序列号进行左移和合并操作来生成唯一 ID。如果时间戳小于上次记录的时间戳，根据时间回拨容忍范围处理。
     // 如果时间戳相同，通过增加序列号来确保 ID 唯一性。还有一个 randomSequenceLimit 属性，用于在低频模式下生成随机序列号，避免生成的 ID 始终是偶数。
-    public synchronized long nextId() {
-        long timestamp = genTime();
-        if (timestamp < this.lastTimestamp) {
-            if (this.lastTimestamp - timestamp < timeOffset) {
-                // 容忍指定的回拨，避免NTP校时造成的异常
-                timestamp = lastTimestamp;
+    public long nextId() {
+        for (; ; ) {
+            long current = state.get();
+            long lastTimestamp = (current >>> sequenceBits) + twepoch;
+            long timestamp = resolveTimestamp(lastTimestamp);
+            long sequence;
+            if (timestamp == lastTimestamp) {
+                sequence = (current & sequenceMask) + 1;
+                if (sequence > sequenceMask) {
+                    // 当前毫秒序号已耗尽，等待下一毫秒
+                    Thread.onSpinWait();
+                    continue;
+                }
             } else {
-                // 如果服务器时间有问题(时钟后退) 报错。
-                throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+                sequence = firstSequence();
             }
-        }
-        if (timestamp == this.lastTimestamp) {
-            final long sequence = (this.sequence + 1) & SEQUENCE_MASK;
-            if (sequence == 0) {
-                timestamp = tilNextMillis(lastTimestamp);
+            if (state.compareAndSet(current, pack(timestamp, sequence))) {
+                return compose(timestamp, sequence);
             }
-            this.sequence = sequence;
-        } else {
-            // issue#I51EJY
-            if (randomSequenceLimit > 1) {
-                sequence = RandomUtil.randomLong(randomSequenceLimit);
+        }
+    }
+
+    /**
+     * 批量获取 ID，每次 CAS 预留当前毫秒内一段连续的序号，批量插入时只需竞争极少次数
+     *
+     * @param count ID 数量
+     * @return 按生成顺序递增的 ID 数组
+     */
+    @Override
+    public long[] nextIds(int count) {
+        Assert.isTrue(count > 0, "Id count must be greater than 0");
+        long[] result = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            long current = state.get();
+            long lastTimestamp = (current >>> sequenceBits) + twepoch;
+            long timestamp = resolveTimestamp(lastTimestamp);
+            long firstSequence;
+            if (timestamp == lastTimestamp) {
+                firstSequence = (current & sequenceMask) + 1;
+                if (firstSequence > sequenceMask) {
+                    Thread.onSpinWait();
+                    continue;
+                }
             } else {
-                sequence = 0L;
+                firstSequence = firstSequence();
+            }
+            long lastSequence = Math.min(sequenceMask, firstSequence + (count - filled) - 1);
+            if (state.compareAndSet(current, pack(timestamp, lastSequence))) {
+                long base = compose(timestamp, 0L);
+                for (long sequence = firstSequence; sequence <= lastSequence; sequence++) {
+                    result[filled++] = base | sequence;
+                }
             }
         }
-        lastTimestamp = timestamp;
-        return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT) | (dataCenterId << DATA_CENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT) | sequence;
+        return result;
     }
 
     /**
@@ -273,24 +359,40 @@ public class Snowflake implements Serializable, IdGenerator {
     // ------------------------------------------------------------------------------------------------------------------------------------ Private method start
 
     /**
-     * 循环等待下一个时间
+     * 获取当前时间戳，容忍指定范围内的时钟回拨
      *
      * @param lastTimestamp 上次记录的时间
-     * @return 下一个时间
+     * @return 本次使用的时间戳
      */
-    private long tilNextMillis(long lastTimestamp) {
+    private long resolveTimestamp(long lastTimestamp) {
         long timestamp = genTime();
-        // 循环直到操作系统时间戳变化
-        while (timestamp == lastTimestamp) {
-            timestamp = genTime();
-        }
         if (timestamp < lastTimestamp) {
-            // 如果发现新的时间戳比上次记录的时间戳数值小，说明操作系统时间发生了倒退，报错
+            if (lastTimestamp - timestamp < timeOffset) {
+                // 容忍指定的回拨，避免NTP校时造成的异常
+                return lastTimestamp;
+            }
+            // 如果服务器时间有问题(时钟后退) 报错。
             throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
         }
         return timestamp;
     }
 
+    /**
+     * 新的毫秒内第一个序号
+     */
+    private long firstSequence() {
+        // issue#I51EJY
+        return randomSequenceLimit > 1 ? RandomUtil.randomLong(randomSequenceLimit) : 0L;
+    }
+
+    private long pack(long timestamp, long sequence) {
+        return ((timestamp - twepoch) << sequenceBits) | sequence;
+    }
+
+    private long compose(long timestamp, long sequence) {
+        return ((timestamp - twepoch) << timestampLeftShift) | (dataCenterId << dataCenterIdShift) | (workerId << workerIdShift) | sequence;
+    }
+
     /**
      * 生成时间戳
      *
@@ -309,10 +411,10 @@ public class Snowflake implements Serializable, IdGenerator {
      * @return
      */
     public SnowflakeIdInfo parseSnowflakeId(long snowflakeId) {
-        SnowflakeIdInfo snowflakeIdInfo = SnowflakeIdInfo.builder().sequence((int) (snowflakeId & ~(-1L << SEQUENCE_BITS))).workerId((int) ((snowflakeId >> WORKER_ID_SHIFT)
-                & ~(-1L << WORKER_ID_BITS))).dataCenterId((int) ((snowflakeId >> DATA_CENTER_ID_SHIFT)
-                        & ~(-1L << DATA_CENTER_ID_BITS)))
-                .timestamp((snowflakeId >> TIMESTAMP_LEFT_SHIFT) + twepoch).build();
+        SnowflakeIdInfo snowflakeIdInfo = SnowflakeIdInfo.builder().sequence((int) (snowflakeId & ~(-1L << sequenceBits))).workerId((int) ((snowflakeId >> workerIdShift)
+                & ~(-1L << workerIdBits))).dataCenterId((int) ((snowflakeId >> dataCenterIdShift)
+                        & ~(-1L << dataCenterIdBits)))
+                .timestamp((snowflakeId >> timestampLeftShift) + twepoch).build();
         return snowflakeIdInfo;
     }
 }
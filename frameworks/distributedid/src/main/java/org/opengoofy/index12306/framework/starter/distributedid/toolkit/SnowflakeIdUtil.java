@@ -32,7 +32,7 @@ public final class SnowflakeIdUtil {
     /**
      * 雪花算法对象
      */
-    private static Snowflake SNOWFLAKE;
+    private static volatile Snowflake SNOWFLAKE;
 
     /**
      * 初始化雪花算法
@@ -55,6 +55,13 @@ public final class SnowflakeIdUtil {
         return SNOWFLAKE.nextId();
     }
 
+    /**
+     * 批量获取雪花算法 ID，一次预留一段连续序号
+     */
+    public static long[] nextIds(int count) {
+        return SNOWFLAKE.nextIds(count);
+    }
+
     /**
      * 获取雪花算法下一个字符串类型 ID
      */
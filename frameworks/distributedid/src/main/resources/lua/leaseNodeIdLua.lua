@@ -0,0 +1,11 @@
+-- KEYS[1]: 节点 ID Key；KEYS[2]: 节点 ID 最大时间戳 Key
+-- ARGV[1]: 租约持有者；ARGV[2]: 租约时长（毫秒）；ARGV[3]: 本次租约内可能使用到的最大时间戳
+-- 租用成功返回上一任持有者记录的最大时间戳，节点 ID 已被占用时返回 -1
+local leaseMillis = tonumber(ARGV[2])
+if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', leaseMillis) then
+    local lastTimestamp = tonumber(redis.call('get', KEYS[2]) or '0')
+    redis.call('set', KEYS[2], ARGV[3], 'PX', leaseMillis * 2)
+    return lastTimestamp
+end
+
+return -1
@@ -0,0 +1,8 @@
+-- KEYS[1]: 节点 ID Key；KEYS[2]: 节点 ID 最大时间戳 Key
+-- ARGV[1]: 租约持有者；ARGV[2]: 释放时的时间戳；ARGV[3]: 最大时间戳保留时长（毫秒）
+if redis.call('get', KEYS[1]) == ARGV[1] then
+    redis.call('set', KEYS[2], ARGV[2], 'PX', ARGV[3])
+    return redis.call('del', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,8 @@
+-- KEYS[1]: 节点 ID Key；KEYS[2]: 节点 ID 最大时间戳 Key
+-- ARGV[1]: 租约持有者；ARGV[2]: 租约时长（毫秒）；ARGV[3]: 本次续期内可能使用到的最大时间戳
+if redis.call('get', KEYS[1]) == ARGV[1] then
+    redis.call('set', KEYS[2], ARGV[3], 'PX', tonumber(ARGV[2]) * 2)
+    return redis.call('pexpire', KEYS[1], ARGV[2])
+end
+
+return 0
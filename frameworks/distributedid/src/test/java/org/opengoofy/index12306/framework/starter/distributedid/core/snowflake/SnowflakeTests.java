@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.distributedid.core.snowflake;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 雪花算法无锁生成与批量预留测试
+ *
+ *
+ */
+public final class SnowflakeTests {
+
+    @Test
+    void testNextIdsAreIncreasingAndCarryNodeId() {
+        Snowflake snowflake = new Snowflake(null, 3L, 7L, false, Snowflake.DEFAULT_TIME_OFFSET, 0L);
+        long previous = snowflake.nextId();
+        // 超过单毫秒 4096 个序号，覆盖跨毫秒的分段预留
+        long[] ids = snowflake.nextIds(10000);
+        Assertions.assertEquals(10000, ids.length);
+        for (long each : ids) {
+            Assertions.assertTrue(each > previous);
+            Assertions.assertEquals(3L, snowflake.getWorkerId(each));
+            Assertions.assertEquals(7L, snowflake.getDataCenterId(each));
+            previous = each;
+        }
+        Assertions.assertTrue(snowflake.nextId() > previous);
+    }
+
+    @Test
+    void testConcurrentNextIdAndNextIdsAreUnique() throws InterruptedException {
+        Snowflake snowflake = new Snowflake(1L, 1L);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 16;
+        int rounds = 2000;
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            boolean batch = i % 2 == 0;
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int j = 0; j < rounds; j++) {
+                        if (batch) {
+                            for (long each : snowflake.nextIds(8)) {
+                                ids.add(each);
+                            }
+                        } else {
+                            ids.add(snowflake.nextId());
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+            worker.start();
+        }
+        latch.await();
+        Assertions.assertEquals(threads / 2 * rounds * 8 + threads / 2 * rounds, ids.size());
+    }
+
+    @Test
+    void testCustomBitsRoundTrip() {
+        Snowflake snowflake = new Snowflake(null, 1000L, 0L, false, Snowflake.DEFAULT_TIME_OFFSET, 0L, 10L, 0L, 12L);
+        long id = snowflake.nextId();
+        Assertions.assertEquals(1000L, snowflake.getWorkerId(id));
+        Assertions.assertEquals(0L, snowflake.getDataCenterId(id));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new Snowflake(null, 0L, 0L, false, Snowflake.DEFAULT_TIME_OFFSET, 0L, 10L, 5L, 12L));
+    }
+}
@@ -37,7 +37,7 @@ import org.springframework.context.annotation.Bean;
  *
  *
  */
-@EnableConfigurationProperties(IdempotentProperties.class)
+@EnableConfigurationProperties({IdempotentProperties.class, IdempotentMQProperties.class})
 public class IdempotentAutoConfiguration {
 
     /**
@@ -89,7 +89,8 @@ public class IdempotentAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    public IdempotentSpELByMQExecuteHandler idempotentSpELByMQExecuteHandler(DistributedCache distributedCache) {
-        return new IdempotentSpELByMQExecuteHandler(distributedCache);
+    public IdempotentSpELByMQExecuteHandler idempotentSpELByMQExecuteHandler(DistributedCache distributedCache,
+                                                                             IdempotentMQProperties idempotentMQProperties) {
+        return new IdempotentSpELByMQExecuteHandler(distributedCache, idempotentMQProperties);
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.idempotent.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * MQ 场景幂等配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = IdempotentMQProperties.PREFIX)
+public class IdempotentMQProperties {
+
+    public static final String PREFIX = "framework.idempotent.mq";
+
+    /**
+     * 是否开启本地已消费消息缓存，重复投递的消息集中到达时无需访问 Redis
+     */
+    private Boolean localCacheEnabled = false;
+
+    /**
+     * 本地已消费消息缓存最大数量
+     */
+    private Long localCacheMaxSize = 10000L;
+
+    /**
+     * 本地已消费消息缓存过期时间，单位秒
+     */
+    private Long localCacheExpireSeconds = 60L;
+}
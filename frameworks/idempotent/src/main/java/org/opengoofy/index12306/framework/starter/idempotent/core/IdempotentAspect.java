@@ -22,8 +22,11 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.opengoofy.index12306.framework.starter.idempotent.annotation.Idempotent;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 幂等注解 AOP 拦截器
@@ -33,6 +36,11 @@ import java.lang.reflect.Method;
 @Aspect
 public final class IdempotentAspect {
 
+    /**
+     * 方法幂等注解缓存，避免每次拦截都通过反射查找目标方法
+     */
+    private static final Map<Class<?>, Map<Method, Idempotent>> IDEMPOTENT_CACHE = new ConcurrentHashMap<>();
+
     /**
      * 增强方法标记 {@link Idempotent} 注解逻辑
      */
@@ -67,7 +75,20 @@ public final class IdempotentAspect {
 
     public static Idempotent getIdempotent(ProceedingJoinPoint joinPoint) throws NoSuchMethodException {
         MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-        Method targetMethod = joinPoint.getTarget().getClass().getDeclaredMethod(methodSignature.getName(), methodSignature.getMethod().getParameterTypes());
-        return targetMethod.getAnnotation(Idempotent.class);
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        Map<Method, Idempotent> targetClassCache = IDEMPOTENT_CACHE.computeIfAbsent(targetClass, each -> new ConcurrentHashMap<>());
+        Idempotent idempotent = targetClassCache.get(methodSignature.getMethod());
+        if (idempotent == null) {
+            Method targetMethod = ClassUtils.getMostSpecificMethod(methodSignature.getMethod(), targetClass);
+            idempotent = targetMethod.getAnnotation(Idempotent.class);
+            if (idempotent == null) {
+                idempotent = methodSignature.getMethod().getAnnotation(Idempotent.class);
+            }
+            if (idempotent == null) {
+                throw new NoSuchMethodException(targetClass.getName() + "." + methodSignature.getName() + " is not annotated with @Idempotent");
+            }
+            targetClassCache.put(methodSignature.getMethod(), idempotent);
+        }
+        return idempotent;
     }
 }
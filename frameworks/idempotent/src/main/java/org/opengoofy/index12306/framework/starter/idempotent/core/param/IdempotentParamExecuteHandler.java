@@ -17,8 +17,11 @@
 
 package org.opengoofy.index12306.framework.starter.idempotent.core.param;
 
-import cn.hutool.crypto.digest.DigestUtil;
 import com.alibaba.fastjson2.JSON;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
@@ -42,9 +45,11 @@ public final class IdempotentParamExecuteHandler extends AbstractIdempotentExecu
 
     private final static String LOCK = "lock:param:restAPI";
 
+    private final static HashFunction ARGS_HASH_FUNCTION = Hashing.murmur3_128();
+
     @Override
     protected IdempotentParamWrapper buildWrapper(ProceedingJoinPoint joinPoint) {
-        String lockKey = String.format("idempotent:path:%s:currentUserId:%s:md5:%s", getServletPath(), getCurrentUserId(), calcArgsMD5(joinPoint));
+        String lockKey = String.format("idempotent:path:%s:currentUserId:%s:hash:%s", getServletPath(), getCurrentUserId(), calcArgsHash(joinPoint));
         return IdempotentParamWrapper.builder().lockKey(lockKey).joinPoint(joinPoint).build();
     }
 
@@ -64,11 +69,14 @@ public final class IdempotentParamExecuteHandler extends AbstractIdempotentExecu
     }
 
     /**
-     * @return joinPoint md5
+     * 参数 JSON 直接写入 MurmurHash3 摘要流，不再生成完整字节数组后计算 MD5
+     *
+     * @return joinPoint 参数指纹
      */
-    private String calcArgsMD5(ProceedingJoinPoint joinPoint) {
-        String md5 = DigestUtil.md5Hex(JSON.toJSONBytes(joinPoint.getArgs()));
-        return md5;
+    private String calcArgsHash(ProceedingJoinPoint joinPoint) {
+        Hasher hasher = ARGS_HASH_FUNCTION.newHasher();
+        JSON.writeTo(Funnels.asOutputStream(hasher), joinPoint.getArgs());
+        return hasher.hash().toString();
     }
 
     @Override
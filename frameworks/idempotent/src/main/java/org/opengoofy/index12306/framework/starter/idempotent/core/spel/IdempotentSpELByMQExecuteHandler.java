@@ -17,12 +17,14 @@
 
 package org.opengoofy.index12306.framework.starter.idempotent.core.spel;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.SneakyThrows;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
 import org.opengoofy.index12306.framework.starter.idempotent.annotation.Idempotent;
+import org.opengoofy.index12306.framework.starter.idempotent.config.IdempotentMQProperties;
 import org.opengoofy.index12306.framework.starter.idempotent.core.AbstractIdempotentExecuteHandler;
 import org.opengoofy.index12306.framework.starter.idempotent.core.IdempotentAspect;
 import org.opengoofy.index12306.framework.starter.idempotent.core.IdempotentContext;
@@ -31,22 +33,50 @@ import org.opengoofy.index12306.framework.starter.idempotent.core.RepeatConsumpt
 import org.opengoofy.index12306.framework.starter.idempotent.enums.IdempotentMQConsumeStatusEnum;
 import org.opengoofy.index12306.framework.starter.idempotent.toolkit.LogUtil;
 import org.opengoofy.index12306.framework.starter.idempotent.toolkit.SpELUtil;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 基于 SpEL 方法验证请求幂等性，适用于 MQ 场景
+ * 消费状态按 消费中 -> 已消费 / 消费失败 流转，获取与流转均通过 Lua 脚本一次往返完成；
+ * 可选开启本地已消费消息缓存，重复投递的消息集中到达时直接在本地判定
  *
  *
  */
-@RequiredArgsConstructor
 public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentExecuteHandler implements IdempotentSpELService {
 
-    private final DistributedCache distributedCache;
-
     private final static int TIMEOUT = 600;
     private final static String WRAPPER = "wrapper:spEL:MQ";
+    private final static String ACQUIRE_LUA_SCRIPT_PATH = "lua/mq_idempotent_acquire.lua";
+    private final static String TRANSITION_LUA_SCRIPT_PATH = "lua/mq_idempotent_transition.lua";
+
+    private final DistributedCache distributedCache;
+
+    private final DefaultRedisScript<String> acquireScript;
+
+    private final DefaultRedisScript<Long> transitionScript;
+
+    /**
+     * 本地已消费消息缓存，未开启时为 null
+     */
+    private final Cache<String, Boolean> consumedLocalCache;
+
+    public IdempotentSpELByMQExecuteHandler(DistributedCache distributedCache, IdempotentMQProperties idempotentMQProperties) {
+        this.distributedCache = distributedCache;
+        this.acquireScript = buildScript(ACQUIRE_LUA_SCRIPT_PATH, String.class);
+        this.transitionScript = buildScript(TRANSITION_LUA_SCRIPT_PATH, Long.class);
+        this.consumedLocalCache = Boolean.TRUE.equals(idempotentMQProperties.getLocalCacheEnabled())
+                ? CacheBuilder.newBuilder()
+                .maximumSize(idempotentMQProperties.getLocalCacheMaxSize())
+                .expireAfterWrite(idempotentMQProperties.getLocalCacheExpireSeconds(), TimeUnit.SECONDS)
+                .build()
+                : null;
+    }
 
     @SneakyThrows
     @Override
@@ -59,12 +89,22 @@ public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentEx
     @Override
     public void handler(IdempotentParamWrapper wrapper) {
         String uniqueKey = wrapper.getIdempotent().uniqueKeyPrefix() + wrapper.getLockKey();
-        Boolean setIfAbsent = ((StringRedisTemplate) distributedCache.getInstance())
-                .opsForValue()
-                .setIfAbsent(uniqueKey, IdempotentMQConsumeStatusEnum.CONSUMING.getCode(), TIMEOUT, TimeUnit.SECONDS);
-        if (setIfAbsent != null && !setIfAbsent) {
-            String consumeStatus = distributedCache.get(uniqueKey, String.class);
+        if (consumedLocalCache != null && consumedLocalCache.getIfPresent(uniqueKey) != null) {
+            LogUtil.getLog(wrapper.getJoinPoint()).warn("[{}] MQ repeated consumption, Status is completed in local cache.", uniqueKey);
+            throw new RepeatConsumptionException(false);
+        }
+        String consumeStatus = ((StringRedisTemplate) distributedCache.getInstance()).execute(
+                acquireScript,
+                List.of(uniqueKey),
+                IdempotentMQConsumeStatusEnum.CONSUMING.getCode(),
+                IdempotentMQConsumeStatusEnum.ERROR.getCode(),
+                String.valueOf(TIMEOUT)
+        );
+        if (consumeStatus != null) {
             boolean error = IdempotentMQConsumeStatusEnum.isError(consumeStatus);
+            if (!error && consumedLocalCache != null) {
+                consumedLocalCache.put(uniqueKey, Boolean.TRUE);
+            }
             LogUtil.getLog(wrapper.getJoinPoint()).warn("[{}] MQ repeated consumption, {}.", uniqueKey, error ? "Wait for the client to delay consumption" : "Status is completed");
             throw new RepeatConsumptionException(error);
         }
@@ -78,9 +118,9 @@ public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentEx
             Idempotent idempotent = wrapper.getIdempotent();
             String uniqueKey = idempotent.uniqueKeyPrefix() + wrapper.getLockKey();
             try {
-                distributedCache.delete(uniqueKey);
+                transition(uniqueKey, IdempotentMQConsumeStatusEnum.ERROR, TIMEOUT);
             } catch (Throwable ex) {
-                LogUtil.getLog(wrapper.getJoinPoint()).error("[{}] Failed to del MQ anti-heavy token.", uniqueKey);
+                LogUtil.getLog(wrapper.getJoinPoint()).error("[{}] Failed to set MQ anti-heavy token error status.", uniqueKey);
             }
         }
     }
@@ -92,10 +132,30 @@ public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentEx
             Idempotent idempotent = wrapper.getIdempotent();
             String uniqueKey = idempotent.uniqueKeyPrefix() + wrapper.getLockKey();
             try {
-                distributedCache.put(uniqueKey, IdempotentMQConsumeStatusEnum.CONSUMED.getCode(), idempotent.keyTimeout(), TimeUnit.SECONDS);
+                transition(uniqueKey, IdempotentMQConsumeStatusEnum.CONSUMED, idempotent.keyTimeout());
+                if (consumedLocalCache != null) {
+                    consumedLocalCache.put(uniqueKey, Boolean.TRUE);
+                }
             } catch (Throwable ex) {
                 LogUtil.getLog(wrapper.getJoinPoint()).error("[{}] Failed to set MQ anti-heavy token.", uniqueKey);
             }
         }
     }
+
+    private void transition(String uniqueKey, IdempotentMQConsumeStatusEnum targetStatus, long timeoutSeconds) {
+        ((StringRedisTemplate) distributedCache.getInstance()).execute(
+                transitionScript,
+                List.of(uniqueKey),
+                IdempotentMQConsumeStatusEnum.CONSUMING.getCode(),
+                targetStatus.getCode(),
+                String.valueOf(timeoutSeconds)
+        );
+    }
+
+    private static <T> DefaultRedisScript<T> buildScript(String path, Class<T> resultType) {
+        DefaultRedisScript<T> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        redisScript.setResultType(resultType);
+        return redisScript;
+    }
 }
@@ -38,7 +38,12 @@ public enum IdempotentMQConsumeStatusEnum {
     /**
      * 已消费
      */
-    CONSUMED("1");
+    CONSUMED("1"),
+    
+    /**
+     * 消费失败，重新投递时允许再次消费
+     */
+    ERROR("2");
     
     @Getter
     private final String code;
@@ -18,24 +18,41 @@
 package org.opengoofy.index12306.framework.starter.idempotent.toolkit;
 
 import cn.hutool.core.util.ArrayUtil;
-import com.google.common.collect.Lists;
 import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SpEL 表达式解析工具
+ * 表达式与方法参数名按需解析后缓存，表达式使用 {@link SpelCompilerMode#MIXED} 模式，多次执行后编译为字节码
  *
  *
  */
 public class SpELUtil {
 
+    private static final String[] SPEL_FLAGS = {"#", "T("};
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, SpELUtil.class.getClassLoader()));
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private static final Map<String, Expression> EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
+    private static final Map<Method, String[]> PARAMETER_NAMES_CACHE = new ConcurrentHashMap<>();
+
+    private static final String[] EMPTY_PARAMETER_NAMES = new String[0];
+
     /**
      * 校验并返回实际使用的 spEL 表达式
      *
@@ -43,12 +60,11 @@ public class SpELUtil {
      * @return 实际使用的 spEL 表达式
      */
     public static Object parseKey(String spEl, Method method, Object[] contextObj) {
-        ArrayList<String> spELFlag = Lists.newArrayList("#", "T(");
-        Optional<String> optional = spELFlag.stream().filter(spEl::contains).findFirst();
-        if (optional.isPresent()) {
-            return parse(spEl, method, contextObj);
+        Expression expression = EXPRESSION_CACHE.computeIfAbsent(spEl, SpELUtil::buildKeyExpression);
+        if (expression instanceof LiteralExpression) {
+            return spEl;
         }
-        return spEl;
+        return getValue(expression, method, contextObj);
     }
 
     /**
@@ -59,16 +75,33 @@ public class SpELUtil {
      * @return 解析的字符串值
      */
     public static Object parse(String spEl, Method method, Object[] contextObj) {
-        DefaultParameterNameDiscoverer discoverer = new DefaultParameterNameDiscoverer();
-        ExpressionParser parser = new SpelExpressionParser();
-        Expression exp = parser.parseExpression(spEl);
-        String[] params = discoverer.getParameterNames(method);
+        Expression expression = EXPRESSION_CACHE.get(spEl);
+        if (expression == null || expression instanceof LiteralExpression) {
+            expression = PARSER.parseExpression(spEl);
+        }
+        return getValue(expression, method, contextObj);
+    }
+
+    private static Expression buildKeyExpression(String spEl) {
+        for (String each : SPEL_FLAGS) {
+            if (spEl.contains(each)) {
+                return PARSER.parseExpression(spEl);
+            }
+        }
+        return new LiteralExpression(spEl);
+    }
+
+    private static Object getValue(Expression expression, Method method, Object[] contextObj) {
+        String[] params = PARAMETER_NAMES_CACHE.computeIfAbsent(method, each -> {
+            String[] parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(each);
+            return parameterNames == null ? EMPTY_PARAMETER_NAMES : parameterNames;
+        });
         StandardEvaluationContext context = new StandardEvaluationContext();
         if (ArrayUtil.isNotEmpty(params)) {
             for (int len = 0; len < params.length; len++) {
                 context.setVariable(params[len], contextObj[len]);
             }
         }
-        return exp.getValue(context);
+        return expression.getValue(context);
     }
 }
@@ -0,0 +1,10 @@
+-- KEYS[1]: 消息幂等 Key
+-- ARGV[1]: 消费中状态；ARGV[2]: 消费失败状态；ARGV[3]: 消费中状态过期时间（秒）
+-- 不存在或上次消费失败时置为消费中并返回 nil，否则返回当前消费状态
+local status = redis.call('get', KEYS[1])
+if status == false or status == ARGV[2] then
+    redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[3])
+    return nil
+end
+
+return status
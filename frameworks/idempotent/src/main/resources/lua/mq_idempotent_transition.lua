@@ -0,0 +1,9 @@
+-- KEYS[1]: 消息幂等 Key
+-- ARGV[1]: 期望的当前状态；ARGV[2]: 目标状态；ARGV[3]: 目标状态过期时间（秒）
+-- 仅当前状态与期望状态一致时流转，避免覆盖已过期后被其他消费者重新持有的状态
+if redis.call('get', KEYS[1]) == ARGV[1] then
+    redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3])
+    return 1
+end
+
+return 0
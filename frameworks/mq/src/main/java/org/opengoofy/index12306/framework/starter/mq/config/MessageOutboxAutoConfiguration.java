@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.config;
+
+import org.apache.rocketmq.spring.core.RocketMQTemplate;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxRelay;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxRepository;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxTemplate;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageSendLogSampler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * 本地消息表自动装配
+ *
+ *
+ */
+@ConditionalOnClass(RocketMQTemplate.class)
+@EnableConfigurationProperties({MessageOutboxProperties.class, MessageSendLogProperties.class})
+public class MessageOutboxAutoConfiguration {
+
+    @Bean
+    public MessageOutboxRepository messageOutboxRepository(DataSource dataSource) {
+        return new MessageOutboxRepository(new JdbcTemplate(dataSource));
+    }
+
+    @Bean
+    public MessageOutboxRelay messageOutboxRelay(MessageOutboxRepository messageOutboxRepository,
+                                                 RocketMQTemplate rocketMQTemplate,
+                                                 MessageOutboxProperties messageOutboxProperties) {
+        return new MessageOutboxRelay(messageOutboxRepository, rocketMQTemplate, messageOutboxProperties);
+    }
+
+    @Bean
+    public MessageOutboxTemplate messageOutboxTemplate(RocketMQTemplate rocketMQTemplate,
+                                                       MessageOutboxRepository messageOutboxRepository,
+                                                       MessageOutboxRelay messageOutboxRelay) {
+        return new MessageOutboxTemplate(rocketMQTemplate, messageOutboxRepository, messageOutboxRelay);
+    }
+
+    @Bean
+    public MessageSendLogSampler messageSendLogSampler(MessageSendLogProperties messageSendLogProperties) {
+        return new MessageSendLogSampler(messageSendLogProperties);
+    }
+}
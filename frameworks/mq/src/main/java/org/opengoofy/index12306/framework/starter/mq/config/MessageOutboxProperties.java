@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 本地消息表配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = MessageOutboxProperties.PREFIX)
+public class MessageOutboxProperties {
+
+    public static final String PREFIX = "framework.mq.outbox";
+
+    /**
+     * 是否在当前实例开启投递线程，关闭时只写入本地消息表
+     */
+    private Boolean relayEnabled = true;
+
+    /**
+     * 每批认领的消息数量
+     */
+    private Integer batchSize = 100;
+
+    /**
+     * 未被唤醒时的轮询间隔，单位毫秒
+     */
+    private Long pollIntervalMillis = 1000L;
+
+    /**
+     * 认领租约时长，单位毫秒，需大于发送超时时间；租约到期仍未标记的消息会被重新投递
+     */
+    private Long leaseMillis = 30000L;
+
+    /**
+     * 最大重试次数
+     */
+    private Integer maxRetries = 16;
+
+    /**
+     * 首次重试间隔，单位毫秒，之后按 2 的幂递增
+     */
+    private Long retryIntervalMillis = 1000L;
+
+    /**
+     * 最大重试间隔，单位毫秒
+     */
+    private Long maxRetryIntervalMillis = 600000L;
+
+    /**
+     * 已投递消息保留时长，单位小时
+     */
+    private Long sentRetentionHours = 24L;
+
+    /**
+     * 清理已投递消息的间隔，单位毫秒
+     */
+    private Long purgeIntervalMillis = 60000L;
+
+    /**
+     * 是否将同一主题的非延时消息合并为 RocketMQ 批量消息发送
+     */
+    private Boolean batchSendEnabled = true;
+
+    /**
+     * 单个批量消息的最大字节数，需小于 Broker 的 maxMessageSize
+     */
+    private Integer maxBatchBytes = 1024 * 1024;
+
+    /**
+     * 投递结果 Future 的最长等待时间，单位毫秒，超时后 Future 异常完成，消息仍会继续重试投递
+     */
+    private Long deliveryTimeoutMillis = 60000L;
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 消息发送日志配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = MessageSendLogProperties.PREFIX)
+public class MessageSendLogProperties {
+
+    public static final String PREFIX = "framework.mq.send-log";
+
+    /**
+     * 发送成功日志采样率，取值 0 ~ 1，1 表示全部打印，0 表示不打印；发送失败日志始终打印
+     */
+    private Double sampleRate = 1.0D;
+
+    /**
+     * 耗时达到该阈值的发送日志不参与采样，始终打印，单位毫秒
+     */
+    private Long slowThresholdMillis = 50L;
+
+    /**
+     * 是否对日志中的消息 Keys 脱敏，仅保留首尾各 4 位
+     */
+    private Boolean maskKeys = false;
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 本地消息表记录
+ *
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageOutboxRecord {
+
+    /**
+     * ID
+     */
+    private Long id;
+
+    /**
+     * 分片键
+     */
+    private String shardingKey;
+
+    /**
+     * 事件名称
+     */
+    private String eventName;
+
+    /**
+     * 主题
+     */
+    private String topic;
+
+    /**
+     * 消息体，已按 RocketMQTemplate 的消息转换器序列化
+     */
+    private byte[] body;
+
+    /**
+     * 消息属性 JSON，包含 Keys、Tags、延迟级别等
+     */
+    private String properties;
+
+    /**
+     * 发送消息超时时间
+     */
+    private Long sentTimeout;
+
+    /**
+     * 状态
+     */
+    private Integer status;
+
+    /**
+     * 已重试次数
+     */
+    private Integer retryCount;
+
+    /**
+     * 下次投递时间，Unix 毫秒时间戳；投递中的记录为租约到期时间
+     */
+    private Long nextRetryTime;
+}
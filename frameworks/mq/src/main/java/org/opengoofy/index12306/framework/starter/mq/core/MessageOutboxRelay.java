@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.core;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.producer.SendCallback;
+import org.apache.rocketmq.client.producer.SendResult;
+import org.apache.rocketmq.common.message.Message;
+import org.apache.rocketmq.common.message.MessageAccessor;
+import org.apache.rocketmq.spring.core.RocketMQTemplate;
+import org.opengoofy.index12306.framework.starter.mq.config.MessageOutboxProperties;
+import org.opengoofy.index12306.framework.starter.mq.enums.MessageOutboxStatusEnum;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地消息表投递线程
+ * 分批认领到达投递时间的消息并异步发送，同一主题的非延时消息合并为批量消息发送，全部回调返回后批量标记已投递；发送失败按指数退避重试，超过最大重试次数后停止投递；
+ * 业务事务提交后唤醒投递线程，未被唤醒时按轮询间隔扫描，同时兜底处理宕机实例认领后未完成投递的消息（租约到期后重新认领）
+ * 投递语义为至少一次，消费者需要幂等
+ *
+ *
+ */
+@Slf4j
+public class MessageOutboxRelay implements InitializingBean, DisposableBean {
+
+    private static final TypeReference<HashMap<String, String>> PROPERTIES_TYPE = new TypeReference<>() {
+    };
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final MessageOutboxRepository messageOutboxRepository;
+
+    private final RocketMQTemplate rocketMQTemplate;
+
+    private final MessageOutboxProperties messageOutboxProperties;
+
+    private final Semaphore wakeupSignal = new Semaphore(0);
+
+    private final Map<Long, CompletableFuture<SendResult>> deliveryFutures = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    private Thread relayThread;
+
+    private long lastPurgeTime;
+
+    public MessageOutboxRelay(MessageOutboxRepository messageOutboxRepository, RocketMQTemplate rocketMQTemplate, MessageOutboxProperties messageOutboxProperties) {
+        this.messageOutboxRepository = messageOutboxRepository;
+        this.rocketMQTemplate = rocketMQTemplate;
+        this.messageOutboxProperties = messageOutboxProperties;
+    }
+
+    /**
+     * 唤醒投递线程立即扫描一次
+     */
+    public void wakeup() {
+        if (wakeupSignal.availablePermits() == 0) {
+            wakeupSignal.release();
+        }
+    }
+
+    /**
+     * 跟踪消息投递结果，消息由当前实例投递成功后 Future 正常完成，超过最大重试次数或事务回滚时异常完成；
+     * 由其他实例投递或超过等待时间时 Future 以超时异常完成，不代表消息丢失
+     *
+     * @param messageId 本地消息 ID
+     * @return 投递结果
+     */
+    public CompletableFuture<SendResult> track(Long messageId) {
+        CompletableFuture<SendResult> deliveryFuture = new CompletableFuture<SendResult>()
+                .orTimeout(messageOutboxProperties.getDeliveryTimeoutMillis(), TimeUnit.MILLISECONDS);
+        deliveryFutures.put(messageId, deliveryFuture);
+        deliveryFuture.whenComplete((sendResult, ex) -> deliveryFutures.remove(messageId, deliveryFuture));
+        return deliveryFuture;
+    }
+
+    /**
+     * 以异常结束消息投递结果跟踪
+     */
+    public void failDelivery(Long messageId, Throwable cause) {
+        CompletableFuture<SendResult> deliveryFuture = deliveryFutures.remove(messageId);
+        if (deliveryFuture != null) {
+            deliveryFuture.completeExceptionally(cause);
+        }
+    }
+
+    private void completeDelivery(Long messageId, SendResult sendResult) {
+        CompletableFuture<SendResult> deliveryFuture = deliveryFutures.remove(messageId);
+        if (deliveryFuture != null) {
+            deliveryFuture.complete(sendResult);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!messageOutboxProperties.getRelayEnabled()) {
+            return;
+        }
+        running = true;
+        relayThread = new Thread(this::relayLoop, "message-outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+            relayThread.join(messageOutboxProperties.getLeaseMillis());
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                int relayed = relayOnce();
+                purgeIfNecessary();
+                // 本批次已满说明还有积压，不等待直接继续
+                if (relayed < messageOutboxProperties.getBatchSize()) {
+                    wakeupSignal.tryAcquire(messageOutboxProperties.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+                    wakeupSignal.drainPermits();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable ex) {
+                log.error("[本地消息表] 投递失败，等待下次轮询", ex);
+                try {
+                    Thread.sleep(messageOutboxProperties.getPollIntervalMillis());
+                } catch (InterruptedException interruptedEx) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 投递一批消息
+     *
+     * @return 认领的消息数量
+     */
+    private int relayOnce() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        List<MessageOutboxRecord> pending = messageOutboxRepository.listPending(now, messageOutboxProperties.getBatchSize());
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<MessageOutboxRecord> claimed = messageOutboxRepository.claim(pending, now + messageOutboxProperties.getLeaseMillis());
+        Queue<MessageOutboxRecord> sent = new ConcurrentLinkedQueue<>();
+        Map<MessageOutboxRecord, Throwable> failed = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(claimed.size());
+        long maxSentTimeout = 0L;
+        for (List<OutboundMessage> each : partition(claimed)) {
+            maxSentTimeout = Math.max(maxSentTimeout, send(each, sent, failed, latch));
+        }
+        // 超时未回调的消息不做处理，租约到期后重新投递
+        latch.await(maxSentTimeout + messageOutboxProperties.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+        messageOutboxRepository.markSent(List.copyOf(sent), System.currentTimeMillis());
+        failed.forEach(this::markFailed);
+        return claimed.size();
+    }
+
+    /**
+     * 按发送批次切分消息：同一主题的非延时消息按字节数上限合并为一批，延时消息 RocketMQ 不支持批量发送，单独成批
+     */
+    private List<List<OutboundMessage>> partition(List<MessageOutboxRecord> claimed) {
+        List<List<OutboundMessage>> result = new ArrayList<>();
+        Map<String, List<OutboundMessage>> batchable = new LinkedHashMap<>();
+        for (MessageOutboxRecord each : claimed) {
+            Message message = new Message(each.getTopic(), each.getBody());
+            MessageAccessor.setProperties(message, JSON.parseObject(each.getProperties(), PROPERTIES_TYPE));
+            OutboundMessage outboundMessage = new OutboundMessage(each, message);
+            if (messageOutboxProperties.getBatchSendEnabled() && message.getDelayTimeLevel() <= 0) {
+                batchable.computeIfAbsent(each.getTopic(), key -> new ArrayList<>()).add(outboundMessage);
+            } else {
+                result.add(List.of(outboundMessage));
+            }
+        }
+        for (List<OutboundMessage> sameTopic : batchable.values()) {
+            List<OutboundMessage> chunk = new ArrayList<>();
+            int chunkBytes = 0;
+            for (OutboundMessage each : sameTopic) {
+                int messageBytes = each.estimateBytes();
+                if (!chunk.isEmpty() && chunkBytes + messageBytes > messageOutboxProperties.getMaxBatchBytes()) {
+                    result.add(chunk);
+                    chunk = new ArrayList<>();
+                    chunkBytes = 0;
+                }
+                chunk.add(each);
+                chunkBytes += messageBytes;
+            }
+            result.add(chunk);
+        }
+        return result;
+    }
+
+    /**
+     * 异步发送一批消息，批量消息整体成功或整体失败
+     *
+     * @return 发送超时时间
+     */
+    private long send(List<OutboundMessage> chunk, Queue<MessageOutboxRecord> sent, Map<MessageOutboxRecord, Throwable> failed, CountDownLatch latch) {
+        long sentTimeout = chunk.stream().mapToLong(each -> each.record().getSentTimeout()).max().orElse(0L);
+        SendCallback sendCallback = new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+                for (OutboundMessage each : chunk) {
+                    sent.add(each.record());
+                    completeDelivery(each.record().getId(), sendResult);
+                    latch.countDown();
+                }
+            }
+
+            @Override
+            public void onException(Throwable ex) {
+                for (OutboundMessage each : chunk) {
+                    failed.put(each.record(), ex);
+                    latch.countDown();
+                }
+            }
+        };
+        try {
+            if (chunk.size() == 1) {
+                rocketMQTemplate.getProducer().send(chunk.get(0).message(), sendCallback, sentTimeout);
+            } else {
+                rocketMQTemplate.getProducer().send(chunk.stream().map(OutboundMessage::message).toList(), sendCallback, sentTimeout);
+            }
+        } catch (Throwable ex) {
+            sendCallback.onException(ex);
+        }
+        return sentTimeout;
+    }
+
+    private void markFailed(MessageOutboxRecord record, Throwable ex) {
+        int retryCount = record.getRetryCount() + 1;
+        boolean exhausted = retryCount >= messageOutboxProperties.getMaxRetries();
+        long backoff = Math.min(
+                messageOutboxProperties.getRetryIntervalMillis() << Math.min(retryCount - 1, 20),
+                messageOutboxProperties.getMaxRetryIntervalMillis()
+        );
+        String lastError = String.valueOf(ex.getMessage());
+        messageOutboxRepository.markFailed(
+                record,
+                exhausted ? MessageOutboxStatusEnum.FAILED : MessageOutboxStatusEnum.PENDING,
+                retryCount,
+                System.currentTimeMillis() + backoff,
+                lastError.length() > MAX_ERROR_LENGTH ? lastError.substring(0, MAX_ERROR_LENGTH) : lastError
+        );
+        if (exhausted) {
+            failDelivery(record.getId(), ex);
+            log.error("[{}] 本地消息投递超过最大重试次数，消息ID：{}", record.getEventName(), record.getId(), ex);
+        } else {
+            log.warn("[{}] 本地消息投递失败，消息ID：{}，已重试次数：{}", record.getEventName(), record.getId(), retryCount, ex);
+        }
+    }
+
+    private void purgeIfNecessary() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurgeTime < messageOutboxProperties.getPurgeIntervalMillis()) {
+            return;
+        }
+        lastPurgeTime = now;
+        int deleted = messageOutboxRepository.deleteSentBefore(now - TimeUnit.HOURS.toMillis(messageOutboxProperties.getSentRetentionHours()));
+        if (deleted > 0) {
+            log.info("[本地消息表] 清理已投递消息数量：{}", deleted);
+        }
+    }
+
+    private record OutboundMessage(MessageOutboxRecord record, Message message) {
+
+        /**
+         * 估算消息在批量消息中占用的字节数
+         */
+        int estimateBytes() {
+            int propertiesBytes = record.getProperties() == null ? 0 : record.getProperties().length();
+            return record.getTopic().length() + record.getBody().length + propertiesBytes + 20;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.core;
+
+import org.opengoofy.index12306.framework.starter.mq.enums.MessageOutboxStatusEnum;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 本地消息表持久层
+ * 通过业务数据源读写 {@code t_message_outbox}，在业务事务内调用时与业务数据共用同一个连接；
+ * 更新均带上分片键，分库场景下只路由到记录所在数据源
+ *
+ *
+ */
+public class MessageOutboxRepository {
+
+    private static final RowMapper<MessageOutboxRecord> ROW_MAPPER = (rs, rowNum) -> MessageOutboxRecord.builder()
+            .id(rs.getLong("id"))
+            .shardingKey(rs.getString("sharding_key"))
+            .eventName(rs.getString("event_name"))
+            .topic(rs.getString("topic"))
+            .body(rs.getBytes("body"))
+            .properties(rs.getString("properties"))
+            .sentTimeout(rs.getLong("sent_timeout"))
+            .status(rs.getInt("status"))
+            .retryCount(rs.getInt("retry_count"))
+            .nextRetryTime(rs.getLong("next_retry_time"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MessageOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 写入本地消息
+     */
+    public void insert(MessageOutboxRecord record) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.update(
+                "INSERT INTO t_message_outbox (id, sharding_key, event_name, topic, body, properties, sent_timeout, status, retry_count, next_retry_time, create_time, update_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                record.getId(), record.getShardingKey(), record.getEventName(), record.getTopic(), record.getBody(), record.getProperties(),
+                record.getSentTimeout(), record.getStatus(), record.getRetryCount(), record.getNextRetryTime(), now, now
+        );
+    }
+
+    /**
+     * 批量写入本地消息，在同一个连接上以 JDBC Batch 执行
+     */
+    public void insertBatch(List<MessageOutboxRecord> records) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> args = records.stream()
+                .map(each -> new Object[]{each.getId(), each.getShardingKey(), each.getEventName(), each.getTopic(), each.getBody(), each.getProperties(),
+                        each.getSentTimeout(), each.getStatus(), each.getRetryCount(), each.getNextRetryTime(), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO t_message_outbox (id, sharding_key, event_name, topic, body, properties, sent_timeout, status, retry_count, next_retry_time, create_time, update_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                args
+        );
+    }
+
+    /**
+     * 查询到达投递时间的待投递消息
+     */
+    public List<MessageOutboxRecord> listPending(long now, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, sharding_key, event_name, topic, body, properties, sent_timeout, status, retry_count, next_retry_time FROM t_message_outbox WHERE status = ? AND next_retry_time <= ? ORDER BY next_retry_time LIMIT ?",
+                ROW_MAPPER, MessageOutboxStatusEnum.PENDING.getStatus(), now, limit
+        );
+    }
+
+    /**
+     * 认领待投递消息，将下次投递时间推迟到租约到期时间，多个实例同时轮询时每条消息只会被一个实例认领
+     *
+     * @return 认领成功的消息
+     */
+    public List<MessageOutboxRecord> claim(List<MessageOutboxRecord> records, long leaseUntil) {
+        List<Object[]> args = records.stream()
+                .map(each -> new Object[]{leaseUntil, each.getId(), each.getShardingKey(), MessageOutboxStatusEnum.PENDING.getStatus(), each.getNextRetryTime()})
+                .toList();
+        int[] affected = jdbcTemplate.batchUpdate("UPDATE t_message_outbox SET next_retry_time = ? WHERE id = ? AND sharding_key = ? AND status = ? AND next_retry_time = ?", args);
+        List<MessageOutboxRecord> result = new ArrayList<>(records.size());
+        for (int i = 0; i < affected.length; i++) {
+            if (affected[i] != 0) {
+                MessageOutboxRecord record = records.get(i);
+                record.setNextRetryTime(leaseUntil);
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 标记消息已投递，下次投递时间记录为投递时间，用于清理过期记录
+     */
+    public void markSent(List<MessageOutboxRecord> records, long sentTime) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(sentTime);
+        List<Object[]> args = records.stream()
+                .map(each -> new Object[]{MessageOutboxStatusEnum.SENT.getStatus(), sentTime, now, each.getId(), each.getShardingKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE t_message_outbox SET status = ?, next_retry_time = ?, update_time = ? WHERE id = ? AND sharding_key = ?", args);
+    }
+
+    /**
+     * 记录投递失败，更新重试次数及下次投递时间
+     */
+    public void markFailed(MessageOutboxRecord record, MessageOutboxStatusEnum status, int retryCount, long nextRetryTime, String lastError) {
+        jdbcTemplate.update(
+                "UPDATE t_message_outbox SET status = ?, retry_count = ?, next_retry_time = ?, last_error = ?, update_time = ? WHERE id = ? AND sharding_key = ?",
+                status.getStatus(), retryCount, nextRetryTime, lastError, new Timestamp(System.currentTimeMillis()), record.getId(), record.getShardingKey()
+        );
+    }
+
+    /**
+     * 删除投递时间早于指定时间的已投递消息
+     *
+     * @return 删除行数
+     */
+    public int deleteSentBefore(long sentBefore) {
+        return jdbcTemplate.update("DELETE FROM t_message_outbox WHERE status = ? AND next_retry_time < ?", MessageOutboxStatusEnum.SENT.getStatus(), sentBefore);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.messaging.Message;
+
+/**
+ * 本地消息表写入参数
+ *
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageOutboxSendParam {
+
+    /**
+     * 事件名称
+     */
+    private String eventName;
+
+    /**
+     * 投递目标，格式为 {@code topic} 或 {@code topic:tag}
+     */
+    private String destination;
+
+    /**
+     * 消息，按 RocketMQTemplate 的消息转换器序列化后写入本地消息表
+     */
+    private Message<?> message;
+
+    /**
+     * 分片键，分库场景下使本地消息与业务数据位于同一数据源，为空时使用消息 ID
+     */
+    private String shardingKey;
+
+    /**
+     * 发送消息超时时间
+     */
+    private Long sentTimeout;
+
+    /**
+     * 延迟消息级别，为空或 0 表示非延迟消息，延迟从投递时开始计算
+     */
+    private Integer delayLevel;
+}
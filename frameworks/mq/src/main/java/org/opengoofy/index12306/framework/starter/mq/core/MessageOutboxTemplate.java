@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.core;
+
+import com.alibaba.fastjson2.JSON;
+import lombok.RequiredArgsConstructor;
+import org.apache.rocketmq.client.producer.SendResult;
+import org.apache.rocketmq.common.message.Message;
+import org.apache.rocketmq.spring.core.RocketMQTemplate;
+import org.apache.rocketmq.spring.support.RocketMQUtil;
+import org.opengoofy.index12306.framework.starter.distributedid.toolkit.SnowflakeIdUtil;
+import org.opengoofy.index12306.framework.starter.mq.enums.MessageOutboxStatusEnum;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 本地消息表发送模板
+ * 消息先按 RocketMQTemplate 的消息转换器序列化后写入本地消息表，与业务数据在同一个本地事务内提交，
+ * 由 {@link MessageOutboxRelay} 异步投递到 RocketMQ；事务回滚时消息随之回滚，事务提交后立即唤醒投递线程
+ *
+ *
+ */
+@RequiredArgsConstructor
+public class MessageOutboxTemplate {
+
+    private final RocketMQTemplate rocketMQTemplate;
+
+    private final MessageOutboxRepository messageOutboxRepository;
+
+    private final MessageOutboxRelay messageOutboxRelay;
+
+    /**
+     * 写入本地消息表
+     *
+     * @param sendParam 写入参数
+     * @return 本地消息 ID
+     */
+    public Long save(MessageOutboxSendParam sendParam) {
+        MessageOutboxRecord record = buildRecord(sendParam);
+        messageOutboxRepository.insert(record);
+        wakeupRelay();
+        return record.getId();
+    }
+
+    /**
+     * 写入本地消息表并跟踪投递结果，调用方可在消息投递期间继续处理其他逻辑
+     * Future 在投递成功后完成，事务回滚时异常完成；回调默认在 RocketMQ 回调线程执行，耗时逻辑请使用 Async 系列方法
+     *
+     * @param sendParam 写入参数
+     * @return 投递结果
+     */
+    public CompletableFuture<SendResult> saveAndTrack(MessageOutboxSendParam sendParam) {
+        MessageOutboxRecord record = buildRecord(sendParam);
+        CompletableFuture<SendResult> deliveryFuture = messageOutboxRelay.track(record.getId());
+        try {
+            messageOutboxRepository.insert(record);
+        } catch (RuntimeException ex) {
+            messageOutboxRelay.failDelivery(record.getId(), ex);
+            throw ex;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        messageOutboxRelay.wakeup();
+                    } else {
+                        messageOutboxRelay.failDelivery(record.getId(), new IllegalStateException("事务未提交，消息不会投递"));
+                    }
+                }
+            });
+        } else {
+            messageOutboxRelay.wakeup();
+        }
+        return deliveryFuture;
+    }
+
+    /**
+     * 批量写入本地消息表，所有消息必须属于同一主题，由投递线程合并为 RocketMQ 批量消息发送
+     *
+     * @param sendParams 写入参数
+     * @return 本地消息 ID，与写入参数顺序一致
+     */
+    public List<Long> saveBatch(List<MessageOutboxSendParam> sendParams) {
+        if (sendParams.isEmpty()) {
+            return List.of();
+        }
+        List<MessageOutboxRecord> records = sendParams.stream().map(this::buildRecord).toList();
+        String topic = records.get(0).getTopic();
+        if (records.stream().anyMatch(each -> !Objects.equals(topic, each.getTopic()))) {
+            throw new IllegalArgumentException("批量写入本地消息表要求所有消息属于同一主题");
+        }
+        messageOutboxRepository.insertBatch(records);
+        wakeupRelay();
+        return records.stream().map(MessageOutboxRecord::getId).toList();
+    }
+
+    private MessageOutboxRecord buildRecord(MessageOutboxSendParam sendParam) {
+        Message rocketMessage = RocketMQUtil.convertToRocketMessage(
+                rocketMQTemplate.getMessageConverter(),
+                rocketMQTemplate.getCharset(),
+                sendParam.getDestination(),
+                sendParam.getMessage()
+        );
+        int delayLevel = Optional.ofNullable(sendParam.getDelayLevel()).orElse(0);
+        if (delayLevel > 0) {
+            rocketMessage.setDelayTimeLevel(delayLevel);
+        }
+        long id = SnowflakeIdUtil.nextId();
+        return MessageOutboxRecord.builder()
+                .id(id)
+                .shardingKey(StringUtils.hasText(sendParam.getShardingKey()) ? sendParam.getShardingKey() : String.valueOf(id))
+                .eventName(sendParam.getEventName())
+                .topic(rocketMessage.getTopic())
+                .body(rocketMessage.getBody())
+                .properties(JSON.toJSONString(rocketMessage.getProperties()))
+                .sentTimeout(Optional.ofNullable(sendParam.getSentTimeout()).orElse((long) rocketMQTemplate.getProducer().getSendMsgTimeout()))
+                .status(MessageOutboxStatusEnum.PENDING.getStatus())
+                .retryCount(0)
+                .nextRetryTime(System.currentTimeMillis())
+                .build();
+    }
+
+    private void wakeupRelay() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messageOutboxRelay.wakeup();
+                }
+            });
+        } else {
+            messageOutboxRelay.wakeup();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.mq.core;
+
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.framework.starter.mq.config.MessageSendLogProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 消息发送日志采样器
+ * 高并发购票场景下每条消息一行 INFO 日志的开销不可忽略，按采样率打印成功日志，慢发送始终打印
+ *
+ *
+ */
+@RequiredArgsConstructor
+public class MessageSendLogSampler {
+
+    private static final int MASK_RETAIN_LENGTH = 4;
+
+    private final MessageSendLogProperties messageSendLogProperties;
+
+    /**
+     * 判断本次发送成功日志是否需要打印
+     *
+     * @param elapsedMillis 发送耗时，单位毫秒
+     */
+    public boolean shouldLog(long elapsedMillis) {
+        if (elapsedMillis >= messageSendLogProperties.getSlowThresholdMillis()) {
+            return true;
+        }
+        double sampleRate = messageSendLogProperties.getSampleRate();
+        return sampleRate >= 1.0D || (sampleRate > 0.0D && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 按配置输出日志中的消息 Keys
+     */
+    public String keys(String keys) {
+        if (!messageSendLogProperties.getMaskKeys() || keys == null || keys.length() <= MASK_RETAIN_LENGTH * 2) {
+            return keys;
+        }
+        return keys.substring(0, MASK_RETAIN_LENGTH) + "****" + keys.substring(keys.length() - MASK_RETAIN_LENGTH);
+    }
+}
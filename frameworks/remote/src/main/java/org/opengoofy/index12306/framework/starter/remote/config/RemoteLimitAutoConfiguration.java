@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.config;
+
+import org.opengoofy.index12306.framework.starter.remote.core.RemoteLimiterRegistry;
+import org.opengoofy.index12306.framework.starter.remote.endpoint.RemoteLimitController;
+import org.opengoofy.index12306.framework.starter.remote.feign.ConcurrencyLimitCapability;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 远程调用自适应并发限制自动装配
+ *
+ *
+ */
+@EnableConfigurationProperties(RemoteLimitProperties.class)
+@ConditionalOnProperty(prefix = RemoteLimitProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RemoteLimitAutoConfiguration {
+
+    /**
+     * 远程客户端舱壁与方法指标注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RemoteLimiterRegistry remoteLimiterRegistry(RemoteLimitProperties remoteLimitProperties) {
+        return new RemoteLimiterRegistry(remoteLimitProperties);
+    }
+
+    /**
+     * Feign 自适应并发限制扩展
+     */
+    @Bean
+    public ConcurrencyLimitCapability concurrencyLimitCapability(RemoteLimiterRegistry remoteLimiterRegistry) {
+        return new ConcurrencyLimitCapability(remoteLimiterRegistry);
+    }
+
+    /**
+     * 远程调用指标查询接口，需引入 Web 组件并开启 {@code framework.remote.limit.endpoint-enabled}
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.opengoofy.index12306.framework.starter.web.Results")
+    @ConditionalOnProperty(prefix = RemoteLimitProperties.PREFIX, name = "endpoint-enabled", havingValue = "true")
+    static class RemoteLimitEndpointConfiguration {
+
+        @Bean
+        public RemoteLimitController remoteLimitController(RemoteLimiterRegistry remoteLimiterRegistry) {
+            return new RemoteLimitController(remoteLimiterRegistry);
+        }
+    }
+}
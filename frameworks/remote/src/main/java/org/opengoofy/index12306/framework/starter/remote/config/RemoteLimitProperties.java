@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 远程调用自适应并发限制配置
+ *
+ *
+ */
+@Data
+@ConfigurationProperties(prefix = RemoteLimitProperties.PREFIX)
+public class RemoteLimitProperties {
+
+    public static final String PREFIX = "framework.remote.limit";
+
+    /**
+     * 是否开启远程调用并发限制
+     */
+    private Boolean enabled = true;
+
+    /**
+     * 是否开放远程调用限流指标查询接口
+     */
+    private Boolean endpointEnabled = false;
+
+    /**
+     * 全局默认限流参数
+     */
+    private LimitProperties defaults = LimitProperties.defaults();
+
+    /**
+     * 按客户端覆盖的限流参数，Key 为 Feign 接口简单类名，如 TicketOrderRemoteService，未设置的参数沿用全局默认值
+     */
+    private Map<String, LimitProperties> clients = new HashMap<>();
+
+    /**
+     * 获取指定客户端生效的限流参数
+     */
+    public LimitProperties resolve(String clientName) {
+        LimitProperties override = clients.get(clientName);
+        if (override == null) {
+            return defaults;
+        }
+        LimitProperties actual = new LimitProperties();
+        actual.setEnabled(override.getEnabled() != null ? override.getEnabled() : defaults.getEnabled());
+        actual.setAlgorithm(override.getAlgorithm() != null ? override.getAlgorithm() : defaults.getAlgorithm());
+        actual.setInitialLimit(override.getInitialLimit() != null ? override.getInitialLimit() : defaults.getInitialLimit());
+        actual.setMinLimit(override.getMinLimit() != null ? override.getMinLimit() : defaults.getMinLimit());
+        actual.setMaxLimit(override.getMaxLimit() != null ? override.getMaxLimit() : defaults.getMaxLimit());
+        actual.setTolerance(override.getTolerance() != null ? override.getTolerance() : defaults.getTolerance());
+        actual.setSmoothing(override.getSmoothing() != null ? override.getSmoothing() : defaults.getSmoothing());
+        actual.setBackoffRatio(override.getBackoffRatio() != null ? override.getBackoffRatio() : defaults.getBackoffRatio());
+        actual.setSlowCallMillis(override.getSlowCallMillis() != null ? override.getSlowCallMillis() : defaults.getSlowCallMillis());
+        return actual;
+    }
+
+    /**
+     * 单个客户端限流参数
+     */
+    @Data
+    public static class LimitProperties {
+
+        /**
+         * 是否对该客户端开启并发限制
+         */
+        private Boolean enabled;
+
+        /**
+         * 限流算法，可选 gradient、aimd
+         */
+        private String algorithm;
+
+        /**
+         * 初始并发上限
+         */
+        private Integer initialLimit;
+
+        /**
+         * 并发上限下界
+         */
+        private Integer minLimit;
+
+        /**
+         * 并发上限上界
+         */
+        private Integer maxLimit;
+
+        /**
+         * Gradient 算法容忍的延迟放大倍数，短期延迟不超过长期延迟的该倍数时不收缩并发上限
+         */
+        private Double tolerance;
+
+        /**
+         * Gradient 算法并发上限平滑系数，取值 (0, 1]
+         */
+        private Double smoothing;
+
+        /**
+         * 调用失败或超时时并发上限的收缩比例
+         */
+        private Double backoffRatio;
+
+        /**
+         * AIMD 算法慢调用阈值，单位毫秒，耗时超过该值的调用视为拥塞信号
+         */
+        private Long slowCallMillis;
+
+        static LimitProperties defaults() {
+            LimitProperties properties = new LimitProperties();
+            properties.setEnabled(true);
+            properties.setAlgorithm("gradient");
+            properties.setInitialLimit(20);
+            properties.setMinLimit(2);
+            properties.setMaxLimit(200);
+            properties.setTolerance(2.0D);
+            properties.setSmoothing(0.2D);
+            properties.setBackoffRatio(0.9D);
+            properties.setSlowCallMillis(1000L);
+            return properties;
+        }
+    }
+}
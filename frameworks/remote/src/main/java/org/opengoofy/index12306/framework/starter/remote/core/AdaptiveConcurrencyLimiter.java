@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.core;
+
+import lombok.Getter;
+import org.opengoofy.index12306.framework.starter.remote.monitor.RemoteClientStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 远程客户端舱壁
+ * 同一客户端的在途调用数达到自适应上限时立即拒绝新调用，避免调用线程在慢下游上堆积
+ *
+ *
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    @Getter
+    private final String clientName;
+
+    @Getter
+    private final String algorithm;
+
+    private final AdaptiveLimit adaptiveLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(String clientName, String algorithm, AdaptiveLimit adaptiveLimit) {
+        this.clientName = clientName;
+        this.algorithm = algorithm;
+        this.adaptiveLimit = adaptiveLimit;
+    }
+
+    /**
+     * 尝试占用一个并发名额
+     *
+     * @return 占用成功返回本次调用发起时的并发数，超出上限返回 -1
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= adaptiveLimit.getLimit()) {
+                rejectedCount.increment();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 释放并发名额并上报调用样本
+     *
+     * @param rttNanos 调用耗时，单位纳秒
+     * @param inFlight {@link #tryAcquire()} 返回的并发数
+     * @param dropped  是否为失败、超时等拥塞信号
+     */
+    public void release(long rttNanos, int inFlight, boolean dropped) {
+        this.inFlight.decrementAndGet();
+        adaptiveLimit.onSample(rttNanos, inFlight, dropped);
+    }
+
+    public int getLimit() {
+        return adaptiveLimit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 获取当前舱壁指标快照
+     */
+    public RemoteClientStats getStats() {
+        return RemoteClientStats.builder()
+                .clientName(clientName)
+                .algorithm(algorithm)
+                .limit(getLimit())
+                .inFlight(getInFlight())
+                .rejectedCount(getRejectedCount())
+                .build();
+    }
+}
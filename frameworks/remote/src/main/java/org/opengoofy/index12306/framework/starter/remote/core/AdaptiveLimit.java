@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.core;
+
+/**
+ * 自适应并发上限算法
+ * 根据每次调用的耗时与结果动态调整允许的最大并发数
+ *
+ *
+ */
+public interface AdaptiveLimit {
+
+    /**
+     * 获取当前并发上限
+     */
+    int getLimit();
+
+    /**
+     * 上报一次调用样本
+     *
+     * @param rttNanos 调用耗时，单位纳秒
+     * @param inFlight 本次调用发起时的并发数（包含本次调用）
+     * @param dropped  是否为失败、超时等拥塞信号
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.core;
+
+/**
+ * 基于延迟梯度的自适应并发上限算法
+ * 以长期平均耗时作为无排队基线，短期耗时相对基线放大说明下游开始排队，按比例收缩并发上限；
+ * 耗时回落时以 sqrt(limit) 为步长探测更高并发
+ *
+ *
+ */
+public class GradientLimit implements AdaptiveLimit {
+
+    /**
+     * 长期耗时指数移动平均的样本窗口
+     */
+    private static final int LONG_WINDOW = 600;
+
+    /**
+     * 短期耗时指数移动平均的样本窗口
+     */
+    private static final int SHORT_WINDOW = 10;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double tolerance;
+
+    private final double smoothing;
+
+    private final double backoffRatio;
+
+    private double estimatedLimit;
+
+    private double longRttNanos;
+
+    private double shortRttNanos;
+
+    private volatile int limit;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * backoffRatio;
+        } else {
+            if (longRttNanos == 0D) {
+                longRttNanos = rttNanos;
+                shortRttNanos = rttNanos;
+            }
+            shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+            // 并发远未用满时耗时不具备参考意义，避免在低负载下无限抬高上限
+            if (inFlight * 2 < estimatedLimit) {
+                return;
+            }
+            // 下游恢复后短期耗时低于长期基线，逐步拉低基线以便更快回升
+            if (longRttNanos / shortRttNanos > 2D) {
+                longRttNanos *= 0.95D;
+            }
+            double gradient = Math.max(0.5D, Math.min(1.0D, tolerance * longRttNanos / shortRttNanos));
+            double queueSize = Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * gradient + queueSize;
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.core;
+
+import org.opengoofy.index12306.framework.starter.remote.config.RemoteLimitProperties;
+import org.opengoofy.index12306.framework.starter.remote.config.RemoteLimitProperties.LimitProperties;
+import org.opengoofy.index12306.framework.starter.remote.monitor.RemoteMethodMetrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 远程客户端舱壁与方法指标注册表
+ *
+ *
+ */
+public class RemoteLimiterRegistry {
+
+    /**
+     * 未开启并发限制的客户端占位，避免重复解析配置
+     */
+    private static final AdaptiveConcurrencyLimiter DISABLED = new AdaptiveConcurrencyLimiter("disabled", "none", null);
+
+    private final RemoteLimitProperties remoteLimitProperties;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private final Map<String, RemoteMethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+    public RemoteLimiterRegistry(RemoteLimitProperties remoteLimitProperties) {
+        this.remoteLimitProperties = remoteLimitProperties;
+    }
+
+    /**
+     * 获取客户端舱壁，客户端未开启并发限制时返回 null
+     */
+    public AdaptiveConcurrencyLimiter getLimiter(String clientName) {
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(clientName, this::createLimiter);
+        return limiter == DISABLED ? null : limiter;
+    }
+
+    /**
+     * 获取远程方法指标
+     *
+     * @param clientName 客户端名称
+     * @param configKey  Feign 方法标识，如 TicketOrderRemoteService#queryTicketOrderByOrderSn(String)
+     */
+    public RemoteMethodMetrics getMethodMetrics(String clientName, String configKey) {
+        return methodMetrics.computeIfAbsent(configKey, each -> new RemoteMethodMetrics(clientName, each));
+    }
+
+    public Collection<AdaptiveConcurrencyLimiter> getLimiters() {
+        return limiters.values().stream().filter(each -> each != DISABLED).toList();
+    }
+
+    public Collection<RemoteMethodMetrics> getMethodMetrics() {
+        return methodMetrics.values();
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String clientName) {
+        LimitProperties properties = remoteLimitProperties.resolve(clientName);
+        if (!Boolean.TRUE.equals(properties.getEnabled())) {
+            return DISABLED;
+        }
+        String algorithm = properties.getAlgorithm().toLowerCase();
+        AdaptiveLimit adaptiveLimit = switch (algorithm) {
+            case "aimd" -> new AimdLimit(
+                    properties.getInitialLimit(),
+                    properties.getMinLimit(),
+                    properties.getMaxLimit(),
+                    properties.getBackoffRatio(),
+                    TimeUnit.MILLISECONDS.toNanos(properties.getSlowCallMillis()));
+            case "gradient" -> new GradientLimit(
+                    properties.getInitialLimit(),
+                    properties.getMinLimit(),
+                    properties.getMaxLimit(),
+                    properties.getTolerance(),
+                    properties.getSmoothing(),
+                    properties.getBackoffRatio());
+            default -> throw new IllegalArgumentException("不支持的远程调用限流算法：" + algorithm);
+        };
+        return new AdaptiveConcurrencyLimiter(clientName, algorithm, adaptiveLimit);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.endpoint;
+
+import org.opengoofy.index12306.framework.starter.remote.core.AdaptiveConcurrencyLimiter;
+import org.opengoofy.index12306.framework.starter.remote.core.RemoteLimiterRegistry;
+import org.opengoofy.index12306.framework.starter.remote.monitor.RemoteClientStats;
+import org.opengoofy.index12306.framework.starter.remote.monitor.RemoteMethodMetrics;
+import org.opengoofy.index12306.framework.starter.remote.monitor.RemoteMethodStats;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.opengoofy.index12306.framework.starter.web.Results;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 远程调用并发限制监控控制器
+ *
+ *
+ */
+@RestController
+@RequiredArgsConstructor
+public class RemoteLimitController {
+
+    private final RemoteLimiterRegistry remoteLimiterRegistry;
+
+    /**
+     * 查询全部远程客户端舱壁指标
+     */
+    @GetMapping("/api/remote-limit/clients")
+    public Result<List<RemoteClientStats>> listClientStats() {
+        return Results.success(remoteLimiterRegistry.getLimiters().stream().map(AdaptiveConcurrencyLimiter::getStats).toList());
+    }
+
+    /**
+     * 查询全部远程方法调用指标
+     */
+    @GetMapping("/api/remote-limit/methods")
+    public Result<List<RemoteMethodStats>> listMethodStats() {
+        return Results.success(remoteLimiterRegistry.getMethodMetrics().stream().map(RemoteMethodMetrics::getStats).toList());
+    }
+}
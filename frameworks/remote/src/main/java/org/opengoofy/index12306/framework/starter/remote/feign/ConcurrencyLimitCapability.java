@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.feign;
+
+import feign.Capability;
+import feign.Client;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.framework.starter.remote.core.RemoteLimiterRegistry;
+
+/**
+ * Feign 自适应并发限制扩展
+ * Spring Cloud OpenFeign 会将容器中的 {@link Capability} 应用到所有 FeignClient，负载均衡客户端同样会被包装
+ *
+ *
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitCapability implements Capability {
+
+    private final RemoteLimiterRegistry remoteLimiterRegistry;
+
+    @Override
+    public Client enrich(Client client) {
+        return new ConcurrencyLimitClient(client, remoteLimiterRegistry);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.framework.starter.remote.core.AdaptiveConcurrencyLimiter;
+import org.opengoofy.index12306.framework.starter.remote.core.RemoteLimiterRegistry;
+import org.opengoofy.index12306.framework.starter.remote.monitor.RemoteMethodMetrics;
+import org.opengoofy.index12306.framework.starter.convention.errorcode.BaseErrorCode;
+import org.opengoofy.index12306.framework.starter.convention.exception.RemoteException;
+
+import java.io.IOException;
+
+/**
+ * 带自适应并发限制的 Feign 客户端
+ * 以 Feign 接口为维度隔离舱壁，以接口方法为维度统计调用指标，超出并发上限时直接抛出 {@link RemoteException} 快速失败
+ *
+ *
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitClient implements Client {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final Client delegate;
+
+    private final RemoteLimiterRegistry remoteLimiterRegistry;
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String clientName = resolveClientName(request.requestTemplate());
+        String configKey = resolveConfigKey(request.requestTemplate(), clientName);
+        RemoteMethodMetrics methodMetrics = remoteLimiterRegistry.getMethodMetrics(clientName, configKey);
+        AdaptiveConcurrencyLimiter limiter = remoteLimiterRegistry.getLimiter(clientName);
+        int inFlight = 0;
+        if (limiter != null && (inFlight = limiter.tryAcquire()) < 0) {
+            methodMetrics.recordRejected();
+            throw new RemoteException(
+                    String.format("远程调用 %s 并发超限，当前并发上限：%d", configKey, limiter.getLimit()),
+                    BaseErrorCode.REMOTE_CONCURRENCY_LIMIT_ERROR);
+        }
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            Response response = delegate.execute(request, options);
+            failed = isCongested(response.status());
+            return response;
+        } finally {
+            long rttNanos = System.nanoTime() - startTime;
+            methodMetrics.record(rttNanos, failed);
+            if (limiter != null) {
+                limiter.release(rttNanos, inFlight, failed);
+            }
+        }
+    }
+
+    /**
+     * 5xx 及 429 说明下游已过载或不可用，视为拥塞信号；4xx 属于调用方问题，不影响并发上限
+     */
+    private static boolean isCongested(int status) {
+        return status >= 500 || status == 429;
+    }
+
+    private static String resolveClientName(RequestTemplate requestTemplate) {
+        if (requestTemplate == null || requestTemplate.feignTarget() == null) {
+            return UNKNOWN;
+        }
+        return requestTemplate.feignTarget().type().getSimpleName();
+    }
+
+    private static String resolveConfigKey(RequestTemplate requestTemplate, String clientName) {
+        if (requestTemplate == null || requestTemplate.methodMetadata() == null) {
+            return clientName + "#" + UNKNOWN;
+        }
+        return requestTemplate.methodMetadata().configKey();
+    }
+}
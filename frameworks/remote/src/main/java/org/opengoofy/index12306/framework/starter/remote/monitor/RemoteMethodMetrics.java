@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.monitor;
+
+import lombok.Getter;
+import org.opengoofy.index12306.framework.starter.common.threadpool.monitor.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 远程方法调用指标
+ *
+ *
+ */
+public class RemoteMethodMetrics {
+
+    @Getter
+    private final String clientName;
+
+    @Getter
+    private final String method;
+
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    private final LongAdder successCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public RemoteMethodMetrics(String clientName, String method) {
+        this.clientName = clientName;
+        this.method = method;
+    }
+
+    /**
+     * 记录一次完成的调用
+     *
+     * @param rttNanos 调用耗时，单位纳秒
+     * @param failed   是否调用失败
+     */
+    public void record(long rttNanos, boolean failed) {
+        latencyHistogram.record(rttNanos);
+        if (failed) {
+            failureCount.increment();
+        } else {
+            successCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次因并发超限被拒绝的调用
+     */
+    public void recordRejected() {
+        rejectedCount.increment();
+    }
+
+    /**
+     * 获取当前指标快照
+     */
+    public RemoteMethodStats getStats() {
+        return RemoteMethodStats.builder()
+                .clientName(clientName)
+                .method(method)
+                .successCount(successCount.sum())
+                .failureCount(failureCount.sum())
+                .rejectedCount(rejectedCount.sum())
+                .latency(latencyHistogram.snapshot())
+                .build();
+    }
+}
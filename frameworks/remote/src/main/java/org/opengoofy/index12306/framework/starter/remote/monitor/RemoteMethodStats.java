@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.framework.starter.remote.monitor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.opengoofy.index12306.framework.starter.common.threadpool.monitor.LatencyHistogramSnapshot;
+
+/**
+ * 远程方法调用指标快照
+ *
+ *
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemoteMethodStats {
+
+    /**
+     * 客户端名称
+     */
+    private String clientName;
+
+    /**
+     * 方法标识
+     */
+    private String method;
+
+    /**
+     * 成功调用次数
+     */
+    private Long successCount;
+
+    /**
+     * 失败调用次数，包含 IO 异常及 5xx、429 响应
+     */
+    private Long failureCount;
+
+    /**
+     * 因并发超限被拒绝的调用次数
+     */
+    private Long rejectedCount;
+
+    /**
+     * 调用耗时分布
+     */
+    private LatencyHistogramSnapshot latency;
+}
@@ -171,8 +171,9 @@ CREATE TABLE `t_order_0`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_1`
@@ -197,8 +198,9 @@ CREATE TABLE `t_order_1`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_10`
@@ -223,8 +225,9 @@ CREATE TABLE `t_order_10`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_11`
@@ -249,8 +252,9 @@ CREATE TABLE `t_order_11`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_12`
@@ -275,8 +279,9 @@ CREATE TABLE `t_order_12`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_13`
@@ -301,8 +306,9 @@ CREATE TABLE `t_order_13`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_14`
@@ -327,8 +333,9 @@ CREATE TABLE `t_order_14`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_15`
@@ -353,8 +360,9 @@ CREATE TABLE `t_order_15`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_2`
@@ -379,8 +387,9 @@ CREATE TABLE `t_order_2`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_3`
@@ -405,8 +414,9 @@ CREATE TABLE `t_order_3`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_4`
@@ -431,141 +441,963 @@ CREATE TABLE `t_order_4`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_5`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_6`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_7`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_8`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_9`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
-CREATE TABLE `t_order_5`
+CREATE TABLE `t_order_archive_0`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_1`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_10`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_11`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_12`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_13`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_14`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_15`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_2`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_3`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_4`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_5`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_6`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_7`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_8`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_9`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_item_0`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_1`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_10`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_11`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_12`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_13`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_14`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_15`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_2`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_3`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_4`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_5`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_6`
+CREATE TABLE `t_order_item_6`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_7`
+CREATE TABLE `t_order_item_7`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_8`
+CREATE TABLE `t_order_item_8`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_9`
+CREATE TABLE `t_order_item_9`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_item_0`
+CREATE TABLE `t_order_item_archive_0`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -588,9 +1420,9 @@ CREATE TABLE `t_order_item_0`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_1`
+CREATE TABLE `t_order_item_archive_1`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -613,9 +1445,9 @@ CREATE TABLE `t_order_item_1`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_10`
+CREATE TABLE `t_order_item_archive_10`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -638,9 +1470,9 @@ CREATE TABLE `t_order_item_10`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_11`
+CREATE TABLE `t_order_item_archive_11`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -663,9 +1495,9 @@ CREATE TABLE `t_order_item_11`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_12`
+CREATE TABLE `t_order_item_archive_12`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -688,9 +1520,9 @@ CREATE TABLE `t_order_item_12`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_13`
+CREATE TABLE `t_order_item_archive_13`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -713,9 +1545,9 @@ CREATE TABLE `t_order_item_13`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_14`
+CREATE TABLE `t_order_item_archive_14`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -738,9 +1570,9 @@ CREATE TABLE `t_order_item_14`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_15`
+CREATE TABLE `t_order_item_archive_15`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -763,9 +1595,9 @@ CREATE TABLE `t_order_item_15`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_2`
+CREATE TABLE `t_order_item_archive_2`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -788,9 +1620,9 @@ CREATE TABLE `t_order_item_2`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_3`
+CREATE TABLE `t_order_item_archive_3`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -813,9 +1645,9 @@ CREATE TABLE `t_order_item_3`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_4`
+CREATE TABLE `t_order_item_archive_4`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -838,9 +1670,9 @@ CREATE TABLE `t_order_item_4`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_5`
+CREATE TABLE `t_order_item_archive_5`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -863,9 +1695,9 @@ CREATE TABLE `t_order_item_5`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_6`
+CREATE TABLE `t_order_item_archive_6`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -888,9 +1720,9 @@ CREATE TABLE `t_order_item_6`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_7`
+CREATE TABLE `t_order_item_archive_7`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -913,9 +1745,9 @@ CREATE TABLE `t_order_item_7`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_8`
+CREATE TABLE `t_order_item_archive_8`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -938,9 +1770,9 @@ CREATE TABLE `t_order_item_8`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_9`
+CREATE TABLE `t_order_item_archive_9`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -963,7 +1795,7 @@ CREATE TABLE `t_order_item_9`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
 CREATE TABLE `t_order_item_passenger_0`
 (
@@ -975,7 +1807,7 @@ CREATE TABLE `t_order_item_passenger_0`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_1`
@@ -988,7 +1820,7 @@ CREATE TABLE `t_order_item_passenger_1`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_10`
@@ -1001,7 +1833,7 @@ CREATE TABLE `t_order_item_passenger_10`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_11`
@@ -1014,7 +1846,7 @@ CREATE TABLE `t_order_item_passenger_11`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_12`
@@ -1027,7 +1859,7 @@ CREATE TABLE `t_order_item_passenger_12`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_13`
@@ -1040,7 +1872,7 @@ CREATE TABLE `t_order_item_passenger_13`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_14`
@@ -1053,7 +1885,7 @@ CREATE TABLE `t_order_item_passenger_14`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_15`
@@ -1066,7 +1898,7 @@ CREATE TABLE `t_order_item_passenger_15`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_2`
@@ -1079,7 +1911,7 @@ CREATE TABLE `t_order_item_passenger_2`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_3`
@@ -1092,7 +1924,7 @@ CREATE TABLE `t_order_item_passenger_3`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_4`
@@ -1105,7 +1937,7 @@ CREATE TABLE `t_order_item_passenger_4`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_5`
@@ -1118,7 +1950,7 @@ CREATE TABLE `t_order_item_passenger_5`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_6`
@@ -1131,7 +1963,7 @@ CREATE TABLE `t_order_item_passenger_6`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_7`
@@ -1144,7 +1976,7 @@ CREATE TABLE `t_order_item_passenger_7`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_8`
@@ -1157,7 +1989,7 @@ CREATE TABLE `t_order_item_passenger_8`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_9`
@@ -1170,7 +2002,7 @@ CREATE TABLE `t_order_item_passenger_9`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_passenger_0`
@@ -2666,3 +3498,22 @@ CREATE TABLE `t_user_reuse`
     PRIMARY KEY (`id`),
     KEY           `idx_username` (`username`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='用户名复用表';
+
+CREATE TABLE `t_message_outbox`
+(
+    `id`              bigint(20) NOT NULL COMMENT 'ID',
+    `sharding_key`    varchar(64)  NOT NULL COMMENT '分片键，与业务数据位于同一数据源',
+    `event_name`      varchar(64)  DEFAULT NULL COMMENT '事件名称',
+    `topic`           varchar(256) NOT NULL COMMENT '主题',
+    `body`            mediumblob   NOT NULL COMMENT '消息体',
+    `properties`      varchar(2048) DEFAULT NULL COMMENT '消息属性',
+    `sent_timeout`    bigint(20) DEFAULT NULL COMMENT '发送消息超时时间',
+    `status`          tinyint(1) NOT NULL COMMENT '状态 0：待投递 1：已投递 2：投递失败',
+    `retry_count`     int(11) NOT NULL DEFAULT '0' COMMENT '已重试次数',
+    `next_retry_time` bigint(20) NOT NULL COMMENT '下次投递时间',
+    `last_error`      varchar(512) DEFAULT NULL COMMENT '最近一次投递失败原因',
+    `create_time`     datetime     DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime     DEFAULT NULL COMMENT '修改时间',
+    PRIMARY KEY (`id`),
+    KEY               `idx_status_next_retry_time` (`status`, `next_retry_time`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='本地消息表';
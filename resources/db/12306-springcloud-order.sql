@@ -20,8 +20,9 @@ CREATE TABLE `t_order_0`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_1`
@@ -46,8 +47,9 @@ CREATE TABLE `t_order_1`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_10`
@@ -72,8 +74,9 @@ CREATE TABLE `t_order_10`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_11`
@@ -98,8 +101,9 @@ CREATE TABLE `t_order_11`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_12`
@@ -124,8 +128,9 @@ CREATE TABLE `t_order_12`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_13`
@@ -150,8 +155,9 @@ CREATE TABLE `t_order_13`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_14`
@@ -176,8 +182,9 @@ CREATE TABLE `t_order_14`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_15`
@@ -202,8 +209,9 @@ CREATE TABLE `t_order_15`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_2`
@@ -228,8 +236,9 @@ CREATE TABLE `t_order_2`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_3`
@@ -254,8 +263,9 @@ CREATE TABLE `t_order_3`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
 CREATE TABLE `t_order_4`
@@ -280,141 +290,963 @@ CREATE TABLE `t_order_4`
     `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_5`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_6`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_7`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_8`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+
+CREATE TABLE `t_order_9`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY              `idx_riding_date` (`riding_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
 
-CREATE TABLE `t_order_5`
+CREATE TABLE `t_order_archive_0`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_1`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_10`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_11`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_12`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_13`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_14`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_15`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_2`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_3`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_4`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_5`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_6`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_7`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_8`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_archive_9`
+(
+    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
+    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
+    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
+    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
+    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
+    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
+    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
+    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
+    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
+    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
+    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
+    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY              `idx_user_id_order_time` (`user_id`, `order_time`, `order_sn`) USING BTREE,
+    KEY              `idx_order_sn` (`order_sn`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单归档表';
+
+CREATE TABLE `t_order_item_0`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_1`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_10`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_11`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_12`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_13`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_14`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_15`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_2`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_3`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_4`
+(
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    PRIMARY KEY (`id`),
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+
+CREATE TABLE `t_order_item_5`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_6`
+CREATE TABLE `t_order_item_6`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_7`
+CREATE TABLE `t_order_item_7`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_8`
+CREATE TABLE `t_order_item_8`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_9`
+CREATE TABLE `t_order_item_9`
 (
-    `id`             bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `order_sn`       varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
-    `user_id`        bigint(20) DEFAULT NULL COMMENT '用户ID',
-    `username`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
-    `train_id`       bigint(20) DEFAULT NULL COMMENT '列车ID',
-    `train_number`   varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列车车次',
-    `riding_date`    date                                    DEFAULT NULL COMMENT '乘车日期',
-    `departure`      varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '出发站点',
-    `arrival`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '到达站点',
-    `departure_time` datetime                                DEFAULT NULL COMMENT '出发时间',
-    `arrival_time`   datetime                                DEFAULT NULL COMMENT '到达时间',
-    `source`         int(3) DEFAULT NULL COMMENT '订单来源',
-    `status`         int(3) DEFAULT NULL COMMENT '订单状态',
-    `order_time`     datetime                                DEFAULT NULL COMMENT '下单时间',
-    `pay_type`       int(3) DEFAULT NULL COMMENT '支付方式',
-    `pay_time`       datetime                                DEFAULT NULL COMMENT '支付时间',
-    `create_time`    datetime                                DEFAULT NULL COMMENT '创建时间',
-    `update_time`    datetime                                DEFAULT NULL COMMENT '修改时间',
-    `del_flag`       tinyint(1) DEFAULT NULL COMMENT '删除标识',
+    `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
+    `user_id`         bigint(20) DEFAULT NULL COMMENT '用户ID',
+    `username`        varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '用户名',
+    `train_id`        bigint(20) DEFAULT NULL COMMENT '列车ID',
+    `carriage_number` varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '车厢号',
+    `seat_type`       int(3) DEFAULT NULL COMMENT '座位类型',
+    `seat_number`     varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '座位号',
+    `real_name`       varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '真实姓名',
+    `id_type`         int(3) DEFAULT NULL COMMENT '证件类型',
+    `id_card`         varchar(256) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '证件号',
+    `ticket_type`     int(3) DEFAULT NULL COMMENT '车票类型',
+    `phone`           varchar(128) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '手机号',
+    `status`          int(3) DEFAULT NULL COMMENT '订单状态',
+    `amount`          int(11) DEFAULT NULL COMMENT '订单金额',
+    `create_time`     datetime                                DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime                                DEFAULT NULL COMMENT '修改时间',
+    `del_flag`        tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY              `idx_user_id` (`user_id`) USING BTREE,
-    KEY              `idx_order_sn` (`order_sn`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单表';
+    KEY               `idx_order_sn` (`order_sn`) USING BTREE,
+    KEY               `idx_user_id` (`user_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
 
-CREATE TABLE `t_order_item_0`
+CREATE TABLE `t_order_item_archive_0`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -437,9 +1269,9 @@ CREATE TABLE `t_order_item_0`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_1`
+CREATE TABLE `t_order_item_archive_1`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -462,9 +1294,9 @@ CREATE TABLE `t_order_item_1`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_10`
+CREATE TABLE `t_order_item_archive_10`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -487,9 +1319,9 @@ CREATE TABLE `t_order_item_10`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_11`
+CREATE TABLE `t_order_item_archive_11`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -512,9 +1344,9 @@ CREATE TABLE `t_order_item_11`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_12`
+CREATE TABLE `t_order_item_archive_12`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -537,9 +1369,9 @@ CREATE TABLE `t_order_item_12`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_13`
+CREATE TABLE `t_order_item_archive_13`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -562,9 +1394,9 @@ CREATE TABLE `t_order_item_13`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_14`
+CREATE TABLE `t_order_item_archive_14`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -587,9 +1419,9 @@ CREATE TABLE `t_order_item_14`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_15`
+CREATE TABLE `t_order_item_archive_15`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -612,9 +1444,9 @@ CREATE TABLE `t_order_item_15`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_2`
+CREATE TABLE `t_order_item_archive_2`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -637,9 +1469,9 @@ CREATE TABLE `t_order_item_2`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_3`
+CREATE TABLE `t_order_item_archive_3`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -662,9 +1494,9 @@ CREATE TABLE `t_order_item_3`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_4`
+CREATE TABLE `t_order_item_archive_4`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -687,9 +1519,9 @@ CREATE TABLE `t_order_item_4`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_5`
+CREATE TABLE `t_order_item_archive_5`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -712,9 +1544,9 @@ CREATE TABLE `t_order_item_5`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_6`
+CREATE TABLE `t_order_item_archive_6`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -737,9 +1569,9 @@ CREATE TABLE `t_order_item_6`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_7`
+CREATE TABLE `t_order_item_archive_7`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -762,9 +1594,9 @@ CREATE TABLE `t_order_item_7`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_8`
+CREATE TABLE `t_order_item_archive_8`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -787,9 +1619,9 @@ CREATE TABLE `t_order_item_8`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
-CREATE TABLE `t_order_item_9`
+CREATE TABLE `t_order_item_archive_9`
 (
     `id`              bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'ID',
     `order_sn`        varchar(64) COLLATE utf8mb4_unicode_ci  DEFAULT NULL COMMENT '订单号',
@@ -812,7 +1644,7 @@ CREATE TABLE `t_order_item_9`
     PRIMARY KEY (`id`),
     KEY               `idx_order_sn` (`order_sn`) USING BTREE,
     KEY               `idx_user_id` (`user_id`) USING BTREE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='订单明细归档表';
 
 CREATE TABLE `t_order_item_passenger_0`
 (
@@ -824,7 +1656,7 @@ CREATE TABLE `t_order_item_passenger_0`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_1`
@@ -837,7 +1669,7 @@ CREATE TABLE `t_order_item_passenger_1`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_10`
@@ -850,7 +1682,7 @@ CREATE TABLE `t_order_item_passenger_10`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_11`
@@ -863,7 +1695,7 @@ CREATE TABLE `t_order_item_passenger_11`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_12`
@@ -876,7 +1708,7 @@ CREATE TABLE `t_order_item_passenger_12`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_13`
@@ -889,7 +1721,7 @@ CREATE TABLE `t_order_item_passenger_13`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_14`
@@ -902,7 +1734,7 @@ CREATE TABLE `t_order_item_passenger_14`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_15`
@@ -915,7 +1747,7 @@ CREATE TABLE `t_order_item_passenger_15`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_2`
@@ -928,7 +1760,7 @@ CREATE TABLE `t_order_item_passenger_2`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_3`
@@ -941,7 +1773,7 @@ CREATE TABLE `t_order_item_passenger_3`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_4`
@@ -954,7 +1786,7 @@ CREATE TABLE `t_order_item_passenger_4`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_5`
@@ -967,7 +1799,7 @@ CREATE TABLE `t_order_item_passenger_5`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_6`
@@ -980,7 +1812,7 @@ CREATE TABLE `t_order_item_passenger_6`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_7`
@@ -993,7 +1825,7 @@ CREATE TABLE `t_order_item_passenger_7`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_8`
@@ -1006,7 +1838,7 @@ CREATE TABLE `t_order_item_passenger_8`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
 
 CREATE TABLE `t_order_item_passenger_9`
@@ -1019,5 +1851,18 @@ CREATE TABLE `t_order_item_passenger_9`
     `update_time` datetime                                DEFAULT NULL COMMENT '修改时间',
     `del_flag`    tinyint(1) DEFAULT NULL COMMENT '删除标识',
     PRIMARY KEY (`id`),
-    KEY           `idx_id_card` (`id_card`) USING BTREE
+    KEY           `idx_id_card_create_time` (`id_card`, `create_time`, `order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='乘车人订单关系表';
+
+CREATE TABLE `t_sharding_bucket_route`
+(
+    `routing_name` varchar(64) NOT NULL COMMENT '路由名称',
+    `bucket`       int(11) NOT NULL COMMENT '虚拟桶',
+    `source_ds`    int(11) NOT NULL COMMENT '源数据源下标',
+    `source_table` int(11) NOT NULL COMMENT '源表下标',
+    `target_ds`    int(11) DEFAULT NULL COMMENT '目标数据源下标',
+    `target_table` int(11) DEFAULT NULL COMMENT '目标表下标',
+    `state`        varchar(16) NOT NULL COMMENT '迁移状态',
+    `update_time`  bigint(20) NOT NULL COMMENT '状态变更时间',
+    PRIMARY KEY (`routing_name`, `bucket`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='虚拟桶路由表，仅在路由数据源（默认 ds_0）创建';
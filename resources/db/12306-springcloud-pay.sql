@@ -381,3 +381,35 @@ CREATE TABLE `t_pay_9`
     KEY                `idx_pay_sn` (`pay_sn`) USING BTREE,
     KEY                `idx_order_sn` (`order_sn`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='支付表';
+
+CREATE TABLE `t_sharding_bucket_route`
+(
+    `routing_name` varchar(64) NOT NULL COMMENT '路由名称',
+    `bucket`       int(11) NOT NULL COMMENT '虚拟桶',
+    `source_ds`    int(11) NOT NULL COMMENT '源数据源下标',
+    `source_table` int(11) NOT NULL COMMENT '源表下标',
+    `target_ds`    int(11) DEFAULT NULL COMMENT '目标数据源下标',
+    `target_table` int(11) DEFAULT NULL COMMENT '目标表下标',
+    `state`        varchar(16) NOT NULL COMMENT '迁移状态',
+    `update_time`  bigint(20) NOT NULL COMMENT '状态变更时间',
+    PRIMARY KEY (`routing_name`, `bucket`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='虚拟桶路由表，仅在路由数据源（默认 ds_0）创建';
+
+CREATE TABLE `t_message_outbox`
+(
+    `id`              bigint(20) NOT NULL COMMENT 'ID',
+    `sharding_key`    varchar(64)  NOT NULL COMMENT '分片键，与业务数据位于同一数据源',
+    `event_name`      varchar(64)  DEFAULT NULL COMMENT '事件名称',
+    `topic`           varchar(256) NOT NULL COMMENT '主题',
+    `body`            mediumblob   NOT NULL COMMENT '消息体',
+    `properties`      varchar(2048) DEFAULT NULL COMMENT '消息属性',
+    `sent_timeout`    bigint(20) DEFAULT NULL COMMENT '发送消息超时时间',
+    `status`          tinyint(1) NOT NULL COMMENT '状态 0：待投递 1：已投递 2：投递失败',
+    `retry_count`     int(11) NOT NULL DEFAULT '0' COMMENT '已重试次数',
+    `next_retry_time` bigint(20) NOT NULL COMMENT '下次投递时间',
+    `last_error`      varchar(512) DEFAULT NULL COMMENT '最近一次投递失败原因',
+    `create_time`     datetime     DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime     DEFAULT NULL COMMENT '修改时间',
+    PRIMARY KEY (`id`),
+    KEY               `idx_status_next_retry_time` (`status`, `next_retry_time`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='本地消息表';
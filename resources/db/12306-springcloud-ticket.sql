@@ -148,3 +148,22 @@ CREATE TABLE `t_train_station_relation`
     PRIMARY KEY (`id`),
     KEY              `idx_train_id` (`train_id`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=1677689610742865921 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='列车站点关系表';
+
+CREATE TABLE `t_message_outbox`
+(
+    `id`              bigint(20) NOT NULL COMMENT 'ID',
+    `sharding_key`    varchar(64)  NOT NULL COMMENT '分片键，与业务数据位于同一数据源',
+    `event_name`      varchar(64)  DEFAULT NULL COMMENT '事件名称',
+    `topic`           varchar(256) NOT NULL COMMENT '主题',
+    `body`            mediumblob   NOT NULL COMMENT '消息体',
+    `properties`      varchar(2048) DEFAULT NULL COMMENT '消息属性',
+    `sent_timeout`    bigint(20) DEFAULT NULL COMMENT '发送消息超时时间',
+    `status`          tinyint(1) NOT NULL COMMENT '状态 0：待投递 1：已投递 2：投递失败',
+    `retry_count`     int(11) NOT NULL DEFAULT '0' COMMENT '已重试次数',
+    `next_retry_time` bigint(20) NOT NULL COMMENT '下次投递时间',
+    `last_error`      varchar(512) DEFAULT NULL COMMENT '最近一次投递失败原因',
+    `create_time`     datetime     DEFAULT NULL COMMENT '创建时间',
+    `update_time`     datetime     DEFAULT NULL COMMENT '修改时间',
+    PRIMARY KEY (`id`),
+    KEY               `idx_status_next_retry_time` (`status`, `next_retry_time`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='本地消息表';
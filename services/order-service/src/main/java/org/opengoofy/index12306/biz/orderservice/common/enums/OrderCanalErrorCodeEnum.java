@@ -38,7 +38,9 @@ public enum OrderCanalErrorCodeEnum implements IErrorCode {
 
     ORDER_STATUS_REVERSAL_ERROR("B006005", "订单状态反转失败，请稍后再试"),
 
-    ORDER_DELETE_ERROR("B006006", "订单状态反转失败，请稍后再试");
+    ORDER_DELETE_ERROR("B006006", "订单状态反转失败，请稍后再试"),
+
+    ORDER_ITEM_STATUS_CONFLICT_ERROR("B006007", "订单明细状态与订单状态不一致，请检查相关订单记录");
 
     /**
      * 错误码
@@ -20,6 +20,11 @@ package org.opengoofy.index12306.biz.orderservice.common.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 订单明细状态枚举
  *
@@ -60,4 +65,37 @@ public enum OrderItemStatusEnum {
 
     @Getter
     private final int status;
+
+    /**
+     * 状态流转表：Key 为当前状态，Value 为允许流转到的目标状态，未声明的流转均视为非法
+     */
+    private static final Map<OrderItemStatusEnum, Set<OrderItemStatusEnum>> TRANSITIONS = new EnumMap<>(OrderItemStatusEnum.class);
+
+    static {
+        TRANSITIONS.put(PENDING_PAYMENT, EnumSet.of(ALREADY_PAID, CLOSED));
+        TRANSITIONS.put(ALREADY_PAID, EnumSet.of(ALREADY_PULL_IN, REFUNDED, RESCHEDULED));
+        TRANSITIONS.put(ALREADY_PULL_IN, EnumSet.noneOf(OrderItemStatusEnum.class));
+        TRANSITIONS.put(CLOSED, EnumSet.noneOf(OrderItemStatusEnum.class));
+        TRANSITIONS.put(REFUNDED, EnumSet.noneOf(OrderItemStatusEnum.class));
+        TRANSITIONS.put(RESCHEDULED, EnumSet.noneOf(OrderItemStatusEnum.class));
+    }
+
+    /**
+     * 判断当前状态是否允许流转到目标状态
+     */
+    public boolean canTransitTo(OrderItemStatusEnum target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    /**
+     * 根据状态值获取枚举，不存在时返回 null
+     */
+    public static OrderItemStatusEnum of(int status) {
+        for (OrderItemStatusEnum each : values()) {
+            if (each.status == status) {
+                return each;
+            }
+        }
+        return null;
+    }
 }
@@ -20,6 +20,11 @@ package org.opengoofy.index12306.biz.orderservice.common.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 订单状态枚举
  *
@@ -60,4 +65,37 @@ public enum OrderStatusEnum {
 
     @Getter
     private final int status;
+
+    /**
+     * 状态流转表：Key 为当前状态，Value 为允许流转到的目标状态，未声明的流转均视为非法
+     */
+    private static final Map<OrderStatusEnum, Set<OrderStatusEnum>> TRANSITIONS = new EnumMap<>(OrderStatusEnum.class);
+
+    static {
+        TRANSITIONS.put(PENDING_PAYMENT, EnumSet.of(ALREADY_PAID, CLOSED));
+        TRANSITIONS.put(ALREADY_PAID, EnumSet.of(PARTIAL_REFUND, FULL_REFUND, COMPLETED));
+        TRANSITIONS.put(PARTIAL_REFUND, EnumSet.of(FULL_REFUND, COMPLETED));
+        TRANSITIONS.put(FULL_REFUND, EnumSet.noneOf(OrderStatusEnum.class));
+        TRANSITIONS.put(COMPLETED, EnumSet.noneOf(OrderStatusEnum.class));
+        TRANSITIONS.put(CLOSED, EnumSet.noneOf(OrderStatusEnum.class));
+    }
+
+    /**
+     * 判断当前状态是否允许流转到目标状态
+     */
+    public boolean canTransitTo(OrderStatusEnum target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    /**
+     * 根据状态值获取枚举，不存在时返回 null
+     */
+    public static OrderStatusEnum of(int status) {
+        for (OrderStatusEnum each : values()) {
+            if (each.status == status) {
+                return each;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.common.enums;
+
+/**
+ * 订单状态流转结果枚举
+ *
+ *
+ */
+public enum OrderStatusTransitionResultEnum {
+
+    /**
+     * 流转成功
+     */
+    SUCCESS,
+
+    /**
+     * 订单不存在
+     */
+    NOT_FOUND,
+
+    /**
+     * 订单已处于目标状态，通常由重复请求引起
+     */
+    DUPLICATE,
+
+    /**
+     * 订单当前状态与期望的源状态不一致，已被其他请求抢先流转
+     */
+    STATUS_CONFLICT,
+
+    /**
+     * 流转表中未声明源状态到目标状态的流转
+     */
+    ILLEGAL_TRANSITION
+}
@@ -18,6 +18,7 @@
 package org.opengoofy.index12306.biz.orderservice.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.orderservice.dto.req.BatchCloseTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.CancelTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.TicketOrderCreateReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.TicketOrderPageQueryReqDTO;
@@ -34,6 +35,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 车票订单接口控制层
  *
@@ -85,6 +88,14 @@ public class TicketOrderController {
         return Results.success(orderService.closeTickOrder(requestParam));
     }
 
+    /**
+     * 车票订单批量关闭
+     */
+    @PostMapping("/api/order-service/order/ticket/close/batch")
+    public Result<List<String>> closeTickOrders(@RequestBody BatchCloseTicketOrderReqDTO requestParam) {
+        return Results.success(orderService.closeTickOrders(requestParam));
+    }
+
     /**
      * 车票订单取消
      */
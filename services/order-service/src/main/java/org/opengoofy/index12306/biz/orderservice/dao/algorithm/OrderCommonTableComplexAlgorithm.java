@@ -18,13 +18,9 @@
 package org.opengoofy.index12306.biz.orderservice.dao.algorithm;
 
 import cn.hutool.core.collection.CollUtil;
-import com.google.common.base.Preconditions;
-import lombok.Getter;
-import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
-import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
+import org.opengoofy.index12306.framework.starter.database.sharding.algorithm.AbstractBucketTableComplexAlgorithm;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
 
@@ -33,59 +29,19 @@ import java.util.Properties;
  *
  *
  */
-public class OrderCommonTableComplexAlgorithm implements ComplexKeysShardingAlgorithm {
-
-    @Getter
-    private Properties props;
-
-    private int shardingCount;
-
-    private static final String SHARDING_COUNT_KEY = "sharding-count";
+public class OrderCommonTableComplexAlgorithm extends AbstractBucketTableComplexAlgorithm {
 
     @Override
-    public Collection<String> doSharding(Collection availableTargetNames, ComplexKeysShardingValue shardingValue) {
-        Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap = shardingValue.getColumnNameAndShardingValuesMap();
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        if (CollUtil.isNotEmpty(columnNameAndShardingValuesMap)) {
-            String userId = "user_id";
-            Collection<Comparable<?>> customerUserIdCollection = columnNameAndShardingValuesMap.get(userId);
-            if (CollUtil.isNotEmpty(customerUserIdCollection)) {
-                Comparable<?> comparable = customerUserIdCollection.stream().findFirst().get();
-                if (comparable instanceof String) {
-                    String actualOrderSn = comparable.toString();
-                    result.add(shardingValue.getLogicTableName() + "_" + hashShardingValue(actualOrderSn.substring(Math.max(actualOrderSn.length() - 6, 0))) % shardingCount);
-                } else {
-                    String dbSuffix = String.valueOf(hashShardingValue((Long) comparable % 1000000) % shardingCount);
-                    result.add(shardingValue.getLogicTableName() + "_" + dbSuffix);
-                }
-            } else {
-                String orderSn = "order_sn";
-                Collection<Comparable<?>> orderSnCollection = columnNameAndShardingValuesMap.get(orderSn);
-                Comparable<?> comparable = orderSnCollection.stream().findFirst().get();
-                if (comparable instanceof String) {
-                    String actualOrderSn = comparable.toString();
-                    result.add(shardingValue.getLogicTableName() + "_" + hashShardingValue(actualOrderSn.substring(Math.max(actualOrderSn.length() - 6, 0))) % shardingCount);
-                } else {
-                    String dbSuffix = String.valueOf(hashShardingValue((Long) comparable % 1000000) % shardingCount);
-                    result.add(shardingValue.getLogicTableName() + "_" + dbSuffix);
-                }
-            }
-        }
-        return result;
+    protected Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+        Collection<Comparable<?>> customerUserIdCollection = columnNameAndShardingValuesMap.get("user_id");
+        return CollUtil.isNotEmpty(customerUserIdCollection)
+                ? customerUserIdCollection
+                : columnNameAndShardingValuesMap.get("order_sn");
     }
 
     @Override
     public void init(Properties props) {
-        this.props = props;
-        shardingCount = getShardingCount(props);
-    }
-
-    private int getShardingCount(final Properties props) {
-        Preconditions.checkArgument(props.containsKey(SHARDING_COUNT_KEY), "Sharding count cannot be null.");
-        return Integer.parseInt(props.getProperty(SHARDING_COUNT_KEY));
-    }
-
-    private long hashShardingValue(final Comparable<?> shardingValue) {
-        return Math.abs((long) shardingValue.hashCode());
+        super.init(props);
+        OrderShardingUtil.registerShardingCount(getRoutingName(), getShardingCount());
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.dao.algorithm;
+
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoute;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingRegistry;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketRoutingTable;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.BucketState;
+import org.opengoofy.index12306.framework.starter.database.sharding.core.ShardingGeneUtil;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 订单分片路由工具类
+ * 与 {@link OrderCommonDataBaseComplexAlgorithm}、{@link OrderCommonTableComplexAlgorithm} 共用同一套分片哈希及虚拟桶路由表，
+ * 供批量查询、批量写入按目标分片对订单号分组，保证每组 {@code IN} 查询只落在一个真实库表
+ *
+ *
+ */
+public final class OrderShardingUtil {
+
+    /**
+     * 各分片算法分片数量的最小公倍数，哈希值对其取模相同的订单号必定路由到同一库表
+     */
+    private static final AtomicLong ROUTE_MODULUS = new AtomicLong(1L);
+
+    private static volatile String routingName;
+
+    private OrderShardingUtil() {
+    }
+
+    /**
+     * 计算分片哈希值
+     * 字符串类型（订单号）取后 6 位计算哈希，数值类型（用户 ID）对 1000000 取模后计算哈希
+     */
+    public static long shardingHash(Comparable<?> shardingValue) {
+        return ShardingGeneUtil.hash(shardingValue);
+    }
+
+    /**
+     * 分片算法初始化时登记虚拟桶路由名称及分片数量
+     */
+    static void registerShardingCount(String actualRoutingName, int shardingCount) {
+        ROUTE_MODULUS.getAndUpdate(each -> lcm(each, shardingCount));
+        routingName = actualRoutingName;
+    }
+
+    /**
+     * 获取订单号的路由分组 Key，分组 Key 相同的订单号位于同一库表
+     * 登记了路由的虚拟桶按其物理节点分组，迁移中的虚拟桶单独成组，保证双写时同一组内的订单都需要写入两个节点；
+     * 分片算法尚未初始化时退化为按用户基因分组，分组粒度更细但结果同样正确
+     */
+    public static String routeKey(String orderSn) {
+        String actualRoutingName = routingName;
+        if (actualRoutingName == null) {
+            return orderSn.substring(Math.max(orderSn.length() - ShardingGeneUtil.GENE_LENGTH, 0));
+        }
+        long hash = ShardingGeneUtil.hash(orderSn);
+        BucketRoutingTable routingTable = BucketRoutingRegistry.get(actualRoutingName);
+        if (routingTable != null) {
+            int bucket = (int) (hash % routingTable.getBucketCount());
+            BucketRoute route = routingTable.getRoute(bucket);
+            if (route != null) {
+                return route.getState() == BucketState.STABLE
+                        ? "n" + route.getSourceDataSource() + "_" + route.getSourceTable()
+                        : "b" + bucket;
+            }
+        }
+        return String.valueOf(hash % ROUTE_MODULUS.get());
+    }
+
+    private static long lcm(long left, long right) {
+        long a = left;
+        long b = right;
+        while (b != 0L) {
+            long temp = a % b;
+            a = b;
+            b = temp;
+        }
+        return left / a * right;
+    }
+}
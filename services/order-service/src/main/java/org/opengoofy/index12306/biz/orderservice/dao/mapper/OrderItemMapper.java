@@ -17,13 +17,31 @@
 
 package org.opengoofy.index12306.biz.orderservice.dao.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
+import org.opengoofy.index12306.framework.starter.database.base.BatchInsertMapper;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 订单明细持久层
  *
  *
  */
-public interface OrderItemMapper extends BaseMapper<OrderItemDO> {
+public interface OrderItemMapper extends BatchInsertMapper<OrderItemDO> {
+
+    /**
+     * 根据订单号锁定全部订单明细，不经过逻辑删除，需在事务内调用
+     */
+    @Select("<script>SELECT * FROM t_order_item WHERE order_sn IN <foreach collection='orderSns' item='each' open='(' separator=',' close=')'>#{each}</foreach> FOR UPDATE</script>")
+    List<OrderItemDO> selectForArchiveByOrderSns(@Param("orderSns") Collection<String> orderSns);
+
+    /**
+     * 根据订单号物理删除，不经过逻辑删除，用于归档迁移后释放在线表空间
+     */
+    @Delete("<script>DELETE FROM t_order_item WHERE order_sn IN <foreach collection='orderSns' item='each' open='(' separator=',' close=')'>#{each}</foreach></script>")
+    int deletePhysicallyByOrderSns(@Param("orderSns") Collection<String> orderSns);
 }
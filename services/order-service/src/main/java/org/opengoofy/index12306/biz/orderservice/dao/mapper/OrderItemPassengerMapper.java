@@ -17,13 +17,13 @@
 
 package org.opengoofy.index12306.biz.orderservice.dao.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemPassengerDO;
+import org.opengoofy.index12306.framework.starter.database.base.BatchInsertMapper;
 
 /**
  * 乘车人订单关系持久层
  *
  *
  */
-public interface OrderItemPassengerMapper extends BaseMapper<OrderItemPassengerDO> {
+public interface OrderItemPassengerMapper extends BatchInsertMapper<OrderItemPassengerDO> {
 }
@@ -17,13 +17,38 @@
 
 package org.opengoofy.index12306.biz.orderservice.dao.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
+import org.opengoofy.index12306.framework.starter.database.base.BatchInsertMapper;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 /**
  * 订单持久层
  *
  *
  */
-public interface OrderMapper extends BaseMapper<OrderDO> {
+public interface OrderMapper extends BatchInsertMapper<OrderDO> {
+
+    /**
+     * 查询待归档订单，不经过逻辑删除，已逻辑删除的订单同样需要归档
+     */
+    @Select("SELECT * FROM t_order WHERE riding_date < #{archiveCutoff} AND status != #{excludeStatus} ORDER BY riding_date LIMIT #{limit}")
+    List<OrderDO> selectArchiveCandidates(@Param("archiveCutoff") Date archiveCutoff, @Param("excludeStatus") Integer excludeStatus, @Param("limit") int limit);
+
+    /**
+     * 根据订单号锁定仍满足归档条件的订单，不经过逻辑删除，需在事务内调用
+     */
+    @Select("<script>SELECT * FROM t_order WHERE order_sn IN <foreach collection='orderSns' item='each' open='(' separator=',' close=')'>#{each}</foreach> AND riding_date &lt; #{archiveCutoff} AND status != #{excludeStatus} FOR UPDATE</script>")
+    List<OrderDO> selectForArchiveByOrderSns(@Param("orderSns") Collection<String> orderSns, @Param("archiveCutoff") Date archiveCutoff, @Param("excludeStatus") Integer excludeStatus);
+
+    /**
+     * 根据订单号物理删除，不经过逻辑删除，用于归档迁移后释放在线表空间
+     */
+    @Delete("<script>DELETE FROM t_order WHERE order_sn IN <foreach collection='orderSns' item='each' open='(' separator=',' close=')'>#{each}</foreach></script>")
+    int deletePhysicallyByOrderSns(@Param("orderSns") Collection<String> orderSns);
 }
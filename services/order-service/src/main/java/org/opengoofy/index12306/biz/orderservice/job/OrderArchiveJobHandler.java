@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.job;
+
+import com.xxl.job.core.handler.IJobHandler;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.orderservice.common.enums.OrderStatusEnum;
+import org.opengoofy.index12306.biz.orderservice.dao.algorithm.OrderShardingUtil;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemMapper;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderMapper;
+import org.opengoofy.index12306.biz.orderservice.service.archive.OrderArchiveRouter;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 订单归档定时任务
+ * 分批读取乘车日期早于保留期的非待支付订单（包括已逻辑删除的订单），按订单所在分片分组，每组在一个本地短事务内锁定订单及订单明细，写入归档表后从在线表物理删除；
+ * 每批只锁定少量行，任务中断后重新执行即可从剩余订单继续
+ *
+ *
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class OrderArchiveJobHandler extends IJobHandler {
+
+    private static final String LOCK_ORDER_ARCHIVE = "index12306-order-service:lock:order-archive";
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final OrderArchiveRouter orderArchiveRouter;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 每批读取的订单数量
+     */
+    @Value("${order.archive.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 单次任务最多执行的批次数，避免单次任务运行时间过长
+     */
+    @Value("${order.archive.max-batches-per-run:500}")
+    private int maxBatchesPerRun;
+
+    @XxlJob(value = "orderArchiveJobHandler")
+    @GetMapping("/api/order-service/order-archive/job/execute")
+    @Override
+    public void execute() {
+        if (!orderArchiveRouter.isEnabled()) {
+            log.info("[订单归档] 未开启订单归档，跳过执行");
+            return;
+        }
+        RLock lock = redissonClient.getLock(LOCK_ORDER_ARCHIVE);
+        if (!lock.tryLock()) {
+            log.warn("[订单归档] 已有归档任务在执行");
+            return;
+        }
+        try {
+            Date archiveCutoff = orderArchiveRouter.archiveCutoff();
+            long archived = 0L;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<OrderDO> orderDOList = orderMapper.selectArchiveCandidates(archiveCutoff, OrderStatusEnum.PENDING_PAYMENT.getStatus(), batchSize);
+                if (orderDOList.isEmpty()) {
+                    break;
+                }
+                Map<String, List<String>> shardGroups = orderDOList.stream()
+                        .collect(Collectors.groupingBy(each -> OrderShardingUtil.routeKey(each.getOrderSn()), Collectors.mapping(OrderDO::getOrderSn, Collectors.toList())));
+                for (List<String> each : shardGroups.values()) {
+                    archived += transactionTemplate.execute(status -> archive(each, archiveCutoff));
+                }
+                if (orderDOList.size() < batchSize) {
+                    break;
+                }
+            }
+            log.info("[订单归档] 归档截止乘车日期：{}，本次归档订单数量：{}", archiveCutoff, archived);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int archive(List<String> candidateOrderSns, Date archiveCutoff) {
+        // 事务内重新查询并锁定订单及其全部明细，包括已逻辑删除的行，只迁移并删除锁定期间读到的数据
+        List<OrderDO> orderDOList = orderMapper.selectForArchiveByOrderSns(candidateOrderSns, archiveCutoff, OrderStatusEnum.PENDING_PAYMENT.getStatus());
+        if (orderDOList.isEmpty()) {
+            return 0;
+        }
+        Collection<String> orderSns = orderDOList.stream().map(OrderDO::getOrderSn).toList();
+        List<OrderItemDO> orderItemDOList = orderItemMapper.selectForArchiveByOrderSns(orderSns);
+        // 保留原主键、时间及逻辑删除字段写入归档表，同一分组的订单位于同一分片，归档表与在线表分片规则一致，全部在一个本地事务内完成
+        OrderArchiveRouter.onArchive(() -> {
+            orderMapper.insertBatchSomeColumn(orderDOList);
+            return orderItemDOList.isEmpty() ? 0 : orderItemMapper.insertBatchSomeColumn(orderItemDOList);
+        });
+        orderItemMapper.deletePhysicallyByOrderSns(orderSns);
+        orderMapper.deletePhysicallyByOrderSns(orderSns);
+        return orderDOList.size();
+    }
+}
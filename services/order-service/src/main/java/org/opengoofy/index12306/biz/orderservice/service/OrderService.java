@@ -18,6 +18,7 @@
 package org.opengoofy.index12306.biz.orderservice.service;
 
 import org.opengoofy.index12306.biz.orderservice.dto.domain.OrderStatusReversalDTO;
+import org.opengoofy.index12306.biz.orderservice.dto.req.BatchCloseTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.CancelTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.TicketOrderCreateReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.TicketOrderPageQueryReqDTO;
@@ -27,6 +28,8 @@ import org.opengoofy.index12306.biz.orderservice.dto.resp.TicketOrderDetailSelfR
 import org.opengoofy.index12306.biz.orderservice.mq.event.PayResultCallbackOrderEvent;
 import org.opengoofy.index12306.framework.starter.convention.page.PageResponse;
 
+import java.util.List;
+
 /**
  * 订单接口层
  *
@@ -65,6 +68,14 @@ public interface OrderService {
      */
     boolean closeTickOrder(CancelTicketOrderReqDTO requestParam);
 
+    /**
+     * 批量关闭火车票订单
+     *
+     * @param requestParam 批量关闭火车票订单入参
+     * @return 已处于关闭状态的订单号，包括由本次调用关闭及此前已关闭的订单，已支付或不存在的订单不在其中
+     */
+    List<String> closeTickOrders(BatchCloseTicketOrderReqDTO requestParam);
+
     /**
      * 取消火车票订单
      *
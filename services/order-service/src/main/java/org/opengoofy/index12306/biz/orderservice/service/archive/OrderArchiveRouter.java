@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.service.archive;
+
+import cn.hutool.core.date.DateUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderMapper;
+import org.opengoofy.index12306.biz.orderservice.service.loader.OrderBatchLoader;
+import org.opengoofy.index12306.biz.orderservice.service.orderid.OrderIdGeneratorManager;
+import org.opengoofy.index12306.framework.starter.convention.page.PageRequest;
+import org.opengoofy.index12306.framework.starter.database.toolkit.KeysetCursor;
+import org.opengoofy.index12306.framework.starter.database.toolkit.PageUtil;
+import org.opengoofy.index12306.framework.starter.database.toolkit.TableSuffixContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 订单冷热分层读取路由
+ * 乘车日期早于保留期的非待支付订单由归档任务迁移到结构相同的归档表（{@code t_order_archive}、{@code t_order_item_archive}），
+ * 下单时间不晚于乘车日期，因此订单号中嵌入的下单时间仍在保留期内的订单必定位于在线表，只有更早的订单在在线表未命中时才回查归档表；
+ * 历史订单分页同时读取两层并按（下单时间, 订单号）倒序归并
+ *
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveRouter {
+
+    /**
+     * 归档表名后缀
+     */
+    public static final String ARCHIVE_TABLE_SUFFIX = "_archive";
+
+    private static final Comparator<OrderDO> ORDER_TIME_DESC = Comparator.comparing(OrderDO::getOrderTime)
+            .thenComparing(OrderDO::getOrderSn)
+            .reversed();
+
+    private final OrderMapper orderMapper;
+    private final OrderBatchLoader orderBatchLoader;
+
+    /**
+     * 是否开启订单归档，关闭时只读写在线表
+     */
+    @Getter
+    @Value("${order.archive.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 在线表保留天数，乘车日期早于该天数的订单会被归档
+     */
+    @Value("${order.archive.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * 在归档表上执行读写
+     */
+    public static <T> T onArchive(Supplier<T> supplier) {
+        return TableSuffixContext.call(ARCHIVE_TABLE_SUFFIX, supplier);
+    }
+
+    /**
+     * 归档截止时间，乘车日期早于该时间的订单可被归档
+     */
+    public Date archiveCutoff() {
+        return DateUtil.offsetDay(DateUtil.beginOfDay(new Date()), -retentionDays);
+    }
+
+    /**
+     * 根据订单号中嵌入的下单时间判断订单是否可能已被归档
+     */
+    public boolean mayBeArchived(String orderSn) {
+        if (!enabled) {
+            return false;
+        }
+        long orderTime = OrderIdGeneratorManager.parseOrderTime(orderSn);
+        return orderTime < 0 || orderTime < archiveCutoff().getTime();
+    }
+
+    /**
+     * 批量加载订单，在线表未命中且可能已归档的订单回查归档表
+     *
+     * @param orderSns 订单号集合
+     * @return 订单号与订单的映射
+     */
+    public Map<String, OrderDO> loadOrders(Collection<String> orderSns) {
+        Map<String, OrderDO> result = new HashMap<>(orderBatchLoader.loadOrders(orderSns));
+        List<String> archivedOrderSns = filterArchived(orderSns, result);
+        if (!archivedOrderSns.isEmpty()) {
+            result.putAll(onArchive(() -> orderBatchLoader.loadOrders(archivedOrderSns)));
+        }
+        return result;
+    }
+
+    /**
+     * 批量加载订单明细，在线表未命中且可能已归档的订单回查归档表
+     *
+     * @param orderSns 订单号集合
+     * @param idCard   乘车人证件号，为空时加载订单全部明细
+     * @return 订单号与订单明细集合的映射
+     */
+    public Map<String, List<OrderItemDO>> loadOrderItems(Collection<String> orderSns, String idCard) {
+        Map<String, List<OrderItemDO>> result = new HashMap<>(orderBatchLoader.loadOrderItems(orderSns, idCard));
+        List<String> archivedOrderSns = filterArchived(orderSns, result);
+        if (!archivedOrderSns.isEmpty()) {
+            result.putAll(onArchive(() -> orderBatchLoader.loadOrderItems(archivedOrderSns, idCard)));
+        }
+        return result;
+    }
+
+    /**
+     * 跨在线表与归档表按（下单时间, 订单号）倒序分页
+     * 两层各取前 current * size 条归并后截取当前页，深分页应使用 {@link #seek} 游标翻页
+     *
+     * @param queryWrapper 查询条件，每次调用返回新的条件对象
+     * @param pageRequest  分页参数
+     */
+    public IPage<OrderDO> page(Supplier<LambdaQueryWrapper<OrderDO>> queryWrapper, PageRequest pageRequest) {
+        long size = pageRequest.getSize();
+        long limit = pageRequest.getCurrent() * size;
+        Supplier<List<OrderDO>> topQuery = () -> orderMapper.selectPage(
+                new Page<OrderDO>(1, limit, false),
+                queryWrapper.get().orderByDesc(OrderDO::getOrderTime).orderByDesc(OrderDO::getOrderSn)
+        ).getRecords();
+        List<OrderDO> hotRecords = topQuery.get();
+        List<OrderDO> archivedRecords = reachesArchive(hotRecords, limit) ? onArchive(topQuery) : List.of();
+        long total = orderMapper.selectCount(queryWrapper.get()) + onArchive(() -> orderMapper.selectCount(queryWrapper.get()));
+        Page<OrderDO> result = new Page<>(pageRequest.getCurrent(), size, total);
+        result.setRecords(Stream.concat(hotRecords.stream(), archivedRecords.stream())
+                .sorted(ORDER_TIME_DESC)
+                .skip(limit - size)
+                .limit(size)
+                .toList());
+        return result;
+    }
+
+    /**
+     * 跨在线表与归档表按（下单时间, 订单号）倒序游标翻页
+     *
+     * @param queryWrapper 查询条件，每次调用返回新的条件对象
+     * @param cursor       上一页游标
+     * @param size         每页条数
+     * @return 最多 size + 1 条记录，供 {@link PageUtil#convert(List, long, java.util.function.Function, java.util.function.Function)} 判断是否存在下一页
+     */
+    public List<OrderDO> seek(Supplier<LambdaQueryWrapper<OrderDO>> queryWrapper, KeysetCursor cursor, long size) {
+        Supplier<List<OrderDO>> seekQuery = () -> orderMapper.selectList(
+                PageUtil.seek(queryWrapper.get(), OrderDO::getOrderTime, OrderDO::getOrderSn, cursor, size)
+        );
+        List<OrderDO> hotRecords = seekQuery.get();
+        if (!reachesArchive(hotRecords, size + 1)) {
+            return hotRecords;
+        }
+        return Stream.concat(hotRecords.stream(), onArchive(seekQuery).stream())
+                .sorted(ORDER_TIME_DESC)
+                .limit(size + 1)
+                .toList();
+    }
+
+    /**
+     * 在线表已取满且最后一条仍在保留期内时，归档表中的订单必定更早，无需读取
+     */
+    private boolean reachesArchive(List<OrderDO> hotRecords, long limit) {
+        return hotRecords.size() < limit
+                || hotRecords.get(hotRecords.size() - 1).getOrderTime().before(archiveCutoff());
+    }
+
+    private List<String> filterArchived(Collection<String> orderSns, Map<String, ?> hotResult) {
+        return orderSns.stream()
+                .filter(each -> !hotResult.containsKey(each) && mayBeArchived(each))
+                .toList();
+    }
+}
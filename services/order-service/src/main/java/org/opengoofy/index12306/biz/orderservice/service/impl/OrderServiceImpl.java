@@ -17,8 +17,8 @@
 
 package org.opengoofy.index12306.biz.orderservice.service.impl;
 
+import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.collection.ListUtil;
-import cn.hutool.core.text.StrBuilder;
 import com.alibaba.fastjson2.JSON;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
@@ -29,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.opengoofy.index12306.biz.orderservice.common.enums.OrderCanalErrorCodeEnum;
 import org.opengoofy.index12306.biz.orderservice.common.enums.OrderItemStatusEnum;
 import org.opengoofy.index12306.biz.orderservice.common.enums.OrderStatusEnum;
+import org.opengoofy.index12306.biz.orderservice.common.enums.OrderStatusTransitionResultEnum;
 import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
 import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
 import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemPassengerDO;
@@ -36,6 +37,7 @@ import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemMapper;
 import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemPassengerMapper;
 import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderMapper;
 import org.opengoofy.index12306.biz.orderservice.dto.domain.OrderStatusReversalDTO;
+import org.opengoofy.index12306.biz.orderservice.dto.req.BatchCloseTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.CancelTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.TicketOrderCreateReqDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.req.TicketOrderItemCreateReqDTO;
@@ -45,23 +47,27 @@ import org.opengoofy.index12306.biz.orderservice.dto.resp.TicketOrderDetailRespD
 import org.opengoofy.index12306.biz.orderservice.dto.resp.TicketOrderDetailSelfRespDTO;
 import org.opengoofy.index12306.biz.orderservice.dto.resp.TicketOrderPassengerDetailRespDTO;
 import org.opengoofy.index12306.biz.orderservice.mq.event.PayResultCallbackOrderEvent;
-import org.opengoofy.index12306.biz.orderservice.service.OrderItemService;
 import org.opengoofy.index12306.biz.orderservice.service.OrderPassengerRelationService;
 import org.opengoofy.index12306.biz.orderservice.service.OrderService;
+import org.opengoofy.index12306.biz.orderservice.service.archive.OrderArchiveRouter;
 import org.opengoofy.index12306.biz.orderservice.service.orderid.OrderIdGeneratorManager;
+import org.opengoofy.index12306.biz.orderservice.service.statemachine.OrderStatusMachine;
+import org.opengoofy.index12306.biz.orderservice.service.writer.OrderGroupCommitter;
 import org.opengoofy.index12306.framework.starter.common.toolkit.BeanUtil;
 import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
 import org.opengoofy.index12306.framework.starter.convention.exception.ServiceException;
 import org.opengoofy.index12306.framework.starter.convention.page.PageResponse;
+import org.opengoofy.index12306.framework.starter.database.toolkit.KeysetCursor;
 import org.opengoofy.index12306.framework.starter.database.toolkit.PageUtil;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 订单服务接口层实现
@@ -75,16 +81,28 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
-    private final OrderItemService orderItemService;
     private final OrderPassengerRelationService orderPassengerRelationService;
     private final OrderItemPassengerMapper orderItemPassengerMapper;
-    private final RedissonClient redissonClient;
+    private final OrderStatusMachine orderStatusMachine;
+    private final OrderArchiveRouter orderArchiveRouter;
+    private final OrderGroupCommitter orderGroupCommitter;
 
     @Override
     public TicketOrderDetailRespDTO queryTicketOrderByOrderSn(String orderSn) {
+        TicketOrderDetailRespDTO result = queryTicketOrderDetail(orderSn);
+        if (result == null && orderArchiveRouter.mayBeArchived(orderSn)) {
+            result = OrderArchiveRouter.onArchive(() -> queryTicketOrderDetail(orderSn));
+        }
+        return result;
+    }
+
+    private TicketOrderDetailRespDTO queryTicketOrderDetail(String orderSn) {
         LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
                 .eq(OrderDO::getOrderSn, orderSn);
         OrderDO orderDO = orderMapper.selectOne(queryWrapper);
+        if (orderDO == null) {
+            return null;
+        }
         TicketOrderDetailRespDTO result = BeanUtil.convert(orderDO, TicketOrderDetailRespDTO.class);
         LambdaQueryWrapper<OrderItemDO> orderItemQueryWrapper = Wrappers.lambdaQuery(OrderItemDO.class)
                 .eq(OrderItemDO::getOrderSn, orderSn);
@@ -95,22 +113,43 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public PageResponse<TicketOrderDetailRespDTO> pageTicketOrder(TicketOrderPageQueryReqDTO requestParam) {
-        LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
+        List<Integer> orderStatusList = buildOrderStatusList(requestParam);
+        Supplier<LambdaQueryWrapper<OrderDO>> queryWrapper = () -> Wrappers.lambdaQuery(OrderDO.class)
                 .eq(OrderDO::getUserId, requestParam.getUserId())
-                .in(OrderDO::getStatus, buildOrderStatusList(requestParam))
-                .orderByDesc(OrderDO::getOrderTime);
-        IPage<OrderDO> orderPage = orderMapper.selectPage(PageUtil.convert(requestParam), queryWrapper);
-        return PageUtil.convert(orderPage, each -> {
-            TicketOrderDetailRespDTO result = BeanUtil.convert(each, TicketOrderDetailRespDTO.class);
-            LambdaQueryWrapper<OrderItemDO> orderItemQueryWrapper = Wrappers.lambdaQuery(OrderItemDO.class)
-                    .eq(OrderItemDO::getOrderSn, each.getOrderSn());
-            List<OrderItemDO> orderItemDOList = orderItemMapper.selectList(orderItemQueryWrapper);
-            result.setPassengerDetails(BeanUtil.convert(orderItemDOList, TicketOrderPassengerDetailRespDTO.class));
-            return result;
-        });
+                .in(OrderDO::getStatus, orderStatusList);
+        // 待支付订单不会被归档，只有历史订单分页需要合并读取归档表
+        boolean withArchive = orderArchiveRouter.isEnabled() && !orderStatusList.contains(OrderStatusEnum.PENDING_PAYMENT.getStatus());
+        KeysetCursor cursor = KeysetCursor.decode(requestParam.getCursor());
+        if (cursor == null) {
+            IPage<OrderDO> orderPage = withArchive
+                    ? orderArchiveRouter.page(queryWrapper, requestParam)
+                    : orderMapper.selectPage(PageUtil.convert(requestParam), queryWrapper.get().orderByDesc(OrderDO::getOrderTime).orderByDesc(OrderDO::getOrderSn));
+            Map<String, List<OrderItemDO>> orderItemMap = loadOrderItems(orderPage.getRecords(), orderPage.getSize());
+            return PageUtil.convert(orderPage, OrderServiceImpl::buildCursor, each -> buildTicketOrderDetail(each, orderItemMap));
+        }
+        // 携带游标时按（下单时间, 订单号）定位，避免深分页逐页扫描并丢弃前序记录
+        List<OrderDO> orderDOList = withArchive
+                ? orderArchiveRouter.seek(queryWrapper, cursor, requestParam.getSize())
+                : orderMapper.selectList(PageUtil.seek(queryWrapper.get(), OrderDO::getOrderTime, OrderDO::getOrderSn, cursor, requestParam.getSize()));
+        Map<String, List<OrderItemDO>> orderItemMap = loadOrderItems(orderDOList, requestParam.getSize());
+        return PageUtil.convert(orderDOList, requestParam.getSize(), OrderServiceImpl::buildCursor, each -> buildTicketOrderDetail(each, orderItemMap));
+    }
+
+    private Map<String, List<OrderItemDO>> loadOrderItems(List<OrderDO> orderDOList, long size) {
+        return orderArchiveRouter.loadOrderItems(orderDOList.stream().limit(size).map(OrderDO::getOrderSn).toList(), null);
+    }
+
+    private static KeysetCursor buildCursor(OrderDO orderDO) {
+        return new KeysetCursor(orderDO.getOrderTime(), orderDO.getOrderSn());
+    }
+
+    private static TicketOrderDetailRespDTO buildTicketOrderDetail(OrderDO orderDO, Map<String, List<OrderItemDO>> orderItemMap) {
+        TicketOrderDetailRespDTO result = BeanUtil.convert(orderDO, TicketOrderDetailRespDTO.class);
+        List<OrderItemDO> orderItemDOList = orderItemMap.getOrDefault(orderDO.getOrderSn(), Collections.emptyList());
+        result.setPassengerDetails(BeanUtil.convert(orderItemDOList, TicketOrderPassengerDetailRespDTO.class));
+        return result;
     }
 
-    @Transactional(rollbackFor = Exception.class)
     @Override
     public String createTicketOrder(TicketOrderCreateReqDTO requestParam) {//这段代码实现了一个创建火车票订单的逻辑，包括创建订单、订单项、乘客与订单项的关系等，并且在事务中进行管理，以保证数据的一致性和完整性。
         // 通过基因法将用户 ID 融入到订单号
@@ -129,7 +168,6 @@ public class OrderServiceImpl implements OrderService {
                 .username(requestParam.getUsername())
                 .userId(String.valueOf(requestParam.getUserId()))
                 .build();
-        orderMapper.insert(orderDO);
         List<TicketOrderItemCreateReqDTO> ticketOrderItems = requestParam.getTicketOrderItems();
         List<OrderItemDO> orderItemDOList = new ArrayList<>();
         List<OrderItemPassengerDO> orderPassengerRelationDOList = new ArrayList<>();
@@ -157,98 +195,91 @@ public class OrderServiceImpl implements OrderService {
                     .build();
             orderPassengerRelationDOList.add(orderPassengerRelationDO);
         });
-        orderItemService.saveBatch(orderItemDOList);
-        orderPassengerRelationDOList.forEach(orderItemPassengerMapper::insert);
+        // 订单、订单明细及乘车人订单关系由组提交写入器在同一事务内多行写入
+        orderGroupCommitter.commit(new OrderGroupCommitter.OrderRows(orderDO, orderItemDOList, orderPassengerRelationDOList));
         return orderSn;
     }
 
     @Override
     public boolean closeTickOrder(CancelTicketOrderReqDTO requestParam) {
-        String orderSn = requestParam.getOrderSn();
-        LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
-                .eq(OrderDO::getOrderSn, orderSn)
-                .select(OrderDO::getStatus);
-        OrderDO orderDO = orderMapper.selectOne(queryWrapper);
-        if (Objects.isNull(orderDO) || orderDO.getStatus() != OrderStatusEnum.PENDING_PAYMENT.getStatus()) {
-            return false;
+        // 延迟关闭只处理仍待支付的订单，已支付、已取消或不存在的订单均视为无需关闭
+        OrderStatusTransitionResultEnum result = orderStatusMachine.transit(
+                requestParam.getOrderSn(),
+                OrderStatusEnum.PENDING_PAYMENT,
+                OrderStatusEnum.CLOSED,
+                OrderItemStatusEnum.PENDING_PAYMENT,
+                OrderItemStatusEnum.CLOSED
+        );
+        return result == OrderStatusTransitionResultEnum.SUCCESS;
+    }
+
+    @Override
+    public List<String> closeTickOrders(BatchCloseTicketOrderReqDTO requestParam) {
+        // 逐单 CAS 流转，每个订单独立事务，部分订单失败不影响其他订单；
+        // 此前已关闭的订单同样返回，调用方据此释放上次关闭后未能释放的座位
+        List<String> closedOrderSnList = new ArrayList<>(requestParam.getOrderSnList().size());
+        for (String each : new LinkedHashSet<>(requestParam.getOrderSnList())) {
+            OrderStatusTransitionResultEnum result = orderStatusMachine.transit(
+                    each,
+                    OrderStatusEnum.PENDING_PAYMENT,
+                    OrderStatusEnum.CLOSED,
+                    OrderItemStatusEnum.PENDING_PAYMENT,
+                    OrderItemStatusEnum.CLOSED
+            );
+            if (result == OrderStatusTransitionResultEnum.SUCCESS || result == OrderStatusTransitionResultEnum.DUPLICATE) {
+                closedOrderSnList.add(each);
+            }
         }
-        // 原则上订单关闭和订单取消这两个方法可以复用，为了区分未来考虑到的场景，这里对方法进行拆分但复用逻辑
-        return cancelTickOrder(requestParam);
+        return closedOrderSnList;
     }
 
     @Override
     public boolean cancelTickOrder(CancelTicketOrderReqDTO requestParam) {
-        String orderSn = requestParam.getOrderSn();
-        LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
-                .eq(OrderDO::getOrderSn, orderSn);
-        OrderDO orderDO = orderMapper.selectOne(queryWrapper);
-        if (orderDO == null) {
-            throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_UNKNOWN_ERROR);
-        } else if (orderDO.getStatus() != OrderStatusEnum.PENDING_PAYMENT.getStatus()) {
-            throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_STATUS_ERROR);
-        }
-        RLock lock = redissonClient.getLock(StrBuilder.create("order:canal:order_sn_").append(orderSn).toString());
-        if (!lock.tryLock()) {
-            throw new ClientException(OrderCanalErrorCodeEnum.ORDER_CANAL_REPETITION_ERROR);
+        OrderStatusTransitionResultEnum result = orderStatusMachine.transit(
+                requestParam.getOrderSn(),
+                OrderStatusEnum.PENDING_PAYMENT,
+                OrderStatusEnum.CLOSED,
+                OrderItemStatusEnum.PENDING_PAYMENT,
+                OrderItemStatusEnum.CLOSED
+        );
+        switch (result) {
+            case SUCCESS:
+                return true;
+            case NOT_FOUND:
+                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_UNKNOWN_ERROR);
+            case DUPLICATE:
+                throw new ClientException(OrderCanalErrorCodeEnum.ORDER_CANAL_REPETITION_ERROR);
+            default:
+                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_STATUS_ERROR);
         }
-        try {
-            OrderDO updateOrderDO = new OrderDO();
-            updateOrderDO.setStatus(OrderStatusEnum.CLOSED.getStatus());
-            updateOrderDO.setOrderSn(orderSn);
-            LambdaUpdateWrapper<OrderDO> updateWrapper = Wrappers.lambdaUpdate(OrderDO.class)
-                    .eq(OrderDO::getOrderSn, orderSn);
-            int updateResult = orderMapper.update(updateOrderDO, updateWrapper);
-            if (updateResult <= 0) {
-                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_ERROR);
-            }
-            OrderItemDO updateOrderItemDO = new OrderItemDO();
-            updateOrderItemDO.setStatus(OrderItemStatusEnum.CLOSED.getStatus());
-            updateOrderItemDO.setOrderSn(orderSn);
-            LambdaUpdateWrapper<OrderItemDO> updateItemWrapper = Wrappers.lambdaUpdate(OrderItemDO.class)
-                    .eq(OrderItemDO::getOrderSn, orderSn);
-            int updateItemResult = orderItemMapper.update(updateOrderItemDO, updateItemWrapper);
-            if (updateItemResult <= 0) {
-                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_ERROR);
-            }
-        } finally {
-            lock.unlock();
-        }
-        return true;
     }
 
     @Override
     public void statusReversal(OrderStatusReversalDTO requestParam) {
-        LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
-                .eq(OrderDO::getOrderSn, requestParam.getOrderSn());
-        OrderDO orderDO = orderMapper.selectOne(queryWrapper);//通过订单号查询数据库，获取对应的订单信息。
-        if (orderDO == null) {
-            throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_UNKNOWN_ERROR);
-        } else if (orderDO.getStatus() != OrderStatusEnum.PENDING_PAYMENT.getStatus()) {//检查订单状态是否为待支付状态。如果订单状态不是待支付状态，抛出异常
-            throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_STATUS_ERROR);
-        }
-        RLock lock = redissonClient.getLock(StrBuilder.create("order:status-reversal:order_sn_").append(requestParam.getOrderSn()).toString());//通过 Redisson 获取一个分布式锁，用于在执行状态反转操作时进行同步控制。锁的名称基于订单号构建。
-        if (!lock.tryLock()) {//尝试获取分布式锁，如果锁已被其他线程获取，则表示订单状态已经被修改，输出警告日志。
-            log.warn("订单重复修改状态，状态反转请求参数：{}", JSON.toJSONString(requestParam));
+        OrderStatusEnum targetStatus = OrderStatusEnum.of(requestParam.getOrderStatus());
+        OrderItemStatusEnum targetItemStatus = OrderItemStatusEnum.of(requestParam.getOrderItemStatus());
+        if (targetStatus == null || targetItemStatus == null) {
+            throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_STATUS_REVERSAL_ERROR);
         }
-        try {
-            OrderDO updateOrderDO = new OrderDO();
-            updateOrderDO.setStatus(requestParam.getOrderStatus());
-            LambdaUpdateWrapper<OrderDO> updateWrapper = Wrappers.lambdaUpdate(OrderDO.class)
-                    .eq(OrderDO::getOrderSn, requestParam.getOrderSn());
-            int updateResult = orderMapper.update(updateOrderDO, updateWrapper);//执行订单状态的更新操作，更新数据库中的订单状态。
-            if (updateResult <= 0) {
-                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_STATUS_REVERSAL_ERROR);
-            }
-            OrderItemDO orderItemDO = new OrderItemDO();
-            orderItemDO.setStatus(requestParam.getOrderItemStatus());
-            LambdaUpdateWrapper<OrderItemDO> orderItemUpdateWrapper = Wrappers.lambdaUpdate(OrderItemDO.class)
-                    .eq(OrderItemDO::getOrderSn, requestParam.getOrderSn());
-            int orderItemUpdateResult = orderItemMapper.update(orderItemDO, orderItemUpdateWrapper);//执行订单项状态的更新操作，更新数据库中的订单项状态。
-            if (orderItemUpdateResult <= 0) {
+        OrderStatusTransitionResultEnum result = orderStatusMachine.transit(
+                requestParam.getOrderSn(),
+                OrderStatusEnum.PENDING_PAYMENT,
+                targetStatus,
+                OrderItemStatusEnum.PENDING_PAYMENT,
+                targetItemStatus
+        );
+        switch (result) {
+            case SUCCESS:
+                return;
+            case DUPLICATE:
+                log.warn("订单重复修改状态，状态反转请求参数：{}", JSON.toJSONString(requestParam));
+                return;
+            case NOT_FOUND:
+                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_UNKNOWN_ERROR);
+            case STATUS_CONFLICT:
+                throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_CANAL_STATUS_ERROR);
+            default:
                 throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_STATUS_REVERSAL_ERROR);
-            }
-        } finally {
-            lock.unlock();
         }
     }
 
@@ -268,21 +299,38 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public PageResponse<TicketOrderDetailSelfRespDTO> pageSelfTicketOrder(TicketOrderSelfPageQueryReqDTO requestParam) {
         LambdaQueryWrapper<OrderItemPassengerDO> queryWrapper = Wrappers.lambdaQuery(OrderItemPassengerDO.class)
-                .eq(OrderItemPassengerDO::getIdCard, requestParam.getIdCard())
-                .orderByDesc(OrderItemPassengerDO::getCreateTime);
-        IPage<OrderItemPassengerDO> orderItemPassengerPage = orderPassengerRelationService.page(PageUtil.convert(requestParam), queryWrapper);
-        return PageUtil.convert(orderItemPassengerPage, each -> {
-            LambdaQueryWrapper<OrderDO> orderQueryWrapper = Wrappers.lambdaQuery(OrderDO.class)
-                    .eq(OrderDO::getOrderSn, each.getOrderSn());
-            OrderDO orderDO = orderMapper.selectOne(orderQueryWrapper);
-            LambdaQueryWrapper<OrderItemDO> orderItemQueryWrapper = Wrappers.lambdaQuery(OrderItemDO.class)
-                    .eq(OrderItemDO::getOrderSn, each.getOrderSn())
-                    .eq(OrderItemDO::getIdCard, each.getIdCard());
-            OrderItemDO orderItemDO = orderItemMapper.selectOne(orderItemQueryWrapper);
+                .eq(OrderItemPassengerDO::getIdCard, requestParam.getIdCard());
+        KeysetCursor cursor = KeysetCursor.decode(requestParam.getCursor());
+        if (cursor == null) {
+            queryWrapper.orderByDesc(OrderItemPassengerDO::getCreateTime).orderByDesc(OrderItemPassengerDO::getOrderSn);
+            IPage<OrderItemPassengerDO> orderItemPassengerPage = orderPassengerRelationService.page(PageUtil.convert(requestParam), queryWrapper);
+            Function<OrderItemPassengerDO, TicketOrderDetailSelfRespDTO> mapper = buildSelfTicketOrderMapper(orderItemPassengerPage.getRecords(), orderItemPassengerPage.getSize(), requestParam.getIdCard());
+            return PageUtil.convert(orderItemPassengerPage, OrderServiceImpl::buildCursor, mapper);
+        }
+        List<OrderItemPassengerDO> orderItemPassengerDOList = orderItemPassengerMapper.selectList(
+                PageUtil.seek(queryWrapper, OrderItemPassengerDO::getCreateTime, OrderItemPassengerDO::getOrderSn, cursor, requestParam.getSize()));
+        Function<OrderItemPassengerDO, TicketOrderDetailSelfRespDTO> mapper = buildSelfTicketOrderMapper(orderItemPassengerDOList, requestParam.getSize(), requestParam.getIdCard());
+        return PageUtil.convert(orderItemPassengerDOList, requestParam.getSize(), OrderServiceImpl::buildCursor, mapper);
+    }
+
+    private Function<OrderItemPassengerDO, TicketOrderDetailSelfRespDTO> buildSelfTicketOrderMapper(List<OrderItemPassengerDO> orderItemPassengerDOList, long size, String idCard) {
+        List<String> orderSns = orderItemPassengerDOList.stream().limit(size).map(OrderItemPassengerDO::getOrderSn).distinct().toList();
+        // 按分片批量加载订单及本人订单明细，分页记录均属于同一证件号，已归档的订单回查归档表
+        Map<String, OrderDO> orderMap = orderArchiveRouter.loadOrders(orderSns);
+        Map<String, List<OrderItemDO>> orderItemMap = orderArchiveRouter.loadOrderItems(orderSns, idCard);
+        return each -> {
+            OrderDO orderDO = orderMap.get(each.getOrderSn());
+            List<OrderItemDO> orderItemDOList = orderItemMap.get(each.getOrderSn());
             TicketOrderDetailSelfRespDTO actualResult = BeanUtil.convert(orderDO, TicketOrderDetailSelfRespDTO.class);
-            BeanUtil.convertIgnoreNullAndBlank(orderItemDO, actualResult);
+            if (CollUtil.isNotEmpty(orderItemDOList)) {
+                BeanUtil.convertIgnoreNullAndBlank(orderItemDOList.get(0), actualResult);
+            }
             return actualResult;
-        });
+        };
+    }
+
+    private static KeysetCursor buildCursor(OrderItemPassengerDO orderItemPassengerDO) {
+        return new KeysetCursor(orderItemPassengerDO.getCreateTime(), orderItemPassengerDO.getOrderSn());
     }
 
     private List<Integer> buildOrderStatusList(TicketOrderPageQueryReqDTO requestParam) {
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.service.loader;
+
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.orderservice.dao.algorithm.OrderShardingUtil;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemMapper;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderMapper;
+import org.opengoofy.index12306.framework.starter.common.threadpool.build.ThreadPoolBuilder;
+import org.opengoofy.index12306.framework.starter.database.toolkit.TableSuffixContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 订单批量加载器
+ * 将一页数据涉及的订单号按目标分片分组，每个分片发起一次 {@code IN} 查询并行执行，再在内存中按订单号组装，消除逐行查询的 N+1 问题
+ *
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderBatchLoader implements DisposableBean {
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+
+    /**
+     * 分片查询线程池，线程耗尽时由调用线程执行，不丢弃查询
+     */
+    private final ExecutorService shardQueryExecutor = ThreadPoolBuilder.builder()
+            .poolName("order-batch-loader")
+            .corePoolSize(Runtime.getRuntime().availableProcessors())
+            .maximumPoolSize(Runtime.getRuntime().availableProcessors() << 1)
+            .workQueue(new SynchronousQueue<>())
+            .rejected(new ThreadPoolExecutor.CallerRunsPolicy())
+            .build();
+
+    /**
+     * 批量加载订单
+     *
+     * @param orderSns 订单号集合
+     * @return 订单号与订单的映射
+     */
+    public Map<String, OrderDO> loadOrders(Collection<String> orderSns) {
+        List<OrderDO> orders = loadByShard(orderSns, shardOrderSns -> {
+            LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
+                    .in(OrderDO::getOrderSn, shardOrderSns);
+            return orderMapper.selectList(queryWrapper);
+        });
+        return orders.stream().collect(Collectors.toMap(OrderDO::getOrderSn, Function.identity(), (left, right) -> left));
+    }
+
+    /**
+     * 批量加载订单明细
+     *
+     * @param orderSns 订单号集合
+     * @return 订单号与订单明细集合的映射
+     */
+    public Map<String, List<OrderItemDO>> loadOrderItems(Collection<String> orderSns) {
+        return loadOrderItems(orderSns, null);
+    }
+
+    /**
+     * 批量加载指定乘车人的订单明细
+     *
+     * @param orderSns 订单号集合
+     * @param idCard   乘车人证件号，为空时加载订单全部明细
+     * @return 订单号与订单明细集合的映射
+     */
+    public Map<String, List<OrderItemDO>> loadOrderItems(Collection<String> orderSns, String idCard) {
+        List<OrderItemDO> orderItems = loadByShard(orderSns, shardOrderSns -> {
+            LambdaQueryWrapper<OrderItemDO> queryWrapper = Wrappers.lambdaQuery(OrderItemDO.class)
+                    .in(OrderItemDO::getOrderSn, shardOrderSns)
+                    .eq(idCard != null, OrderItemDO::getIdCard, idCard);
+            return orderItemMapper.selectList(queryWrapper);
+        });
+        return orderItems.stream().collect(Collectors.groupingBy(OrderItemDO::getOrderSn));
+    }
+
+    private <T> List<T> loadByShard(Collection<String> orderSns, Function<Collection<String>, List<T>> shardQuery) {
+        if (CollUtil.isEmpty(orderSns)) {
+            return new ArrayList<>();
+        }
+        Map<String, Collection<String>> shardGroups = new HashMap<>();
+        for (String each : orderSns) {
+            shardGroups.computeIfAbsent(OrderShardingUtil.routeKey(each), key -> new LinkedHashSet<>()).add(each);
+        }
+        if (shardGroups.size() == 1) {
+            return shardQuery.apply(shardGroups.values().iterator().next());
+        }
+        // 表名后缀上下文绑定在调用线程，需传递到分片查询线程，保证归档层读取落到归档表
+        String tableSuffix = TableSuffixContext.getSuffix();
+        List<CompletableFuture<List<T>>> futures = shardGroups.values().stream()
+                .map(each -> CompletableFuture.supplyAsync(() -> TableSuffixContext.call(tableSuffix, () -> shardQuery.apply(each)), shardQueryExecutor))
+                .toList();
+        List<T> result = new ArrayList<>();
+        futures.forEach(each -> result.addAll(each.join()));
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        shardQueryExecutor.shutdown();
+    }
+}
@@ -17,47 +17,117 @@
 
 package org.opengoofy.index12306.biz.orderservice.service.orderid;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * 全局唯一订单号生成器
+ * 结构为 时间戳 - 节点 ID - 序号，节点 ID 与序号位数可配置；时间戳与序号打包在同一个 {@link AtomicLong} 中通过 CAS 推进，
+ * 当前毫秒序号耗尽或时钟小幅回拨时借用未来毫秒继续生成，超前超过容忍范围时才等待时钟追上
  *
  *
  */
 public class DistributedIdGenerator {
 
     private static final long EPOCH = 1609459200000L;
-    private static final int NODE_BITS = 5;
-    private static final int SEQUENCE_BITS = 7;
 
-    private final long nodeID;
-    private long lastTimestamp = -1L;
-    private long sequence = 0L;
+    /**
+     * 时间戳至少保留 41 bit
+     */
+    private static final int MAX_NODE_AND_SEQUENCE_BITS = 22;
+
+    /**
+     * 超前时间超过借用容忍范围后继续允许的时钟回拨毫秒数，超过则报错
+     */
+    private static final long CLOCK_BACKWARD_TOLERANCE_MILLIS = 5000L;
+
+    private final long nodeId;
+    private final int nodeBits;
+    private final int sequenceBits;
+    private final long sequenceMask;
+    private final long maxBorrowMillis;
+
+    /**
+     * 上次生成 ID 的状态，高位为相对 {@link #EPOCH} 的时间戳，低 {@link #sequenceBits} 位为序号
+     */
+    private final AtomicLong state;
 
-    public DistributedIdGenerator(long nodeID) {
-        this.nodeID = nodeID;
+    /**
+     * @param nodeId          节点 ID
+     * @param nodeBits        节点 ID 位数
+     * @param sequenceBits    序号位数
+     * @param maxBorrowMillis 允许借用未来时间的最大毫秒数
+     */
+    public DistributedIdGenerator(long nodeId, int nodeBits, int sequenceBits, long maxBorrowMillis) {
+        this(nodeId, nodeBits, sequenceBits, maxBorrowMillis, 0L);
     }
 
-    public synchronized long generateId() {
-        long timestamp = System.currentTimeMillis() - EPOCH;
-        if (timestamp < lastTimestamp) {
-            throw new RuntimeException("Clock moved backwards. Refusing to generate ID.");
+    private DistributedIdGenerator(long nodeId, int nodeBits, int sequenceBits, long maxBorrowMillis, long initialState) {
+        if (nodeBits <= 0 || sequenceBits <= 0 || nodeBits + sequenceBits > MAX_NODE_AND_SEQUENCE_BITS) {
+            throw new IllegalArgumentException("Node bits and sequence bits must be positive and no more than " + MAX_NODE_AND_SEQUENCE_BITS + " in total");
         }
-        if (timestamp == lastTimestamp) {
-            sequence = (sequence + 1) & ((1 << SEQUENCE_BITS) - 1);
-            if (sequence == 0) {
-                timestamp = tilNextMillis(lastTimestamp);
-            }
-        } else {
-            sequence = 0L;
+        if (nodeId < 0 || nodeId > ~(-1L << nodeBits)) {
+            throw new IllegalArgumentException("Node id " + nodeId + " out of range for " + nodeBits + " bits");
         }
-        lastTimestamp = timestamp;
-        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeID << SEQUENCE_BITS) | sequence;
+        this.nodeId = nodeId;
+        this.nodeBits = nodeBits;
+        this.sequenceBits = sequenceBits;
+        this.sequenceMask = ~(-1L << sequenceBits);
+        this.maxBorrowMillis = maxBorrowMillis;
+        this.state = new AtomicLong(initialState);
+    }
+
+    /**
+     * 使用新的节点 ID 创建生成器，沿用当前时间戳状态保证生成的 ID 单调递增
+     */
+    public DistributedIdGenerator withNodeId(long nodeId) {
+        return new DistributedIdGenerator(nodeId, nodeBits, sequenceBits, maxBorrowMillis, state.get());
     }
 
-    private long tilNextMillis(long lastTimestamp) {
-        long timestamp = System.currentTimeMillis() - EPOCH;
-        while (timestamp <= lastTimestamp) {
-            timestamp = System.currentTimeMillis() - EPOCH;
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 解析 ID 中的生成时间戳
+     *
+     * @param id 由本生成器生成的 ID
+     * @return 生成时间，Unix 毫秒时间戳
+     */
+    public long extractTimestamp(long id) {
+        return (id >>> (nodeBits + sequenceBits)) + EPOCH;
+    }
+
+    public long generateId() {
+        for (; ; ) {
+            long current = state.get();
+            long lastTimestamp = current >>> sequenceBits;
+            long now = System.currentTimeMillis() - EPOCH;
+            long timestamp;
+            long sequence;
+            if (now > lastTimestamp) {
+                timestamp = now;
+                sequence = 0L;
+            } else {
+                // 同一毫秒、已借用未来毫秒或时钟回拨，均在上次时间戳上继续递增
+                timestamp = lastTimestamp;
+                sequence = (current & sequenceMask) + 1;
+                if (sequence > sequenceMask) {
+                    timestamp++;
+                    sequence = 0L;
+                }
+                long ahead = timestamp - now;
+                if (ahead > maxBorrowMillis) {
+                    if (ahead > maxBorrowMillis + CLOCK_BACKWARD_TOLERANCE_MILLIS) {
+                        throw new IllegalStateException("Clock moved backwards " + (lastTimestamp - now) + "ms. Refusing to generate ID.");
+                    }
+                    LockSupport.parkNanos(100_000L);
+                    continue;
+                }
+            }
+            if (state.compareAndSet(current, (timestamp << sequenceBits) | sequence)) {
+                return (timestamp << (nodeBits + sequenceBits)) | (nodeId << sequenceBits) | sequence;
+            }
         }
-        return timestamp;
     }
 }
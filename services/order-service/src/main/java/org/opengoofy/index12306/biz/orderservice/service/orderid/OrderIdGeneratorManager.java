@@ -19,14 +19,13 @@ package org.opengoofy.index12306.biz.orderservice.service.orderid;
 
 import lombok.RequiredArgsConstructor;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.opengoofy.index12306.framework.starter.distributedid.core.lease.RedisNodeIdLease;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 /**
  * 订单 ID 全局唯一生成器管理
  *
@@ -34,11 +33,43 @@ import java.util.Optional;
  */
 @Component
 @RequiredArgsConstructor
-public final class OrderIdGeneratorManager implements InitializingBean {
+public final class OrderIdGeneratorManager implements InitializingBean, DisposableBean {
+
+    private static final String NODE_ID_LEASE_KEY_PREFIX = "index12306-order-service:id-generator-node:";
+
+    /**
+     * 订单号末尾用户基因位数
+     */
+    private static final int USER_GENE_LENGTH = 6;
 
-    private final RedissonClient redissonClient;
     private final DistributedCache distributedCache;
-    private static DistributedIdGenerator DISTRIBUTED_ID_GENERATOR;
+    private static volatile DistributedIdGenerator DISTRIBUTED_ID_GENERATOR;
+
+    /**
+     * 节点 ID 位数，决定最多可同时运行的实例数量
+     */
+    @Value("${order.id-generator.node-bits:8}")
+    private int nodeBits;
+
+    /**
+     * 序号位数，决定单节点每毫秒可生成的订单号数量
+     */
+    @Value("${order.id-generator.sequence-bits:12}")
+    private int sequenceBits;
+
+    /**
+     * 序号耗尽或时钟回拨时允许借用未来时间的最大毫秒数
+     */
+    @Value("${order.id-generator.max-borrow-millis:1000}")
+    private long maxBorrowMillis;
+
+    /**
+     * 节点 ID 租约时长，实例宕机后节点 ID 在租约过期后可被回收
+     */
+    @Value("${order.id-generator.node-lease-millis:30000}")
+    private long nodeLeaseMillis;
+
+    private static volatile RedisNodeIdLease NODE_ID_LEASE;
 
     /**
      * 生成订单全局唯一 ID
@@ -47,27 +78,45 @@ public final class OrderIdGeneratorManager implements InitializingBean {
      * @return 订单 ID
      */
     public static String generateId(long userId) {
-        return DISTRIBUTED_ID_GENERATOR.generateId() + String.valueOf(userId % 1000000);
+        // 用户基因固定补齐 6 位，与用户 ID 后 6 位一致，同时保证订单号前缀可被解析为生成器 ID
+        DistributedIdGenerator generator = DISTRIBUTED_ID_GENERATOR;
+        long id = generator.generateId();
+        // 节点 ID 租约过期后可能已被其他实例租用，拒绝发放租约有效期之外的 ID
+        NODE_ID_LEASE.checkIssued(generator.getNodeId(), generator.extractTimestamp(id));
+        return id + String.format("%0" + USER_GENE_LENGTH + "d", userId % 1000000);
+    }
+
+    /**
+     * 解析订单号中嵌入的下单时间
+     * 历史订单号的用户基因未补齐时解析结果会早于真实时间，调用方据此只会多查而不会漏查
+     *
+     * @param orderSn 订单号
+     * @return 下单时间，Unix 毫秒时间戳；无法解析时返回 -1
+     */
+    public static long parseOrderTime(String orderSn) {
+        if (orderSn == null || orderSn.length() <= USER_GENE_LENGTH || DISTRIBUTED_ID_GENERATOR == null) {
+            return -1L;
+        }
+        try {
+            return DISTRIBUTED_ID_GENERATOR.extractTimestamp(Long.parseLong(orderSn.substring(0, orderSn.length() - USER_GENE_LENGTH)));
+        } catch (NumberFormatException ignored) {
+            return -1L;
+        }
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        String LOCK_KEY = "distributed_id_generator_lock_key";
-        RLock lock = redissonClient.getLock(LOCK_KEY);
-        lock.lock();
-        try {
-            StringRedisTemplate instance = (StringRedisTemplate) distributedCache.getInstance();
-            String DISTRIBUTED_ID_GENERATOR_KEY = "distributed_id_generator_config";
-            long incremented = Optional.ofNullable(instance.opsForValue().increment(DISTRIBUTED_ID_GENERATOR_KEY)).orElse(0L);
-            // 注意：这里只是提供一种分库分表基因法的实现思路，所以将标识位定义 32。其次，如果对比 TB 网站订单号，应该不是在应用内生成，而是有一个全局服务调用获取
-            int NODE_MAX = 32;
-            if (incremented > NODE_MAX) {
-                incremented = 0;
-                instance.opsForValue().set(DISTRIBUTED_ID_GENERATOR_KEY, "0");
-            }
-            DISTRIBUTED_ID_GENERATOR = new DistributedIdGenerator(incremented);
-        } finally {
-            lock.unlock();
+        StringRedisTemplate instance = (StringRedisTemplate) distributedCache.getInstance();
+        NODE_ID_LEASE = new RedisNodeIdLease(instance, NODE_ID_LEASE_KEY_PREFIX, ~(-1L << nodeBits), nodeLeaseMillis);
+        NODE_ID_LEASE.start(nodeId -> DISTRIBUTED_ID_GENERATOR = DISTRIBUTED_ID_GENERATOR == null
+                ? new DistributedIdGenerator(nodeId, nodeBits, sequenceBits, maxBorrowMillis)
+                : DISTRIBUTED_ID_GENERATOR.withNodeId(nodeId));
+    }
+
+    @Override
+    public void destroy() {
+        if (NODE_ID_LEASE != null) {
+            NODE_ID_LEASE.stop();
         }
     }
 }
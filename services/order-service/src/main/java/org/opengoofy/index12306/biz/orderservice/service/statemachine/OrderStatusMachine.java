@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.service.statemachine;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.orderservice.common.enums.OrderCanalErrorCodeEnum;
+import org.opengoofy.index12306.biz.orderservice.common.enums.OrderItemStatusEnum;
+import org.opengoofy.index12306.biz.orderservice.common.enums.OrderStatusEnum;
+import org.opengoofy.index12306.biz.orderservice.common.enums.OrderStatusTransitionResultEnum;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemMapper;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderMapper;
+import org.opengoofy.index12306.framework.starter.convention.exception.ServiceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 订单状态机
+ * 基于数据库条件更新（{@code UPDATE ... SET status = ? WHERE order_sn = ? AND status = ?}）实现状态的原子流转，
+ * 由行锁保证同一订单只有一个请求能从源状态流转成功，无需额外的分布式锁及前置查询
+ *
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusMachine {
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+
+    /**
+     * 将订单及其订单明细从源状态流转到目标状态
+     * 订单状态未命中源状态时不做任何修改，仅在这种情况下回查订单以区分订单不存在、重复请求和状态冲突
+     *
+     * @param orderSn  订单号
+     * @param from     订单源状态
+     * @param to       订单目标状态
+     * @param itemFrom 订单明细源状态
+     * @param itemTo   订单明细目标状态
+     * @return 流转结果
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public OrderStatusTransitionResultEnum transit(String orderSn,
+                                                   OrderStatusEnum from,
+                                                   OrderStatusEnum to,
+                                                   OrderItemStatusEnum itemFrom,
+                                                   OrderItemStatusEnum itemTo) {
+        if (!from.canTransitTo(to) || !itemFrom.canTransitTo(itemTo)) {
+            return OrderStatusTransitionResultEnum.ILLEGAL_TRANSITION;
+        }
+        OrderDO updateOrderDO = new OrderDO();
+        updateOrderDO.setStatus(to.getStatus());
+        LambdaUpdateWrapper<OrderDO> updateWrapper = Wrappers.lambdaUpdate(OrderDO.class)
+                .eq(OrderDO::getOrderSn, orderSn)
+                .eq(OrderDO::getStatus, from.getStatus());
+        if (orderMapper.update(updateOrderDO, updateWrapper) <= 0) {
+            return resolveConflict(orderSn, to);
+        }
+        OrderItemDO updateOrderItemDO = new OrderItemDO();
+        updateOrderItemDO.setStatus(itemTo.getStatus());
+        LambdaUpdateWrapper<OrderItemDO> updateItemWrapper = Wrappers.lambdaUpdate(OrderItemDO.class)
+                .eq(OrderItemDO::getOrderSn, orderSn)
+                .eq(OrderItemDO::getStatus, itemFrom.getStatus());
+        if (orderItemMapper.update(updateOrderItemDO, updateItemWrapper) <= 0) {
+            // 订单已流转但明细不在源状态，说明数据不一致，抛出异常回滚订单状态
+            throw new ServiceException(OrderCanalErrorCodeEnum.ORDER_ITEM_STATUS_CONFLICT_ERROR);
+        }
+        return OrderStatusTransitionResultEnum.SUCCESS;
+    }
+
+    private OrderStatusTransitionResultEnum resolveConflict(String orderSn, OrderStatusEnum to) {
+        LambdaQueryWrapper<OrderDO> queryWrapper = Wrappers.lambdaQuery(OrderDO.class)
+                .eq(OrderDO::getOrderSn, orderSn)
+                .select(OrderDO::getStatus);
+        OrderDO orderDO = orderMapper.selectOne(queryWrapper);
+        if (orderDO == null) {
+            return OrderStatusTransitionResultEnum.NOT_FOUND;
+        }
+        return orderDO.getStatus() == to.getStatus()
+                ? OrderStatusTransitionResultEnum.DUPLICATE
+                : OrderStatusTransitionResultEnum.STATUS_CONFLICT;
+    }
+}
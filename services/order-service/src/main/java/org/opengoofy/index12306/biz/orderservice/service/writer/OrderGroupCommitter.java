@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.orderservice.service.writer;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.orderservice.dao.algorithm.OrderShardingUtil;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderDO;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemDO;
+import org.opengoofy.index12306.biz.orderservice.dao.entity.OrderItemPassengerDO;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemMapper;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderItemPassengerMapper;
+import org.opengoofy.index12306.biz.orderservice.dao.mapper.OrderMapper;
+import org.opengoofy.index12306.framework.starter.common.threadpool.build.ThreadPoolBuilder;
+import org.opengoofy.index12306.framework.starter.convention.errorcode.BaseErrorCode;
+import org.opengoofy.index12306.framework.starter.convention.exception.ServiceException;
+import org.opengoofy.index12306.framework.starter.database.toolkit.BatchIdUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 订单创建组提交写入器
+ * 在若干毫秒内收集并发的下单请求，按订单所在分片分组，每组在一个事务内通过多行 INSERT 写入订单、订单明细及乘车人订单关系；
+ * 分组写入失败时逐个请求单独重试，使每个请求得到各自准确的成功或失败结果
+ *
+ *
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderGroupCommitter implements InitializingBean, DisposableBean {
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final OrderItemPassengerMapper orderItemPassengerMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 是否开启组提交，关闭时每个请求单独事务写入
+     */
+    @Value("${order.group-commit.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 收集请求的最长等待时间，单位毫秒
+     */
+    @Value("${order.group-commit.max-wait-millis:5}")
+    private long maxWaitMillis;
+
+    /**
+     * 单次收集的最大请求数量
+     */
+    @Value("${order.group-commit.max-batch-size:64}")
+    private int maxBatchSize;
+
+    /**
+     * 等待提交的请求队列容量，队列已满时请求直接单独写入
+     */
+    @Value("${order.group-commit.queue-capacity:4096}")
+    private int queueCapacity;
+
+    /**
+     * 并行写入分片分组的线程数
+     */
+    @Value("${order.group-commit.flush-threads:4}")
+    private int flushThreads;
+
+    /**
+     * 等待所在分组提交完成的最长时间，单位毫秒
+     */
+    @Value("${order.group-commit.commit-timeout-millis:10000}")
+    private long commitTimeoutMillis;
+
+    private BlockingQueue<PendingOrder> pendingQueue;
+
+    private ExecutorService flushExecutor;
+
+    private Thread collector;
+
+    private volatile boolean running;
+
+    /**
+     * 入队与停机互斥：入队持有读锁，停机持有写锁修改运行状态，停机后不会再有请求进入队列
+     */
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    /**
+     * 写入一个订单，开启组提交时阻塞至所在分组提交完成
+     *
+     * @param orderRows 订单待写入数据
+     */
+    public void commit(OrderRows orderRows) {
+        PendingOrder pendingOrder = null;
+        stateLock.readLock().lock();
+        try {
+            if (running) {
+                PendingOrder candidate = new PendingOrder(orderRows, new CompletableFuture<>());
+                if (pendingQueue.offer(candidate)) {
+                    pendingOrder = candidate;
+                }
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        if (pendingOrder == null) {
+            write(List.of(orderRows));
+            return;
+        }
+        try {
+            awaitResult(pendingOrder);
+        } catch (InterruptedException ex) {
+            // 尚未被分组认领时放弃写入，避免中断返回后订单仍被写入
+            pendingOrder.claim();
+            Thread.currentThread().interrupt();
+            throw new ServiceException("订单创建被中断");
+        }
+    }
+
+    private void awaitResult(PendingOrder pendingOrder) throws InterruptedException {
+        try {
+            try {
+                pendingOrder.getFuture().get(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                if (pendingOrder.claim()) {
+                    // 认领成功说明尚未被分组写入，之后不会再写入，可以如实返回超时
+                    log.error("订单组提交等待超时，订单号：{}", pendingOrder.getOrderRows().getOrder().getOrderSn());
+                    throw new ServiceException("订单创建超时");
+                }
+                // 已被分组认领并正在写入，等待写入结果，避免订单已落库却返回超时
+                pendingOrder.getFuture().get();
+            }
+        } catch (ExecutionException ex) {
+            // 与单独写入时抛出相同的异常，保持调用方异常处理不变
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ServiceException("订单创建失败", cause, BaseErrorCode.SERVICE_ERROR);
+        }
+    }
+
+    private void collect() {
+        while (running) {
+            List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+            try {
+                PendingOrder first = pendingQueue.poll(100L, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingOrder next = remaining > 0L ? pendingQueue.poll(remaining, TimeUnit.NANOSECONDS) : pendingQueue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(batch);
+            } catch (InterruptedException ex) {
+                // 停机时已取出但未分发的请求直接失败，队列中剩余的请求由 destroy 统一失败
+                failAll(batch);
+                return;
+            } catch (Throwable ex) {
+                log.error("订单组提交收集线程异常", ex);
+            }
+        }
+    }
+
+    /**
+     * 按订单分片分组，订单及订单明细在同一分组内只落在一张真实表，各分组并行写入
+     */
+    private void dispatch(List<PendingOrder> batch) {
+        Map<String, List<PendingOrder>> shardGroups = new LinkedHashMap<>();
+        for (PendingOrder each : batch) {
+            shardGroups.computeIfAbsent(OrderShardingUtil.routeKey(each.getOrderRows().getOrder().getOrderSn()), key -> new ArrayList<>()).add(each);
+        }
+        shardGroups.values().forEach(each -> flushExecutor.execute(() -> flush(each)));
+    }
+
+    private void flush(List<PendingOrder> pendingOrders) {
+        // 先认领再写入，已被等待超时认领的请求不再写入
+        List<PendingOrder> group = pendingOrders.stream().filter(PendingOrder::claim).toList();
+        if (group.isEmpty()) {
+            return;
+        }
+        try {
+            write(group.stream().map(PendingOrder::getOrderRows).toList());
+            group.forEach(each -> each.getFuture().complete(null));
+            return;
+        } catch (Throwable ex) {
+            if (group.size() == 1) {
+                group.get(0).getFuture().completeExceptionally(ex);
+                return;
+            }
+            log.warn("订单组提交失败，逐个重试，分组大小：{}", group.size(), ex);
+        }
+        for (PendingOrder each : group) {
+            try {
+                write(List.of(each.getOrderRows()));
+                each.getFuture().complete(null);
+            } catch (Throwable ex) {
+                each.getFuture().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private void failAll(Collection<PendingOrder> pendingOrders) {
+        if (pendingOrders.isEmpty()) {
+            return;
+        }
+        log.warn("订单组提交写入器已停止，未写入请求数量：{}", pendingOrders.size());
+        pendingOrders.forEach(each -> each.getFuture().completeExceptionally(new ServiceException("订单服务停止中，订单创建失败")));
+    }
+
+    private void write(Collection<OrderRows> orderRowsList) {
+        List<OrderDO> orders = new ArrayList<>(orderRowsList.size());
+        List<OrderItemDO> orderItems = new ArrayList<>();
+        List<OrderItemPassengerDO> orderItemPassengers = new ArrayList<>();
+        for (OrderRows each : orderRowsList) {
+            orders.add(each.getOrder());
+            orderItems.addAll(each.getOrderItems());
+            orderItemPassengers.addAll(each.getOrderItemPassengers());
+        }
+        BatchIdUtil.assignIds(orders);
+        BatchIdUtil.assignIds(orderItems);
+        BatchIdUtil.assignIds(orderItemPassengers);
+        transactionTemplate.executeWithoutResult(status -> {
+            orderMapper.insertBatchSomeColumn(orders);
+            if (!orderItems.isEmpty()) {
+                orderItemMapper.insertBatchSomeColumn(orderItems);
+            }
+            if (!orderItemPassengers.isEmpty()) {
+                // 乘车人订单关系按证件号分片，由 ShardingSphere 按真实表拆分为多条多行 INSERT
+                orderItemPassengerMapper.insertBatchSomeColumn(orderItemPassengers);
+            }
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        pendingQueue = new LinkedBlockingQueue<>(queueCapacity);
+        flushExecutor = ThreadPoolBuilder.builder()
+                .poolName("order-group-commit")
+                .corePoolSize(flushThreads)
+                .maximumPoolSize(flushThreads)
+                .workQueue(new LinkedBlockingQueue<>(queueCapacity))
+                .rejected(new ThreadPoolExecutor.CallerRunsPolicy())
+                .build();
+        running = true;
+        collector = new Thread(this::collect, "order-group-commit-collector");
+        collector.setDaemon(true);
+        collector.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        stateLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        collector.interrupt();
+        collector.join(TimeUnit.SECONDS.toMillis(5));
+        List<PendingOrder> remaining = new ArrayList<>();
+        pendingQueue.drainTo(remaining);
+        failAll(remaining);
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 单个订单待写入数据
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class OrderRows {
+
+        private final OrderDO order;
+
+        private final List<OrderItemDO> orderItems;
+
+        private final List<OrderItemPassengerDO> orderItemPassengers;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingOrder {
+
+        private final OrderRows orderRows;
+
+        private final CompletableFuture<Void> future;
+
+        /**
+         * 写入线程与超时的调用方只有一方能认领成功，认领后由该方决定请求结果
+         */
+        @Getter(AccessLevel.NONE)
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
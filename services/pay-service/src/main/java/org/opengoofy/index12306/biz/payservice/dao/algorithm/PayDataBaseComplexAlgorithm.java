@@ -18,73 +18,28 @@
 package org.opengoofy.index12306.biz.payservice.dao.algorithm;
 
 import cn.hutool.core.collection.CollUtil;
-import com.google.common.base.Preconditions;
-import lombok.Getter;
-import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
-import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
+import org.opengoofy.index12306.framework.starter.database.sharding.algorithm.AbstractBucketDataBaseComplexAlgorithm;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Properties;
 
 /**
  * 支付数据库复合分片算法配置
  *
  *
  */
-public class PayDataBaseComplexAlgorithm implements ComplexKeysShardingAlgorithm {
-
-    @Getter
-    private Properties props;
-
-    private int shardingCount;
-
-    private static final String SHARDING_COUNT_KEY = "sharding-count";
+public class PayDataBaseComplexAlgorithm extends AbstractBucketDataBaseComplexAlgorithm {
 
     @Override
-    public Collection<String> doSharding(Collection availableTargetNames, ComplexKeysShardingValue shardingValue) {
-        Map<String, Collection<Comparable<Long>>> columnNameAndShardingValuesMap = shardingValue.getColumnNameAndShardingValuesMap();
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        if (CollUtil.isNotEmpty(columnNameAndShardingValuesMap)) {
-            String userId = "order_sn";
-            Collection<Comparable<Long>> customerUserIdCollection = columnNameAndShardingValuesMap.get(userId);
-            if (CollUtil.isNotEmpty(customerUserIdCollection)) {
-                Comparable<?> comparable = customerUserIdCollection.stream().findFirst().get();
-                if (comparable instanceof String) {
-                    String actualOrderSn = comparable.toString();
-                    result.add("ds_" + hashShardingValue(actualOrderSn.substring(Math.max(actualOrderSn.length() - 6, 0))) % shardingCount);
-                } else {
-                    String dbSuffix = String.valueOf(hashShardingValue((Long) comparable % 1000000) % shardingCount);
-                    result.add("ds_" + dbSuffix);
-                }
-            } else {
-                String orderSn = "pay_sn";
-                Collection<Comparable<Long>> orderSnCollection = columnNameAndShardingValuesMap.get(orderSn);
-                Comparable<?> comparable = orderSnCollection.stream().findFirst().get();
-                if (comparable instanceof String) {
-                    String actualOrderSn = comparable.toString();
-                    result.add("ds_" + hashShardingValue(actualOrderSn.substring(Math.max(actualOrderSn.length() - 6, 0))) % shardingCount);
-                } else {
-                    result.add("ds_" + hashShardingValue((Long) comparable % 1000000) % shardingCount);
-                }
-            }
+    protected Collection<Comparable<?>> selectShardingValues(Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
+        Collection<Comparable<?>> orderSnCollection = columnNameAndShardingValuesMap.get("order_sn");
+        if (CollUtil.isNotEmpty(orderSnCollection)) {
+            return orderSnCollection;
         }
-        return result;
-    }
-
-    @Override
-    public void init(Properties props) {
-        this.props = props;
-        shardingCount = getShardingCount(props);
-    }
-
-    private int getShardingCount(final Properties props) {
-        Preconditions.checkArgument(props.containsKey(SHARDING_COUNT_KEY), "Sharding count cannot be null.");
-        return Integer.parseInt(props.getProperty(SHARDING_COUNT_KEY));
-    }
-
-    private long hashShardingValue(final Comparable<?> shardingValue) {
-        return Math.abs((long) shardingValue.hashCode());
+        Collection<Comparable<?>> paySnCollection = columnNameAndShardingValuesMap.get("pay_sn");
+        // 本地消息表以订单号作为分片键，与支付单位于同一数据源，写入可与支付单共用一个本地事务
+        return CollUtil.isNotEmpty(paySnCollection)
+                ? paySnCollection
+                : columnNameAndShardingValuesMap.get("sharding_key");
     }
 }
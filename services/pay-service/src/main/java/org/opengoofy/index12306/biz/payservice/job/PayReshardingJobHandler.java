@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.payservice.job;
+
+import cn.hutool.core.util.StrUtil;
+import com.alibaba.fastjson2.JSON;
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.IJobHandler;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.common.toolkit.EnvironmentUtil;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketMigrationCommand;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketMigrationResult;
+import org.opengoofy.index12306.framework.starter.database.sharding.migration.BucketMigrator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 支付虚拟桶迁移定时任务
+ * 任务参数为迁移指令 JSON，例如 {@code {"action":"START","routingName":"pay","buckets":[0,16],"targetDataSource":2,"targetTable":0}}，
+ * 依次以 START、BACKFILL、VERIFY、CUTOVER、FINISH、CLEANUP 手动触发完成一次迁移
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "framework.database.resharding", name = "enabled", havingValue = "true")
+public class PayReshardingJobHandler extends IJobHandler {
+
+    private final BucketMigrator bucketMigrator;
+
+    @XxlJob(value = "payReshardingJobHandler")
+    @GetMapping("/api/pay-service/resharding/job/execute")
+    @Override
+    public void execute() {
+        String requestParam = getJobRequestParam();
+        if (StrUtil.isBlank(requestParam)) {
+            log.warn("[支付虚拟桶迁移] 任务参数为空，跳过执行");
+            return;
+        }
+        BucketMigrationCommand command = JSON.parseObject(requestParam, BucketMigrationCommand.class);
+        List<BucketMigrationResult> results = bucketMigrator.execute(command);
+        log.info("[支付虚拟桶迁移] 路由：{}，步骤：{}，结果：{}", command.getRoutingName(), command.getAction(), JSON.toJSONString(results));
+    }
+
+    private String getJobRequestParam() {
+        return EnvironmentUtil.isDevEnvironment()
+                ? Optional.ofNullable(((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())).map(ServletRequestAttributes::getRequest).map(each -> each.getHeader("requestParam")).orElse(null)
+                : XxlJobHelper.getJobParam();
+    }
+}
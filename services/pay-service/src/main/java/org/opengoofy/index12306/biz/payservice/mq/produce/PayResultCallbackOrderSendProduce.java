@@ -20,10 +20,11 @@ package org.opengoofy.index12306.biz.payservice.mq.produce;
 import cn.hutool.core.util.StrUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.rocketmq.common.message.MessageConst;
-import org.apache.rocketmq.spring.core.RocketMQTemplate;
 import org.opengoofy.index12306.biz.payservice.common.constant.PayRocketMQConstant;
 import org.opengoofy.index12306.biz.payservice.mq.domain.MessageWrapper;
 import org.opengoofy.index12306.biz.payservice.mq.event.PayResultCallbackOrderEvent;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxTemplate;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageSendLogSampler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.messaging.Message;
@@ -43,8 +44,10 @@ public class PayResultCallbackOrderSendProduce extends AbstractCommonSendProduce
 
     private final ConfigurableEnvironment environment;
 
-    public PayResultCallbackOrderSendProduce(@Autowired RocketMQTemplate rocketMQTemplate, @Autowired ConfigurableEnvironment environment) {
-        super(rocketMQTemplate);
+    public PayResultCallbackOrderSendProduce(@Autowired MessageOutboxTemplate messageOutboxTemplate,
+                                             @Autowired MessageSendLogSampler messageSendLogSampler,
+                                             @Autowired ConfigurableEnvironment environment) {
+        super(messageOutboxTemplate, messageSendLogSampler);
         this.environment = environment;
     }
 
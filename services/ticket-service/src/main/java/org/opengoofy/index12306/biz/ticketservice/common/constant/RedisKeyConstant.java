@@ -19,13 +19,14 @@ package org.opengoofy.index12306.biz.ticketservice.common.constant;
 
 /**
  * Redis Key 定义常量类
+ * 列车维度的 Key 统一通过 CacheKeyBuilder 以 {列车ID} 作为 Hash Tag 构建，保证同一列车的 Key 在 Redis Cluster 中落在同一个 Slot
  *
  * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
  */
 public final class RedisKeyConstant {
 
     /**
-     * 列车基本信息，Key Prefix + 列车ID
+     * 列车基本信息，Key Prefix + {列车ID}
      */
     public static final String TRAIN_INFO = "index12306-ticket-service:train_info:";
 
@@ -40,27 +41,32 @@ public final class RedisKeyConstant {
     public static final String REGION_STATION = "index12306-ticket-service:region-station:";
 
     /**
-     * 站点余票查询，Key Prefix + 列车ID_起始站点_终点
+     * 站点余票查询，Key Prefix + {列车ID}_起始站点_终点
      */
     public static final String TRAIN_STATION_REMAINING_TICKET = "index12306-ticket-service:train_station_remaining_ticket:";
 
     /**
-     * 列车车厢查询，Key Prefix + 列车ID
+     * 列车余票紧凑编码，Key Prefix + {列车ID}，Value 为按 (站点组合, 座位类型) 排列的 BITFIELD 计数器数组
+     */
+    public static final String TRAIN_REMAINING_TICKET_COMPACT = "index12306-ticket-service:train_remaining_ticket_compact:";
+
+    /**
+     * 列车车厢查询，Key Prefix + {列车ID}
      */
     public static final String TRAIN_CARRIAGE = "index12306-ticket-service:train_carriage:";
 
     /**
-     * 车厢余票查询，Key Prefix + 列车ID_起始站点_终点
+     * 车厢余票查询，Key Prefix + {列车ID}_起始站点_终点
      */
     public static final String TRAIN_STATION_CARRIAGE_REMAINING_TICKET = "index12306-ticket-service:train_station_carriage_remaining_ticket:";
 
     /**
-     * 站点详细信息查询，Key Prefix + 列车ID_起始站点_终点
+     * 站点详细信息查询，Key Prefix + {列车ID}_起始站点_终点
      */
     public static final String TRAIN_STATION_DETAIL = "index12306-ticket-service:train_station_detail:";
 
     /**
-     * 列车路线信息查询，Key Prefix + 列车ID
+     * 列车路线信息查询，Key Prefix + {列车ID}
      */
     public static final String TRAIN_STATION_STOPOVER_DETAIL = "index12306-ticket-service:train_station_stopover_detail:";
 
@@ -98,4 +104,24 @@ public final class RedisKeyConstant {
      * 获取相邻座位余票分布式锁 Key
      */
     public static final String LOCK_SAFE_LOAD_SEAT_MARGIN_GET = "index12306-ticket-service:lock:safe_load_seat_margin_%s";
+
+    /**
+     * 订单超时关闭时间片，Key Prefix + {到期秒级时间戳}，Hash 结构，Field 为订单号，Value 为延迟关闭订单事件
+     */
+    public static final String ORDER_EXPIRY_SLOT = "index12306-ticket-service:order_expiry_slot:";
+
+    /**
+     * 订单超时关闭时间片认领租约，Key Prefix + {到期秒级时间戳}
+     */
+    public static final String ORDER_EXPIRY_SLOT_CLAIM = "index12306-ticket-service:order_expiry_slot_claim:";
+
+    /**
+     * 订单超时关闭时间片索引，ZSet 结构，Member 及 Score 均为到期秒级时间戳
+     */
+    public static final String ORDER_EXPIRY_INDEX = "index12306-ticket-service:order_expiry_index";
+
+    /**
+     * 已关闭订单座位释放标记，Key Prefix + 订单号，值为释放中或已释放
+     */
+    public static final String ORDER_SEAT_RELEASE = "index12306-ticket-service:order_seat_release:";
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 订单超时关闭调度属性配置
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Data
+@ConfigurationProperties(prefix = OrderExpiryProperties.PREFIX)
+public class OrderExpiryProperties {
+
+    public static final String PREFIX = "ticket.order-expiry";
+
+    /**
+     * 延迟关闭订单消息消费方式配置项，可选 single（默认，逐条消费）、batch（批量消费）
+     */
+    public static final String CLOSE_CONSUME_MODE_PROPERTY = PREFIX + ".close-consume-mode";
+
+    /**
+     * 订单超时关闭调度方式，可选 rocketmq（默认，RocketMQ 延时消息）、timing-wheel（Redis 持久化 + 本地分层时间轮）
+     */
+    private String scheduler = "rocketmq";
+
+    /**
+     * 订单超时关闭延迟，单位秒，仅 timing-wheel 调度方式生效，精确到秒
+     */
+    private Long delaySeconds = 600L;
+
+    /**
+     * 时间轮刻度，单位毫秒
+     */
+    private Long tickMillis = 100L;
+
+    /**
+     * 每层时间轮的槽位数量
+     */
+    private Integer wheelSize = 64;
+
+    /**
+     * 从 Redis 预加载即将到期时间片的时间范围，单位秒
+     */
+    private Long loadHorizonSeconds = 60L;
+
+    /**
+     * 从 Redis 加载到期时间片的间隔，单位秒，用于节点重启及其他节点宕机后的兜底
+     */
+    private Long loadIntervalSeconds = 5L;
+
+    /**
+     * 认领时间片的租约时长，单位秒，节点在租约内未处理完成时由其他节点重新认领
+     */
+    private Long claimLeaseSeconds = 60L;
+
+    /**
+     * 每批关闭的订单数量
+     */
+    private Integer closeBatchSize = 100;
+
+    /**
+     * 执行订单关闭的线程数量
+     */
+    private Integer closeThreads = 4;
+
+    /**
+     * 订单关闭失败后的重试延迟，单位秒
+     */
+    private Long retryDelaySeconds = 10L;
+
+    /**
+     * Redis 时间片最长保留时间，单位天，防止异常情况下时间片永久残留
+     */
+    private Long slotRetentionDays = 7L;
+
+    /**
+     * 座位释放中标记的租约时长，单位秒，释放节点宕机后租约到期由重试重新释放
+     */
+    private Long seatReleaseLeaseSeconds = 60L;
+
+    /**
+     * 座位已释放标记的保留时间，单位天，需覆盖消息重新投递及时间片重试的最长时间
+     */
+    private Long seatReleaseRetentionDays = 7L;
+
+    /**
+     * 座位释放失败时的最大尝试次数，只重试座位释放，不重新关闭订单
+     */
+    private Integer seatReleaseMaxAttempts = 3;
+
+    /**
+     * 延迟关闭订单消息消费方式，可选 single（默认，逐条消费）、batch（批量消费）
+     */
+    private String closeConsumeMode = "single";
+
+    /**
+     * 批量消费时每批处理的最大消息数量
+     */
+    private Integer closeConsumeBatchSize = 32;
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.ticketservice.dto.resp.RemainingTicketMemoryReportRespDTO;
+import org.opengoofy.index12306.biz.ticketservice.service.RemainingTicketMemoryReportService;
+import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.opengoofy.index12306.framework.starter.web.Results;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 列车站点余票缓存内存占用对比控制层
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@RestController
+@RequiredArgsConstructor
+public class RemainingTicketMemoryReportController {
+
+    private final RemainingTicketMemoryReportService remainingTicketMemoryReportService;
+
+    /**
+     * 对比指定列车余票缓存 Hash 编码与紧凑编码的内存占用
+     */
+    @GetMapping("/api/ticket-service/remaining-ticket/memory-report")
+    public Result<RemainingTicketMemoryReportRespDTO> report(@RequestParam List<String> trainIds) {
+        return Results.success(remainingTicketMemoryReportService.report(trainIds));
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.opengoofy.index12306.biz.ticketservice.controller;
 
-import cn.hutool.core.util.StrUtil;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import lombok.RequiredArgsConstructor;
@@ -28,17 +27,16 @@ import org.opengoofy.index12306.biz.ticketservice.dao.entity.TrainStationRelatio
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.CarriageMapper;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.SeatMapper;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainStationRelationMapper;
-import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.TrainStationRemainingTicketCache;
 import org.opengoofy.index12306.framework.starter.convention.result.Result;
 import org.opengoofy.index12306.framework.starter.web.Results;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.HashMap;
 import java.util.List;
-
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
+import java.util.Map;
 
 /**
  * TODO 待删除，联调临时解决方案
@@ -53,7 +51,7 @@ public class TempSeatController {
     private final SeatMapper seatMapper;
     private final TrainStationRelationMapper trainStationRelationMapper;
     private final CarriageMapper carriageMapper;
-    private final DistributedCache distributedCache;
+    private final TrainStationRemainingTicketCache trainStationRemainingTicketCache;
 
     /**
      * 座位重置
@@ -67,16 +65,16 @@ public class TempSeatController {
         List<TrainStationRelationDO> trainStationRelationDOList = trainStationRelationMapper.selectList(Wrappers.lambdaQuery(TrainStationRelationDO.class).eq(TrainStationRelationDO::getTrainId, trainId));
         for (TrainStationRelationDO each : trainStationRelationDOList) {
             List<CarriageDO> carriageDOS = carriageMapper.selectList(Wrappers.lambdaQuery(CarriageDO.class).eq(CarriageDO::getTrainId, trainId).groupBy(CarriageDO::getCarriageType).select(CarriageDO::getCarriageType));
-            String keySuffix = StrUtil.join("_", each.getTrainId(), each.getDeparture(), each.getArrival());
-            StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
+            Map<String, String> trainStationRemainingTicket = new HashMap<>();
             for (CarriageDO item : carriageDOS) {
                 QueryWrapper<CarriageDO> wrapper = new QueryWrapper<>();
                 wrapper.select("sum(seat_count) as seatCount");
                 wrapper.eq("carriage_type", item.getCarriageType());
                 wrapper.eq("train_id", trainId);
                 CarriageDO carriageDO = carriageMapper.selectOne(wrapper);
-                stringRedisTemplate.opsForHash().put(TRAIN_STATION_REMAINING_TICKET + keySuffix, String.valueOf(item.getCarriageType()), String.valueOf(carriageDO.getSeatCount()));
+                trainStationRemainingTicket.put(String.valueOf(item.getCarriageType()), String.valueOf(carriageDO.getSeatCount()));
             }
+            trainStationRemainingTicketCache.putAll(String.valueOf(each.getTrainId()), each.getDeparture(), each.getArrival(), trainStationRemainingTicket);
         }
         return Results.success();
     }
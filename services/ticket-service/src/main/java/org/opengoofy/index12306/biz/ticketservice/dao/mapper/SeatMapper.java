@@ -17,9 +17,12 @@
 
 package org.opengoofy.index12306.biz.ticketservice.dao.mapper;
 
+import cn.hutool.core.lang.Pair;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.apache.ibatis.annotations.Param;
 import org.opengoofy.index12306.biz.ticketservice.dao.entity.SeatDO;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.RouteDTO;
+import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
 
 import java.util.List;
 
@@ -34,4 +37,11 @@ public interface SeatMapper extends BaseMapper<SeatDO> {
      * 获取列车车厢余票集合
      */
     List<Integer> listSeatRemainingTicket(@Param("seatDO") SeatDO seatDO, @Param("trainCarriageList") List<String> trainCarriageList);
+
+    /**
+     * 批量更新同一列车的座位状态，每组为 停靠路线 -> 座位 的组合
+     */
+    int updateSeatStatusBatch(@Param("trainId") Long trainId,
+                              @Param("seatStatus") Integer seatStatus,
+                              @Param("routeSeatGroups") List<Pair<List<RouteDTO>, List<TrainPurchaseTicketRespDTO>>> routeSeatGroups);
 }
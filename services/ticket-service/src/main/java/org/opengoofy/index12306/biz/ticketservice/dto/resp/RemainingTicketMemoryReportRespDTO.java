@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.dto.resp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 列车站点余票缓存内存占用对比返回参数
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RemainingTicketMemoryReportRespDTO {
+
+    /**
+     * 参与统计的列车数量
+     */
+    private Integer trainCount;
+
+    /**
+     * 参与统计的站点组合数量
+     */
+    private Integer stationPairCount;
+
+    /**
+     * Hash 编码 Key 数量
+     */
+    private Integer hashKeyCount;
+
+    /**
+     * Hash 编码内存占用，单位字节
+     */
+    private Long hashMemoryBytes;
+
+    /**
+     * 紧凑编码 Key 数量
+     */
+    private Integer compactKeyCount;
+
+    /**
+     * 紧凑编码内存占用，单位字节
+     */
+    private Long compactMemoryBytes;
+
+    /**
+     * 紧凑编码相对 Hash 编码的内存占比
+     */
+    private Double compactRatio;
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.job;
+
+import com.xxl.job.core.handler.IJobHandler;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_CARRIAGE;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_INFO;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_CARRIAGE_REMAINING_TICKET;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_DETAIL;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_STOPOVER_DETAIL;
+
+/**
+ * 列车维度缓存 Key 迁移定时任务
+ * 将旧格式 {@code prefix + 列车ID_起始站点_终点} 的存量 Key 迁移为 {@code prefix + {列车ID}_起始站点_终点}
+ * 通过 DUMP + RESTORE 复制数据并保留剩余过期时间，源 Key 与目标 Key 不在同一 Slot 时同样适用于 Redis Cluster
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class TrainCacheKeyHashTagMigrationJobHandler extends IJobHandler {
+
+    private static final List<String> TRAIN_SCOPED_KEY_PREFIXES = List.of(
+            TRAIN_INFO,
+            TRAIN_CARRIAGE,
+            TRAIN_STATION_REMAINING_TICKET,
+            TRAIN_STATION_CARRIAGE_REMAINING_TICKET,
+            TRAIN_STATION_DETAIL,
+            TRAIN_STATION_STOPOVER_DETAIL
+    );
+
+    private static final long SCAN_COUNT = 1000L;
+
+    private final DistributedCache distributedCache;
+
+    @XxlJob(value = "trainCacheKeyHashTagMigrationJobHandler")
+    @GetMapping("/api/ticket-service/train-cache-key/job/hash-tag-migration/execute")
+    @Override
+    public void execute() {
+        StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
+        for (String prefix : TRAIN_SCOPED_KEY_PREFIXES) {
+            int migrated = 0;
+            ScanOptions scanOptions = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+                while (cursor.hasNext()) {
+                    String legacyKey = cursor.next();
+                    String legacySuffix = legacyKey.substring(prefix.length());
+                    if (legacySuffix.isEmpty() || CacheKeyBuilder.hasHashTag(legacySuffix)) {
+                        continue;
+                    }
+                    if (migrate(stringRedisTemplate, legacyKey, prefix + CacheKeyBuilder.toHashTagSuffix(legacySuffix))) {
+                        migrated++;
+                    }
+                }
+            }
+            log.info("[列车缓存 Key 迁移] 前缀：{}，迁移 Key 数量：{}", prefix, migrated);
+        }
+    }
+
+    private boolean migrate(StringRedisTemplate stringRedisTemplate, String legacyKey, String targetKey) {
+        // 目标 Key 已由新代码写入时以新数据为准，直接删除旧 Key
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(targetKey))) {
+            stringRedisTemplate.delete(legacyKey);
+            return false;
+        }
+        byte[] value = stringRedisTemplate.dump(legacyKey);
+        if (value == null) {
+            return false;
+        }
+        Long ttl = stringRedisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        if (ttl != null && ttl == -2L) {
+            return false;
+        }
+        try {
+            stringRedisTemplate.restore(targetKey, value, ttl == null || ttl < 0 ? 0L : ttl, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            // 迁移期间目标 Key 被新代码并发写入，同样以新数据为准
+            log.warn("[列车缓存 Key 迁移] 目标 Key：{} 已存在，跳过复制", targetKey);
+        }
+        stringRedisTemplate.delete(legacyKey);
+        return true;
+    }
+}
@@ -28,6 +28,7 @@ import org.opengoofy.index12306.biz.ticketservice.dao.entity.TrainStationDO;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainStationMapper;
 import org.opengoofy.index12306.biz.ticketservice.job.base.AbstractTrainStationJobHandlerTemplate;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -64,7 +65,7 @@ public class TrainStationJobHandler extends AbstractTrainStationJobHandlerTempla
                     .eq(TrainStationDO::getTrainId, each.getId());
             List<TrainStationDO> trainStationDOList = trainStationMapper.selectList(queryWrapper);
             distributedCache.put(
-                    TRAIN_STATION_STOPOVER_DETAIL + each.getId(),
+                    CacheKeyBuilder.build(TRAIN_STATION_STOPOVER_DETAIL, each.getId()),
                     JSON.toJSONString(trainStationDOList),
                     Index12306Constant.ADVANCE_TICKET_DAY,
                     TimeUnit.DAYS
@@ -18,7 +18,6 @@
 package org.opengoofy.index12306.biz.ticketservice.job;
 
 import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.util.StrUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.xxl.job.core.handler.annotation.XxlJob;
@@ -28,18 +27,13 @@ import org.opengoofy.index12306.biz.ticketservice.dao.entity.TrainStationRelatio
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainMapper;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainStationRelationMapper;
 import org.opengoofy.index12306.biz.ticketservice.job.base.AbstractTrainStationJobHandlerTemplate;
-import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.TrainStationRemainingTicketCache;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.Index12306Constant.ADVANCE_TICKET_DAY;
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
 
 /**
  * 列车站点余票定时任务
@@ -53,7 +47,7 @@ import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKe
 public class TrainStationRemainingTicketJobHandler extends AbstractTrainStationJobHandlerTemplate {
 
     private final TrainStationRelationMapper trainStationRelationMapper;
-    private final DistributedCache distributedCache;
+    private final TrainStationRemainingTicketCache trainStationRemainingTicketCache;
     private final TrainMapper trainMapper;
 
     /**
@@ -99,10 +93,7 @@ public class TrainStationRemainingTicketJobHandler extends AbstractTrainStationJ
                         trainStationRemainingTicket.put("13", "216");
                     }
                 }
-                StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
-                String buildCacheKey = TRAIN_STATION_REMAINING_TICKET + StrUtil.join("_", each.getId(), item.getDeparture(), item.getArrival());
-                stringRedisTemplate.opsForHash().putAll(buildCacheKey, trainStationRemainingTicket);
-                stringRedisTemplate.expire(buildCacheKey, ADVANCE_TICKET_DAY, TimeUnit.DAYS);
+                trainStationRemainingTicketCache.putAll(String.valueOf(each.getId()), item.getDeparture(), item.getArrival(), trainStationRemainingTicket);
             }
         }
     }
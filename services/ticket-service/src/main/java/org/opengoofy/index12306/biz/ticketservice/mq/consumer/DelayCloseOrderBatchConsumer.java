@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.mq.consumer;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.TypeReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
+import org.apache.rocketmq.client.consumer.listener.ConsumeConcurrentlyContext;
+import org.apache.rocketmq.client.consumer.listener.ConsumeConcurrentlyStatus;
+import org.apache.rocketmq.client.consumer.listener.MessageListenerConcurrently;
+import org.apache.rocketmq.common.message.MessageExt;
+import org.apache.rocketmq.spring.annotation.RocketMQMessageListener;
+import org.apache.rocketmq.spring.core.RocketMQListener;
+import org.apache.rocketmq.spring.core.RocketMQPushConsumerLifecycleListener;
+import org.opengoofy.index12306.biz.ticketservice.common.constant.TicketRocketMQConstant;
+import org.opengoofy.index12306.biz.ticketservice.config.OrderExpiryProperties;
+import org.opengoofy.index12306.biz.ticketservice.mq.domain.MessageWrapper;
+import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
+import org.opengoofy.index12306.biz.ticketservice.service.expiry.DelayCloseOrderHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 延迟关闭订单批量消费者
+ * 一次拉取多条延迟关闭订单消息，通过订单服务批量关闭接口关闭订单，按列车合并座位释放及余票回滚；
+ * 消费者由 RocketMQ Starter 创建，启动前将默认的逐条消费监听器替换为批量监听器；
+ * 处理失败的消息通过 ackIndex 只确认其之前的消息，之后的消息重新投递，重复关闭由订单服务状态机保证幂等
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = OrderExpiryProperties.CLOSE_CONSUME_MODE_PROPERTY, havingValue = "batch")
+@RocketMQMessageListener(
+        topic = TicketRocketMQConstant.TICKET_CREATE_TOPIC_KEY,
+        selectorExpression = TicketRocketMQConstant.TICKET_DELAY_CLOSE_TAG_KEY,
+        consumerGroup = TicketRocketMQConstant.TICKET_DELAY_CLOSE_CG_KEY
+)
+public class DelayCloseOrderBatchConsumer implements RocketMQListener<MessageExt>, RocketMQPushConsumerLifecycleListener, MessageListenerConcurrently {
+
+    private static final TypeReference<MessageWrapper<DelayCloseOrderEvent>> MESSAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final DelayCloseOrderHandler delayCloseOrderHandler;
+    private final OrderExpiryProperties orderExpiryProperties;
+
+    @Override
+    public void prepareStart(DefaultMQPushConsumer consumer) {
+        consumer.setConsumeMessageBatchMaxSize(orderExpiryProperties.getCloseConsumeBatchSize());
+        consumer.setPullBatchSize(Math.max(orderExpiryProperties.getCloseConsumeBatchSize(), 32));
+        consumer.setMessageListener(this);
+    }
+
+    /**
+     * 批量监听器替换后不再经由 Starter 逐条回调，保留逐条关闭语义，失败时抛出异常由 Starter 重新投递
+     */
+    @Override
+    public void onMessage(MessageExt message) {
+        DelayCloseOrderEvent delayCloseOrderEvent = parse(message);
+        if (delayCloseOrderEvent != null) {
+            delayCloseOrderHandler.close(delayCloseOrderEvent);
+        }
+    }
+
+    @Override
+    public ConsumeConcurrentlyStatus consumeMessage(List<MessageExt> messages, ConsumeConcurrentlyContext context) {
+        List<String> orderSns = new ArrayList<>(messages.size());
+        List<DelayCloseOrderEvent> delayCloseOrderEvents = new ArrayList<>(messages.size());
+        for (MessageExt each : messages) {
+            DelayCloseOrderEvent delayCloseOrderEvent = parse(each);
+            orderSns.add(delayCloseOrderEvent == null ? null : delayCloseOrderEvent.getOrderSn());
+            if (delayCloseOrderEvent != null) {
+                delayCloseOrderEvents.add(delayCloseOrderEvent);
+            }
+        }
+        log.info("[延迟关闭订单] 开始批量消费，消息数量：{}", messages.size());
+        Set<String> failedOrderSns = delayCloseOrderEvents.isEmpty() ? Set.of() : delayCloseOrderHandler.closeBatch(delayCloseOrderEvents);
+        if (failedOrderSns.isEmpty()) {
+            return ConsumeConcurrentlyStatus.CONSUME_SUCCESS;
+        }
+        int firstFailedIndex = 0;
+        while (!failedOrderSns.contains(orderSns.get(firstFailedIndex))) {
+            firstFailedIndex++;
+        }
+        if (firstFailedIndex == 0) {
+            return ConsumeConcurrentlyStatus.RECONSUME_LATER;
+        }
+        // ackIndex 之后的消息由客户端发回 Broker 重试
+        context.setAckIndex(firstFailedIndex - 1);
+        log.warn("[延迟关闭订单] 批量消费失败订单数量：{}，确认消息数量：{}", failedOrderSns.size(), firstFailedIndex);
+        return ConsumeConcurrentlyStatus.CONSUME_SUCCESS;
+    }
+
+    private DelayCloseOrderEvent parse(MessageExt message) {
+        try {
+            return JSON.parseObject(new String(message.getBody(), StandardCharsets.UTF_8), MESSAGE_TYPE).getMessage();
+        } catch (Throwable ex) {
+            // 无法解析的消息重试也无法成功，记录后直接确认
+            log.error("[延迟关闭订单] 消息ID：{} 解析失败", message.getMsgId(), ex);
+            return null;
+        }
+    }
+}
@@ -17,30 +17,19 @@
 
 package org.opengoofy.index12306.biz.ticketservice.mq.consumer;
 
-import cn.hutool.core.util.StrUtil;
 import com.alibaba.fastjson.JSON;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.rocketmq.spring.annotation.RocketMQMessageListener;
 import org.apache.rocketmq.spring.core.RocketMQListener;
 import org.opengoofy.index12306.biz.ticketservice.common.constant.TicketRocketMQConstant;
-import org.opengoofy.index12306.biz.ticketservice.dto.req.CancelTicketOrderReqDTO;
+import org.opengoofy.index12306.biz.ticketservice.config.OrderExpiryProperties;
 import org.opengoofy.index12306.biz.ticketservice.mq.domain.MessageWrapper;
 import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
-import org.opengoofy.index12306.biz.ticketservice.remote.TicketOrderRemoteService;
-import org.opengoofy.index12306.biz.ticketservice.service.SeatService;
-import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
-import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
-import org.opengoofy.index12306.framework.starter.convention.result.Result;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.opengoofy.index12306.biz.ticketservice.service.expiry.DelayCloseOrderHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
-
 /**
  * 延迟关闭订单消费者
  *
@@ -49,6 +38,7 @@ import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKe
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = OrderExpiryProperties.CLOSE_CONSUME_MODE_PROPERTY, havingValue = "single", matchIfMissing = true)
 @RocketMQMessageListener(
         topic = TicketRocketMQConstant.TICKET_CREATE_TOPIC_KEY,
         selectorExpression = TicketRocketMQConstant.TICKET_DELAY_CLOSE_TAG_KEY,
@@ -56,46 +46,11 @@ import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKe
 )
 public final class DelayCloseOrderConsumer implements RocketMQListener<MessageWrapper<DelayCloseOrderEvent>> {
 
-    private final SeatService seatService;
-    private final TicketOrderRemoteService ticketOrderRemoteService;
-    private final DistributedCache distributedCache;
+    private final DelayCloseOrderHandler delayCloseOrderHandler;
 
     @Override
     public void onMessage(MessageWrapper<DelayCloseOrderEvent> delayCloseOrderEventMessageWrapper) {
         log.info("[延迟关闭订单] 开始消费：{}", JSON.toJSONString(delayCloseOrderEventMessageWrapper));
-        DelayCloseOrderEvent delayCloseOrderEvent = delayCloseOrderEventMessageWrapper.getMessage();
-        String orderSn = delayCloseOrderEvent.getOrderSn();
-        Result<Boolean> closedTickOrder;
-        try {
-            closedTickOrder = ticketOrderRemoteService.closeTickOrder(new CancelTicketOrderReqDTO(orderSn));
-        } catch (Throwable ex) {
-            log.error("[延迟关闭订单] 订单号：{} 远程调用订单服务失败", orderSn, ex);
-            throw ex;
-        }
-        if (closedTickOrder.isSuccess() && closedTickOrder.getData()) {
-            String trainId = delayCloseOrderEvent.getTrainId();
-            String departure = delayCloseOrderEvent.getDeparture();
-            String arrival = delayCloseOrderEvent.getArrival();
-            List<TrainPurchaseTicketRespDTO> trainPurchaseTicketResults = delayCloseOrderEvent.getTrainPurchaseTicketResults();
-            try {
-                seatService.unlock(trainId, departure, arrival, trainPurchaseTicketResults);
-            } catch (Throwable ex) {
-                log.error("[延迟关闭订单] 订单号：{} 回滚列车DB座位状态失败", orderSn, ex);
-                throw ex;
-            }
-            try {
-                String keySuffix = StrUtil.join("_", trainId, departure, arrival);
-                StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
-                Map<Integer, List<TrainPurchaseTicketRespDTO>> seatTypeMap = trainPurchaseTicketResults.stream()
-                        .collect(Collectors.groupingBy(TrainPurchaseTicketRespDTO::getSeatType));
-                seatTypeMap.forEach(
-                        (seatType, passengerSeatDetails) -> stringRedisTemplate.opsForHash()
-                                .increment(TRAIN_STATION_REMAINING_TICKET + keySuffix, String.valueOf(seatType), passengerSeatDetails.size())
-                );
-            } catch (Throwable ex) {
-                log.error("[延迟关闭订单] 订单号：{} 回滚列车Cache余票失败", orderSn, ex);
-                throw ex;
-            }
-        }
+        delayCloseOrderHandler.close(delayCloseOrderEventMessageWrapper.getMessage());
     }
 }
@@ -22,13 +22,19 @@ import com.alibaba.fastjson2.JSON;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.rocketmq.client.producer.SendResult;
-import org.apache.rocketmq.spring.core.RocketMQTemplate;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxSendParam;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxTemplate;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageSendLogSampler;
 import org.springframework.messaging.Message;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * RocketMQ 抽象公共发送消息组件
+ * 消息写入本地消息表，与调用方的业务数据在同一个本地事务内提交，由本地消息表投递线程异步投递到 RocketMQ
+ * 支持单条写入、写入后跟踪投递结果以及同一主题的批量写入，成功日志按采样率打印
  *
  * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
  */
@@ -36,7 +42,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public abstract class AbstractCommonSendProduceTemplate<T> {
 
-    private final RocketMQTemplate rocketMQTemplate;
+    private final MessageOutboxTemplate messageOutboxTemplate;
+
+    private final MessageSendLogSampler messageSendLogSampler;
 
     /**
      * 构建消息发送事件基础扩充属性实体
@@ -59,27 +67,100 @@ public abstract class AbstractCommonSendProduceTemplate<T> {
      * 消息事件通用发送
      *
      * @param messageSendEvent 消息发送事件
-     * @return 消息发送返回结果
+     * @return 本地消息 ID
      */
-    public SendResult sendMessage(T messageSendEvent) {
+    public Long sendMessage(T messageSendEvent) {
         BaseSendExtendDTO baseSendExtendDTO = buildBaseSendExtendParam(messageSendEvent);
-        SendResult sendResult;
+        long startTime = System.currentTimeMillis();
+        Long messageId;
         try {
-            StringBuilder destinationBuilder = StrUtil.builder().append(baseSendExtendDTO.getTopic());
-            if (StrUtil.isNotBlank(baseSendExtendDTO.getTag())) {
-                destinationBuilder.append(":").append(baseSendExtendDTO.getTag());
+            messageId = messageOutboxTemplate.save(buildSendParam(messageSendEvent, baseSendExtendDTO));
+        } catch (Throwable ex) {
+            log.error("[{}] 消息写入本地消息表失败，消息体：{}", baseSendExtendDTO.getEventName(), JSON.toJSONString(messageSendEvent), ex);
+            throw ex;
+        }
+        logSaved(baseSendExtendDTO, messageId, startTime);
+        return messageId;
+    }
+
+    /**
+     * 消息事件通用发送，并返回消息投递结果
+     * 调用方可以先处理其他逻辑，需要时再等待投递结果；本地事务回滚或超过最大重试次数时 Future 异常完成
+     *
+     * @param messageSendEvent 消息发送事件
+     * @return 消息投递结果
+     */
+    public CompletableFuture<SendResult> sendAsync(T messageSendEvent) {
+        BaseSendExtendDTO baseSendExtendDTO = buildBaseSendExtendParam(messageSendEvent);
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<SendResult> deliveryFuture;
+        try {
+            deliveryFuture = messageOutboxTemplate.saveAndTrack(buildSendParam(messageSendEvent, baseSendExtendDTO));
+        } catch (Throwable ex) {
+            log.error("[{}] 消息写入本地消息表失败，消息体：{}", baseSendExtendDTO.getEventName(), JSON.toJSONString(messageSendEvent), ex);
+            throw ex;
+        }
+        return deliveryFuture.whenComplete((sendResult, ex) -> {
+            if (ex != null) {
+                log.error("[{}] 消息投递失败，消息Keys：{}", baseSendExtendDTO.getEventName(), messageSendLogSampler.keys(baseSendExtendDTO.getKeys()), ex);
+            } else if (messageSendLogSampler.shouldLog(System.currentTimeMillis() - startTime)) {
+                log.info("[{}] 消息投递成功，发送状态：{}，消息ID：{}，消息Keys：{}，耗时：{}ms", baseSendExtendDTO.getEventName(), sendResult.getSendStatus(),
+                        sendResult.getMsgId(), messageSendLogSampler.keys(baseSendExtendDTO.getKeys()), System.currentTimeMillis() - startTime);
             }
-            sendResult = rocketMQTemplate.syncSend(
-                    destinationBuilder.toString(),
-                    buildMessage(messageSendEvent, baseSendExtendDTO),
-                    baseSendExtendDTO.getSentTimeout(),
-                    Optional.ofNullable(baseSendExtendDTO.getDelayLevel()).orElse(0)
-            );
-            log.info("[{}] 消息发送结果：{}，消息ID：{}，消息Keys：{}", baseSendExtendDTO.getEventName(), sendResult.getSendStatus(), sendResult.getMsgId(), baseSendExtendDTO.getKeys());
+        });
+    }
+
+    /**
+     * 同一主题消息事件批量发送，一次批量写入本地消息表，投递时合并为 RocketMQ 批量消息
+     *
+     * @param messageSendEvents 消息发送事件
+     * @return 本地消息 ID，与消息发送事件顺序一致
+     */
+    public List<Long> sendBatch(List<T> messageSendEvents) {
+        if (messageSendEvents.isEmpty()) {
+            return List.of();
+        }
+        List<MessageOutboxSendParam> sendParams = new ArrayList<>(messageSendEvents.size());
+        BaseSendExtendDTO baseSendExtendDTO = null;
+        for (T each : messageSendEvents) {
+            baseSendExtendDTO = buildBaseSendExtendParam(each);
+            sendParams.add(buildSendParam(each, baseSendExtendDTO));
+        }
+        long startTime = System.currentTimeMillis();
+        List<Long> messageIds;
+        try {
+            messageIds = messageOutboxTemplate.saveBatch(sendParams);
         } catch (Throwable ex) {
-            log.error("[{}] 消息发送失败，消息体：{}", baseSendExtendDTO.getEventName(), JSON.toJSONString(messageSendEvent), ex);
+            log.error("[{}] 消息批量写入本地消息表失败，消息数量：{}", baseSendExtendDTO.getEventName(), messageSendEvents.size(), ex);
             throw ex;
         }
-        return sendResult;
+        long elapsed = System.currentTimeMillis() - startTime;
+        if (messageSendLogSampler.shouldLog(elapsed)) {
+            log.info("[{}] 消息批量写入本地消息表，消息数量：{}，耗时：{}ms", baseSendExtendDTO.getEventName(), messageIds.size(), elapsed);
+        }
+        return messageIds;
+    }
+
+    private MessageOutboxSendParam buildSendParam(T messageSendEvent, BaseSendExtendDTO baseSendExtendDTO) {
+        StringBuilder destinationBuilder = StrUtil.builder().append(baseSendExtendDTO.getTopic());
+        if (StrUtil.isNotBlank(baseSendExtendDTO.getTag())) {
+            destinationBuilder.append(":").append(baseSendExtendDTO.getTag());
+        }
+        return MessageOutboxSendParam.builder()
+                .eventName(baseSendExtendDTO.getEventName())
+                .destination(destinationBuilder.toString())
+                .message(buildMessage(messageSendEvent, baseSendExtendDTO))
+                .shardingKey(baseSendExtendDTO.getKeys())
+                .sentTimeout(baseSendExtendDTO.getSentTimeout())
+                .delayLevel(baseSendExtendDTO.getDelayLevel())
+                .build();
+    }
+
+    private void logSaved(BaseSendExtendDTO baseSendExtendDTO, Long messageId, long startTime) {
+        long elapsed = System.currentTimeMillis() - startTime;
+        if (messageSendLogSampler.shouldLog(elapsed)) {
+            log.info("[{}] 消息写入本地消息表，消息ID：{}，消息Keys：{}，耗时：{}ms", baseSendExtendDTO.getEventName(), messageId,
+                    messageSendLogSampler.keys(baseSendExtendDTO.getKeys()), elapsed);
+        }
     }
 }
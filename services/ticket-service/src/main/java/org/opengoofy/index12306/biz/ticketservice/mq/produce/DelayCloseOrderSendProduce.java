@@ -20,10 +20,11 @@ package org.opengoofy.index12306.biz.ticketservice.mq.produce;
 import cn.hutool.core.util.StrUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.rocketmq.common.message.MessageConst;
-import org.apache.rocketmq.spring.core.RocketMQTemplate;
 import org.opengoofy.index12306.biz.ticketservice.common.constant.TicketRocketMQConstant;
 import org.opengoofy.index12306.biz.ticketservice.mq.domain.MessageWrapper;
 import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageOutboxTemplate;
+import org.opengoofy.index12306.framework.starter.mq.core.MessageSendLogSampler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.messaging.Message;
@@ -43,8 +44,10 @@ public class DelayCloseOrderSendProduce extends AbstractCommonSendProduceTemplat
 
     private final ConfigurableEnvironment environment;
 
-    public DelayCloseOrderSendProduce(@Autowired RocketMQTemplate rocketMQTemplate, @Autowired ConfigurableEnvironment environment) {
-        super(rocketMQTemplate);
+    public DelayCloseOrderSendProduce(@Autowired MessageOutboxTemplate messageOutboxTemplate,
+                                      @Autowired MessageSendLogSampler messageSendLogSampler,
+                                      @Autowired ConfigurableEnvironment environment) {
+        super(messageOutboxTemplate, messageSendLogSampler);
         this.environment = environment;
     }
 
@@ -17,6 +17,7 @@
 
 package org.opengoofy.index12306.biz.ticketservice.remote;
 
+import org.opengoofy.index12306.biz.ticketservice.dto.req.BatchCloseTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.ticketservice.dto.req.CancelTicketOrderReqDTO;
 import org.opengoofy.index12306.biz.ticketservice.remote.dto.TicketOrderCreateRemoteReqDTO;
 import org.opengoofy.index12306.framework.starter.convention.result.Result;
@@ -24,6 +25,8 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 /**
  * 车票订单远程服务调用
  *
@@ -50,6 +53,15 @@ public interface TicketOrderRemoteService {
     @PostMapping("/api/order-service/order/ticket/close")
     Result<Boolean> closeTickOrder(@RequestBody CancelTicketOrderReqDTO requestParam);
 
+    /**
+     * 车票订单批量关闭
+     *
+     * @param requestParam 车票订单批量关闭入参
+     * @return 已处于关闭状态的订单号，包括由本次调用关闭及此前已关闭的订单
+     */
+    @PostMapping("/api/order-service/order/ticket/close/batch")
+    Result<List<String>> closeTickOrders(@RequestBody BatchCloseTicketOrderReqDTO requestParam);
+
     /**
      * 车票订单取消
      *
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service;
+
+import org.opengoofy.index12306.biz.ticketservice.dto.resp.RemainingTicketMemoryReportRespDTO;
+
+import java.util.List;
+
+/**
+ * 列车站点余票缓存内存占用对比接口层
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+public interface RemainingTicketMemoryReportService {
+
+    /**
+     * 使用真实列车数据分别以 Hash 编码和紧凑编码写入临时 Key，通过 MEMORY USAGE 统计两种编码的内存占用
+     *
+     * @param trainIds 列车 ID 集合
+     * @return 内存占用对比结果
+     */
+    RemainingTicketMemoryReportRespDTO report(List<String> trainIds);
+}
@@ -19,6 +19,7 @@ package org.opengoofy.index12306.biz.ticketservice.service;
 
 import com.baomidou.mybatisplus.extension.service.IService;
 import org.opengoofy.index12306.biz.ticketservice.dao.entity.SeatDO;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.SeatReleaseDTO;
 import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
 
 import java.util.List;
@@ -83,4 +84,12 @@ public interface SeatService extends IService<SeatDO> {
      * @param trainPurchaseTicketResults 乘车人以及座位信息
      */
     void unlock(String trainId, String departure, String arrival, List<TrainPurchaseTicketRespDTO> trainPurchaseTicketResults);
+
+    /**
+     * 批量解锁同一列车多个订单的选中以及沿途车票状态，合并为一条 UPDATE 语句
+     *
+     * @param trainId      列车 ID
+     * @param seatReleases 待释放座位集合
+     */
+    void unlockBatch(String trainId, List<SeatReleaseDTO> seatReleases);
 }
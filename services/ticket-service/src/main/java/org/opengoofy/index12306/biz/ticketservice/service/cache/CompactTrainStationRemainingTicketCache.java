@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.cache;
+
+import cn.hutool.core.collection.CollUtil;
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.ticketservice.common.constant.Index12306Constant;
+import org.opengoofy.index12306.biz.ticketservice.common.enums.VehicleSeatTypeEnum;
+import org.opengoofy.index12306.biz.ticketservice.dao.entity.TrainStationDO;
+import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainStationMapper;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.RemainingTicketDeltaDTO;
+import org.opengoofy.index12306.framework.starter.bases.Singleton;
+import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
+import org.opengoofy.index12306.framework.starter.convention.exception.ServiceException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.BitFieldSubCommands.Offset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.Index12306Constant.ADVANCE_TICKET_DAY;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_REMAINING_TICKET_COMPACT;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_STOPOVER_DETAIL;
+
+/**
+ * 列车站点余票缓存，紧凑编码
+ * 每趟列车（列车 ID 已区分发车日期）一个 Key，Value 为 BITFIELD 有符号 16 位计数器数组，
+ * 下标为 站点组合序号 * 座位类型数量 + 座位类型，计数器存储 余票 + 1，0 表示该站点组合尚未加载
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = TrainStationRemainingTicketCache.ENCODING_PROPERTY, havingValue = "compact")
+public class CompactTrainStationRemainingTicketCache implements TrainStationRemainingTicketCache {
+
+    /**
+     * 单个站点组合预留的座位类型槽位数量
+     */
+    public static final int SEAT_TYPE_SLOT_COUNT = VehicleSeatTypeEnum.values().length;
+
+    /**
+     * 计数器类型
+     */
+    public static final BitFieldType COUNTER_TYPE = BitFieldType.signed(16);
+
+    private static final String LUA_COMPACT_REMAINING_TICKET_INCREMENT_PATH = "lua/compact_remaining_ticket_increment.lua";
+
+    private static final String LUA_COMPACT_REMAINING_TICKET_INCREMENT_BATCH_PATH = "lua/compact_remaining_ticket_increment_batch.lua";
+
+    private final DistributedCache distributedCache;
+    private final TrainStationMapper trainStationMapper;
+
+    /**
+     * 列车停靠站点顺序不会变化，本地缓存 站点 -> 序号，避免每次访问余票都读取停靠站点详情
+     */
+    private final Cache<String, Map<String, Integer>> stationIndexCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    @Override
+    public Integer get(String trainId, String departure, String arrival, Integer seatType) {
+        long slot = slotOf(trainId, departure, arrival, seatType);
+        List<Long> result = getStringRedisTemplate().opsForValue().bitField(
+                buildKey(trainId),
+                BitFieldSubCommands.create().get(COUNTER_TYPE).valueAt(Offset.offset(slot).multipliedByTypeLength())
+        );
+        if (CollUtil.isEmpty(result) || result.get(0) == null || result.get(0) == 0L) {
+            return null;
+        }
+        return (int) (result.get(0) - 1);
+    }
+
+    @Override
+    public void putAll(String trainId, String departure, String arrival, Map<String, String> remainingTickets) {
+        if (remainingTickets.isEmpty()) {
+            return;
+        }
+        int pairIndex = pairIndexOf(trainId, departure, arrival);
+        Map<Integer, Integer> actualRemainingTickets = new HashMap<>(remainingTickets.size());
+        remainingTickets.forEach((seatType, quantity) -> actualRemainingTickets.put(Integer.parseInt(seatType), Integer.parseInt(quantity)));
+        StringRedisTemplate stringRedisTemplate = getStringRedisTemplate();
+        String buildCacheKey = buildKey(trainId);
+        stringRedisTemplate.opsForValue().bitField(buildCacheKey, buildSetCommands(pairIndex, actualRemainingTickets));
+        stringRedisTemplate.expire(buildCacheKey, ADVANCE_TICKET_DAY, TimeUnit.DAYS);
+    }
+
+    @Override
+    public void increment(String trainId, String departure, String arrival, Integer seatType, long delta) {
+        DefaultRedisScript<Long> actual = Singleton.get(LUA_COMPACT_REMAINING_TICKET_INCREMENT_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(LUA_COMPACT_REMAINING_TICKET_INCREMENT_PATH)));
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+        long slot = slotOf(trainId, departure, arrival, seatType);
+        getStringRedisTemplate().execute(actual, List.of(buildKey(trainId)), "#" + slot, String.valueOf(delta));
+    }
+
+    @Override
+    public void incrementAll(String trainId, List<RemainingTicketDeltaDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 同一计数器的增减先在本地合并，所有计数器在一次 Lua 调用中修改
+        Map<Long, Long> slotDeltas = new LinkedHashMap<>();
+        deltas.forEach(each -> slotDeltas.merge(slotOf(trainId, each.getDeparture(), each.getArrival(), each.getSeatType()), each.getDelta(), Long::sum));
+        DefaultRedisScript<Long> actual = Singleton.get(LUA_COMPACT_REMAINING_TICKET_INCREMENT_BATCH_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(LUA_COMPACT_REMAINING_TICKET_INCREMENT_BATCH_PATH)));
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+        List<String> args = new ArrayList<>(slotDeltas.size() * 2);
+        slotDeltas.forEach((slot, delta) -> {
+            args.add("#" + slot);
+            args.add(String.valueOf(delta));
+        });
+        getStringRedisTemplate().execute(actual, List.of(buildKey(trainId)), args.toArray());
+    }
+
+    /**
+     * 构建一个站点组合下多个座位类型的 BITFIELD SET 子命令
+     */
+    public static BitFieldSubCommands buildSetCommands(int pairIndex, Map<Integer, Integer> remainingTickets) {
+        BitFieldSubCommands subCommands = BitFieldSubCommands.create();
+        for (Map.Entry<Integer, Integer> each : remainingTickets.entrySet()) {
+            long slot = (long) pairIndex * SEAT_TYPE_SLOT_COUNT + each.getKey();
+            subCommands = subCommands.set(COUNTER_TYPE).valueAt(Offset.offset(slot).multipliedByTypeLength()).to(each.getValue() + 1L);
+        }
+        return subCommands;
+    }
+
+    /**
+     * 计算站点组合序号，按 (0,1) (0,2) ... (0,n-1) (1,2) ... 的顺序排列，n 个站点共 n * (n - 1) / 2 个组合
+     *
+     * @param departureIndex 出发站点序号
+     * @param arrivalIndex   到达站点序号
+     * @param stationCount   列车停靠站点数量
+     */
+    public static int pairIndex(int departureIndex, int arrivalIndex, int stationCount) {
+        return departureIndex * (2 * stationCount - departureIndex - 1) / 2 + (arrivalIndex - departureIndex - 1);
+    }
+
+    private long slotOf(String trainId, String departure, String arrival, Integer seatType) {
+        return (long) pairIndexOf(trainId, departure, arrival) * SEAT_TYPE_SLOT_COUNT + seatType;
+    }
+
+    private int pairIndexOf(String trainId, String departure, String arrival) {
+        Map<String, Integer> stationIndex = getStationIndex(trainId);
+        Integer departureIndex = stationIndex.get(departure);
+        Integer arrivalIndex = stationIndex.get(arrival);
+        if (departureIndex == null || arrivalIndex == null || departureIndex >= arrivalIndex) {
+            throw new ServiceException(String.format("列车 %s 站点组合 %s-%s 不存在", trainId, departure, arrival));
+        }
+        return pairIndex(departureIndex, arrivalIndex, stationIndex.size());
+    }
+
+    private Map<String, Integer> getStationIndex(String trainId) {
+        try {
+            return stationIndexCache.get(trainId, () -> {
+                String trainStationStopoverDetailStr = distributedCache.safeGet(
+                        CacheKeyBuilder.build(TRAIN_STATION_STOPOVER_DETAIL, trainId),
+                        String.class,
+                        () -> {
+                            LambdaQueryWrapper<TrainStationDO> queryWrapper = Wrappers.lambdaQuery(TrainStationDO.class)
+                                    .eq(TrainStationDO::getTrainId, trainId);
+                            List<TrainStationDO> actualTrainStationList = trainStationMapper.selectList(queryWrapper);
+                            return CollUtil.isNotEmpty(actualTrainStationList) ? JSON.toJSONString(actualTrainStationList) : null;
+                        },
+                        Index12306Constant.ADVANCE_TICKET_DAY,
+                        TimeUnit.DAYS
+                );
+                List<TrainStationDO> trainStationList = JSON.parseArray(trainStationStopoverDetailStr, TrainStationDO.class);
+                if (CollUtil.isEmpty(trainStationList)) {
+                    throw new ServiceException(String.format("列车 %s 停靠站点不存在", trainId));
+                }
+                Map<String, Integer> result = new HashMap<>(trainStationList.size() * 2);
+                for (int i = 0; i < trainStationList.size(); i++) {
+                    result.putIfAbsent(trainStationList.get(i).getDeparture(), i);
+                }
+                return result;
+            });
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            throw new ServiceException(String.format("列车 %s 停靠站点加载失败", trainId));
+        }
+    }
+
+    private String buildKey(String trainId) {
+        return CacheKeyBuilder.build(TRAIN_REMAINING_TICKET_COMPACT, trainId);
+    }
+
+    private StringRedisTemplate getStringRedisTemplate() {
+        return (StringRedisTemplate) distributedCache.getInstance();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.RemainingTicketDeltaDTO;
+import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.Index12306Constant.ADVANCE_TICKET_DAY;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
+
+/**
+ * 列车站点余票缓存，Hash 编码
+ * 每个站点组合一个 Hash，Key 为 {@code prefix{列车ID}_出发站_到达站}，Field 为座位类型
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = TrainStationRemainingTicketCache.ENCODING_PROPERTY, havingValue = "hash", matchIfMissing = true)
+public class HashTrainStationRemainingTicketCache implements TrainStationRemainingTicketCache {
+
+    private final DistributedCache distributedCache;
+
+    @Override
+    public Integer get(String trainId, String departure, String arrival, Integer seatType) {
+        Object quantityObj = getStringRedisTemplate().opsForHash().get(buildKey(trainId, departure, arrival), String.valueOf(seatType));
+        return Optional.ofNullable(quantityObj)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(null);
+    }
+
+    @Override
+    public void putAll(String trainId, String departure, String arrival, Map<String, String> remainingTickets) {
+        StringRedisTemplate stringRedisTemplate = getStringRedisTemplate();
+        String buildCacheKey = buildKey(trainId, departure, arrival);
+        stringRedisTemplate.opsForHash().putAll(buildCacheKey, remainingTickets);
+        stringRedisTemplate.expire(buildCacheKey, ADVANCE_TICKET_DAY, TimeUnit.DAYS);
+    }
+
+    @Override
+    public void increment(String trainId, String departure, String arrival, Integer seatType, long delta) {
+        getStringRedisTemplate().opsForHash().increment(buildKey(trainId, departure, arrival), String.valueOf(seatType), delta);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void incrementAll(String trainId, List<RemainingTicketDeltaDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        getStringRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> actual = (RedisOperations<String, String>) operations;
+                deltas.forEach(each -> actual.opsForHash().increment(
+                        buildKey(trainId, each.getDeparture(), each.getArrival()),
+                        String.valueOf(each.getSeatType()),
+                        each.getDelta()
+                ));
+                return null;
+            }
+        });
+    }
+
+    private String buildKey(String trainId, String departure, String arrival) {
+        return CacheKeyBuilder.build(TRAIN_STATION_REMAINING_TICKET, trainId, departure, arrival);
+    }
+
+    private StringRedisTemplate getStringRedisTemplate() {
+        return (StringRedisTemplate) distributedCache.getInstance();
+    }
+}
@@ -24,20 +24,15 @@ import org.opengoofy.index12306.biz.ticketservice.dao.entity.SeatDO;
 import org.opengoofy.index12306.biz.ticketservice.dao.entity.TrainDO;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.SeatMapper;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainMapper;
-import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
-import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheUtil;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.Index12306Constant.ADVANCE_TICKET_DAY;
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
 import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.LOCK_SAFE_LOAD_SEAT_MARGIN_GET;
 
 /**
@@ -51,18 +46,19 @@ public class SeatMarginCacheLoader {
 
     private final TrainMapper trainMapper;
     private final SeatMapper seatMapper;
-    private final DistributedCache distributedCache;
+    private final TrainStationRemainingTicketCache trainStationRemainingTicketCache;
     private final RedissonClient redissonClient;
 
     public Map<String, String> load(String trainId, String seatType, String departure, String arrival) {
         Map<String, String> trainStationRemainingTicket = new HashMap<>();
-        String keySuffix = CacheUtil.buildKey(trainId, departure, arrival);
+        String keySuffix = CacheKeyBuilder.buildSuffix(trainId, departure, arrival);
         RLock lock = redissonClient.getLock(String.format(LOCK_SAFE_LOAD_SEAT_MARGIN_GET, keySuffix));
         lock.lock();
         try {
-            StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
-            Object quantityObj = stringRedisTemplate.opsForHash().get(TRAIN_STATION_REMAINING_TICKET + keySuffix, seatType);
-            if (CacheUtil.isNullOrBlank(quantityObj)) {
+            Integer quantity = trainStationRemainingTicketCache.get(trainId, departure, arrival, Integer.parseInt(seatType));
+            if (quantity != null) {
+                trainStationRemainingTicket.put(seatType, String.valueOf(quantity));
+            } else {
                 TrainDO trainDO = trainMapper.selectById(trainId);
                 switch (trainDO.getTrainType()) {
                     case 0 -> {
@@ -83,9 +79,7 @@ public class SeatMarginCacheLoader {
                         trainStationRemainingTicket.put("13", selectSeatMargin(trainId, 13, departure, arrival));
                     }
                 }
-                String buildCacheKey = TRAIN_STATION_REMAINING_TICKET + keySuffix;
-                stringRedisTemplate.opsForHash().putAll(buildCacheKey, trainStationRemainingTicket);
-                stringRedisTemplate.expire(buildCacheKey, ADVANCE_TICKET_DAY, TimeUnit.DAYS);
+                trainStationRemainingTicketCache.putAll(trainId, departure, arrival, trainStationRemainingTicket);
             }
         } finally {
             lock.unlock();
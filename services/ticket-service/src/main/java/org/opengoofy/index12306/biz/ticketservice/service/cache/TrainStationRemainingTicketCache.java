@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.cache;
+
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.RemainingTicketDeltaDTO;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 列车站点余票缓存访问器
+ * 屏蔽余票在 Redis 中的具体编码方式，调用方只按照列车、出发站、到达站以及座位类型读写余票
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+public interface TrainStationRemainingTicketCache {
+
+    /**
+     * 余票缓存编码方式配置项，可选 hash（默认）、compact
+     */
+    String ENCODING_PROPERTY = "ticket.remaining-ticket.encoding";
+
+    /**
+     * 获取站点余票
+     *
+     * @param trainId   列车 ID
+     * @param departure 出发站点
+     * @param arrival   到达站点
+     * @param seatType  座位类型
+     * @return 余票数量，缓存中不存在时返回 {@code null}
+     */
+    Integer get(String trainId, String departure, String arrival, Integer seatType);
+
+    /**
+     * 写入站点下多个座位类型的余票，并刷新过期时间
+     *
+     * @param trainId          列车 ID
+     * @param departure        出发站点
+     * @param arrival          到达站点
+     * @param remainingTickets 座位类型 -> 余票数量
+     */
+    void putAll(String trainId, String departure, String arrival, Map<String, String> remainingTickets);
+
+    /**
+     * 增减站点余票，缓存中不存在时由具体实现决定是否忽略
+     *
+     * @param trainId   列车 ID
+     * @param departure 出发站点
+     * @param arrival   到达站点
+     * @param seatType  座位类型
+     * @param delta     增减数量
+     */
+    void increment(String trainId, String departure, String arrival, Integer seatType, long delta);
+
+    /**
+     * 批量增减同一列车多个站点组合的余票，同一列车的 Key 带有相同 Hash Tag，由具体实现合并为一次 Redis 往返
+     *
+     * @param trainId 列车 ID
+     * @param deltas  站点余票增减集合
+     */
+    void incrementAll(String trainId, List<RemainingTicketDeltaDTO> deltas);
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.expiry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.ticketservice.config.OrderExpiryProperties;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.RemainingTicketDeltaDTO;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.SeatReleaseDTO;
+import org.opengoofy.index12306.biz.ticketservice.dto.req.BatchCloseTicketOrderReqDTO;
+import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
+import org.opengoofy.index12306.biz.ticketservice.remote.TicketOrderRemoteService;
+import org.opengoofy.index12306.biz.ticketservice.service.SeatService;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.TrainStationRemainingTicketCache;
+import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
+import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
+import org.opengoofy.index12306.framework.starter.convention.exception.ServiceException;
+import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.ORDER_SEAT_RELEASE;
+
+/**
+ * 超时订单关闭处理器
+ * 关闭订单后回滚列车座位状态及余票缓存，由 RocketMQ 延时消息消费者及时间轮调度器共用；
+ * 座位释放与订单关闭相互独立：只要订单已处于关闭状态且座位尚未释放就执行释放，不依赖本次调用是否关闭了订单，
+ * 每个订单通过 Redis 释放标记保证座位只释放一次，释放失败时删除标记由重试重新释放
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DelayCloseOrderHandler {
+
+    private static final String SEAT_RELEASING = "releasing";
+
+    private static final String SEAT_RELEASED = "released";
+
+    private final SeatService seatService;
+    private final TicketOrderRemoteService ticketOrderRemoteService;
+    private final TrainStationRemainingTicketCache trainStationRemainingTicketCache;
+    private final DistributedCache distributedCache;
+    private final OrderExpiryProperties orderExpiryProperties;
+
+    /**
+     * 关闭超时订单并释放座位，订单服务只关闭仍待支付的订单，重复关闭不会重复回滚座位
+     *
+     * @param delayCloseOrderEvent 延迟关闭订单事件
+     * @throws ServiceException 关闭订单或释放座位失败，需要重试
+     */
+    public void close(DelayCloseOrderEvent delayCloseOrderEvent) {
+        if (!closeBatch(List.of(delayCloseOrderEvent)).isEmpty()) {
+            throw new ServiceException(String.format("[延迟关闭订单] 订单号：%s 关闭订单或回滚座位失败", delayCloseOrderEvent.getOrderSn()));
+        }
+    }
+
+    /**
+     * 批量关闭超时订单，一次远程调用关闭全部订单，已关闭且座位未释放的订单按列车分组，
+     * 每个列车的座位释放合并为一条 UPDATE，余票回滚合并为一次 Redis 往返
+     *
+     * @param delayCloseOrderEvents 延迟关闭订单事件
+     * @return 处理失败需要重试的订单号
+     */
+    public Set<String> closeBatch(List<DelayCloseOrderEvent> delayCloseOrderEvents) {
+        Map<String, DelayCloseOrderEvent> delayCloseOrderEventMap = delayCloseOrderEvents.stream()
+                .collect(Collectors.toMap(DelayCloseOrderEvent::getOrderSn, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        Result<List<String>> closedTickOrders;
+        try {
+            closedTickOrders = ticketOrderRemoteService.closeTickOrders(new BatchCloseTicketOrderReqDTO(new ArrayList<>(delayCloseOrderEventMap.keySet())));
+        } catch (Throwable ex) {
+            log.error("[延迟关闭订单] 批量关闭订单数量：{} 远程调用订单服务失败", delayCloseOrderEventMap.size(), ex);
+            return new HashSet<>(delayCloseOrderEventMap.keySet());
+        }
+        if (!closedTickOrders.isSuccess() || closedTickOrders.getData() == null) {
+            log.error("[延迟关闭订单] 批量关闭订单数量：{} 订单服务返回失败：{}", delayCloseOrderEventMap.size(), closedTickOrders.getMessage());
+            return new HashSet<>(delayCloseOrderEventMap.keySet());
+        }
+        // 包含此前已关闭的订单，上次关闭后释放座位失败的订单在重试时继续释放
+        List<DelayCloseOrderEvent> closedEvents = closedTickOrders.getData().stream()
+                .map(delayCloseOrderEventMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> failedOrderSns = new HashSet<>();
+        if (closedEvents.isEmpty()) {
+            return failedOrderSns;
+        }
+        List<DelayCloseOrderEvent> releaseEvents;
+        try {
+            releaseEvents = acquireSeatRelease(closedEvents, failedOrderSns);
+        } catch (Throwable ex) {
+            log.error("[延迟关闭订单] 获取座位释放标记失败，订单数量：{}", closedEvents.size(), ex);
+            closedEvents.forEach(each -> failedOrderSns.add(each.getOrderSn()));
+            return failedOrderSns;
+        }
+        Map<String, List<DelayCloseOrderEvent>> trainReleaseEventMap = releaseEvents.stream()
+                .collect(Collectors.groupingBy(DelayCloseOrderEvent::getTrainId, LinkedHashMap::new, Collectors.toList()));
+        trainReleaseEventMap.forEach((trainId, trainReleaseEvents) -> {
+            try {
+                releaseSeats(trainId, trainReleaseEvents);
+            } catch (Throwable ex) {
+                log.error("[延迟关闭订单] 列车：{} 批量回滚座位状态及余票失败，订单数量：{}", trainId, trainReleaseEvents.size(), ex);
+                trainReleaseEvents.forEach(each -> failedOrderSns.add(each.getOrderSn()));
+                releaseSeatMarkers(trainReleaseEvents);
+                return;
+            }
+            completeSeatRelease(trainReleaseEvents);
+        });
+        return failedOrderSns;
+    }
+
+    /**
+     * 为已关闭订单设置释放中标记，标记已存在的订单不再释放：已释放的订单直接跳过，其他节点正在释放的订单稍后重试
+     *
+     * @return 由本次调用释放座位的订单
+     */
+    @SuppressWarnings("unchecked")
+    private List<DelayCloseOrderEvent> acquireSeatRelease(List<DelayCloseOrderEvent> closedEvents, Set<String> failedOrderSns) {
+        long leaseSeconds = orderExpiryProperties.getSeatReleaseLeaseSeconds();
+        List<Object> results = getStringRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> actual = (RedisOperations<String, String>) operations;
+                for (DelayCloseOrderEvent each : closedEvents) {
+                    String key = seatReleaseKey(each.getOrderSn());
+                    actual.opsForValue().setIfAbsent(key, SEAT_RELEASING, leaseSeconds, TimeUnit.SECONDS);
+                    actual.opsForValue().get(key);
+                }
+                return null;
+            }
+        });
+        List<DelayCloseOrderEvent> releaseEvents = new ArrayList<>(closedEvents.size());
+        for (int i = 0; i < closedEvents.size(); i++) {
+            DelayCloseOrderEvent event = closedEvents.get(i);
+            if (Boolean.TRUE.equals(results.get(2 * i))) {
+                releaseEvents.add(event);
+            } else if (!SEAT_RELEASED.equals(results.get(2 * i + 1))) {
+                failedOrderSns.add(event.getOrderSn());
+            }
+        }
+        return releaseEvents;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completeSeatRelease(List<DelayCloseOrderEvent> releasedEvents) {
+        long retentionDays = orderExpiryProperties.getSeatReleaseRetentionDays();
+        try {
+            getStringRedisTemplate().executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> actual = (RedisOperations<String, String>) operations;
+                    releasedEvents.forEach(each -> actual.opsForValue().set(seatReleaseKey(each.getOrderSn()), SEAT_RELEASED, retentionDays, TimeUnit.DAYS));
+                    return null;
+                }
+            });
+        } catch (Throwable ex) {
+            // 座位已释放，释放中标记在租约内仍可阻止重复释放，此处只记录
+            log.error("[延迟关闭订单] 记录座位已释放标记失败，订单数量：{}", releasedEvents.size(), ex);
+        }
+    }
+
+    private void releaseSeatMarkers(List<DelayCloseOrderEvent> failedEvents) {
+        try {
+            getStringRedisTemplate().delete(failedEvents.stream().map(each -> seatReleaseKey(each.getOrderSn())).toList());
+        } catch (Throwable ex) {
+            log.error("[延迟关闭订单] 删除座位释放中标记失败，租约到期后重试，订单数量：{}", failedEvents.size(), ex);
+        }
+    }
+
+    /**
+     * 回滚座位状态及余票缓存，两步分别重试，已成功的步骤不会因后一步失败而重复执行
+     */
+    private void releaseSeats(String trainId, List<DelayCloseOrderEvent> releaseEvents) {
+        List<SeatReleaseDTO> seatReleases = releaseEvents.stream()
+                .map(each -> new SeatReleaseDTO(each.getDeparture(), each.getArrival(), each.getTrainPurchaseTicketResults()))
+                .collect(Collectors.toList());
+        withRetry(trainId, "回滚座位状态", () -> seatService.unlockBatch(trainId, seatReleases));
+        Map<String, RemainingTicketDeltaDTO> remainingTicketDeltaMap = new LinkedHashMap<>();
+        for (DelayCloseOrderEvent event : releaseEvents) {
+            for (TrainPurchaseTicketRespDTO each : event.getTrainPurchaseTicketResults()) {
+                RemainingTicketDeltaDTO remainingTicketDelta = remainingTicketDeltaMap.computeIfAbsent(
+                        event.getDeparture() + "_" + event.getArrival() + "_" + each.getSeatType(),
+                        key -> new RemainingTicketDeltaDTO(event.getDeparture(), event.getArrival(), each.getSeatType(), 0L)
+                );
+                remainingTicketDelta.setDelta(remainingTicketDelta.getDelta() + 1);
+            }
+        }
+        List<RemainingTicketDeltaDTO> remainingTicketDeltas = new ArrayList<>(remainingTicketDeltaMap.values());
+        withRetry(trainId, "回滚余票缓存", () -> trainStationRemainingTicketCache.incrementAll(trainId, remainingTicketDeltas));
+    }
+
+    /**
+     * 座位释放步骤失败时原地重试，不重新关闭订单
+     */
+    private void withRetry(String trainId, String step, Runnable action) {
+        int maxAttempts = Math.max(orderExpiryProperties.getSeatReleaseMaxAttempts(), 1);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                action.run();
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                log.warn("[延迟关闭订单] 列车：{} 第 {} 次{}失败，重试", trainId, attempt, step, ex);
+            }
+        }
+    }
+
+    private String seatReleaseKey(String orderSn) {
+        return CacheKeyBuilder.build(ORDER_SEAT_RELEASE, orderSn);
+    }
+
+    private StringRedisTemplate getStringRedisTemplate() {
+        return (StringRedisTemplate) distributedCache.getInstance();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.expiry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 分层时间轮
+ * 底层时间轮按刻度划分槽位，超出当前层范围的任务放入上层时间轮，随时钟推进逐层降级到底层后到期执行；
+ * 只有非空槽位进入 DelayQueue，时钟线程按槽位而不是按任务推进，添加任务的复杂度为 O(1)
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+public final class HierarchicalTimingWheel {
+
+    private final String name;
+
+    private final long tickMillis;
+
+    private final Executor taskExecutor;
+
+    private final DelayQueue<TimerTaskList> delayQueue = new DelayQueue<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TimingWheel rootWheel;
+
+    private volatile boolean running;
+
+    private Thread clockThread;
+
+    /**
+     * @param name         时钟线程名称
+     * @param tickMillis   刻度，单位毫秒
+     * @param wheelSize    每层时间轮的槽位数量
+     * @param taskExecutor 到期任务执行线程池，时钟线程只负责推进时间
+     */
+    public HierarchicalTimingWheel(String name, long tickMillis, int wheelSize, Executor taskExecutor) {
+        this.name = name;
+        this.tickMillis = tickMillis;
+        this.taskExecutor = taskExecutor;
+        this.rootWheel = new TimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 启动时钟线程
+     */
+    public void start() {
+        running = true;
+        clockThread = new Thread(this::clockLoop, name);
+        clockThread.setDaemon(true);
+        clockThread.start();
+    }
+
+    /**
+     * 停止时钟线程，未到期的任务直接丢弃
+     */
+    public void stop() {
+        running = false;
+        if (clockThread != null) {
+            clockThread.interrupt();
+        }
+    }
+
+    /**
+     * 添加定时任务，到期时间早于当前刻度的任务立即执行
+     *
+     * @param expirationMillis 到期时间戳，单位毫秒
+     * @param task             任务
+     */
+    public void add(long expirationMillis, Runnable task) {
+        lock.readLock().lock();
+        try {
+            addEntry(new TimerTaskEntry(expirationMillis, task));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addEntry(TimerTaskEntry entry) {
+        if (!rootWheel.add(entry)) {
+            taskExecutor.execute(entry.task());
+        }
+    }
+
+    private void clockLoop() {
+        while (running) {
+            try {
+                TimerTaskList bucket = delayQueue.poll(tickMillis, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+                lock.writeLock().lock();
+                try {
+                    while (bucket != null) {
+                        rootWheel.advanceClock(bucket.getExpiration());
+                        // 上层槽位到期后任务重新加入时间轮，降级到更精细的下层槽位或直接执行
+                        bucket.flush(this::addEntry);
+                        bucket = delayQueue.poll();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable ex) {
+                log.error("[{}] 时间轮推进失败", name, ex);
+            }
+        }
+    }
+
+    private final class TimingWheel {
+
+        private final long tickMillis;
+
+        private final int wheelSize;
+
+        private final long interval;
+
+        private final TimerTaskList[] buckets;
+
+        private long currentTime;
+
+        private volatile TimingWheel overflowWheel;
+
+        private TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new TimerTaskList[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new TimerTaskList();
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        private boolean add(TimerTaskEntry entry) {
+            long expiration = entry.expirationMillis();
+            if (expiration < currentTime + tickMillis) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMillis;
+                TimerTaskList bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            return getOverflowWheel().add(entry);
+        }
+
+        private TimingWheel getOverflowWheel() {
+            if (overflowWheel == null) {
+                synchronized (this) {
+                    if (overflowWheel == null) {
+                        overflowWheel = new TimingWheel(interval, wheelSize, currentTime);
+                    }
+                }
+            }
+            return overflowWheel;
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflowWheel != null) {
+                    overflowWheel.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class TimerTaskList implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1L);
+
+        private final List<TimerTaskEntry> entries = new ArrayList<>();
+
+        private synchronized void add(TimerTaskEntry entry) {
+            entries.add(entry);
+        }
+
+        private void flush(Consumer<TimerTaskEntry> consumer) {
+            List<TimerTaskEntry> actual;
+            synchronized (this) {
+                actual = new ArrayList<>(entries);
+                entries.clear();
+                expiration.set(-1L);
+            }
+            actual.forEach(consumer);
+        }
+
+        /**
+         * 设置槽位到期时间，槽位被复用时返回 true，需要重新加入 DelayQueue
+         */
+        private boolean setExpiration(long expirationMillis) {
+            return expiration.getAndSet(expirationMillis) != expirationMillis;
+        }
+
+        private long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((TimerTaskList) other).getExpiration());
+        }
+    }
+
+    private record TimerTaskEntry(long expirationMillis, Runnable task) {
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.expiry;
+
+import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
+
+/**
+ * 订单超时关闭调度器
+ * 购票成功后登记订单，到期后由 {@link DelayCloseOrderHandler} 关闭仍未支付的订单并释放座位
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+public interface OrderExpiryScheduler {
+
+    /**
+     * 调度方式配置项，可选 rocketmq（默认）、timing-wheel
+     */
+    String SCHEDULER_PROPERTY = "ticket.order-expiry.scheduler";
+
+    /**
+     * 登记订单超时关闭，需在购票事务内调用，登记失败时购票事务回滚
+     *
+     * @param delayCloseOrderEvent 延迟关闭订单事件
+     */
+    void schedule(DelayCloseOrderEvent delayCloseOrderEvent);
+}
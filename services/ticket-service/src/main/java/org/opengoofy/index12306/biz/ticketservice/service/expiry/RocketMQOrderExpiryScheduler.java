@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.expiry;
+
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
+import org.opengoofy.index12306.biz.ticketservice.mq.produce.DelayCloseOrderSendProduce;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 基于 RocketMQ 延时消息的订单超时关闭调度器
+ * 延时消息写入本地消息表，随购票事务提交后投递，延迟时间由 RocketMQ 固定延时级别决定
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = OrderExpiryScheduler.SCHEDULER_PROPERTY, havingValue = "rocketmq", matchIfMissing = true)
+public class RocketMQOrderExpiryScheduler implements OrderExpiryScheduler {
+
+    private final DelayCloseOrderSendProduce delayCloseOrderSendProduce;
+
+    @Override
+    public void schedule(DelayCloseOrderEvent delayCloseOrderEvent) {
+        delayCloseOrderSendProduce.sendMessage(delayCloseOrderEvent);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.expiry;
+
+import cn.hutool.core.collection.CollUtil;
+import com.alibaba.fastjson2.JSON;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.ticketservice.config.OrderExpiryProperties;
+import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
+import org.opengoofy.index12306.framework.starter.bases.Singleton;
+import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
+import org.opengoofy.index12306.framework.starter.common.threadpool.build.ThreadPoolBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.ORDER_EXPIRY_INDEX;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.ORDER_EXPIRY_SLOT;
+import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.ORDER_EXPIRY_SLOT_CLAIM;
+
+/**
+ * 基于 Redis 持久化及本地分层时间轮的订单超时关闭调度器
+ * 订单按到期秒级时间戳分片写入 Redis 时间片 Hash，并在 ZSet 索引中登记时间片；各节点定时从索引加载即将到期的时间片放入本地时间轮，
+ * 时间片到期时通过租约认领，只有一个节点处理该时间片，按批次并行关闭订单，处理期间定时续期租约，租约丢失后停止处理交由新持有者；关闭失败的订单重新写入后续时间片重试
+ * 时间片在全部订单处理完成后才从索引中删除，节点重启或宕机后由其他节点在租约到期后重新认领，重复关闭由订单服务状态机保证幂等，座位释放由 {@link DelayCloseOrderHandler} 的释放标记保证只执行一次
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = OrderExpiryScheduler.SCHEDULER_PROPERTY, havingValue = "timing-wheel")
+public class TimingWheelOrderExpiryScheduler implements OrderExpiryScheduler, InitializingBean, DisposableBean {
+
+    private static final String LUA_ORDER_EXPIRY_SLOT_CLAIM_PATH = "lua/order_expiry_slot_claim.lua";
+
+    private static final String LUA_ORDER_EXPIRY_SLOT_FINISH_PATH = "lua/order_expiry_slot_finish.lua";
+
+    private static final String LUA_ORDER_EXPIRY_SLOT_RENEW_PATH = "lua/order_expiry_slot_renew.lua";
+
+    private final DistributedCache distributedCache;
+    private final DelayCloseOrderHandler delayCloseOrderHandler;
+    private final OrderExpiryProperties orderExpiryProperties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 已放入本地时间轮等待到期的时间片，避免定时加载时重复添加
+     */
+    private final Set<Long> loadedSlots = ConcurrentHashMap.newKeySet();
+
+    private HierarchicalTimingWheel timingWheel;
+
+    private ExecutorService slotExecutor;
+
+    private ThreadPoolExecutor closeExecutor;
+
+    /**
+     * 定时加载到期时间片及续期时间片认领租约
+     */
+    private ScheduledExecutorService loadExecutor;
+
+    @Override
+    public void schedule(DelayCloseOrderEvent delayCloseOrderEvent) {
+        long expireSecond = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + orderExpiryProperties.getDelaySeconds();
+        persist(expireSecond, List.of(delayCloseOrderEvent));
+        loadSlot(expireSecond);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        slotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-expiry-slot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        closeExecutor = ThreadPoolBuilder.builder()
+                .poolName("order-expiry-close")
+                .corePoolSize(orderExpiryProperties.getCloseThreads())
+                .maximumPoolSize(orderExpiryProperties.getCloseThreads())
+                .workQueue(new LinkedBlockingQueue<>(orderExpiryProperties.getCloseThreads() * 4))
+                .rejected(new ThreadPoolExecutor.CallerRunsPolicy())
+                .build();
+        timingWheel = new HierarchicalTimingWheel(
+                "order-expiry-timing-wheel",
+                orderExpiryProperties.getTickMillis(),
+                orderExpiryProperties.getWheelSize(),
+                slotExecutor
+        );
+        timingWheel.start();
+        loadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-expiry-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loadExecutor.scheduleWithFixedDelay(this::loadDueSlots, 0L, orderExpiryProperties.getLoadIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        loadExecutor.shutdownNow();
+        timingWheel.stop();
+        slotExecutor.shutdownNow();
+        closeExecutor.shutdown();
+    }
+
+    /**
+     * 写入 Redis 时间片并登记索引，先登记索引再写入时间片，索引中存在空时间片不影响正确性
+     */
+    @SuppressWarnings("unchecked")
+    private void persist(long expireSecond, List<DelayCloseOrderEvent> delayCloseOrderEvents) {
+        String slotKey = CacheKeyBuilder.build(ORDER_EXPIRY_SLOT, expireSecond);
+        long slotTimeoutSeconds = expireSecond - TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+                + TimeUnit.DAYS.toSeconds(orderExpiryProperties.getSlotRetentionDays());
+        getStringRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> actual = (RedisOperations<String, String>) operations;
+                actual.opsForZSet().add(ORDER_EXPIRY_INDEX, String.valueOf(expireSecond), expireSecond);
+                delayCloseOrderEvents.forEach(each -> actual.opsForHash().put(slotKey, each.getOrderSn(), JSON.toJSONString(each)));
+                actual.expire(slotKey, slotTimeoutSeconds, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+    }
+
+    private void loadSlot(long expireSecond) {
+        if (loadedSlots.add(expireSecond)) {
+            timingWheel.add(TimeUnit.SECONDS.toMillis(expireSecond), () -> fireSlot(expireSecond));
+        }
+    }
+
+    /**
+     * 加载即将到期及已过期未处理完成的时间片，覆盖节点重启、其他节点宕机以及其他节点登记的订单
+     */
+    private void loadDueSlots() {
+        try {
+            long horizon = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + orderExpiryProperties.getLoadHorizonSeconds();
+            Set<String> dueSlots = getStringRedisTemplate().opsForZSet().rangeByScore(ORDER_EXPIRY_INDEX, 0, horizon);
+            if (CollUtil.isNotEmpty(dueSlots)) {
+                dueSlots.forEach(each -> loadSlot(Long.parseLong(each)));
+            }
+        } catch (Throwable ex) {
+            log.error("[订单超时关闭] 加载到期时间片失败", ex);
+        }
+    }
+
+    private void fireSlot(long expireSecond) {
+        loadedSlots.remove(expireSecond);
+        String slotKey = CacheKeyBuilder.build(ORDER_EXPIRY_SLOT, expireSecond);
+        String claimKey = CacheKeyBuilder.build(ORDER_EXPIRY_SLOT_CLAIM, expireSecond);
+        long claimLeaseMillis = TimeUnit.SECONDS.toMillis(orderExpiryProperties.getClaimLeaseSeconds());
+        ScheduledFuture<?> renewal = null;
+        try {
+            List<Object> claimed = getStringRedisTemplate().execute(
+                    getScript(LUA_ORDER_EXPIRY_SLOT_CLAIM_PATH, List.class),
+                    List.of(slotKey, claimKey),
+                    nodeId,
+                    String.valueOf(claimLeaseMillis)
+            );
+            // 其他节点正在处理该时间片
+            if (claimed == null) {
+                return;
+            }
+            List<DelayCloseOrderEvent> delayCloseOrderEvents = new ArrayList<>(claimed.size() / 2);
+            for (int i = 1; i < claimed.size(); i += 2) {
+                delayCloseOrderEvents.add(JSON.parseObject((String) claimed.get(i), DelayCloseOrderEvent.class));
+            }
+            AtomicBoolean leaseLost = new AtomicBoolean();
+            long renewIntervalMillis = Math.max(claimLeaseMillis / 3, 1L);
+            renewal = loadExecutor.scheduleAtFixedRate(
+                    () -> renewClaim(expireSecond, claimKey, claimLeaseMillis, leaseLost),
+                    renewIntervalMillis,
+                    renewIntervalMillis,
+                    TimeUnit.MILLISECONDS
+            );
+            List<DelayCloseOrderEvent> failedEvents = closeInBatches(delayCloseOrderEvents, leaseLost);
+            if (leaseLost.get()) {
+                // 时间片已由其他节点认领，未处理的订单保留在时间片中由新持有者处理，已关闭的订单重复处理时保持幂等
+                log.warn("[订单超时关闭] 时间片：{} 认领租约已丢失，停止处理", expireSecond);
+                return;
+            }
+            if (!failedEvents.isEmpty()) {
+                long retrySecond = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + orderExpiryProperties.getRetryDelaySeconds();
+                persist(retrySecond, failedEvents);
+                loadSlot(retrySecond);
+                log.warn("[订单超时关闭] 时间片：{} 关闭失败订单数量：{}，{} 秒后重试", expireSecond, failedEvents.size(), orderExpiryProperties.getRetryDelaySeconds());
+            }
+            List<String> finishArgs = new ArrayList<>(delayCloseOrderEvents.size() + 1);
+            finishArgs.add(nodeId);
+            delayCloseOrderEvents.forEach(each -> finishArgs.add(each.getOrderSn()));
+            Long drained = getStringRedisTemplate().execute(
+                    getScript(LUA_ORDER_EXPIRY_SLOT_FINISH_PATH, Long.class),
+                    List.of(slotKey, claimKey),
+                    finishArgs.toArray()
+            );
+            if (drained != null && drained == 1L) {
+                getStringRedisTemplate().opsForZSet().remove(ORDER_EXPIRY_INDEX, String.valueOf(expireSecond));
+            }
+        } catch (Throwable ex) {
+            // 时间片仍保留在索引中，租约到期后重新加载处理
+            log.error("[订单超时关闭] 时间片：{} 处理失败", expireSecond, ex);
+        } finally {
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+        }
+    }
+
+    private void renewClaim(long expireSecond, String claimKey, long claimLeaseMillis, AtomicBoolean leaseLost) {
+        if (leaseLost.get()) {
+            return;
+        }
+        try {
+            Long renewed = getStringRedisTemplate().execute(
+                    getScript(LUA_ORDER_EXPIRY_SLOT_RENEW_PATH, Long.class),
+                    List.of(claimKey),
+                    nodeId,
+                    String.valueOf(claimLeaseMillis)
+            );
+            if (renewed == null || renewed != 1L) {
+                leaseLost.set(true);
+            }
+        } catch (Throwable ex) {
+            // 续期失败时租约可能仍然有效，下次续期时确认
+            log.error("[订单超时关闭] 时间片：{} 续期认领租约失败", expireSecond, ex);
+        }
+    }
+
+    /**
+     * 按批次并行关闭订单，每批通过订单服务批量关闭接口关闭并按列车合并释放座位，租约丢失后不再处理剩余批次
+     *
+     * @return 关闭失败的订单
+     */
+    private List<DelayCloseOrderEvent> closeInBatches(List<DelayCloseOrderEvent> delayCloseOrderEvents, AtomicBoolean leaseLost) {
+        Queue<DelayCloseOrderEvent> failedEvents = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<DelayCloseOrderEvent> batch : CollUtil.split(delayCloseOrderEvents, orderExpiryProperties.getCloseBatchSize())) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (leaseLost.get()) {
+                    return;
+                }
+                Set<String> failedOrderSns = delayCloseOrderHandler.closeBatch(batch);
+                batch.stream().filter(each -> failedOrderSns.contains(each.getOrderSn())).forEach(failedEvents::add);
+            }, closeExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return new ArrayList<>(failedEvents);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> DefaultRedisScript<T> getScript(String path, Class<?> resultType) {
+        return Singleton.get(path, () -> {
+            DefaultRedisScript<T> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+            redisScript.setResultType((Class<T>) resultType);
+            return redisScript;
+        });
+    }
+
+    private StringRedisTemplate getStringRedisTemplate() {
+        return (StringRedisTemplate) distributedCache.getInstance();
+    }
+}
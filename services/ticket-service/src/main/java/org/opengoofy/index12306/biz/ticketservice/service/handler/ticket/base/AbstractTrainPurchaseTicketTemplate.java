@@ -18,19 +18,15 @@
 package org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.base;
 
 import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.util.StrUtil;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.TrainStationRemainingTicketCache;
 import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.SelectSeatDTO;
 import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
 import org.opengoofy.index12306.framework.starter.bases.ApplicationContextHolder;
-import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
 import org.opengoofy.index12306.framework.starter.designpattern.strategy.AbstractExecuteStrategy;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.List;
 
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
-
 /**
  * 抽象高铁购票模板基础服务
  *
@@ -38,7 +34,7 @@ import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKe
  */
 public abstract class AbstractTrainPurchaseTicketTemplate implements IPurchaseTicket, CommandLineRunner, AbstractExecuteStrategy<SelectSeatDTO, List<TrainPurchaseTicketRespDTO>> {
 
-    private DistributedCache distributedCache;
+    private TrainStationRemainingTicketCache trainStationRemainingTicketCache;
 
     /**
      * 选择座位
@@ -56,15 +52,13 @@ public abstract class AbstractTrainPurchaseTicketTemplate implements IPurchaseTi
             String trainId = requestParam.getRequestParam().getTrainId();
             String departure = requestParam.getRequestParam().getDeparture();
             String arrival = requestParam.getRequestParam().getArrival();
-            String keySuffix = StrUtil.join("_", trainId, departure, arrival);
-            StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
-            stringRedisTemplate.opsForHash().increment(TRAIN_STATION_REMAINING_TICKET + keySuffix, String.valueOf(requestParam.getSeatType()), -actualResult.size());
+            trainStationRemainingTicketCache.increment(trainId, departure, arrival, requestParam.getSeatType(), -actualResult.size());
         }
         return actualResult;
     }
 
     @Override
     public void run(String... args) throws Exception {
-        distributedCache = ApplicationContextHolder.getBean(DistributedCache.class);
+        trainStationRemainingTicketCache = ApplicationContextHolder.getBean(TrainStationRemainingTicketCache.class);
     }
 }
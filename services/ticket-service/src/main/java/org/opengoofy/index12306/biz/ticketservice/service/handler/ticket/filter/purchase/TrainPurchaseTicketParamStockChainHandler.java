@@ -17,14 +17,12 @@
 
 package org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.filter.purchase;
 
-import cn.hutool.core.util.StrUtil;
 import lombok.RequiredArgsConstructor;
 import org.opengoofy.index12306.biz.ticketservice.dto.domain.PurchaseTicketPassengerDetailDTO;
 import org.opengoofy.index12306.biz.ticketservice.dto.req.PurchaseTicketReqDTO;
 import org.opengoofy.index12306.biz.ticketservice.service.cache.SeatMarginCacheLoader;
-import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.TrainStationRemainingTicketCache;
 import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -32,8 +30,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
-
 /**
  * 购票流程过滤器之验证列车站点库存是否充足
  *
@@ -44,19 +40,17 @@ import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKe
 public class TrainPurchaseTicketParamStockChainHandler implements TrainPurchaseTicketChainFilter<PurchaseTicketReqDTO> {
 
     private final SeatMarginCacheLoader seatMarginCacheLoader;
-    private final DistributedCache distributedCache;
+    private final TrainStationRemainingTicketCache trainStationRemainingTicketCache;
 
     @Override
     public void handler(PurchaseTicketReqDTO requestParam) {
         // 车次站点是否还有余票。如果用户提交多个乘车人非同一座位类型，拆分验证
-        String keySuffix = StrUtil.join("_", requestParam.getTrainId(), requestParam.getDeparture(), requestParam.getArrival());
-        StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
         List<PurchaseTicketPassengerDetailDTO> passengerDetails = requestParam.getPassengers();
         Map<Integer, List<PurchaseTicketPassengerDetailDTO>> seatTypeMap = passengerDetails.stream()
                 .collect(Collectors.groupingBy(PurchaseTicketPassengerDetailDTO::getSeatType));
         seatTypeMap.forEach((seatType, passengerSeatDetails) -> {
-            Object stockObj = stringRedisTemplate.opsForHash().get(TRAIN_STATION_REMAINING_TICKET + keySuffix, String.valueOf(seatType));
-            int stock = Optional.ofNullable(stockObj).map(each -> Integer.parseInt(each.toString())).orElseGet(() -> {
+            Integer stockObj = trainStationRemainingTicketCache.get(requestParam.getTrainId(), requestParam.getDeparture(), requestParam.getArrival(), seatType);
+            int stock = Optional.ofNullable(stockObj).orElseGet(() -> {
                 Map<String, String> seatMarginMap = seatMarginCacheLoader.load(String.valueOf(requestParam.getTrainId()), String.valueOf(seatType), requestParam.getDeparture(), requestParam.getArrival());
                 return Optional.ofNullable(seatMarginMap.get(String.valueOf(seatType))).map(Integer::parseInt).orElse(0);
             });
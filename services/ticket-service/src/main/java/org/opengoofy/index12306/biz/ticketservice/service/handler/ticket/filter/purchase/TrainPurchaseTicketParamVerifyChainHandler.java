@@ -29,6 +29,7 @@ import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainMapper;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainStationMapper;
 import org.opengoofy.index12306.biz.ticketservice.dto.req.PurchaseTicketReqDTO;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
 import org.opengoofy.index12306.framework.starter.common.toolkit.EnvironmentUtil;
 import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
 import org.springframework.stereotype.Component;
@@ -60,7 +61,7 @@ public class TrainPurchaseTicketParamVerifyChainHandler implements TrainPurchase
     public void handler(PurchaseTicketReqDTO requestParam) {
         // 查询会员购票车次是否存在，通过封装后安全的 Get 方法
         TrainDO trainDO = distributedCache.safeGet(
-                TRAIN_INFO + requestParam.getTrainId(),
+                CacheKeyBuilder.build(TRAIN_INFO, requestParam.getTrainId()),
                 TrainDO.class,
                 () -> trainMapper.selectById(requestParam.getTrainId()),
                 ADVANCE_TICKET_DAY,
@@ -83,7 +84,7 @@ public class TrainPurchaseTicketParamVerifyChainHandler implements TrainPurchase
         }
         // 车站是否存在车次中，以及车站的顺序是否正确
         String trainStationStopoverDetailStr = distributedCache.safeGet(
-                TRAIN_STATION_STOPOVER_DETAIL + requestParam.getTrainId(),
+                CacheKeyBuilder.build(TRAIN_STATION_STOPOVER_DETAIL, requestParam.getTrainId()),
                 String.class,
                 () -> {
                     LambdaQueryWrapper<TrainStationDO> queryWrapper = Wrappers.lambdaQuery(TrainStationDO.class)
@@ -26,6 +26,7 @@ import org.opengoofy.index12306.biz.ticketservice.dao.mapper.CarriageMapper;
 import org.opengoofy.index12306.biz.ticketservice.service.CarriageService;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
 import org.opengoofy.index12306.framework.starter.cache.core.CacheLoader;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
 import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheUtil;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
@@ -54,7 +55,7 @@ public class CarriageServiceImpl implements CarriageService {
 
     @Override
     public List<String> listCarriageNumber(String trainId, Integer carriageType) {
-        final String prefixKey = TRAIN_CARRIAGE + trainId;
+        final String prefixKey = CacheKeyBuilder.build(TRAIN_CARRIAGE, trainId);
         return safeGetCarriageNumber(
                 prefixKey,
                 carriageType,
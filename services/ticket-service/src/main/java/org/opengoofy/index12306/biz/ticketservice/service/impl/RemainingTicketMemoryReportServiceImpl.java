@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.ticketservice.service.impl;
+
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.ticketservice.dao.entity.CarriageDO;
+import org.opengoofy.index12306.biz.ticketservice.dao.entity.TrainStationDO;
+import org.opengoofy.index12306.biz.ticketservice.dao.mapper.CarriageMapper;
+import org.opengoofy.index12306.biz.ticketservice.dao.mapper.TrainStationMapper;
+import org.opengoofy.index12306.biz.ticketservice.dto.resp.RemainingTicketMemoryReportRespDTO;
+import org.opengoofy.index12306.biz.ticketservice.service.RemainingTicketMemoryReportService;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.CompactTrainStationRemainingTicketCache;
+import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
+import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 列车站点余票缓存内存占用对比接口实现层
+ *
+ * @公众号：马丁玩编程，回复：加群，添加马哥微信（备注：12306）获取项目资料
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RemainingTicketMemoryReportServiceImpl implements RemainingTicketMemoryReportService {
+
+    private static final String REPORT_KEY_PREFIX = "index12306-ticket-service:remaining_ticket_memory_report:";
+
+    private static final int MAX_TRAIN_COUNT = 100;
+
+    private final DistributedCache distributedCache;
+    private final TrainStationMapper trainStationMapper;
+    private final CarriageMapper carriageMapper;
+
+    @Override
+    public RemainingTicketMemoryReportRespDTO report(List<String> trainIds) {
+        if (CollUtil.isEmpty(trainIds) || trainIds.size() > MAX_TRAIN_COUNT) {
+            throw new ClientException(String.format("列车数量需在 1 到 %d 之间", MAX_TRAIN_COUNT));
+        }
+        StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
+        // 临时 Key 带随机前缀，避免与线上数据及并发统计相互覆盖
+        String reportPrefix = REPORT_KEY_PREFIX + UUID.randomUUID().toString().replace("-", "") + ":";
+        List<String> scratchKeys = new ArrayList<>();
+        int trainCount = 0, stationPairCount = 0, hashKeyCount = 0, compactKeyCount = 0;
+        long hashMemoryBytes = 0L, compactMemoryBytes = 0L;
+        try {
+            for (String trainId : trainIds) {
+                LambdaQueryWrapper<TrainStationDO> stationQueryWrapper = Wrappers.lambdaQuery(TrainStationDO.class)
+                        .eq(TrainStationDO::getTrainId, trainId);
+                List<TrainStationDO> trainStationList = trainStationMapper.selectList(stationQueryWrapper);
+                Map<Integer, Integer> seatCountMap = loadSeatCount(trainId);
+                if (trainStationList.size() < 2 || seatCountMap.isEmpty()) {
+                    continue;
+                }
+                trainCount++;
+                Map<String, String> hashValue = new HashMap<>(seatCountMap.size() * 2);
+                seatCountMap.forEach((seatType, seatCount) -> hashValue.put(String.valueOf(seatType), String.valueOf(seatCount)));
+                String compactKey = CacheKeyBuilder.build(reportPrefix + "compact:", trainId);
+                scratchKeys.add(compactKey);
+                int stationCount = trainStationList.size();
+                for (int i = 0; i < stationCount; i++) {
+                    for (int j = i + 1; j < stationCount; j++) {
+                        String hashKey = CacheKeyBuilder.build(reportPrefix + "hash:", trainId,
+                                trainStationList.get(i).getDeparture(), trainStationList.get(j).getDeparture());
+                        scratchKeys.add(hashKey);
+                        stringRedisTemplate.opsForHash().putAll(hashKey, hashValue);
+                        stringRedisTemplate.opsForValue().bitField(compactKey,
+                                CompactTrainStationRemainingTicketCache.buildSetCommands(CompactTrainStationRemainingTicketCache.pairIndex(i, j, stationCount), seatCountMap));
+                        hashMemoryBytes += memoryUsage(stringRedisTemplate, hashKey);
+                        hashKeyCount++;
+                        stationPairCount++;
+                    }
+                }
+                compactMemoryBytes += memoryUsage(stringRedisTemplate, compactKey);
+                compactKeyCount++;
+            }
+        } finally {
+            if (!scratchKeys.isEmpty()) {
+                stringRedisTemplate.delete(scratchKeys);
+            }
+        }
+        log.info("[余票缓存内存对比] 列车数量：{}，Hash 编码：{} 字节，紧凑编码：{} 字节", trainCount, hashMemoryBytes, compactMemoryBytes);
+        return RemainingTicketMemoryReportRespDTO.builder()
+                .trainCount(trainCount)
+                .stationPairCount(stationPairCount)
+                .hashKeyCount(hashKeyCount)
+                .hashMemoryBytes(hashMemoryBytes)
+                .compactKeyCount(compactKeyCount)
+                .compactMemoryBytes(compactMemoryBytes)
+                .compactRatio(hashMemoryBytes == 0L ? null : (double) compactMemoryBytes / hashMemoryBytes)
+                .build();
+    }
+
+    private Map<Integer, Integer> loadSeatCount(String trainId) {
+        QueryWrapper<CarriageDO> queryWrapper = new QueryWrapper<CarriageDO>()
+                .select("carriage_type as carriageType", "sum(seat_count) as seatCount")
+                .eq("train_id", trainId)
+                .groupBy("carriage_type");
+        Map<Integer, Integer> result = new HashMap<>();
+        for (CarriageDO each : carriageMapper.selectList(queryWrapper)) {
+            if (each.getCarriageType() != null && each.getSeatCount() != null) {
+                result.put(each.getCarriageType(), each.getSeatCount());
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long memoryUsage(StringRedisTemplate stringRedisTemplate, String key) {
+        byte[] rawKey = ((RedisSerializer<String>) stringRedisTemplate.getKeySerializer()).serialize(key);
+        Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute(
+                "MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8),
+                rawKey,
+                "SAMPLES".getBytes(StandardCharsets.UTF_8),
+                "0".getBytes(StandardCharsets.UTF_8)
+        ));
+        return result == null ? 0L : result;
+    }
+}
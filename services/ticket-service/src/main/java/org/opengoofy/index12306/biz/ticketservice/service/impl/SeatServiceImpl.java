@@ -18,7 +18,7 @@
 package org.opengoofy.index12306.biz.ticketservice.service.impl;
 
 import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.lang.Pair;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
@@ -28,15 +28,20 @@ import org.opengoofy.index12306.biz.ticketservice.common.enums.SeatStatusEnum;
 import org.opengoofy.index12306.biz.ticketservice.dao.entity.SeatDO;
 import org.opengoofy.index12306.biz.ticketservice.dao.mapper.SeatMapper;
 import org.opengoofy.index12306.biz.ticketservice.dto.domain.RouteDTO;
+import org.opengoofy.index12306.biz.ticketservice.dto.domain.SeatReleaseDTO;
 import org.opengoofy.index12306.biz.ticketservice.service.SeatService;
 import org.opengoofy.index12306.biz.ticketservice.service.TrainStationService;
 import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_CARRIAGE_REMAINING_TICKET;
@@ -69,7 +74,7 @@ public class SeatServiceImpl extends ServiceImpl<SeatMapper, SeatDO> implements
 
     @Override
     public List<Integer> listSeatRemainingTicket(String trainId, String departure, String arrival, List<String> trainCarriageList) {
-        String keySuffix = StrUtil.join("_", trainId, departure, arrival);
+        String keySuffix = CacheKeyBuilder.buildSuffix(trainId, departure, arrival);
         if (distributedCache.hasKey(TRAIN_STATION_CARRIAGE_REMAINING_TICKET + keySuffix)) {
             StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
             List<Object> trainStationCarriageRemainingTicket =
@@ -133,4 +138,25 @@ public class SeatServiceImpl extends ServiceImpl<SeatMapper, SeatDO> implements
             seatMapper.update(updateSeatDO, updateWrapper);
         }));
     }
+
+    @Override
+    public void unlockBatch(String trainId, List<SeatReleaseDTO> seatReleases) {
+        // 同一出发站、到达站的订单沿途路线相同，按区间分组后每组以 (起始站, 终点站) × (车厢号, 座位号) 组合条件合并到一条 UPDATE 中
+        Map<String, List<SeatReleaseDTO>> seatReleaseGroups = seatReleases.stream()
+                .filter(each -> CollUtil.isNotEmpty(each.getTrainPurchaseTicketResults()))
+                .collect(Collectors.groupingBy(each -> each.getDeparture() + "_" + each.getArrival(), LinkedHashMap::new, Collectors.toList()));
+        if (seatReleaseGroups.isEmpty()) {
+            return;
+        }
+        List<Pair<List<RouteDTO>, List<TrainPurchaseTicketRespDTO>>> routeSeatGroups = new ArrayList<>(seatReleaseGroups.size());
+        seatReleaseGroups.values().forEach(each -> {
+            SeatReleaseDTO first = each.get(0);
+            List<RouteDTO> routeList = trainStationService.listTrainStationRoute(trainId, first.getDeparture(), first.getArrival());
+            List<TrainPurchaseTicketRespDTO> seats = each.stream()
+                    .flatMap(item -> item.getTrainPurchaseTicketResults().stream())
+                    .collect(Collectors.toList());
+            routeSeatGroups.add(Pair.of(routeList, seats));
+        });
+        seatMapper.updateSeatStatusBatch(Long.parseLong(trainId), SeatStatusEnum.AVAILABLE.getCode(), routeSeatGroups);
+    }
 }
@@ -24,8 +24,6 @@ import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.rocketmq.client.producer.SendResult;
-import org.apache.rocketmq.client.producer.SendStatus;
 import org.opengoofy.index12306.biz.ticketservice.common.enums.SourceEnum;
 import org.opengoofy.index12306.biz.ticketservice.common.enums.TicketChainMarkEnum;
 import org.opengoofy.index12306.biz.ticketservice.common.enums.TicketStatusEnum;
@@ -48,7 +46,6 @@ import org.opengoofy.index12306.biz.ticketservice.dto.resp.TicketOrderDetailResp
 import org.opengoofy.index12306.biz.ticketservice.dto.resp.TicketPageQueryRespDTO;
 import org.opengoofy.index12306.biz.ticketservice.dto.resp.TicketPurchaseRespDTO;
 import org.opengoofy.index12306.biz.ticketservice.mq.event.DelayCloseOrderEvent;
-import org.opengoofy.index12306.biz.ticketservice.mq.produce.DelayCloseOrderSendProduce;
 import org.opengoofy.index12306.biz.ticketservice.remote.PayRemoteService;
 import org.opengoofy.index12306.biz.ticketservice.remote.TicketOrderRemoteService;
 import org.opengoofy.index12306.biz.ticketservice.remote.dto.PayInfoRespDTO;
@@ -56,18 +53,21 @@ import org.opengoofy.index12306.biz.ticketservice.remote.dto.TicketOrderCreateRe
 import org.opengoofy.index12306.biz.ticketservice.remote.dto.TicketOrderItemCreateRemoteReqDTO;
 import org.opengoofy.index12306.biz.ticketservice.service.TicketService;
 import org.opengoofy.index12306.biz.ticketservice.service.cache.SeatMarginCacheLoader;
+import org.opengoofy.index12306.biz.ticketservice.service.cache.TrainStationRemainingTicketCache;
+import org.opengoofy.index12306.biz.ticketservice.service.expiry.OrderExpiryScheduler;
 import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.dto.TrainPurchaseTicketRespDTO;
 import org.opengoofy.index12306.biz.ticketservice.service.handler.ticket.select.TrainSeatTypeSelector;
 import org.opengoofy.index12306.biz.ticketservice.toolkit.DateUtil;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
+import org.opengoofy.index12306.framework.starter.cache.toolkit.CacheKeyBuilder;
 import org.opengoofy.index12306.framework.starter.convention.exception.ServiceException;
 import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.opengoofy.index12306.framework.starter.database.toolkit.BatchIdUtil;
 import org.opengoofy.index12306.framework.starter.designpattern.chain.AbstractChainContext;
 import org.opengoofy.index12306.frameworks.starter.user.core.UserContext;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -78,7 +78,6 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -87,7 +86,6 @@ import java.util.stream.Collectors;
 import static org.opengoofy.index12306.biz.ticketservice.common.constant.Index12306Constant.ADVANCE_TICKET_DAY;
 import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.LOCK_PURCHASE_TICKETS;
 import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_INFO;
-import static org.opengoofy.index12306.biz.ticketservice.common.constant.RedisKeyConstant.TRAIN_STATION_REMAINING_TICKET;
 
 /**
  * 车票接口实现
@@ -104,11 +102,12 @@ public class TicketServiceImpl extends ServiceImpl<TicketMapper, TicketDO> imple
     private final TrainStationPriceMapper trainStationPriceMapper;
     private final DistributedCache distributedCache;
     private final TicketOrderRemoteService ticketOrderRemoteService;
-    private final DelayCloseOrderSendProduce delayCloseOrderSendProduce;
+    private final OrderExpiryScheduler orderExpiryScheduler;
     private final PayRemoteService payRemoteService;
     private final StationMapper stationMapper;
     private final TrainSeatTypeSelector trainSeatTypeSelector;
     private final SeatMarginCacheLoader seatMarginCacheLoader;
+    private final TrainStationRemainingTicketCache trainStationRemainingTicketCache;
     private final AbstractChainContext<TicketPageQueryReqDTO> ticketPageQueryAbstractChainContext;
     private final AbstractChainContext<PurchaseTicketReqDTO> purchaseTicketAbstractChainContext;
     private final RedissonClient redissonClient;
@@ -166,14 +165,10 @@ public class TicketServiceImpl extends ServiceImpl<TicketMapper, TicketDO> imple
                     .eq(TrainStationPriceDO::getTrainId, each.getTrainId());
             List<TrainStationPriceDO> trainStationPriceDOList = trainStationPriceMapper.selectList(trainStationPriceQueryWrapper);
             List<SeatClassDTO> seatClassList = new ArrayList<>();
-            StringRedisTemplate stringRedisTemplate = (StringRedisTemplate) distributedCache.getInstance();
             trainStationPriceDOList.forEach(item -> {
                 String seatType = String.valueOf(item.getSeatType());
-                String keySuffix = StrUtil.join("_", each.getTrainId(), item.getDeparture(), item.getArrival());
-                Object quantityObj = stringRedisTemplate.opsForHash().get(TRAIN_STATION_REMAINING_TICKET + keySuffix, seatType);
+                Integer quantityObj = trainStationRemainingTicketCache.get(String.valueOf(each.getTrainId()), item.getDeparture(), item.getArrival(), item.getSeatType());
                 int quantity = Optional.ofNullable(quantityObj)
-                        .map(Object::toString)
-                        .map(Integer::parseInt)
                         .orElseGet(() -> {
                             Map<String, String> seatMarginMap = seatMarginCacheLoader.load(String.valueOf(each.getTrainId()), seatType, item.getDeparture(), item.getArrival());
                             return Optional.ofNullable(seatMarginMap.get(String.valueOf(item.getSeatType()))).map(Integer::parseInt).orElse(0);
@@ -200,7 +195,7 @@ public class TicketServiceImpl extends ServiceImpl<TicketMapper, TicketDO> imple
         purchaseTicketAbstractChainContext.handler(TicketChainMarkEnum.TRAIN_PURCHASE_TICKET_FILTER.name(), requestParam);
         String trainId = requestParam.getTrainId();
         TrainDO trainDO = distributedCache.safeGet(//这一行代码使用分布式缓存来获取指定 key 的缓存数据。如果缓存中没有数据，则通过回调函数从数据库中获取数据，并将其缓存起来。
-                TRAIN_INFO + trainId,
+                CacheKeyBuilder.build(TRAIN_INFO, trainId),
                 TrainDO.class,
                 () -> trainMapper.selectById(trainId),
                 ADVANCE_TICKET_DAY,
@@ -222,6 +217,7 @@ public class TicketServiceImpl extends ServiceImpl<TicketMapper, TicketDO> imple
                             .ticketStatus(TicketStatusEnum.UNPAID.getCode())
                             .build())
                     .toList();
+            BatchIdUtil.assignIds(ticketDOList);
             saveBatch(ticketDOList);
             try {
                 List<TicketOrderItemCreateRemoteReqDTO> orderItemCreateRemoteReqDTOList = new ArrayList<>();
@@ -279,7 +275,7 @@ public class TicketServiceImpl extends ServiceImpl<TicketMapper, TicketDO> imple
                 throw ex;
             }
             try {
-                // 发送 RocketMQ 延时消息，指定时间后取消订单
+                // 登记订单超时关闭，指定时间后取消未支付订单，调度方式见 OrderExpiryScheduler
                 DelayCloseOrderEvent delayCloseOrderEvent = DelayCloseOrderEvent.builder()
                         .trainId(requestParam.getTrainId())
                         .departure(requestParam.getDeparture())
@@ -287,12 +283,9 @@ public class TicketServiceImpl extends ServiceImpl<TicketMapper, TicketDO> imple
                         .orderSn(ticketOrderResult.getData())
                         .trainPurchaseTicketResults(trainPurchaseTicketResults)
                         .build();
-                SendResult sendResult = delayCloseOrderSendProduce.sendMessage(delayCloseOrderEvent);
-                if (!Objects.equals(sendResult.getSendStatus(), SendStatus.SEND_OK)) {
-                    throw new ServiceException("投递延迟关闭订单消息队列失败");
-                }
+                orderExpiryScheduler.schedule(delayCloseOrderEvent);
             } catch (Throwable ex) {
-                log.error("延迟关闭订单消息队列发送错误，请求参数：{}", JSON.toJSONString(requestParam), ex);
+                log.error("登记订单超时关闭错误，请求参数：{}", JSON.toJSONString(requestParam), ex);
                 throw ex;
             }
         } finally {
@@ -0,0 +1,9 @@
+-- KEYS[1]：列车余票紧凑编码 Key
+-- ARGV[1]：计数器偏移，格式为 #slot
+-- ARGV[2]：增减数量
+-- 计数器以 (余票 + 1) 存储，0 表示尚未加载，此时不做修改，避免凭空产生负数余票
+local current = redis.call('bitfield', KEYS[1], 'get', 'i16', ARGV[1])[1]
+if current == 0 then
+    return nil
+end
+return redis.call('bitfield', KEYS[1], 'incrby', 'i16', ARGV[1], ARGV[2])[1] - 1
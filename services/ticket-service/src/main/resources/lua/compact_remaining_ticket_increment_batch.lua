@@ -0,0 +1,13 @@
+-- KEYS[1]：列车余票紧凑编码 Key
+-- ARGV[2n-1]：计数器偏移，格式为 #slot
+-- ARGV[2n]：增减数量
+-- 计数器以 (余票 + 1) 存储，0 表示尚未加载，此时跳过该计数器，避免凭空产生负数余票
+local updated = 0
+for i = 1, #ARGV, 2 do
+    local current = redis.call('bitfield', KEYS[1], 'get', 'i16', ARGV[i])[1]
+    if current ~= 0 then
+        redis.call('bitfield', KEYS[1], 'incrby', 'i16', ARGV[i], ARGV[i + 1])
+        updated = updated + 1
+    end
+end
+return updated
@@ -0,0 +1,9 @@
+-- KEYS[1]: 到期时间片 Hash，Field 为订单号，Value 为延迟关闭订单事件
+-- KEYS[2]: 时间片认领租约 Key，与 KEYS[1] 使用相同 Hash Tag
+-- ARGV[1]: 节点标识
+-- ARGV[2]: 租约时长，单位毫秒
+-- 租约未被其他节点持有时认领时间片并返回全部订单，否则返回 nil
+if not redis.call('SET', KEYS[2], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return false
+end
+return redis.call('HGETALL', KEYS[1])
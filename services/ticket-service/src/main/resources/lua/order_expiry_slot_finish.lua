@@ -0,0 +1,15 @@
+-- KEYS[1]: 到期时间片 Hash
+-- KEYS[2]: 时间片认领租约 Key
+-- ARGV[1]: 节点标识
+-- ARGV[2...]: 已处理的订单号
+-- 删除已处理订单并释放租约，时间片已清空时返回 1
+for i = 2, #ARGV do
+    redis.call('HDEL', KEYS[1], ARGV[i])
+end
+if redis.call('GET', KEYS[2]) == ARGV[1] then
+    redis.call('DEL', KEYS[2])
+end
+if redis.call('HLEN', KEYS[1]) == 0 then
+    return 1
+end
+return 0
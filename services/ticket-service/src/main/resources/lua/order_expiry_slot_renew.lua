@@ -0,0 +1,8 @@
+-- KEYS[1]: 时间片认领租约 Key
+-- ARGV[1]: 节点标识
+-- ARGV[2]: 租约时长，单位毫秒
+-- 租约仍由当前节点持有时续期并返回 1，租约已过期或被其他节点认领时返回 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
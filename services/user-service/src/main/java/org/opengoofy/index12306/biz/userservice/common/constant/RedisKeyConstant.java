@@ -38,4 +38,34 @@ public final class RedisKeyConstant {
      * 用户乘车人列表，Key Prefix + 用户名
      */
     public static final String USER_PASSENGER_LIST = "index12306-user-service:user-passenger-list:";
+
+    /**
+     * 用户注册布隆过滤器本地副本增量同步频道，Key Prefix + 布隆过滤器配置名称
+     */
+    public static final String USER_REGISTER_BLOOM_FILTER_SYNC_TOPIC = "index12306-user-service:user-register-bloom-filter-sync:";
+
+    /**
+     * 用户注册布隆过滤器切换通知频道，Key Prefix + 布隆过滤器配置名称
+     */
+    public static final String USER_REGISTER_BLOOM_FILTER_SWITCH_TOPIC = "index12306-user-service:user-register-bloom-filter-switch:";
+
+    /**
+     * 用户注册当前生效的布隆过滤器名称，Key Prefix + 布隆过滤器配置名称
+     */
+    public static final String USER_REGISTER_BLOOM_FILTER_ACTIVE = "index12306-user-service:user-register-bloom-filter-active:";
+
+    /**
+     * 用户注册重建中的布隆过滤器名称，存在时新增用户名双写，Key Prefix + 布隆过滤器配置名称
+     */
+    public static final String USER_REGISTER_BLOOM_FILTER_REBUILDING = "index12306-user-service:user-register-bloom-filter-rebuilding:";
+
+    /**
+     * 用户注册布隆过滤器重建状态通知频道，消息为重建中的布隆过滤器名称，空字符串表示重建结束，Key Prefix + 布隆过滤器配置名称
+     */
+    public static final String USER_REGISTER_BLOOM_FILTER_REBUILD_TOPIC = "index12306-user-service:user-register-bloom-filter-rebuild:";
+
+    /**
+     * 用户注册布隆过滤器重建锁，Key Prefix + 布隆过滤器配置名称
+     */
+    public static final String LOCK_USER_REGISTER_BLOOM_FILTER_REBUILD = "index12306-user-service:lock:user-register-bloom-filter-rebuild:";
 }
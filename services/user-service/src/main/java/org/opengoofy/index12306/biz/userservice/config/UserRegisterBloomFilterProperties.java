@@ -32,7 +32,7 @@ public final class UserRegisterBloomFilterProperties {
     public static final String PREFIX = "framework.cache.redis.bloom-filter.user-register";
 
     /**
-     * 用户注册布隆过滤器实例名称
+     * 用户注册布隆过滤器实例名称，重建后实际生效的实例名称为 名称_时间戳
      */
     private String name = "user_register_cache_penetration_bloom_filter";
 
@@ -45,4 +45,34 @@ public final class UserRegisterBloomFilterProperties {
      * 预期错误概率
      */
     private Double falseProbability = 0.03D;
+
+    /**
+     * 是否开启本地布隆过滤器副本，开启后用户名不存在的判断在本地完成
+     */
+    private Boolean localMirrorEnabled = Boolean.TRUE;
+
+    /**
+     * 本地副本全量同步及生效布隆过滤器名称刷新间隔，单位秒，用于兜底订阅消息丢失
+     */
+    private Long localMirrorSyncIntervalSeconds = 300L;
+
+    /**
+     * 重建时预期插入量相对当前用户数量的倍数，为后续增长预留空间
+     */
+    private Double rebuildGrowthFactor = 2.0D;
+
+    /**
+     * 重建时每批从用户表读取的数量
+     */
+    private Integer rebuildBatchSize = 1000;
+
+    /**
+     * 开启双写后等待重建状态通知到达所有实例的时间，单位毫秒，之后再开始扫描用户表
+     */
+    private Long rebuildPropagationWaitMillis = 1000L;
+
+    /**
+     * 切换后旧布隆过滤器保留时间，单位秒，等待所有实例完成切换
+     */
+    private Long retiredFilterRetentionSeconds = 600L;
 }
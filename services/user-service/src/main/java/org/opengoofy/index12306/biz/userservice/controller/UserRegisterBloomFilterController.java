@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.userservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.opengoofy.index12306.biz.userservice.dto.resp.UserRegisterBloomFilterStatsRespDTO;
+import org.opengoofy.index12306.biz.userservice.service.cache.UserRegisterBloomFilterMirror;
+import org.opengoofy.index12306.framework.starter.convention.result.Result;
+import org.opengoofy.index12306.framework.starter.web.Results;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 用户注册布隆过滤器控制层
+ *
+ *
+ */
+@RestController
+@RequiredArgsConstructor
+public class UserRegisterBloomFilterController {
+
+    private final UserRegisterBloomFilterMirror userRegisterBloomFilterMirror;
+
+    /**
+     * 查询当前生效布隆过滤器的容量与估算误判率
+     */
+    @GetMapping("/api/user-service/bloom-filter/stats")
+    public Result<UserRegisterBloomFilterStatsRespDTO> stats() {
+        return Results.success(userRegisterBloomFilterMirror.stats());
+    }
+}
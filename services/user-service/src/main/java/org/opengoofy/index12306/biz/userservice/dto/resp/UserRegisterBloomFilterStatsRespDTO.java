@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.userservice.dto.resp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 用户注册布隆过滤器统计返回参数
+ *
+ *
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRegisterBloomFilterStatsRespDTO {
+
+    /**
+     * 当前生效的布隆过滤器名称
+     */
+    private String name;
+
+    /**
+     * 位数组长度
+     */
+    private Long size;
+
+    /**
+     * 哈希次数
+     */
+    private Integer hashIterations;
+
+    /**
+     * 初始化时的预期插入量
+     */
+    private Long expectedInsertions;
+
+    /**
+     * 初始化时的预期误判率
+     */
+    private Double falseProbability;
+
+    /**
+     * 已置位数量
+     */
+    private Long bitCount;
+
+    /**
+     * 根据置位数量估算的已插入数量
+     */
+    private Long estimatedInsertions;
+
+    /**
+     * 根据置位数量估算的当前误判率
+     */
+    private Double estimatedFalseProbability;
+
+    /**
+     * 是否由本地副本统计
+     */
+    private Boolean fromLocalMirror;
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.userservice.job;
+
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.xxl.job.core.handler.IJobHandler;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.userservice.config.UserRegisterBloomFilterProperties;
+import org.opengoofy.index12306.biz.userservice.dao.entity.UserDO;
+import org.opengoofy.index12306.biz.userservice.dao.mapper.UserMapper;
+import org.opengoofy.index12306.biz.userservice.service.cache.UserRegisterBloomFilterMirror;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.opengoofy.index12306.biz.userservice.common.constant.RedisKeyConstant.LOCK_USER_REGISTER_BLOOM_FILTER_REBUILD;
+
+/**
+ * 用户注册布隆过滤器重建定时任务
+ * 按当前用户数量创建容量合适的新布隆过滤器，开启新旧双写后按主键分批读取所有分片中未注销的用户名写入，完成后原子切换生效名称；
+ * 已注销的用户名不会写入新布隆过滤器，旧布隆过滤器在所有实例切换完成后过期
+ *
+ *
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class UserRegisterBloomFilterRebuildJobHandler extends IJobHandler {
+
+    private final RedissonClient redissonClient;
+    private final UserMapper userMapper;
+    private final UserRegisterBloomFilterMirror userRegisterBloomFilterMirror;
+    private final UserRegisterBloomFilterProperties userRegisterBloomFilterProperties;
+
+    @XxlJob(value = "userRegisterBloomFilterRebuildJobHandler")
+    @GetMapping("/api/user-service/bloom-filter/job/rebuild/execute")
+    @Override
+    public void execute() {
+        String baseName = userRegisterBloomFilterProperties.getName();
+        RLock lock = redissonClient.getLock(LOCK_USER_REGISTER_BLOOM_FILTER_REBUILD + baseName);
+        if (!lock.tryLock()) {
+            log.warn("[用户注册布隆过滤器重建] 已有重建任务在执行");
+            return;
+        }
+        String filterName = baseName + "_" + System.currentTimeMillis();
+        RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(filterName);
+        boolean switched = false;
+        try {
+            long userCount = userMapper.selectCount(Wrappers.lambdaQuery(UserDO.class));
+            long expectedInsertions = Math.max(
+                    userRegisterBloomFilterProperties.getExpectedInsertions(),
+                    (long) Math.ceil(userCount * userRegisterBloomFilterProperties.getRebuildGrowthFactor())
+            );
+            bloomFilter.tryInit(expectedInsertions, userRegisterBloomFilterProperties.getFalseProbability());
+            // 先开启双写再扫描用户表，扫描期间注册的用户名同时写入新布隆过滤器
+            userRegisterBloomFilterMirror.startRebuild(filterName);
+            Thread.sleep(userRegisterBloomFilterProperties.getRebuildPropagationWaitMillis());
+            long inserted = 0L;
+            Long lastId = 0L;
+            int batchSize = userRegisterBloomFilterProperties.getRebuildBatchSize();
+            for (; ; ) {
+                LambdaQueryWrapper<UserDO> queryWrapper = Wrappers.lambdaQuery(UserDO.class)
+                        .select(UserDO::getId, UserDO::getUsername)
+                        .gt(UserDO::getId, lastId)
+                        .orderByAsc(UserDO::getId)
+                        .last("limit " + batchSize);
+                List<UserDO> userDOList = userMapper.selectList(queryWrapper);
+                if (CollUtil.isEmpty(userDOList)) {
+                    break;
+                }
+                userRegisterBloomFilterMirror.addAll(bloomFilter, userDOList.stream().map(UserDO::getUsername).toList());
+                inserted += userDOList.size();
+                lastId = userDOList.get(userDOList.size() - 1).getId();
+            }
+            userRegisterBloomFilterMirror.switchActiveBloomFilter(filterName);
+            switched = true;
+            log.info("[用户注册布隆过滤器重建] 新布隆过滤器：{}，预期插入量：{}，实际插入量：{}", filterName, expectedInsertions, inserted);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            userRegisterBloomFilterMirror.finishRebuild();
+            if (!switched) {
+                bloomFilter.delete();
+            }
+            lock.unlock();
+        }
+    }
+}
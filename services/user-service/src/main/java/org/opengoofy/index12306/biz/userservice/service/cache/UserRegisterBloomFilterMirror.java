@@ -0,0 +1,426 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengoofy.index12306.biz.userservice.service.cache;
+
+import cn.hutool.core.util.StrUtil;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengoofy.index12306.biz.userservice.config.UserRegisterBloomFilterProperties;
+import org.opengoofy.index12306.biz.userservice.dto.resp.UserRegisterBloomFilterStatsRespDTO;
+import org.opengoofy.index12306.framework.starter.common.threadpool.build.ThreadFactoryBuilder;
+import org.redisson.RedissonObject;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBitSetAsync;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.misc.Hash;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.opengoofy.index12306.biz.userservice.common.constant.RedisKeyConstant.USER_REGISTER_BLOOM_FILTER_ACTIVE;
+import static org.opengoofy.index12306.biz.userservice.common.constant.RedisKeyConstant.USER_REGISTER_BLOOM_FILTER_REBUILD_TOPIC;
+import static org.opengoofy.index12306.biz.userservice.common.constant.RedisKeyConstant.USER_REGISTER_BLOOM_FILTER_REBUILDING;
+import static org.opengoofy.index12306.biz.userservice.common.constant.RedisKeyConstant.USER_REGISTER_BLOOM_FILTER_SWITCH_TOPIC;
+import static org.opengoofy.index12306.biz.userservice.common.constant.RedisKeyConstant.USER_REGISTER_BLOOM_FILTER_SYNC_TOPIC;
+
+/**
+ * 用户注册布隆过滤器本地副本
+ * 启动时订阅增量频道后拉取 Redis 中的位图快照，新增用户名通过 Redisson Topic 广播到所有实例，并定时全量同步兜底；
+ * 本地位图与 Redisson {@link RBloomFilter} 使用相同的编码、哈希与位序，本地判断不存在即可确定用户名未注册，判断存在时仍需回源确认
+ * 当前生效的布隆过滤器名称保存在 Redis 中，重建期间新增用户名同时写入新旧两个布隆过滤器，重建完成后广播切换；
+ * 重建状态通过频道广播并缓存在本地，注册时无需每次读取 Redis
+ *
+ *
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRegisterBloomFilterMirror implements InitializingBean, DisposableBean {
+
+    private final RedissonClient redissonClient;
+    private final RBloomFilter<String> userRegisterCachePenetrationBloomFilter;
+    private final UserRegisterBloomFilterProperties userRegisterBloomFilterProperties;
+
+    private final Object lock = new Object();
+
+    private volatile RBloomFilter<String> activeBloomFilter;
+
+    private volatile LocalBitmap localBitmap;
+
+    /**
+     * 本地副本就绪前收到的增量用户名，由 lock 保护，快照就绪时补写到快照中
+     */
+    private final List<String> pendingUsernames = new ArrayList<>();
+
+    /**
+     * 重建中的布隆过滤器名称，未在重建时为空
+     */
+    private volatile String rebuildingFilterName;
+
+    private RTopic syncTopic;
+
+    private RTopic switchTopic;
+
+    private RTopic rebuildTopic;
+
+    private Integer syncListenerId;
+
+    private Integer switchListenerId;
+
+    private Integer rebuildListenerId;
+
+    private ScheduledExecutorService syncExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        activeBloomFilter = userRegisterCachePenetrationBloomFilter;
+        refreshActiveBloomFilter();
+        String baseName = userRegisterBloomFilterProperties.getName();
+        switchTopic = redissonClient.getTopic(USER_REGISTER_BLOOM_FILTER_SWITCH_TOPIC + baseName, StringCodec.INSTANCE);
+        switchListenerId = switchTopic.addListener(String.class, (channel, filterName) -> onSwitch(filterName));
+        // 先订阅再读取重建状态，保证不会错过读取期间开始或结束的重建
+        rebuildTopic = redissonClient.getTopic(USER_REGISTER_BLOOM_FILTER_REBUILD_TOPIC + baseName, StringCodec.INSTANCE);
+        rebuildListenerId = rebuildTopic.addListener(String.class, (channel, filterName) -> rebuildingFilterName = StrUtil.emptyToNull(filterName));
+        refreshRebuildingFilterName();
+        boolean localMirrorEnabled = isLocalMirrorEnabled();
+        if (localMirrorEnabled) {
+            // 先订阅再拉取快照，保证快照期间新增的用户名不会丢失
+            syncTopic = redissonClient.getTopic(USER_REGISTER_BLOOM_FILTER_SYNC_TOPIC + baseName, StringCodec.INSTANCE);
+            syncListenerId = syncTopic.addListener(String.class, (channel, username) -> addLocal(username));
+        }
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder().prefix("user-register-bloom-filter-sync").daemon(true).build()
+        );
+        // 未开启本地副本时同样定时刷新生效及重建中的布隆过滤器名称，兜底切换与重建通知丢失
+        long interval = userRegisterBloomFilterProperties.getLocalMirrorSyncIntervalSeconds();
+        syncExecutor.scheduleWithFixedDelay(() -> {
+            refreshActiveBloomFilter();
+            refreshRebuildingFilterName();
+            if (localMirrorEnabled) {
+                snapshot();
+            }
+        }, 0L, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+        if (syncTopic != null && syncListenerId != null) {
+            syncTopic.removeListener(syncListenerId);
+        }
+        if (switchTopic != null && switchListenerId != null) {
+            switchTopic.removeListener(switchListenerId);
+        }
+        if (rebuildTopic != null && rebuildListenerId != null) {
+            rebuildTopic.removeListener(rebuildListenerId);
+        }
+    }
+
+    /**
+     * 判断用户名是否可能存在，本地副本未就绪时回源 Redis
+     */
+    public boolean contains(String username) {
+        LocalBitmap actual = localBitmap;
+        if (actual == null || !actual.filterName.equals(activeBloomFilter.getName())) {
+            return activeBloomFilter.contains(username);
+        }
+        for (long each : indexes(username, actual.hashIterations, actual.size)) {
+            if (!actual.get(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 新增用户名，写入 Redis 布隆过滤器并广播到所有实例的本地副本；重建期间同时写入重建中的布隆过滤器
+     */
+    public void add(String username) {
+        activeBloomFilter.add(username);
+        String actualRebuildingFilterName = rebuildingFilterName;
+        if (StrUtil.isNotBlank(actualRebuildingFilterName) && !actualRebuildingFilterName.equals(activeBloomFilter.getName())) {
+            redissonClient.<String>getBloomFilter(actualRebuildingFilterName).add(username);
+        }
+        addLocal(username);
+        if (syncTopic != null) {
+            syncTopic.publish(username);
+        }
+    }
+
+    /**
+     * 批量写入指定布隆过滤器，在本地计算下标后通过一次 Pipeline 置位，用于重建时避免逐个用户名往返 Redis
+     *
+     * @param bloomFilter 目标布隆过滤器，需已完成初始化
+     * @param usernames   用户名集合
+     */
+    public void addAll(RBloomFilter<String> bloomFilter, Collection<String> usernames) {
+        long size = bloomFilter.getSize();
+        int hashIterations = bloomFilter.getHashIterations();
+        RBatch batch = redissonClient.createBatch();
+        RBitSetAsync bitSet = batch.getBitSet(bloomFilter.getName());
+        for (String each : usernames) {
+            for (long index : indexes(each, hashIterations, size)) {
+                bitSet.setAsync(index);
+            }
+        }
+        batch.execute();
+    }
+
+    /**
+     * 开启重建双写并通知所有实例
+     *
+     * @param filterName 重建中的布隆过滤器名称
+     */
+    public void startRebuild(String filterName) {
+        getBucket(USER_REGISTER_BLOOM_FILTER_REBUILDING).set(filterName, 1, TimeUnit.DAYS);
+        rebuildingFilterName = filterName;
+        rebuildTopic.publish(filterName);
+    }
+
+    /**
+     * 结束重建双写并通知所有实例
+     */
+    public void finishRebuild() {
+        getBucket(USER_REGISTER_BLOOM_FILTER_REBUILDING).delete();
+        rebuildingFilterName = null;
+        rebuildTopic.publish(StrUtil.EMPTY);
+    }
+
+    /**
+     * 获取当前生效的布隆过滤器
+     */
+    public RBloomFilter<String> getActiveBloomFilter() {
+        return activeBloomFilter;
+    }
+
+    /**
+     * 切换生效的布隆过滤器并通知所有实例，旧布隆过滤器保留一段时间后过期
+     *
+     * @param filterName 新的布隆过滤器名称
+     */
+    public void switchActiveBloomFilter(String filterName) {
+        RBloomFilter<String> retiredBloomFilter = activeBloomFilter;
+        getBucket(USER_REGISTER_BLOOM_FILTER_ACTIVE).set(filterName);
+        onSwitch(filterName);
+        switchTopic.publish(filterName);
+        if (!retiredBloomFilter.getName().equals(filterName)) {
+            retiredBloomFilter.expire(Duration.ofSeconds(userRegisterBloomFilterProperties.getRetiredFilterRetentionSeconds()));
+        }
+    }
+
+    /**
+     * 统计当前生效布隆过滤器的置位数量，并据此估算已插入数量与实际误判率
+     * 误判率 = (置位数 / 位数组长度) ^ 哈希次数，插入数量 = -(m / k) * ln(1 - X / m)
+     */
+    public UserRegisterBloomFilterStatsRespDTO stats() {
+        RBloomFilter<String> actualBloomFilter = activeBloomFilter;
+        LocalBitmap actual = localBitmap;
+        boolean fromLocalMirror = actual != null && actual.filterName.equals(actualBloomFilter.getName());
+        long size = fromLocalMirror ? actual.size : actualBloomFilter.getSize();
+        int hashIterations = fromLocalMirror ? actual.hashIterations : actualBloomFilter.getHashIterations();
+        long bitCount = fromLocalMirror ? actual.cardinality() : redissonClient.getBitSet(actualBloomFilter.getName()).cardinality();
+        double fillRatio = (double) bitCount / size;
+        long estimatedInsertions = fillRatio >= 1.0D
+                ? Long.MAX_VALUE
+                : Math.round(-((double) size / hashIterations) * Math.log(1.0D - fillRatio));
+        return UserRegisterBloomFilterStatsRespDTO.builder()
+                .name(actualBloomFilter.getName())
+                .size(size)
+                .hashIterations(hashIterations)
+                .expectedInsertions(actualBloomFilter.getExpectedInsertions())
+                .falseProbability(actualBloomFilter.getFalseProbability())
+                .bitCount(bitCount)
+                .estimatedInsertions(estimatedInsertions)
+                .estimatedFalseProbability(Math.pow(fillRatio, hashIterations))
+                .fromLocalMirror(fromLocalMirror)
+                .build();
+    }
+
+    private void onSwitch(String filterName) {
+        if (StrUtil.isBlank(filterName) || filterName.equals(activeBloomFilter.getName())) {
+            return;
+        }
+        activeBloomFilter = redissonClient.getBloomFilter(filterName);
+        log.info("用户注册布隆过滤器切换为：{}", filterName);
+        if (syncExecutor != null && isLocalMirrorEnabled()) {
+            syncExecutor.execute(this::snapshot);
+        }
+    }
+
+    private void refreshActiveBloomFilter() {
+        try {
+            String filterName = getBucket(USER_REGISTER_BLOOM_FILTER_ACTIVE).get();
+            if (StrUtil.isNotBlank(filterName) && !filterName.equals(activeBloomFilter.getName())) {
+                activeBloomFilter = redissonClient.getBloomFilter(filterName);
+            }
+        } catch (Throwable ex) {
+            log.error("用户注册生效布隆过滤器名称读取失败", ex);
+        }
+    }
+
+    private void refreshRebuildingFilterName() {
+        try {
+            rebuildingFilterName = StrUtil.emptyToNull(getBucket(USER_REGISTER_BLOOM_FILTER_REBUILDING).get());
+        } catch (Throwable ex) {
+            log.error("用户注册重建中布隆过滤器名称读取失败", ex);
+        }
+    }
+
+    private void addLocal(String username) {
+        synchronized (lock) {
+            LocalBitmap actual = localBitmap;
+            if (actual == null) {
+                pendingUsernames.add(username);
+                return;
+            }
+            setLocal(actual, username);
+        }
+    }
+
+    private void setLocal(LocalBitmap bitmap, String username) {
+        for (long each : indexes(username, bitmap.hashIterations, bitmap.size)) {
+            bitmap.set(each);
+        }
+    }
+
+    private void snapshot() {
+        try {
+            synchronized (lock) {
+                // 快照在增量发布之后读取 Redis，已缓存的用户名已包含在本次快照中，只需保留读取期间收到的增量
+                if (localBitmap == null) {
+                    pendingUsernames.clear();
+                }
+            }
+            RBloomFilter<String> actualBloomFilter = activeBloomFilter;
+            String filterName = actualBloomFilter.getName();
+            long size = actualBloomFilter.getSize();
+            int hashIterations = actualBloomFilter.getHashIterations();
+            byte[] raw = redissonClient.<byte[]>getBucket(filterName, ByteArrayCodec.INSTANCE).get();
+            LocalBitmap snapshot = new LocalBitmap(filterName, size, hashIterations);
+            if (raw != null) {
+                // Redis 位图按字节从高位到低位编址
+                long bitLength = Math.min(size, (long) raw.length << 3);
+                for (long i = 0; i < bitLength; i++) {
+                    if ((raw[(int) (i >>> 3)] & (0x80 >>> (i & 7))) != 0) {
+                        snapshot.set(i);
+                    }
+                }
+            }
+            synchronized (lock) {
+                // 布隆过滤器只会置位不会清位，合并同一布隆过滤器旧副本中拉取快照期间收到的增量
+                LocalBitmap previous = localBitmap;
+                if (previous != null && previous.filterName.equals(filterName) && previous.size == size && previous.hashIterations == hashIterations) {
+                    snapshot.merge(previous);
+                }
+                pendingUsernames.forEach(each -> setLocal(snapshot, each));
+                pendingUsernames.clear();
+                localBitmap = snapshot;
+            }
+        } catch (Throwable ex) {
+            log.error("用户注册布隆过滤器本地副本同步失败", ex);
+        }
+    }
+
+    /**
+     * 与 RedissonBloomFilter 一致：编码后计算 128 位 HighwayHash，再通过双重哈希生成下标
+     */
+    private long[] indexes(String username, int hashIterations, long size) {
+        ByteBuf state = ((RedissonObject) userRegisterCachePenetrationBloomFilter).encode(username);
+        long[] hashes;
+        try {
+            hashes = Hash.hash128(state);
+        } finally {
+            state.release();
+        }
+        long[] result = new long[hashIterations];
+        long hash = hashes[0];
+        for (int i = 0; i < hashIterations; i++) {
+            result[i] = (hash & Long.MAX_VALUE) % size;
+            hash += i % 2 == 0 ? hashes[1] : hashes[0];
+        }
+        return result;
+    }
+
+    private RBucket<String> getBucket(String keyPrefix) {
+        return redissonClient.getBucket(keyPrefix + userRegisterBloomFilterProperties.getName(), StringCodec.INSTANCE);
+    }
+
+    private boolean isLocalMirrorEnabled() {
+        return Boolean.TRUE.equals(userRegisterBloomFilterProperties.getLocalMirrorEnabled());
+    }
+
+    private static final class LocalBitmap {
+
+        private final String filterName;
+
+        private final long size;
+
+        private final int hashIterations;
+
+        private final AtomicLongArray words;
+
+        private LocalBitmap(String filterName, long size, int hashIterations) {
+            this.filterName = filterName;
+            this.size = size;
+            this.hashIterations = hashIterations;
+            this.words = new AtomicLongArray((int) ((size + 63) >>> 6));
+        }
+
+        private boolean get(long index) {
+            return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+        }
+
+        private void set(long index) {
+            words.getAndAccumulate((int) (index >>> 6), 1L << index, (left, right) -> left | right);
+        }
+
+        private long cardinality() {
+            long result = 0L;
+            for (int i = 0; i < words.length(); i++) {
+                result += Long.bitCount(words.get(i));
+            }
+            return result;
+        }
+
+        private void merge(LocalBitmap other) {
+            for (int i = 0; i < words.length(); i++) {
+                long otherWord = other.words.get(i);
+                if (otherWord != 0) {
+                    words.getAndAccumulate(i, otherWord, (left, right) -> left | right);
+                }
+            }
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.opengoofy.index12306.biz.userservice.dto.resp.UserQueryRespDTO;
 import org.opengoofy.index12306.biz.userservice.dto.resp.UserRegisterRespDTO;
 import org.opengoofy.index12306.biz.userservice.service.UserLoginService;
 import org.opengoofy.index12306.biz.userservice.service.UserService;
+import org.opengoofy.index12306.biz.userservice.service.cache.UserRegisterBloomFilterMirror;
 import org.opengoofy.index12306.framework.starter.cache.DistributedCache;
 import org.opengoofy.index12306.framework.starter.common.toolkit.BeanUtil;
 import org.opengoofy.index12306.framework.starter.convention.exception.ClientException;
@@ -50,7 +51,6 @@ import org.opengoofy.index12306.framework.starter.designpattern.chain.AbstractCh
 import org.opengoofy.index12306.frameworks.starter.user.core.UserContext;
 import org.opengoofy.index12306.frameworks.starter.user.core.UserInfoDTO;
 import org.opengoofy.index12306.frameworks.starter.user.toolkit.JWTUtil;
-import org.redisson.api.RBloomFilter;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.dao.DuplicateKeyException;
@@ -90,7 +90,7 @@ public class UserLoginServiceImpl implements UserLoginService {
     private final RedissonClient redissonClient;
     private final DistributedCache distributedCache;
     private final AbstractChainContext<UserRegisterReqDTO> abstractChainContext;
-    private final RBloomFilter<String> userRegisterCachePenetrationBloomFilter;
+    private final UserRegisterBloomFilterMirror userRegisterBloomFilterMirror;
 
     @Override
     public UserLoginRespDTO login(UserLoginReqDTO requestParam) {
@@ -152,10 +152,11 @@ public class UserLoginServiceImpl implements UserLoginService {
         }
     }
 
-    //该方法用于检查指定的用户名是否存在。首先，它利用布隆过滤器 userRegisterCachePenetrationBloomFilter 判断用户名是否可能存在，如果可能存在，则进一步通过分布式缓存的操作验证用户名是否真实存在。
+    //该方法用于检查指定的用户名是否存在。首先，它利用布隆过滤器本地副本 userRegisterBloomFilterMirror 判断用户名是否可能存在，如果可能存在，则进一步通过分布式缓存的操作验证用户名是否真实存在。
     @Override
     public Boolean hasUsername(String username) {
-        boolean hasUsername = userRegisterCachePenetrationBloomFilter.contains(username);
+        // 布隆过滤器判断优先走本地副本，用户名不存在时无需访问 Redis
+        boolean hasUsername = userRegisterBloomFilterMirror.contains(username);
         if (hasUsername) {
             StringRedisTemplate instance = (StringRedisTemplate) distributedCache.getInstance();
             return instance.opsForSet().isMember(USER_REGISTER_REUSE_SHARDING + hashShardingIdx(username), username);
@@ -203,7 +204,7 @@ public class UserLoginServiceImpl implements UserLoginService {
         //获取分布式缓存的实例，并通过实例的 opsForSet() 方法操作集合。移除用户注册重用缓存的 Bloom 过滤器中的记录，确保用户在注册后不再被判定为已注册。
         StringRedisTemplate instance = (StringRedisTemplate) distributedCache.getInstance();//
         instance.opsForSet().remove(USER_REGISTER_REUSE_SHARDING + hashShardingIdx(username), username);
-        userRegisterCachePenetrationBloomFilter.add(username);//将新注册的用户名添加到用户注册重用缓存的 Bloom 过滤器中，以备后续判断用户是否已注册。
+        userRegisterBloomFilterMirror.add(username);//将新注册的用户名添加到用户注册重用缓存的 Bloom 过滤器中，以备后续判断用户是否已注册。
         return BeanUtil.convert(requestParam, UserRegisterRespDTO.class);//最后，将输入的 requestParam 转换为 UserRegisterRespDTO 对象并返回。
     }
 